@@ -0,0 +1,104 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.benchmark;
+
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.query.NamedQuery;
+import com.github.fabriciofx.cactoos.jdbc.statement.Batch;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.text.TextOf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Batch benchmark.
+ * <p>Measures a {@link Batch} inserting 1k and 100k rows. The table is
+ * truncated before each invocation, so this benchmark runs in single shot
+ * mode.
+ * @since 1.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class BatchBench {
+    /**
+     * Amount of rows per batch.
+     */
+    @Param({"1000", "100000"})
+    public int rows;
+
+    /**
+     * Database.
+     */
+    private Database database;
+
+    /**
+     * Session.
+     */
+    private Session session;
+
+    /**
+     * Create the table.
+     * @throws Exception if fails
+     */
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        this.database = new Database();
+        this.session = this.database.source().session();
+    }
+
+    /**
+     * Empty the table.
+     * @throws Exception if fails
+     */
+    @Setup(Level.Invocation)
+    public void clear() throws Exception {
+        this.database.clear();
+    }
+
+    /**
+     * Close everything.
+     * @throws Exception if fails
+     */
+    @TearDown(Level.Trial)
+    public void teardown() throws Exception {
+        this.session.close();
+        this.database.close();
+    }
+
+    /**
+     * Insert all rows in a batch.
+     * @return The update counts
+     * @throws Exception if fails
+     */
+    @Benchmark
+    public int[] batch() throws Exception {
+        return new Batch(
+            this.session,
+            new NamedQuery(
+                new TextOf(
+                    "INSERT INTO person (id, name, age) VALUES (:id, :name, :age)"
+                ),
+                new Persons(this.rows)
+            )
+        ).execute();
+    }
+}
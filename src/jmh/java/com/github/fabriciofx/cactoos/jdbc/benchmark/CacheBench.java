@@ -0,0 +1,138 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.benchmark;
+
+import com.github.fabriciofx.cactoos.cache.base.CacheOf;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.cache.TableStore;
+import com.github.fabriciofx.cactoos.jdbc.query.QueryOf;
+import com.github.fabriciofx.cactoos.jdbc.session.Cached;
+import com.github.fabriciofx.cactoos.jdbc.statement.Select;
+import java.sql.ResultSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cache benchmark.
+ * <p>Compares a {@link Cached} session hit, where the same query is served
+ * from the cache, with a miss, where the query runs against an empty cache
+ * and its result is stored.
+ * @since 1.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheBench {
+    /**
+     * The query.
+     */
+    private static final String SQL = "SELECT id, name, age FROM person";
+
+    /**
+     * Amount of rows in the table.
+     */
+    @Param({"1", "100", "10000"})
+    public int rows;
+
+    /**
+     * Database.
+     */
+    private Database database;
+
+    /**
+     * Session.
+     */
+    private Session session;
+
+    /**
+     * Session with a cache warmed by the query.
+     */
+    private Session warm;
+
+    /**
+     * Create, fill the table and warm the cache.
+     * @throws Exception if fails
+     */
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        this.database = new Database();
+        this.database.fill(1, this.rows);
+        this.session = this.database.source().session();
+        this.warm = new Cached(
+            this.session,
+            new CacheOf<>(new TableStore())
+        );
+        CacheBench.read(this.warm);
+    }
+
+    /**
+     * Close everything.
+     * @throws Exception if fails
+     */
+    @TearDown(Level.Trial)
+    public void teardown() throws Exception {
+        this.session.close();
+        this.database.close();
+    }
+
+    /**
+     * Read the query result from the cache.
+     * @return A checksum of the values read
+     * @throws Exception if fails
+     */
+    @Benchmark
+    public long hit() throws Exception {
+        return CacheBench.read(this.warm);
+    }
+
+    /**
+     * Read the query result from the database, storing it in the cache.
+     * @return A checksum of the values read
+     * @throws Exception if fails
+     */
+    @Benchmark
+    public long miss() throws Exception {
+        return CacheBench.read(
+            new Cached(this.session, new CacheOf<>(new TableStore()))
+        );
+    }
+
+    /**
+     * Run the query and read every column.
+     * @param session Session
+     * @return A checksum of the values read
+     * @throws Exception if fails
+     */
+    private static long read(final Session session) throws Exception {
+        long sum = 0;
+        try (
+            ResultSet rset = new Select(session, new QueryOf(CacheBench.SQL))
+                .execute()
+        ) {
+            while (rset.next()) {
+                sum += rset.getInt(1) + rset.getString(2).length()
+                    + rset.getInt(3);
+            }
+        }
+        return sum;
+    }
+}
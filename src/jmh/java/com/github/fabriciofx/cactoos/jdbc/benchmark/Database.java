@@ -0,0 +1,101 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.benchmark;
+
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.Source;
+import com.github.fabriciofx.cactoos.jdbc.query.NamedQuery;
+import com.github.fabriciofx.cactoos.jdbc.query.QueryOf;
+import com.github.fabriciofx.cactoos.jdbc.source.NoAuth;
+import com.github.fabriciofx.cactoos.jdbc.statement.Batch;
+import com.github.fabriciofx.cactoos.jdbc.statement.Update;
+import com.github.fabriciofx.fake.server.RandomName;
+import com.github.fabriciofx.fake.server.db.source.H2Source;
+import org.cactoos.text.TextOf;
+
+/**
+ * Database.
+ * <p>An embedded H2 database with a {@code person} table, the same one used
+ * by the tests. A session is kept open while the database is in use, so the
+ * in-memory database is not dropped between benchmark invocations.
+ * @since 1.0
+ */
+final class Database implements AutoCloseable {
+    /**
+     * The source.
+     */
+    private final Source src;
+
+    /**
+     * The session that keeps the database alive.
+     */
+    private final Session keeper;
+
+    /**
+     * Ctor.
+     * @throws Exception if fails
+     */
+    Database() throws Exception {
+        this(new NoAuth(new H2Source(new RandomName().asString())));
+    }
+
+    /**
+     * Ctor.
+     * @param source The source
+     * @throws Exception if fails
+     */
+    Database(final Source source) throws Exception {
+        this.src = source;
+        this.keeper = source.session();
+        new Update(
+            this.keeper,
+            new QueryOf(
+                """
+                CREATE TABLE person (id INT AUTO_INCREMENT, name VARCHAR(50),
+                age INT, PRIMARY KEY (id))
+                """
+            )
+        ).execute();
+    }
+
+    /**
+     * The source of this database.
+     * @return The source
+     */
+    Source source() {
+        return this.src;
+    }
+
+    /**
+     * Insert persons into the person table.
+     * @param first First id
+     * @param amount Amount of persons
+     * @throws Exception if fails
+     */
+    void fill(final int first, final int amount) throws Exception {
+        new Batch(
+            this.keeper,
+            new NamedQuery(
+                new TextOf(
+                    "INSERT INTO person (id, name, age) VALUES (:id, :name, :age)"
+                ),
+                new Persons(first, amount)
+            )
+        ).execute();
+    }
+
+    /**
+     * Remove all persons.
+     * @throws Exception if fails
+     */
+    void clear() throws Exception {
+        new Update(this.keeper, new QueryOf("TRUNCATE TABLE person")).execute();
+    }
+
+    @Override
+    public void close() throws Exception {
+        this.keeper.close();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.benchmark;
+
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.param.IntParam;
+import com.github.fabriciofx.cactoos.jdbc.param.TextParam;
+import com.github.fabriciofx.cactoos.jdbc.query.NamedQuery;
+import com.github.fabriciofx.cactoos.jdbc.statement.KeyedInsert;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * KeyedInsert benchmark.
+ * <p>Measures a single row {@link KeyedInsert} returning its generated key.
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InsertBench {
+    /**
+     * Database.
+     */
+    private Database database;
+
+    /**
+     * Session.
+     */
+    private Session session;
+
+    /**
+     * Create the table.
+     * @throws Exception if fails
+     */
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        this.database = new Database();
+        this.session = this.database.source().session();
+    }
+
+    /**
+     * Remove the inserted rows, so every iteration starts the same.
+     * @throws Exception if fails
+     */
+    @TearDown(Level.Iteration)
+    public void clear() throws Exception {
+        this.database.clear();
+    }
+
+    /**
+     * Close everything.
+     * @throws Exception if fails
+     */
+    @TearDown(Level.Trial)
+    public void teardown() throws Exception {
+        this.session.close();
+        this.database.close();
+    }
+
+    /**
+     * Insert a row and retrieve its key.
+     * @return The generated key
+     * @throws Exception if fails
+     */
+    @Benchmark
+    public Integer insert() throws Exception {
+        return new KeyedInsert<Integer>(
+            this.session,
+            new NamedQuery(
+                "INSERT INTO person (name, age) VALUES (:name, :age)",
+                new TextParam("name", "Jeff Bridges"),
+                // @checkstyle MagicNumber (1 line)
+                new IntParam("age", 34)
+            )
+        ).execute();
+    }
+}
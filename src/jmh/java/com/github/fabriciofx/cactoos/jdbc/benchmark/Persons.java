@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.benchmark;
+
+import com.github.fabriciofx.cactoos.jdbc.Params;
+import com.github.fabriciofx.cactoos.jdbc.param.IntParam;
+import com.github.fabriciofx.cactoos.jdbc.param.TextParam;
+import com.github.fabriciofx.cactoos.jdbc.params.ParamsOf;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Persons.
+ * <p>Lazily generates the {@link Params} of {@code amount} person rows, in
+ * the (id, name, age) order used by all benchmarks.
+ * @since 1.0
+ */
+final class Persons implements Iterable<Params> {
+    /**
+     * First id.
+     */
+    private final int first;
+
+    /**
+     * Amount of rows.
+     */
+    private final int amount;
+
+    /**
+     * Ctor.
+     * @param amount Amount of rows
+     */
+    Persons(final int amount) {
+        this(1, amount);
+    }
+
+    /**
+     * Ctor.
+     * @param first First id
+     * @param amount Amount of rows
+     */
+    Persons(final int first, final int amount) {
+        this.first = first;
+        this.amount = amount;
+    }
+
+    @Override
+    public Iterator<Params> iterator() {
+        return new Iterator<>() {
+            private int current;
+
+            @Override
+            public boolean hasNext() {
+                return this.current < Persons.this.amount;
+            }
+
+            @Override
+            public Params next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException("no more persons");
+                }
+                final int id = Persons.this.first + this.current;
+                ++this.current;
+                return new ParamsOf(
+                    new IntParam("id", id),
+                    new TextParam("name", String.format("Person %d", id)),
+                    new IntParam("age", id % 100)
+                );
+            }
+        };
+    }
+}
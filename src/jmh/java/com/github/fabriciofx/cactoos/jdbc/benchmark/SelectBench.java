@@ -0,0 +1,99 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.benchmark;
+
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.query.QueryOf;
+import com.github.fabriciofx.cactoos.jdbc.statement.Select;
+import java.sql.ResultSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Select benchmark.
+ * <p>Measures {@link Select} reading 1, 100 and 10k rows.
+ * @since 1.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+public class SelectBench {
+    /**
+     * Amount of rows in the table.
+     */
+    @Param({"1", "100", "10000"})
+    public int rows;
+
+    /**
+     * Database.
+     */
+    private Database database;
+
+    /**
+     * Session.
+     */
+    private Session session;
+
+    /**
+     * Create and fill the table.
+     * @throws Exception if fails
+     */
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        this.database = new Database();
+        this.database.fill(1, this.rows);
+        this.session = this.database.source().session();
+    }
+
+    /**
+     * Close everything.
+     * @throws Exception if fails
+     */
+    @TearDown(Level.Trial)
+    public void teardown() throws Exception {
+        this.session.close();
+        this.database.close();
+    }
+
+    /**
+     * Select all rows and read every column.
+     * @param hole Blackhole
+     * @throws Exception if fails
+     */
+    @Benchmark
+    public void select(final Blackhole hole) throws Exception {
+        try (
+            ResultSet rset = new Select(
+                this.session,
+                new QueryOf("SELECT id, name, age FROM person")
+            ).execute()
+        ) {
+            while (rset.next()) {
+                hole.consume(rset.getInt(1));
+                hole.consume(rset.getString(2));
+                hole.consume(rset.getInt(3));
+            }
+        }
+    }
+}
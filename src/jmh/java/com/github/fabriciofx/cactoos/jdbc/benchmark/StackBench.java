@@ -0,0 +1,144 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.benchmark;
+
+import com.github.fabriciofx.cactoos.cache.base.CacheOf;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.cache.TableStore;
+import com.github.fabriciofx.cactoos.jdbc.query.QueryOf;
+import com.github.fabriciofx.cactoos.jdbc.session.Cached;
+import com.github.fabriciofx.cactoos.jdbc.session.Logged;
+import com.github.fabriciofx.cactoos.jdbc.session.Timeout;
+import com.github.fabriciofx.cactoos.jdbc.statement.Select;
+import java.sql.ResultSet;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Decorator stack benchmark.
+ * <p>Compares a plain session with the full Logged, Timeout and Cached
+ * stack, with logging disabled, to measure what the decorators cost on a
+ * cache hit and on a plain query.
+ * @since 1.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StackBench {
+    /**
+     * Amount of rows in the table.
+     */
+    @Param({"1", "100"})
+    public int rows;
+
+    /**
+     * Database.
+     */
+    private Database database;
+
+    /**
+     * Plain session.
+     */
+    private Session plain;
+
+    /**
+     * Decorated session.
+     */
+    private Session stack;
+
+    /**
+     * Create, fill the table and build the sessions.
+     * @throws Exception if fails
+     */
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        this.database = new Database();
+        this.database.fill(1, this.rows);
+        this.plain = this.database.source().session();
+        final Logger logger = Logger.getLogger(StackBench.class.getName());
+        logger.setLevel(java.util.logging.Level.OFF);
+        this.stack = new Logged(
+            new Timeout(
+                new Cached(this.plain, new CacheOf<>(new TableStore())),
+                // @checkstyle MagicNumber (1 line)
+                30
+            ),
+            "benchmark",
+            logger,
+            java.util.logging.Level.FINE,
+            0
+        );
+    }
+
+    /**
+     * Close everything.
+     * @throws Exception if fails
+     */
+    @TearDown(Level.Trial)
+    public void teardown() throws Exception {
+        this.plain.close();
+        this.database.close();
+    }
+
+    /**
+     * Run the query on the plain session.
+     * @return A checksum of the values read
+     * @throws Exception if fails
+     */
+    @Benchmark
+    public long plain() throws Exception {
+        return StackBench.read(this.plain);
+    }
+
+    /**
+     * Run the query on the decorated session.
+     * @return A checksum of the values read
+     * @throws Exception if fails
+     */
+    @Benchmark
+    public long stacked() throws Exception {
+        return StackBench.read(this.stack);
+    }
+
+    /**
+     * Run the query and read every column.
+     * @param session Session
+     * @return A checksum of the values read
+     * @throws Exception if fails
+     */
+    private static long read(final Session session) throws Exception {
+        long sum = 0;
+        try (
+            ResultSet rset = new Select(
+                session,
+                new QueryOf("SELECT id, name, age FROM person")
+            ).execute()
+        ) {
+            while (rset.next()) {
+                sum += rset.getInt(1) + rset.getString(2).length()
+                    + rset.getInt(3);
+            }
+        }
+        return sum;
+    }
+}
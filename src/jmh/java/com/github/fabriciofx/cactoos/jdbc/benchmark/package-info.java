@@ -0,0 +1,15 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+
+/**
+ * JMH benchmarks.
+ *
+ * <p>Run them with {@code mvn -Pjmh test-compile exec:exec@jmh}. Extra JMH
+ * arguments can be given through the {@code jmh.args} property, e.g.
+ * {@code -Djmh.args="SelectBench -prof gc"}.
+ *
+ * @since 1.0
+ */
+package com.github.fabriciofx.cactoos.jdbc.benchmark;
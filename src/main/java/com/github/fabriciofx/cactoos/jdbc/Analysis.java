@@ -0,0 +1,38 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc;
+
+import java.util.Set;
+import org.apache.calcite.sql.SqlKind;
+
+/**
+ * Analysis.
+ * <p>What is known about a SQL statement after parsing it: its kind, its
+ * normalized form and the tables it touches.
+ *
+ * @since 1.0
+ */
+public interface Analysis {
+    /**
+     * The kind of the statement (select, insert, ...).
+     * @return The kind
+     * @throws Exception if something goes wrong
+     */
+    SqlKind kind() throws Exception;
+
+    /**
+     * The statement in canonical form.
+     * @return The normalized SQL
+     * @throws Exception if something goes wrong
+     */
+    String normalized() throws Exception;
+
+    /**
+     * The names of the tables used by the statement.
+     * @return The table names
+     * @throws Exception if something goes wrong
+     */
+    Set<String> tables() throws Exception;
+}
@@ -0,0 +1,30 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc;
+
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Export.
+ * <p>Writes the result of a query, row by row, in some format.
+ *
+ * @since 1.0
+ */
+public interface Export {
+    /**
+     * Write the result into a stream, that is not closed.
+     * @param output The stream
+     * @throws Exception if something goes wrong
+     */
+    void write(OutputStream output) throws Exception;
+
+    /**
+     * Write the result into a channel, that is not closed.
+     * @param channel The channel
+     * @throws Exception if something goes wrong
+     */
+    void write(WritableByteChannel channel) throws Exception;
+}
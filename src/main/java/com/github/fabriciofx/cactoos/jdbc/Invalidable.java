@@ -0,0 +1,25 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc;
+
+import com.github.fabriciofx.cactoos.cache.Entry;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Invalidable.
+ * <p>A store of cached results that invalidates them by the tables they
+ * read, without looking at all of its entries.
+ *
+ * @since 1.0
+ */
+public interface Invalidable {
+    /**
+     * Invalidate (delete) the entries which read any of the tables.
+     * @param tables Table names
+     * @return The deleted entries
+     */
+    List<Entry<Query, Table>> invalidate(Set<String> tables);
+}
@@ -0,0 +1,30 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc;
+
+/**
+ * Registry of metrics.
+ * <p>Metrics are identified by a name, e.g. {@code jdbc.query.latency}, and
+ * a tag, e.g. the normalized SQL of a query.
+ * @since 1.0
+ */
+public interface Registry {
+    /**
+     * Increment a counter.
+     * @param name Metric name
+     * @param tag Metric tag
+     * @param amount Amount to increment
+     */
+    void count(String name, String tag, long amount);
+
+    /**
+     * Record a value in a distribution, e.g. a latency in nanoseconds or an
+     * amount of rows.
+     * @param name Metric name
+     * @param tag Metric tag
+     * @param value Value to record
+     */
+    void record(String name, String tag, long value);
+}
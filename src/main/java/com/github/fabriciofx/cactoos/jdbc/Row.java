@@ -4,6 +4,7 @@
  */
 package com.github.fabriciofx.cactoos.jdbc;
 
+import java.util.List;
 import org.cactoos.Bytes;
 
 /**
@@ -27,4 +28,31 @@ public interface Row extends Bytes {
      * @throws Exception if something goes wrong
      */
     <T> T value(String column, Class<T> type) throws Exception;
+
+    /**
+     * Retrieve a value of a column by its position.
+     * <p>By default, it is the value of the column labeled at that position,
+     * so a row with repeated labels, e.g. of a join, should override it.
+     * @param index The column index, that start at 1 to amount of columns
+     * @param type The type of the value
+     * @return The value
+     * @param <T> The type of value
+     * @throws Exception if something goes wrong
+     */
+    default <T> T value(final int index, final Class<T> type)
+        throws Exception {
+        return this.value(this.labels().get(index - 1), type);
+    }
+
+    /**
+     * Return the column labels, in column order.
+     * <p>The name based methods don't tell the columns, so a row read by
+     * position or converted into a table as bytes must override it.
+     * @return The column labels
+     */
+    default List<String> labels() {
+        throw new UnsupportedOperationException(
+            "#labels(): this row doesn't tell its columns"
+        );
+    }
 }
@@ -0,0 +1,28 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc;
+
+import java.util.List;
+
+/**
+ * Template.
+ * <p>A SQL text with named parameters, compiled to the positional form
+ * the JDBC driver understands.
+ *
+ * @since 1.0
+ */
+public interface Template {
+    /**
+     * The SQL code with question marks in place of the named parameters.
+     * @return The positional SQL code
+     */
+    String sql();
+
+    /**
+     * The names of the parameters, in the order they appear.
+     * @return The parameter names
+     */
+    List<String> names();
+}
@@ -0,0 +1,52 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Values.
+ * <p>The values of a column, in row order.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public interface Values {
+    /**
+     * Return the amount of values.
+     * @return The amount of values
+     */
+    int count();
+
+    /**
+     * Adds a value.
+     * @param value The value, can be null
+     */
+    void add(Object value);
+
+    /**
+     * Adds the value of a column of the current row of a {@link ResultSet}.
+     * @param rset The ResultSet
+     * @param column The column index, that start at 1
+     * @throws SQLException if something goes wrong
+     */
+    void read(ResultSet rset, int column) throws SQLException;
+
+    /**
+     * Replace a value.
+     * @param index The index of the value, that start at 0
+     * @param value The value, can be null
+     */
+    void set(int index, Object value);
+
+    /**
+     * Retrieve a value.
+     * @param index The index of the value, that start at 0
+     * @return The value, or null
+     */
+    Object value(int index);
+}
@@ -0,0 +1,95 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.analysis;
+
+import com.github.fabriciofx.cactoos.jdbc.Analysis;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Analyses.
+ * <p>A bounded cache of {@link Analysis}, keyed by the SQL text. When it is
+ * full, the oldest analyses are evicted first.
+ *
+ * <p>This class is thread-safe.
+ *
+ * @since 1.0
+ */
+public final class Analyses {
+    /**
+     * Analyses by SQL text.
+     */
+    private final Map<String, Analysis> analyses;
+
+    /**
+     * SQL texts in insertion order.
+     */
+    private final Queue<String> order;
+
+    /**
+     * Max number of analyses.
+     */
+    private final int max;
+
+    /**
+     * Ctor.
+     */
+    public Analyses() {
+        // @checkstyle MagicNumber (1 line)
+        this(1024);
+    }
+
+    /**
+     * Ctor.
+     * @param max Max number of analyses kept
+     */
+    public Analyses(final int max) {
+        this.analyses = new ConcurrentHashMap<>();
+        this.order = new ConcurrentLinkedQueue<>();
+        this.max = max;
+    }
+
+    /**
+     * Retrieve the analysis of a SQL text, creating it if not cached.
+     * @param sql The SQL text
+     * @return The analysis
+     */
+    public Analysis analysis(final String sql) {
+        Analysis analysis = this.analyses.get(sql);
+        if (analysis == null) {
+            final Analysis created = new SqlAnalysis(sql);
+            analysis = this.analyses.putIfAbsent(sql, created);
+            if (analysis == null) {
+                analysis = created;
+                this.order.add(sql);
+                this.evict();
+            }
+        }
+        return analysis;
+    }
+
+    /**
+     * Amount of cached analyses.
+     * @return The amount
+     */
+    public int size() {
+        return this.analyses.size();
+    }
+
+    /**
+     * Remove the oldest analyses while the cache is over its limit.
+     */
+    private void evict() {
+        while (this.analyses.size() > this.max) {
+            final String oldest = this.order.poll();
+            if (oldest == null) {
+                break;
+            }
+            this.analyses.remove(oldest);
+        }
+    }
+}
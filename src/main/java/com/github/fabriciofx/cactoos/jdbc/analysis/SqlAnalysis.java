@@ -0,0 +1,76 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.analysis;
+
+import com.github.fabriciofx.cactoos.jdbc.Analysis;
+import com.github.fabriciofx.cactoos.jdbc.query.Normalized;
+import com.github.fabriciofx.cactoos.jdbc.query.QueryOf;
+import com.github.fabriciofx.cactoos.jdbc.scalar.KindOfQuery;
+import com.github.fabriciofx.cactoos.jdbc.scalar.TableNames;
+import java.util.Set;
+import org.apache.calcite.sql.SqlKind;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+
+/**
+ * SqlAnalysis.
+ * <p>The {@link Analysis} of a SQL text. Each part is computed only when
+ * asked for the first time and then memoized, so the SQL parser runs at
+ * most once per part.
+ *
+ * <p>This class is thread-safe.
+ *
+ * @since 1.0
+ */
+public final class SqlAnalysis implements Analysis {
+    /**
+     * Kind of the statement.
+     */
+    private final Scalar<SqlKind> knd;
+
+    /**
+     * Normalized SQL.
+     */
+    private final Scalar<String> code;
+
+    /**
+     * Table names.
+     */
+    private final Scalar<Set<String>> names;
+
+    /**
+     * Ctor.
+     * @param sql The SQL text
+     */
+    public SqlAnalysis(final String sql) {
+        this.knd = new Synced<>(
+            new Sticky<>(() -> new KindOfQuery(new QueryOf(sql)).value())
+        );
+        this.code = new Synced<>(
+            new Sticky<>(() -> new Normalized(new QueryOf(sql)).sql())
+        );
+        this.names = new Synced<>(
+            new Sticky<>(
+                () -> Set.copyOf(new TableNames(new QueryOf(sql)).value())
+            )
+        );
+    }
+
+    @Override
+    public SqlKind kind() throws Exception {
+        return this.knd.value();
+    }
+
+    @Override
+    public String normalized() throws Exception {
+        return this.code.value();
+    }
+
+    @Override
+    public Set<String> tables() throws Exception {
+        return this.names.value();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.bytes;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * BufferInput.
+ * <p>An {@link InputStream} reading a {@link ByteBuffer} from its position,
+ * moving it, so the bytes are read where they are, e.g. out of the heap,
+ * without being copied first.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class BufferInput extends InputStream {
+    /**
+     * The buffer.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Ctor.
+     * @param buffer The buffer, read from its position
+     */
+    public BufferInput(final ByteBuffer buffer) {
+        super();
+        this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+        final int octet;
+        if (this.buffer.hasRemaining()) {
+            octet = this.buffer.get() & 0xFF;
+        } else {
+            octet = -1;
+        }
+        return octet;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) {
+        final int read;
+        if (length == 0) {
+            read = 0;
+        } else if (this.buffer.hasRemaining()) {
+            read = Math.min(length, this.buffer.remaining());
+            this.buffer.get(bytes, offset, read);
+        } else {
+            read = -1;
+        }
+        return read;
+    }
+
+    @Override
+    public int available() {
+        return this.buffer.remaining();
+    }
+}
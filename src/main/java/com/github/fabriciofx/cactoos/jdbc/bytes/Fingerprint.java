@@ -0,0 +1,169 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.bytes;
+
+import com.github.fabriciofx.cactoos.jdbc.Param;
+import com.github.fabriciofx.cactoos.jdbc.Params;
+import com.github.fabriciofx.cactoos.jdbc.Query;
+import com.github.fabriciofx.cactoos.jdbc.prepared.Recording;
+import java.sql.PreparedStatement;
+import org.cactoos.Bytes;
+
+/**
+ * Fingerprint.
+ * <p>A 128-bit hash of a {@link Query}: its SQL code and the values of its
+ * parameters, as they are set into a statement. The SQL and the values are
+ * hashed as they are read, without copying them into intermediate arrays,
+ * so it is much cheaper than {@link QueryAsBytes} as a cache key. Different
+ * queries may have the same fingerprint, although it is very unlikely.
+ * @since 1.0
+ */
+public final class Fingerprint implements Bytes {
+    /**
+     * Query.
+     */
+    private final Query query;
+
+    /**
+     * Ctor.
+     * @param query The query
+     */
+    public Fingerprint(final Query query) {
+        this.query = query;
+    }
+
+    @Override
+    public byte[] asBytes() throws Exception {
+        final Hash hash = new Hash();
+        hash.text(this.query.sql());
+        final PreparedStatement stmt = new Recording(
+            (setter, value) -> {
+                hash.word(setter.hashCode());
+                hash.value(value);
+            }
+        );
+        for (final Params params : this.query.params()) {
+            int idx = 1;
+            for (final Param param : params) {
+                param.prepare(stmt, idx);
+                ++idx;
+            }
+        }
+        return hash.bytes();
+    }
+
+    /**
+     * Two lanes of 64 bits, mixed as in MurmurHash3.
+     * @since 1.0
+     */
+    private static final class Hash {
+        /**
+         * First lane.
+         */
+        private long high;
+
+        /**
+         * Second lane.
+         */
+        private long low;
+
+        /**
+         * Amount of words hashed.
+         */
+        private long length;
+
+        /**
+         * Hash a value of a parameter.
+         * @param value The value
+         */
+        void value(final Object value) {
+            if (value == null) {
+                this.word(0);
+            } else if (value instanceof Double || value instanceof Float) {
+                this.word(
+                    Double.doubleToLongBits(((Number) value).doubleValue())
+                );
+            } else if (value instanceof Long || value instanceof Integer
+                || value instanceof Short || value instanceof Byte) {
+                this.word(((Number) value).longValue());
+            } else if (value instanceof Boolean bool) {
+                this.word(Boolean.hashCode(bool));
+            } else if (value instanceof byte[] array) {
+                for (final byte octet : array) {
+                    this.word(octet);
+                }
+                this.word(array.length);
+            } else {
+                this.text(value.toString());
+            }
+        }
+
+        /**
+         * Hash a text, char by char.
+         * @param text The text
+         */
+        void text(final CharSequence text) {
+            for (int idx = 0; idx < text.length(); ++idx) {
+                this.word(text.charAt(idx));
+            }
+            this.word(text.length());
+        }
+
+        /**
+         * Hash a word.
+         * @param word The word
+         * @checkstyle MagicNumberCheck (20 lines)
+         */
+        void word(final long word) {
+            this.high ^= Long.rotateLeft(word * 0x87c37b91114253d5L, 31)
+                * 0x4cf5ad432745937fL;
+            this.high = Long.rotateLeft(this.high, 27) + this.low;
+            this.high = this.high * 5 + 0x52dce729;
+            this.low ^= Long.rotateLeft(word * 0x4cf5ad432745937fL, 33)
+                * 0x87c37b91114253d5L;
+            this.low = Long.rotateLeft(this.low, 31) + this.high;
+            this.low = this.low * 5 + 0x38495ab5;
+            ++this.length;
+        }
+
+        /**
+         * The 128 bits of the hash.
+         * @return The hash as 16 bytes
+         * @checkstyle MagicNumberCheck (20 lines)
+         */
+        byte[] bytes() {
+            long first = this.high ^ this.length;
+            long second = this.low ^ this.length;
+            first += second;
+            second += first;
+            first = Hash.mixed(first);
+            second = Hash.mixed(second);
+            first += second;
+            second += first;
+            final byte[] bytes = new byte[16];
+            for (int idx = 0; idx < 8; ++idx) {
+                bytes[idx] = (byte) (first >>> 56 - idx * 8);
+                bytes[idx + 8] = (byte) (second >>> 56 - idx * 8);
+            }
+            return bytes;
+        }
+
+        /**
+         * Final mix of a lane, spreading its bits.
+         * @param lane The lane
+         * @return The mixed lane
+         * @checkstyle MagicNumberCheck (10 lines)
+         */
+        private static long mixed(final long lane) {
+            long mix = lane;
+            mix ^= mix >>> 33;
+            mix *= 0xff51afd7ed558ccdL;
+            mix ^= mix >>> 33;
+            mix *= 0xc4ceb9fe1a85ec53L;
+            mix ^= mix >>> 33;
+            return mix;
+        }
+    }
+}
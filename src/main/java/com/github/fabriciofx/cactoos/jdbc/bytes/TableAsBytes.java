@@ -0,0 +1,113 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.bytes;
+
+import com.github.fabriciofx.cactoos.jdbc.Columns;
+import com.github.fabriciofx.cactoos.jdbc.Row;
+import com.github.fabriciofx.cactoos.jdbc.Rows;
+import com.github.fabriciofx.cactoos.jdbc.Table;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.cactoos.Bytes;
+
+/**
+ * TableAsBytes.
+ * <p>Convert a {@link Table} into a compact binary format: a header with
+ * the name and SQL type of each column and the labels of the rows, as the
+ * rows have them (e.g. aliases and repeated names of a join), written once,
+ * followed by the rows. Each row is its length in bytes, so the rows can be
+ * found without decoding their values, and then a bitmap of its null values
+ * followed by its not null values, each one prefixed by its {@link Tag}. It
+ * is read back by {@link com.github.fabriciofx.cactoos.jdbc.table.BytesTable}.
+ * @since 1.0
+ */
+public final class TableAsBytes implements Bytes {
+    /**
+     * Table.
+     */
+    private final Table table;
+
+    /**
+     * Ctor.
+     * @param table The table
+     */
+    public TableAsBytes(final Table table) {
+        this.table = table;
+    }
+
+    @Override
+    public byte[] asBytes() throws Exception {
+        final Columns columns = this.table.columns();
+        final Rows rows = this.table.rows();
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(stream)) {
+            Tag.INT.write(out, columns.count());
+            for (int col = 1; col <= columns.count(); ++col) {
+                final String name = columns.name(col);
+                Tag.TEXT.write(out, name);
+                Tag.INT.write(out, columns.type(name));
+            }
+            final List<String> labels = TableAsBytes.labels(columns, rows);
+            final int width = labels.size();
+            Tag.INT.write(out, width);
+            for (final String label : labels) {
+                Tag.TEXT.write(out, label);
+            }
+            Tag.INT.write(out, rows.count());
+            final byte[] nulls = new byte[(width + 7) / 8];
+            final Object[] values = new Object[width];
+            final ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+            final DataOutputStream line = new DataOutputStream(encoded);
+            for (int idx = 0; idx < rows.count(); ++idx) {
+                final Row row = rows.row(idx);
+                Arrays.fill(nulls, (byte) 0);
+                for (int col = 0; col < width; ++col) {
+                    values[col] = row.value(col + 1, Object.class);
+                    if (values[col] == null) {
+                        nulls[col / 8] |= (byte) (1 << col % 8);
+                    }
+                }
+                encoded.reset();
+                line.write(nulls);
+                for (final Object value : values) {
+                    if (value != null) {
+                        Tag.tagged(line, value);
+                    }
+                }
+                line.flush();
+                out.writeInt(encoded.size());
+                encoded.writeTo(out);
+            }
+        }
+        return stream.toByteArray();
+    }
+
+    /**
+     * The labels of the rows, as the rows have them, or the column names if
+     * there are no rows.
+     * @param columns The columns
+     * @param rows The rows
+     * @return The labels, in column order
+     * @throws Exception if fails
+     */
+    private static List<String> labels(
+        final Columns columns,
+        final Rows rows
+    ) throws Exception {
+        final List<String> labels;
+        if (rows.count() == 0) {
+            labels = new ArrayList<>(columns.count());
+            for (int col = 1; col <= columns.count(); ++col) {
+                labels.add(columns.name(col));
+            }
+        } else {
+            labels = rows.row(0).labels();
+        }
+        return labels;
+    }
+}
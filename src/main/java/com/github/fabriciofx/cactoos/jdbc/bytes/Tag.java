@@ -0,0 +1,631 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.bytes;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Tag.
+ * <p>The type of a value in the binary format of a table, which knows how
+ * to write and read values of this type. Integers are written as
+ * <a href="https://protobuf.dev/programming-guides/encoding/">zigzag
+ * varints</a>, texts as UTF-8 prefixed by their length and any other
+ * value not listed is Java serialized.
+ *
+ * <p>The tag is written as its ordinal, so the tags must never be
+ * reordered.
+ *
+ * @since 1.0
+ * @checkstyle CyclomaticComplexityCheck (500 lines)
+ * @checkstyle ClassFanOutComplexityCheck (500 lines)
+ */
+@SuppressWarnings(
+    {
+        "PMD.CyclomaticComplexity",
+        "PMD.ExcessiveImports",
+        "PMD.CouplingBetweenObjects"
+    }
+)
+public enum Tag {
+    /**
+     * Integer.
+     */
+    INT {
+        @Override
+        public boolean matches(final Object value) {
+            return value instanceof Integer;
+        }
+
+        @Override
+        public void write(final DataOutput out, final Object value)
+            throws IOException {
+            Tag.varlong(out, Tag.zigzag((Integer) value));
+        }
+
+        @Override
+        public Object read(final DataInput in) throws IOException {
+            return (int) Tag.unzigzag(Tag.varlong(in));
+        }
+    },
+
+    /**
+     * Long.
+     */
+    LONG {
+        @Override
+        public boolean matches(final Object value) {
+            return value instanceof Long;
+        }
+
+        @Override
+        public void write(final DataOutput out, final Object value)
+            throws IOException {
+            Tag.varlong(out, Tag.zigzag((Long) value));
+        }
+
+        @Override
+        public Object read(final DataInput in) throws IOException {
+            return Tag.unzigzag(Tag.varlong(in));
+        }
+    },
+
+    /**
+     * Short.
+     */
+    SHORT {
+        @Override
+        public boolean matches(final Object value) {
+            return value instanceof Short;
+        }
+
+        @Override
+        public void write(final DataOutput out, final Object value)
+            throws IOException {
+            Tag.varlong(out, Tag.zigzag((Short) value));
+        }
+
+        @Override
+        public Object read(final DataInput in) throws IOException {
+            return (short) Tag.unzigzag(Tag.varlong(in));
+        }
+    },
+
+    /**
+     * Byte.
+     */
+    BYTE {
+        @Override
+        public boolean matches(final Object value) {
+            return value instanceof Byte;
+        }
+
+        @Override
+        public void write(final DataOutput out, final Object value)
+            throws IOException {
+            out.writeByte((Byte) value);
+        }
+
+        @Override
+        public Object read(final DataInput in) throws IOException {
+            return in.readByte();
+        }
+    },
+
+    /**
+     * Double.
+     */
+    DOUBLE {
+        @Override
+        public boolean matches(final Object value) {
+            return value instanceof Double;
+        }
+
+        @Override
+        public void write(final DataOutput out, final Object value)
+            throws IOException {
+            out.writeDouble((Double) value);
+        }
+
+        @Override
+        public Object read(final DataInput in) throws IOException {
+            return in.readDouble();
+        }
+    },
+
+    /**
+     * Float.
+     */
+    FLOAT {
+        @Override
+        public boolean matches(final Object value) {
+            return value instanceof Float;
+        }
+
+        @Override
+        public void write(final DataOutput out, final Object value)
+            throws IOException {
+            out.writeFloat((Float) value);
+        }
+
+        @Override
+        public Object read(final DataInput in) throws IOException {
+            return in.readFloat();
+        }
+    },
+
+    /**
+     * Boolean.
+     */
+    BOOL {
+        @Override
+        public boolean matches(final Object value) {
+            return value instanceof Boolean;
+        }
+
+        @Override
+        public void write(final DataOutput out, final Object value)
+            throws IOException {
+            out.writeBoolean((Boolean) value);
+        }
+
+        @Override
+        public Object read(final DataInput in) throws IOException {
+            return in.readBoolean();
+        }
+    },
+
+    /**
+     * Text.
+     */
+    TEXT {
+        @Override
+        public boolean matches(final Object value) {
+            return value instanceof String;
+        }
+
+        @Override
+        public void write(final DataOutput out, final Object value)
+            throws IOException {
+            Tag.chunk(
+                out,
+                value.toString().getBytes(StandardCharsets.UTF_8)
+            );
+        }
+
+        @Override
+        public Object read(final DataInput in) throws IOException {
+            return new String(Tag.chunk(in), StandardCharsets.UTF_8);
+        }
+    },
+
+    /**
+     * Decimal.
+     */
+    DECIMAL {
+        @Override
+        public boolean matches(final Object value) {
+            return value instanceof BigDecimal;
+        }
+
+        @Override
+        public void write(final DataOutput out, final Object value)
+            throws IOException {
+            final BigDecimal decimal = (BigDecimal) value;
+            Tag.varlong(out, Tag.zigzag(decimal.scale()));
+            Tag.chunk(out, decimal.unscaledValue().toByteArray());
+        }
+
+        @Override
+        public Object read(final DataInput in) throws IOException {
+            final int scale = (int) Tag.unzigzag(Tag.varlong(in));
+            return new BigDecimal(new BigInteger(Tag.chunk(in)), scale);
+        }
+    },
+
+    /**
+     * Big integer.
+     */
+    BIGINT {
+        @Override
+        public boolean matches(final Object value) {
+            return value instanceof BigInteger;
+        }
+
+        @Override
+        public void write(final DataOutput out, final Object value)
+            throws IOException {
+            Tag.chunk(out, ((BigInteger) value).toByteArray());
+        }
+
+        @Override
+        public Object read(final DataInput in) throws IOException {
+            return new BigInteger(Tag.chunk(in));
+        }
+    },
+
+    /**
+     * SQL date.
+     */
+    DATE {
+        @Override
+        public boolean matches(final Object value) {
+            return value instanceof Date;
+        }
+
+        @Override
+        public void write(final DataOutput out, final Object value)
+            throws IOException {
+            LOCAL_DATE.write(out, ((Date) value).toLocalDate());
+        }
+
+        @Override
+        public Object read(final DataInput in) throws IOException {
+            return Date.valueOf((LocalDate) LOCAL_DATE.read(in));
+        }
+    },
+
+    /**
+     * SQL time.
+     */
+    TIME {
+        @Override
+        public boolean matches(final Object value) {
+            return value instanceof Time;
+        }
+
+        @Override
+        public void write(final DataOutput out, final Object value)
+            throws IOException {
+            LOCAL_TIME.write(out, ((Time) value).toLocalTime());
+        }
+
+        @Override
+        public Object read(final DataInput in) throws IOException {
+            return Time.valueOf((LocalTime) LOCAL_TIME.read(in));
+        }
+    },
+
+    /**
+     * SQL timestamp.
+     */
+    TIMESTAMP {
+        @Override
+        public boolean matches(final Object value) {
+            return value instanceof Timestamp;
+        }
+
+        @Override
+        public void write(final DataOutput out, final Object value)
+            throws IOException {
+            LOCAL_DATE_TIME.write(out, ((Timestamp) value).toLocalDateTime());
+        }
+
+        @Override
+        public Object read(final DataInput in) throws IOException {
+            return Timestamp.valueOf(
+                (LocalDateTime) LOCAL_DATE_TIME.read(in)
+            );
+        }
+    },
+
+    /**
+     * Local date.
+     */
+    LOCAL_DATE {
+        @Override
+        public boolean matches(final Object value) {
+            return value instanceof LocalDate;
+        }
+
+        @Override
+        public void write(final DataOutput out, final Object value)
+            throws IOException {
+            Tag.varlong(out, Tag.zigzag(((LocalDate) value).toEpochDay()));
+        }
+
+        @Override
+        public Object read(final DataInput in) throws IOException {
+            return LocalDate.ofEpochDay(Tag.unzigzag(Tag.varlong(in)));
+        }
+    },
+
+    /**
+     * Local time.
+     */
+    LOCAL_TIME {
+        @Override
+        public boolean matches(final Object value) {
+            return value instanceof LocalTime;
+        }
+
+        @Override
+        public void write(final DataOutput out, final Object value)
+            throws IOException {
+            Tag.varlong(out, ((LocalTime) value).toNanoOfDay());
+        }
+
+        @Override
+        public Object read(final DataInput in) throws IOException {
+            return LocalTime.ofNanoOfDay(Tag.varlong(in));
+        }
+    },
+
+    /**
+     * Local date and time.
+     */
+    LOCAL_DATE_TIME {
+        @Override
+        public boolean matches(final Object value) {
+            return value instanceof LocalDateTime;
+        }
+
+        @Override
+        public void write(final DataOutput out, final Object value)
+            throws IOException {
+            final LocalDateTime datetime = (LocalDateTime) value;
+            Tag.varlong(
+                out,
+                Tag.zigzag(datetime.toEpochSecond(ZoneOffset.UTC))
+            );
+            Tag.varlong(out, datetime.getNano());
+        }
+
+        @Override
+        public Object read(final DataInput in) throws IOException {
+            final long seconds = Tag.unzigzag(Tag.varlong(in));
+            return LocalDateTime.ofEpochSecond(
+                seconds,
+                (int) Tag.varlong(in),
+                ZoneOffset.UTC
+            );
+        }
+    },
+
+    /**
+     * UUID.
+     */
+    UID {
+        @Override
+        public boolean matches(final Object value) {
+            return value instanceof UUID;
+        }
+
+        @Override
+        public void write(final DataOutput out, final Object value)
+            throws IOException {
+            final UUID uuid = (UUID) value;
+            out.writeLong(uuid.getMostSignificantBits());
+            out.writeLong(uuid.getLeastSignificantBits());
+        }
+
+        @Override
+        public Object read(final DataInput in) throws IOException {
+            return new UUID(in.readLong(), in.readLong());
+        }
+    },
+
+    /**
+     * Binary.
+     */
+    BINARY {
+        @Override
+        public boolean matches(final Object value) {
+            return value instanceof byte[];
+        }
+
+        @Override
+        public void write(final DataOutput out, final Object value)
+            throws IOException {
+            Tag.chunk(out, (byte[]) value);
+        }
+
+        @Override
+        public Object read(final DataInput in) throws IOException {
+            return Tag.chunk(in);
+        }
+    },
+
+    /**
+     * Any other value, Java serialized.
+     */
+    OBJECT {
+        @Override
+        public boolean matches(final Object value) {
+            return true;
+        }
+
+        @Override
+        public void write(final DataOutput out, final Object value)
+            throws IOException {
+            try (
+                ByteArrayOutputStream stream = new ByteArrayOutputStream();
+                ObjectOutputStream obj = new ObjectOutputStream(stream)
+            ) {
+                obj.writeObject(value);
+                obj.flush();
+                Tag.chunk(out, stream.toByteArray());
+            }
+        }
+
+        @Override
+        public Object read(final DataInput in) throws IOException {
+            try (
+                ObjectInputStream obj = new ObjectInputStream(
+                    new ByteArrayInputStream(Tag.chunk(in))
+                )
+            ) {
+                return obj.readObject();
+            } catch (final ClassNotFoundException ex) {
+                throw new IOException(ex);
+            }
+        }
+    };
+
+    /**
+     * Check if a value has this type.
+     * @param value A value, not null
+     * @return True if it has
+     */
+    public abstract boolean matches(Object value);
+
+    /**
+     * Write a value of this type, without the tag.
+     * @param out Where to write
+     * @param value The value
+     * @throws IOException if fails
+     */
+    public abstract void write(DataOutput out, Object value)
+        throws IOException;
+
+    /**
+     * Read a value of this type, written without the tag.
+     * @param in Where to read from
+     * @return The value
+     * @throws IOException if fails
+     */
+    public abstract Object read(DataInput in) throws IOException;
+
+    /**
+     * The tag of a value.
+     * @param value A value, not null
+     * @return The tag
+     */
+    public static Tag of(final Object value) {
+        Tag found = OBJECT;
+        for (final Tag tag : Tag.values()) {
+            if (tag.matches(value)) {
+                found = tag;
+                break;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Write a value with its tag.
+     * @param out Where to write
+     * @param value The value, not null
+     * @throws IOException if fails
+     */
+    public static void tagged(final DataOutput out, final Object value)
+        throws IOException {
+        final Tag tag = Tag.of(value);
+        out.writeByte(tag.ordinal());
+        tag.write(out, value);
+    }
+
+    /**
+     * Read a value with its tag.
+     * @param in Where to read from
+     * @return The value
+     * @throws IOException if fails
+     */
+    public static Object tagged(final DataInput in) throws IOException {
+        final int ordinal = in.readUnsignedByte();
+        final Tag[] tags = Tag.values();
+        if (ordinal >= tags.length) {
+            throw new IOException(
+                String.format("Unknown tag '%d'", ordinal)
+            );
+        }
+        return tags[ordinal].read(in);
+    }
+
+    /**
+     * Write an unsigned varint.
+     * @param out Where to write
+     * @param value The value
+     * @throws IOException if fails
+     */
+    private static void varlong(final DataOutput out, final long value)
+        throws IOException {
+        long rest = value;
+        while ((rest & ~0x7FL) != 0) {
+            out.writeByte((int) (rest & 0x7F | 0x80));
+            rest >>>= 7;
+        }
+        out.writeByte((int) rest);
+    }
+
+    /**
+     * Read an unsigned varint.
+     * @param in Where to read from
+     * @return The value
+     * @throws IOException if fails
+     */
+    private static long varlong(final DataInput in) throws IOException {
+        long value = 0;
+        int shift = 0;
+        byte current;
+        do {
+            if (shift > 63) {
+                throw new IOException("Malformed varint");
+            }
+            current = in.readByte();
+            value |= (long) (current & 0x7F) << shift;
+            shift += 7;
+        } while ((current & 0x80) != 0);
+        return value;
+    }
+
+    /**
+     * Write bytes prefixed by their length.
+     * @param out Where to write
+     * @param bytes The bytes
+     * @throws IOException if fails
+     */
+    private static void chunk(final DataOutput out, final byte[] bytes)
+        throws IOException {
+        Tag.varlong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Read bytes prefixed by their length.
+     * @param in Where to read from
+     * @return The bytes
+     * @throws IOException if fails
+     */
+    private static byte[] chunk(final DataInput in) throws IOException {
+        final byte[] bytes = new byte[(int) Tag.varlong(in)];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    /**
+     * Zigzag encode a signed value, so small negatives are small too.
+     * @param value The value
+     * @return The encoded value
+     */
+    private static long zigzag(final long value) {
+        return value << 1 ^ value >> 63;
+    }
+
+    /**
+     * Zigzag decode a value.
+     * @param value The encoded value
+     * @return The signed value
+     */
+    private static long unzigzag(final long value) {
+        return value >>> 1 ^ -(value & 1);
+    }
+}
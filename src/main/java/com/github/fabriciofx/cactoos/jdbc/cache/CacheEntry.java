@@ -11,6 +11,8 @@ import com.github.fabriciofx.cactoos.cache.entry.EntryOf;
 import com.github.fabriciofx.cactoos.cache.metadata.MetadataOf;
 import com.github.fabriciofx.cactoos.jdbc.Query;
 import com.github.fabriciofx.cactoos.jdbc.Table;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Set;
 import org.cactoos.Scalar;
 import org.cactoos.map.MapEntry;
@@ -46,6 +48,33 @@ public final class CacheEntry implements Entry<Query, Table> {
         );
     }
 
+    /**
+     * Ctor.
+     * @param key The key
+     * @param table The Table
+     * @param tables Table names
+     * @param stored When the table was stored
+     * @param ttl Time-to-live of the table
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public CacheEntry(
+        final Key<Query> key,
+        final Table table,
+        final Scalar<Set<String>> tables,
+        final Instant stored,
+        final Duration ttl
+    ) {
+        this(
+            key,
+            table,
+            new MetadataOf(
+                new MapEntry<>("tables", new Unchecked<>(tables).value()),
+                new MapEntry<>("stored", stored),
+                new MapEntry<>("ttl", ttl)
+            )
+        );
+    }
+
     /**
      * Ctor.
      * @param key The key
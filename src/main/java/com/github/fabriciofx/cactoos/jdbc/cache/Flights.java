@@ -0,0 +1,142 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.cache;
+
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.jdbc.Query;
+import com.github.fabriciofx.cactoos.jdbc.Table;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.cactoos.Scalar;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Flights.
+ * <p>Fetches of cache misses in flight, by key, so concurrent misses of the
+ * same query hit the database once: the first caller fetches the table and
+ * the others wait for it, up to a timeout. If the fetch fails, all of them
+ * fail with its error. The callers waiting for a key can be counted.
+ *
+ * @since 1.0
+ * @checkstyle IllegalCatchCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidCatchingGenericException")
+public final class Flights {
+    /**
+     * Fetches in flight.
+     */
+    private final Map<Key<Query>, CompletableFuture<Table>> flights;
+
+    /**
+     * How long to wait for a fetch of another caller.
+     */
+    private final Duration timeout;
+
+    /**
+     * Callers waiting for each fetch in flight.
+     */
+    private final Map<Key<Query>, Integer> waiters;
+
+    /**
+     * Ctor.
+     */
+    public Flights() {
+        this(Duration.ofSeconds(30));
+    }
+
+    /**
+     * Ctor.
+     * @param timeout How long to wait for a fetch of another caller
+     */
+    public Flights(final Duration timeout) {
+        this.flights = new ConcurrentHashMap<>();
+        this.timeout = timeout;
+        this.waiters = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Fetch a table, unless it is being fetched already.
+     * @param key The key of the query
+     * @param fetch Fetch the table, fully read
+     * @return The table
+     * @throws Exception if the fetch fails or times out
+     */
+    public Table table(
+        final Key<Query> key,
+        final Scalar<Table> fetch
+    ) throws Exception {
+        final CompletableFuture<Table> mine = new CompletableFuture<>();
+        final CompletableFuture<Table> flight = this.flights.putIfAbsent(
+            key,
+            mine
+        );
+        final Table table;
+        if (flight == null) {
+            try {
+                table = fetch.value();
+                mine.complete(table);
+            } catch (final Exception ex) {
+                mine.completeExceptionally(ex);
+                throw ex;
+            } finally {
+                this.flights.remove(key, mine);
+            }
+        } else {
+            table = this.awaited(key, flight);
+        }
+        return table;
+    }
+
+    /**
+     * How many callers are waiting for the fetch of a key in flight.
+     * @param key The key of the query
+     * @return The number of waiting callers
+     */
+    public int waiting(final Key<Query> key) {
+        return this.waiters.getOrDefault(key, 0);
+    }
+
+    /**
+     * Wait for the fetch of another caller.
+     * @param key The key of the query
+     * @param flight The fetch
+     * @return The table
+     * @throws Exception if the fetch fails or times out
+     */
+    private Table awaited(
+        final Key<Query> key,
+        final CompletableFuture<Table> flight
+    ) throws Exception {
+        this.waiters.merge(key, 1, Integer::sum);
+        try {
+            return flight.get(this.timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException ex) {
+            throw new SQLTimeoutException(
+                new UncheckedText(
+                    new FormattedText(
+                        "Timeout of %d ms waiting for a query in flight",
+                        this.timeout.toMillis()
+                    )
+                ).asString(),
+                ex
+            );
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof Exception) {
+                throw (Exception) ex.getCause();
+            }
+            throw ex;
+        } finally {
+            this.waiters.merge(key, -1, Integer::sum);
+            this.waiters.remove(key, 0);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.cache;
+
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.jdbc.Query;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.cactoos.Proc;
+
+/**
+ * Freshness.
+ * <p>How long a cached result lives (its time-to-live) and when it is
+ * refreshed ahead of expiring. The time-to-live of a query is, in order:
+ * the one given to its normalized SQL, the shortest one given to the
+ * tables it reads or the default one.
+ *
+ * <p>With refresh-ahead, a result read after {@code ahead} (a fraction
+ * of its time-to-live, e.g. 0.8) is still returned, but the query is run
+ * again in the background, once, to replace it before it expires.
+ *
+ * <p>Writes tell which tables they invalidate, so a refresh that started
+ * before the invalidation of a table it reads can be discarded: each table
+ * has a version, increased on every invalidation.
+ *
+ * @since 1.0
+ * @checkstyle ParameterNumberCheck (500 lines)
+ * @checkstyle IllegalCatchCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidCatchingGenericException")
+public final class Freshness {
+    /**
+     * Default time-to-live.
+     */
+    private final Duration fallback;
+
+    /**
+     * Time-to-live by table name.
+     */
+    private final Map<String, Duration> tables;
+
+    /**
+     * Time-to-live by normalized SQL.
+     */
+    private final Map<String, Duration> queries;
+
+    /**
+     * Fraction of the time-to-live to refresh ahead, or zero to not.
+     */
+    private final double ahead;
+
+    /**
+     * Executor of the refreshes.
+     */
+    private final Executor executor;
+
+    /**
+     * Keys being refreshed.
+     */
+    private final Set<Key<Query>> refreshing;
+
+    /**
+     * Invalidations by table name.
+     */
+    private final Map<String, AtomicLong> versions;
+
+    /**
+     * Logger.
+     */
+    private final Logger logger;
+
+    /**
+     * Ctor.
+     * <p>Results never expire.
+     */
+    public Freshness() {
+        this(ChronoUnit.FOREVER.getDuration());
+    }
+
+    /**
+     * Ctor.
+     * @param ttl Time-to-live of all results
+     */
+    public Freshness(final Duration ttl) {
+        this(ttl, Map.of());
+    }
+
+    /**
+     * Ctor.
+     * @param ttl Default time-to-live
+     * @param tables Time-to-live by table name
+     */
+    public Freshness(final Duration ttl, final Map<String, Duration> tables) {
+        this(ttl, tables, Map.of(), 0, Runnable::run);
+    }
+
+    /**
+     * Ctor.
+     * @param ttl Default time-to-live
+     * @param tables Time-to-live by table name
+     * @param queries Time-to-live by normalized SQL
+     * @param ahead Fraction of the time-to-live to refresh ahead, or zero
+     * @param executor Executor of the refreshes
+     */
+    public Freshness(
+        final Duration ttl,
+        final Map<String, Duration> tables,
+        final Map<String, Duration> queries,
+        final double ahead,
+        final Executor executor
+    ) {
+        this.fallback = ttl;
+        this.tables = tables;
+        this.queries = queries;
+        this.ahead = ahead;
+        this.executor = executor;
+        this.refreshing = ConcurrentHashMap.newKeySet();
+        this.versions = new ConcurrentHashMap<>();
+        this.logger = Logger.getLogger(Freshness.class.getName());
+    }
+
+    /**
+     * Time-to-live of a query result.
+     * @param sql The normalized SQL
+     * @param names Names of the tables read by the query
+     * @return The time-to-live
+     */
+    public Duration ttl(final String sql, final Set<String> names) {
+        Duration ttl = this.queries.get(sql);
+        if (ttl == null) {
+            for (final String name : names) {
+                final Duration table = this.tables.get(name);
+                if (table != null
+                    && (ttl == null || table.compareTo(ttl) < 0)) {
+                    ttl = table;
+                }
+            }
+        }
+        if (ttl == null) {
+            ttl = this.fallback;
+        }
+        return ttl;
+    }
+
+    /**
+     * Check if a result expired.
+     * @param stored When the result was stored
+     * @param ttl Its time-to-live
+     * @return True if expired
+     */
+    public boolean expired(final Instant stored, final Duration ttl) {
+        return Duration.between(stored, Instant.now()).compareTo(ttl) >= 0;
+    }
+
+    /**
+     * Refresh a result, in the background, if it is near to expire and it
+     * is not being refreshed already.
+     * @param key The key of the result
+     * @param stored When the result was stored
+     * @param ttl Its time-to-live
+     * @param refresh Refresh the result of a key
+     */
+    public void refresh(
+        final Key<Query> key,
+        final Instant stored,
+        final Duration ttl,
+        final Proc<Key<Query>> refresh
+    ) {
+        if (this.ahead > 0
+            && Duration.between(stored, Instant.now()).compareTo(
+                this.due(ttl)
+            ) >= 0
+            && this.refreshing.add(key)) {
+            try {
+                this.executor.execute(
+                    () -> {
+                        try {
+                            refresh.exec(key);
+                        } catch (final Exception ex) {
+                            this.logger.log(
+                                Level.WARNING,
+                                "Unable to refresh a cached result",
+                                ex
+                            );
+                        } finally {
+                            this.refreshing.remove(key);
+                        }
+                    }
+                );
+            } catch (final RejectedExecutionException ex) {
+                this.refreshing.remove(key);
+                this.logger.log(
+                    Level.WARNING,
+                    "Unable to schedule the refresh of a cached result",
+                    ex
+                );
+            }
+        }
+    }
+
+    /**
+     * Tell that the cached results of some tables were invalidated.
+     * @param names Names of the tables
+     */
+    public void invalidated(final Set<String> names) {
+        for (final String name : names) {
+            this.versions.computeIfAbsent(name, key -> new AtomicLong())
+                .incrementAndGet();
+        }
+    }
+
+    /**
+     * Version of some tables, changed by any invalidation of them.
+     * @param names Names of the tables
+     * @return The version
+     */
+    public long version(final Set<String> names) {
+        long version = 0;
+        for (final String name : names) {
+            final AtomicLong table = this.versions.get(name);
+            if (table != null) {
+                version += table.get();
+            }
+        }
+        return version;
+    }
+
+    /**
+     * How old a result is when it is refreshed ahead.
+     * @param ttl Its time-to-live
+     * @return The age, in nanoseconds precision
+     */
+    private Duration due(final Duration ttl) {
+        return Duration.ofNanos(
+            (long) ((ttl.getSeconds() * 1.0e9 + ttl.getNano()) * this.ahead)
+        );
+    }
+}
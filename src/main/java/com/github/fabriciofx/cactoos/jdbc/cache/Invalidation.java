@@ -0,0 +1,48 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.cache;
+
+import com.github.fabriciofx.cactoos.cache.Cache;
+import com.github.fabriciofx.cactoos.cache.Store;
+import com.github.fabriciofx.cactoos.cache.invalidate.MetadataInvalidate;
+import com.github.fabriciofx.cactoos.jdbc.Invalidable;
+import com.github.fabriciofx.cactoos.jdbc.Query;
+import com.github.fabriciofx.cactoos.jdbc.Table;
+import java.util.Set;
+import org.cactoos.Proc;
+
+/**
+ * Invalidation.
+ * <p>Invalidates the cached results of some tables: by the index of the
+ * store, if it is {@link Invalidable}, as a {@link TableStore}, a
+ * {@link Tiered} or a {@link Weighted} one, or else looking at the
+ * metadata of all of its entries.
+ *
+ * @since 1.0
+ */
+public final class Invalidation implements Proc<Set<String>> {
+    /**
+     * The cache.
+     */
+    private final Cache<Query, Table> cache;
+
+    /**
+     * Ctor.
+     * @param cache The cache
+     */
+    public Invalidation(final Cache<Query, Table> cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void exec(final Set<String> tables) throws Exception {
+        final Store<Query, Table> store = this.cache.store();
+        if (store instanceof Invalidable) {
+            ((Invalidable) store).invalidate(tables);
+        } else {
+            store.entries().invalidate(new MetadataInvalidate<>(tables));
+        }
+    }
+}
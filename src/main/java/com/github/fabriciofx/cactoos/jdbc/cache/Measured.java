@@ -0,0 +1,108 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.cache;
+
+import com.github.fabriciofx.cactoos.cache.Entries;
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.Keys;
+import com.github.fabriciofx.cactoos.cache.Store;
+import com.github.fabriciofx.cactoos.jdbc.Query;
+import com.github.fabriciofx.cactoos.jdbc.Registry;
+import com.github.fabriciofx.cactoos.jdbc.Table;
+
+/**
+ * Measured store.
+ * <p>Counts, tagged by the store name, the lookups that found a table in
+ * {@code jdbc.cache.hit}, the ones that did not in {@code jdbc.cache.miss}
+ * and the tables deleted, e.g. evicted or expired, in
+ * {@code jdbc.cache.eviction}.
+ *
+ * @since 1.0
+ */
+public final class Measured implements Store<Query, Table> {
+    /**
+     * Store.
+     */
+    private final Store<Query, Table> origin;
+
+    /**
+     * Registry.
+     */
+    private final Registry registry;
+
+    /**
+     * Store name.
+     */
+    private final String name;
+
+    /**
+     * Ctor.
+     * @param store Decorated store
+     * @param registry Registry of metrics
+     */
+    public Measured(final Store<Query, Table> store, final Registry registry) {
+        this(store, registry, "tables");
+    }
+
+    /**
+     * Ctor.
+     * @param store Decorated store
+     * @param registry Registry of metrics
+     * @param name Store name
+     */
+    public Measured(
+        final Store<Query, Table> store,
+        final Registry registry,
+        final String name
+    ) {
+        this.origin = store;
+        this.registry = registry;
+        this.name = name;
+    }
+
+    @Override
+    public Entry<Query, Table> retrieve(final Key<Query> key) {
+        return this.origin.retrieve(key);
+    }
+
+    @Override
+    public Entry<Query, Table> save(
+        final Key<Query> key,
+        final Entry<Query, Table> entry
+    ) {
+        return this.origin.save(key, entry);
+    }
+
+    @Override
+    public Entry<Query, Table> delete(final Key<Query> key) {
+        final Entry<Query, Table> deleted = this.origin.delete(key);
+        if (deleted.valid()) {
+            this.registry.count("jdbc.cache.eviction", this.name, 1L);
+        }
+        return deleted;
+    }
+
+    @Override
+    public boolean contains(final Key<Query> key) {
+        final boolean found = this.origin.contains(key);
+        if (found) {
+            this.registry.count("jdbc.cache.hit", this.name, 1L);
+        } else {
+            this.registry.count("jdbc.cache.miss", this.name, 1L);
+        }
+        return found;
+    }
+
+    @Override
+    public Keys<Query> keys() {
+        return this.origin.keys();
+    }
+
+    @Override
+    public Entries<Query, Table> entries() {
+        return this.origin.entries();
+    }
+}
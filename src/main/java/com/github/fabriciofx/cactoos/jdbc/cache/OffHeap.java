@@ -0,0 +1,493 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.cache;
+
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.jdbc.Query;
+import com.github.fabriciofx.cactoos.jdbc.Table;
+import com.github.fabriciofx.cactoos.jdbc.table.BufferTable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OffHeap.
+ * <p>Keeps tables as bytes (see
+ * {@link com.github.fabriciofx.cactoos.jdbc.bytes.TableAsBytes}) out of
+ * the Java heap: in direct buffers or, given a directory, in memory mapped
+ * files. It holds at most {@code budget} bytes, dropping the oldest tables
+ * to make room for new ones; a table larger than the budget is not kept.
+ *
+ * <p>A table is read in place, as a {@link BufferTable}, which holds its
+ * bytes: a table still being read when dropped keeps them until it is
+ * garbage collected, out of the budget. To keep a table for long, e.g. on
+ * the heap, take a copy of its {@link #bytes(Key)} instead.
+ *
+ * <p>Besides the names of the tables read by its query, a table may be kept
+ * with when it was stored and its time-to-live, so it still expires out of
+ * the heap.
+ *
+ * @since 1.0
+ */
+public final class OffHeap {
+    /**
+     * Directory of the mapped files, if any.
+     */
+    private final Optional<Path> directory;
+
+    /**
+     * Maximum amount of bytes kept.
+     */
+    private final long budget;
+
+    /**
+     * Kept tables, from the oldest to the newest.
+     */
+    private final Map<Key<Query>, Slot> slots;
+
+    /**
+     * Keys of the kept tables, by the names of the tables they read.
+     */
+    private final Map<String, Set<Key<Query>>> index;
+
+    /**
+     * Amount of bytes kept.
+     */
+    private final AtomicLong kept;
+
+    /**
+     * Ctor.
+     * @param budget Maximum amount of bytes kept, in direct buffers
+     */
+    public OffHeap(final long budget) {
+        this(Optional.empty(), budget);
+    }
+
+    /**
+     * Ctor.
+     * @param directory Directory of the mapped files
+     * @param budget Maximum amount of bytes kept
+     */
+    public OffHeap(final Path directory, final long budget) {
+        this(Optional.of(directory), budget);
+    }
+
+    /**
+     * Ctor.
+     * @param directory Directory of the mapped files, if any
+     * @param budget Maximum amount of bytes kept
+     */
+    private OffHeap(final Optional<Path> directory, final long budget) {
+        this.directory = directory;
+        this.budget = budget;
+        this.slots = new LinkedHashMap<>();
+        this.index = new HashMap<>();
+        this.kept = new AtomicLong();
+    }
+
+    /**
+     * Keep a table.
+     * @param key The key
+     * @param tables Names of the tables read by the query
+     * @param bytes The table as bytes
+     * @return True if kept, false if larger than the budget
+     * @throws IOException if fails to map a file
+     */
+    public boolean save(
+        final Key<Query> key,
+        final Set<String> tables,
+        final byte[] bytes
+    ) throws IOException {
+        return this.save(
+            key,
+            tables,
+            Optional.empty(),
+            Optional.empty(),
+            bytes
+        );
+    }
+
+    /**
+     * Keep a table that expires.
+     * @param key The key
+     * @param tables Names of the tables read by the query
+     * @param stored When the table was stored
+     * @param ttl Time-to-live of the table
+     * @param bytes The table as bytes
+     * @return True if kept, false if larger than the budget
+     * @throws IOException if fails to map a file
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public boolean save(
+        final Key<Query> key,
+        final Set<String> tables,
+        final Instant stored,
+        final Duration ttl,
+        final byte[] bytes
+    ) throws IOException {
+        return this.save(
+            key,
+            tables,
+            Optional.of(stored),
+            Optional.of(ttl),
+            bytes
+        );
+    }
+
+    /**
+     * Check if there is a table for a key.
+     * @param key The key
+     * @return True if there is
+     */
+    public boolean contains(final Key<Query> key) {
+        synchronized (this.slots) {
+            return this.slots.containsKey(key);
+        }
+    }
+
+    /**
+     * The table kept for a key, read in place: its rows are decoded from
+     * the bytes out of the heap only when read.
+     * @param key The key
+     * @return The table, if kept
+     */
+    public Optional<Table> table(final Key<Query> key) {
+        synchronized (this.slots) {
+            return Optional.ofNullable(this.slots.get(key)).map(Slot::table);
+        }
+    }
+
+    /**
+     * How many times the table of a key has been read since kept.
+     * @param key The key
+     * @return The amount of reads, zero if there is no table for the key
+     */
+    public int reads(final Key<Query> key) {
+        synchronized (this.slots) {
+            return Optional.ofNullable(this.slots.get(key))
+                .map(slot -> slot.reads.get())
+                .orElse(0);
+        }
+    }
+
+    /**
+     * A copy, on the heap, of the bytes of the table of a key.
+     * @param key The key
+     * @return The bytes, if kept
+     */
+    public Optional<byte[]> bytes(final Key<Query> key) {
+        synchronized (this.slots) {
+            return Optional.ofNullable(this.slots.get(key)).map(Slot::bytes);
+        }
+    }
+
+    /**
+     * Names of the tables read by the query of a key.
+     * @param key The key
+     * @return The names, empty if there is no table for the key
+     */
+    public Set<String> tables(final Key<Query> key) {
+        synchronized (this.slots) {
+            return Optional.ofNullable(this.slots.get(key))
+                .map(slot -> slot.tables)
+                .orElse(Set.of());
+        }
+    }
+
+    /**
+     * When the table of a key was stored.
+     * @param key The key
+     * @return The instant, if the table was kept with it
+     */
+    public Optional<Instant> stored(final Key<Query> key) {
+        synchronized (this.slots) {
+            return Optional.ofNullable(this.slots.get(key))
+                .flatMap(slot -> slot.stored);
+        }
+    }
+
+    /**
+     * Time-to-live of the table of a key.
+     * @param key The key
+     * @return The time-to-live, if the table was kept with it
+     */
+    public Optional<Duration> ttl(final Key<Query> key) {
+        synchronized (this.slots) {
+            return Optional.ofNullable(this.slots.get(key))
+                .flatMap(slot -> slot.ttl);
+        }
+    }
+
+    /**
+     * Drop the table of a key.
+     * @param key The key
+     * @return True if there was a table for the key
+     */
+    public boolean delete(final Key<Query> key) {
+        synchronized (this.slots) {
+            final Slot slot = this.slots.remove(key);
+            if (slot != null) {
+                this.unindex(key, slot);
+                this.kept.addAndGet(-slot.free());
+            }
+            return slot != null;
+        }
+    }
+
+    /**
+     * Drop the tables of the queries which read any of the tables.
+     * <p>It only visits the keys indexed for these tables.
+     * @param tables Table names
+     * @return The keys of the dropped tables
+     */
+    public List<Key<Query>> invalidate(final Set<String> tables) {
+        final List<Key<Query>> dropped = new LinkedList<>();
+        synchronized (this.slots) {
+            for (final String table : tables) {
+                final Set<Key<Query>> keys = this.index.get(table);
+                if (keys != null) {
+                    for (final Key<Query> key : List.copyOf(keys)) {
+                        this.delete(key);
+                        dropped.add(key);
+                    }
+                }
+            }
+        }
+        return dropped;
+    }
+
+    /**
+     * Amount of bytes kept.
+     * @return The amount of bytes
+     */
+    public long used() {
+        return this.kept.get();
+    }
+
+    /**
+     * Keep a table.
+     * @param key The key
+     * @param tables Names of the tables read by the query
+     * @param stored When the table was stored, if known
+     * @param ttl Time-to-live of the table, if any
+     * @param bytes The table as bytes
+     * @return True if kept, false if larger than the budget
+     * @throws IOException if fails to map a file
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private boolean save(
+        final Key<Query> key,
+        final Set<String> tables,
+        final Optional<Instant> stored,
+        final Optional<Duration> ttl,
+        final byte[] bytes
+    ) throws IOException {
+        final boolean fits = bytes.length <= this.budget;
+        if (fits) {
+            synchronized (this.slots) {
+                this.delete(key);
+                final Iterator<Map.Entry<Key<Query>, Slot>> oldest =
+                    this.slots.entrySet().iterator();
+                while (this.kept.get() + bytes.length > this.budget) {
+                    final Map.Entry<Key<Query>, Slot> dropped = oldest.next();
+                    oldest.remove();
+                    this.unindex(dropped.getKey(), dropped.getValue());
+                    this.kept.addAndGet(-dropped.getValue().free());
+                }
+                final Slot slot = this.slot(tables, stored, ttl, bytes);
+                this.slots.put(key, slot);
+                for (final String table : slot.tables) {
+                    this.index.computeIfAbsent(table, name -> new HashSet<>())
+                        .add(key);
+                }
+                this.kept.addAndGet(bytes.length);
+            }
+        }
+        return fits;
+    }
+
+    /**
+     * Remove a dropped table from the index.
+     * @param key The key
+     * @param slot The dropped table
+     */
+    private void unindex(final Key<Query> key, final Slot slot) {
+        for (final String table : slot.tables) {
+            final Set<Key<Query>> keys = this.index.get(table);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    this.index.remove(table);
+                }
+            }
+        }
+    }
+
+    /**
+     * Put the bytes out of the heap.
+     * @param tables Names of the tables read by the query
+     * @param stored When the table was stored, if known
+     * @param ttl Time-to-live of the table, if any
+     * @param bytes The bytes
+     * @return A slot with the bytes
+     * @throws IOException if fails to map a file
+     */
+    private Slot slot(
+        final Set<String> tables,
+        final Optional<Instant> stored,
+        final Optional<Duration> ttl,
+        final byte[] bytes
+    ) throws IOException {
+        final Slot slot;
+        if (this.directory.isPresent()) {
+            final Path file = Files.createTempFile(
+                this.directory.get(),
+                "table",
+                ".bin"
+            );
+            try (
+                FileChannel channel = FileChannel.open(
+                    file,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE
+                )
+            ) {
+                channel.write(ByteBuffer.wrap(bytes));
+                slot = new Slot(
+                    tables,
+                    stored,
+                    ttl,
+                    channel.map(FileChannel.MapMode.READ_ONLY, 0, bytes.length),
+                    Optional.of(file)
+                );
+            }
+        } else {
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+            buffer.put(bytes).flip();
+            slot = new Slot(
+                tables,
+                stored,
+                ttl,
+                buffer,
+                Optional.empty()
+            );
+        }
+        return slot;
+    }
+
+    /**
+     * A table kept out of the heap.
+     * @since 1.0
+     */
+    private static final class Slot {
+        /**
+         * Names of the tables read by the query.
+         */
+        private final Set<String> tables;
+
+        /**
+         * When the table was stored, if known.
+         */
+        private final Optional<Instant> stored;
+
+        /**
+         * Time-to-live of the table, if any.
+         */
+        private final Optional<Duration> ttl;
+
+        /**
+         * The table bytes.
+         */
+        private final ByteBuffer buffer;
+
+        /**
+         * The mapped file, if any.
+         */
+        private final Optional<Path> file;
+
+        /**
+         * How many times the table has been read.
+         */
+        private final AtomicInteger reads;
+
+        /**
+         * Ctor.
+         * @param tables Names of the tables read by the query
+         * @param stored When the table was stored, if known
+         * @param ttl Time-to-live of the table, if any
+         * @param buffer The table bytes
+         * @param file The mapped file, if any
+         * @checkstyle ParameterNumberCheck (10 lines)
+         */
+        Slot(
+            final Set<String> tables,
+            final Optional<Instant> stored,
+            final Optional<Duration> ttl,
+            final ByteBuffer buffer,
+            final Optional<Path> file
+        ) {
+            this.tables = Set.copyOf(tables);
+            this.stored = stored;
+            this.ttl = ttl;
+            this.buffer = buffer;
+            this.file = file;
+            this.reads = new AtomicInteger();
+        }
+
+        /**
+         * The table, read in place.
+         * @return The table
+         */
+        Table table() {
+            this.reads.incrementAndGet();
+            return new BufferTable(this.buffer.duplicate());
+        }
+
+        /**
+         * A copy of the bytes on the heap.
+         * @return The bytes
+         */
+        byte[] bytes() {
+            final ByteBuffer bytes = this.buffer.duplicate();
+            final byte[] copy = new byte[bytes.remaining()];
+            bytes.get(copy);
+            return copy;
+        }
+
+        /**
+         * Release the mapped file, if any. The mapping itself is released
+         * by the garbage collector.
+         * @return Amount of bytes released
+         */
+        long free() {
+            this.file.ifPresent(
+                path -> {
+                    try {
+                        Files.deleteIfExists(path);
+                    } catch (final IOException ex) {
+                        path.toFile().deleteOnExit();
+                    }
+                }
+            );
+            return this.buffer.capacity();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sketch.
+ * <p>A count-min sketch estimating how often each key was used, with 4
+ * counters per key, saturated at 15. All counters are halved after
+ * {@code 10 * width} uses, so the estimates follow recent use (TinyLFU).
+ * It is not thread safe.
+ * @since 1.0
+ */
+final class Sketch {
+    /**
+     * Counters, a row per hash function.
+     */
+    private final int[][] counters;
+
+    /**
+     * Uses since the last halving.
+     */
+    private final AtomicInteger uses;
+
+    /**
+     * Ctor.
+     * @param width Counters per row, rounded to a power of two
+     */
+    Sketch(final int width) {
+        this.counters = new int[4][
+            Integer.highestOneBit(Math.max(width, 16) - 1) << 1
+        ];
+        this.uses = new AtomicInteger();
+    }
+
+    /**
+     * Count a use of a key.
+     * @param key The key
+     */
+    void increment(final Object key) {
+        final int hash = key.hashCode();
+        for (int row = 0; row < this.counters.length; ++row) {
+            final int idx = this.index(hash, row);
+            if (this.counters[row][idx] < 15) {
+                ++this.counters[row][idx];
+            }
+        }
+        if (this.uses.incrementAndGet() >= this.counters[0].length * 10) {
+            for (final int[] row : this.counters) {
+                for (int idx = 0; idx < row.length; ++idx) {
+                    row[idx] >>>= 1;
+                }
+            }
+            this.uses.set(0);
+        }
+    }
+
+    /**
+     * Estimate how often a key was used.
+     * @param key The key
+     * @return The estimated frequency
+     */
+    int frequency(final Object key) {
+        final int hash = key.hashCode();
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < this.counters.length; ++row) {
+            min = Math.min(min, this.counters[row][this.index(hash, row)]);
+        }
+        return min;
+    }
+
+    /**
+     * Counter of a hash in a row.
+     * @param hash The hash
+     * @param row The row
+     * @return The counter index
+     */
+    private int index(final int hash, final int row) {
+        int mixed = hash * (0x9E3779B9 + (row << 1));
+        mixed ^= mixed >>> 16;
+        return mixed & this.counters[row].length - 1;
+    }
+}
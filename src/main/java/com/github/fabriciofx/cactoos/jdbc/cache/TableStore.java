@@ -11,9 +11,10 @@ import com.github.fabriciofx.cactoos.cache.Keys;
 import com.github.fabriciofx.cactoos.cache.Store;
 import com.github.fabriciofx.cactoos.cache.metadata.TypeOf;
 import com.github.fabriciofx.cactoos.cache.store.StoreOf;
+import com.github.fabriciofx.cactoos.jdbc.Invalidable;
 import com.github.fabriciofx.cactoos.jdbc.Query;
 import com.github.fabriciofx.cactoos.jdbc.Table;
-import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -21,12 +22,18 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * TableStore.
+ * <p>It indexes the keys by the tables they read, so the entries of a
+ * table can be invalidated without looking at all the entries. The index
+ * is updated atomically for each table, so concurrent saves and deletes
+ * do not lose keys. An entry is indexed only after it is saved, so an
+ * invalidation running at the same time can miss it, but the next one of
+ * its tables never does.
  *
  * @since 0.9.0
  * @checkstyle NestedIfDepthCheck (200 lines)
  */
 @SuppressWarnings("PMD.AvoidDeeplyNestedIfStmts")
-public final class TableStore implements Store<Query, Table> {
+public final class TableStore implements Store<Query, Table>, Invalidable {
     /**
      * Store.
      */
@@ -80,21 +87,29 @@ public final class TableStore implements Store<Query, Table> {
         final Key<Query> key,
         final Entry<Query, Table> entry
     ) {
+        final Entry<Query, Table> saved = this.store.save(key, entry);
         final List<Set<String>> tables = entry.metadata().value(
             "tables",
             new TypeOf<>() { }
         );
         if (!tables.isEmpty()) {
             for (final String table : tables.get(0)) {
-                final Set<Key<Query>> keys = this.index.getOrDefault(
+                this.index.compute(
                     table,
-                    new HashSet<>()
+                    (name, keys) -> {
+                        final Set<Key<Query>> indexed;
+                        if (keys == null) {
+                            indexed = ConcurrentHashMap.newKeySet();
+                        } else {
+                            indexed = keys;
+                        }
+                        indexed.add(key);
+                        return indexed;
+                    }
                 );
-                keys.add(key);
-                this.index.put(table, keys);
             }
         }
-        return this.store.save(key, entry);
+        return saved;
     }
 
     @Override
@@ -107,14 +122,19 @@ public final class TableStore implements Store<Query, Table> {
             );
             if (!tables.isEmpty()) {
                 for (final String table : tables.get(0)) {
-                    final Set<Key<Query>> keys = this.index.getOrDefault(
+                    this.index.computeIfPresent(
                         table,
-                        new HashSet<>()
+                        (name, keys) -> {
+                            keys.remove(key);
+                            final Set<Key<Query>> indexed;
+                            if (keys.isEmpty()) {
+                                indexed = null;
+                            } else {
+                                indexed = keys;
+                            }
+                            return indexed;
+                        }
                     );
-                    keys.remove(key);
-                    if (keys.isEmpty()) {
-                        this.index.remove(table);
-                    }
                 }
             }
         }
@@ -135,4 +155,28 @@ public final class TableStore implements Store<Query, Table> {
     public Entries<Query, Table> entries() {
         return this.store.entries();
     }
+
+    /**
+     * Invalidate (delete) the entries which read any of the tables.
+     * <p>It only visits the keys indexed for these tables.
+     *
+     * @param tables Table names
+     * @return The deleted entries
+     */
+    @Override
+    public List<Entry<Query, Table>> invalidate(final Set<String> tables) {
+        final List<Entry<Query, Table>> deleted = new LinkedList<>();
+        for (final String table : tables) {
+            final Set<Key<Query>> keys = this.index.remove(table);
+            if (keys != null) {
+                for (final Key<Query> key : keys) {
+                    final Entry<Query, Table> entry = this.delete(key);
+                    if (entry.valid()) {
+                        deleted.add(entry);
+                    }
+                }
+            }
+        }
+        return deleted;
+    }
 }
@@ -0,0 +1,274 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.cache;
+
+import com.github.fabriciofx.cactoos.cache.Entries;
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.Keys;
+import com.github.fabriciofx.cactoos.cache.Store;
+import com.github.fabriciofx.cactoos.cache.metadata.TypeOf;
+import com.github.fabriciofx.cactoos.jdbc.Invalidable;
+import com.github.fabriciofx.cactoos.jdbc.Query;
+import com.github.fabriciofx.cactoos.jdbc.Table;
+import com.github.fabriciofx.cactoos.jdbc.table.BytesTable;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Tiered store.
+ * <p>Keeps the {@code count} most recently used tables in a
+ * {@link TableStore}, on the heap, and moves the others, as bytes, to an
+ * {@link OffHeap} tier. A table in the off heap tier is read in place, from
+ * its bytes, without rebuilding its rows; once it has been read {@code hot}
+ * times, it is promoted back to the heap, as a copy of its bytes, and
+ * dropped from the off heap tier.
+ *
+ * <p>Only the heap tier is seen by {@link #keys()} and {@link #entries()},
+ * so writes must invalidate the tables by {@link #invalidate(Set)}, as
+ * {@link com.github.fabriciofx.cactoos.jdbc.source.Cached} does by default
+ * through an {@link Invalidation}.
+ *
+ * @since 1.0
+ */
+public final class Tiered implements Store<Query, Table>, Invalidable {
+    /**
+     * Heap tier.
+     */
+    private final TableStore heap;
+
+    /**
+     * Off heap tier.
+     */
+    private final OffHeap spill;
+
+    /**
+     * Maximum amount of tables in the heap tier.
+     */
+    private final int count;
+
+    /**
+     * Amount of reads of a table in the off heap tier to promote it.
+     */
+    private final int hot;
+
+    /**
+     * Keys in the heap tier, from the least to the most recently used.
+     */
+    private final Map<Key<Query>, Boolean> recent;
+
+    /**
+     * Ctor.
+     * @param count Maximum amount of tables in the heap tier
+     * @param spill Off heap tier
+     */
+    public Tiered(final int count, final OffHeap spill) {
+        this(new TableStore(), spill, count);
+    }
+
+    /**
+     * Ctor.
+     * @param heap Heap tier
+     * @param spill Off heap tier
+     * @param count Maximum amount of tables in the heap tier
+     */
+    public Tiered(final TableStore heap, final OffHeap spill, final int count) {
+        this(heap, spill, count, 2);
+    }
+
+    /**
+     * Ctor.
+     * @param heap Heap tier
+     * @param spill Off heap tier
+     * @param count Maximum amount of tables in the heap tier
+     * @param hot Amount of reads of a table in the off heap tier to promote it
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public Tiered(
+        final TableStore heap,
+        final OffHeap spill,
+        final int count,
+        final int hot
+    ) {
+        this.heap = heap;
+        this.spill = spill;
+        this.count = count;
+        this.hot = hot;
+        this.recent = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    @Override
+    public Entry<Query, Table> retrieve(final Key<Query> key) {
+        synchronized (this.recent) {
+            final Entry<Query, Table> entry;
+            if (this.heap.contains(key) || !this.spill.contains(key)) {
+                this.recent.get(key);
+                entry = this.heap.retrieve(key);
+            } else if (this.spill.reads(key) + 1 < this.hot) {
+                entry = this.spilled(key, this.spill.table(key).get());
+            } else {
+                this.promote(key);
+                entry = this.heap.retrieve(key);
+            }
+            return entry;
+        }
+    }
+
+    @Override
+    public Entry<Query, Table> save(
+        final Key<Query> key,
+        final Entry<Query, Table> entry
+    ) {
+        synchronized (this.recent) {
+            final Entry<Query, Table> saved = this.heap.save(key, entry);
+            this.spill.delete(key);
+            this.recent.put(key, true);
+            final Iterator<Key<Query>> eldest = this.recent.keySet().iterator();
+            while (this.recent.size() > this.count) {
+                final Key<Query> demoted = eldest.next();
+                eldest.remove();
+                this.demote(demoted);
+            }
+            return saved;
+        }
+    }
+
+    @Override
+    public Entry<Query, Table> delete(final Key<Query> key) {
+        synchronized (this.recent) {
+            this.recent.remove(key);
+            this.spill.delete(key);
+            return this.heap.delete(key);
+        }
+    }
+
+    @Override
+    public boolean contains(final Key<Query> key) {
+        synchronized (this.recent) {
+            return this.heap.contains(key) || this.spill.contains(key);
+        }
+    }
+
+    @Override
+    public Keys<Query> keys() {
+        return this.heap.keys();
+    }
+
+    @Override
+    public Entries<Query, Table> entries() {
+        return this.heap.entries();
+    }
+
+    /**
+     * Invalidate (delete) the tables which read any of the tables, in both
+     * tiers.
+     * @param tables Table names
+     * @return The deleted entries of the heap tier
+     */
+    @Override
+    public List<Entry<Query, Table>> invalidate(final Set<String> tables) {
+        synchronized (this.recent) {
+            this.spill.invalidate(tables);
+            final List<Entry<Query, Table>> deleted =
+                this.heap.invalidate(tables);
+            for (final Entry<Query, Table> entry : deleted) {
+                this.recent.remove(entry.key());
+            }
+            return deleted;
+        }
+    }
+
+    /**
+     * Move a table from the off heap tier to the heap, as a copy of its
+     * bytes, so it does not hold the bytes out of the heap.
+     * @param key The key
+     */
+    private void promote(final Key<Query> key) {
+        final Entry<Query, Table> entry = this.spilled(
+            key,
+            new BytesTable(this.spill.bytes(key).get())
+        );
+        this.spill.delete(key);
+        this.save(key, entry);
+    }
+
+    /**
+     * An entry of a table in the off heap tier, with the metadata it was
+     * spilled with.
+     * @param key The key
+     * @param table The table
+     * @return The entry
+     */
+    private Entry<Query, Table> spilled(
+        final Key<Query> key,
+        final Table table
+    ) {
+        final Set<String> tables = this.spill.tables(key);
+        final Optional<Instant> stored = this.spill.stored(key);
+        final Optional<Duration> ttl = this.spill.ttl(key);
+        final Entry<Query, Table> entry;
+        if (stored.isPresent() && ttl.isPresent()) {
+            entry = new CacheEntry(
+                key,
+                table,
+                () -> tables,
+                stored.get(),
+                ttl.get()
+            );
+        } else {
+            entry = new CacheEntry(key, table, () -> tables);
+        }
+        return entry;
+    }
+
+    /**
+     * Move a table from the heap to the off heap tier.
+     * @param key The key
+     */
+    private void demote(final Key<Query> key) {
+        final Entry<Query, Table> entry = this.heap.delete(key);
+        if (entry.valid()) {
+            final List<Set<String>> tables = entry.metadata().value(
+                "tables",
+                new TypeOf<>() { }
+            );
+            final List<Instant> stored = entry.metadata().value(
+                "stored",
+                new TypeOf<>() { }
+            );
+            final List<Duration> ttl = entry.metadata().value(
+                "ttl",
+                new TypeOf<>() { }
+            );
+            final Set<String> names = tables.stream().findFirst()
+                .orElse(Set.of());
+            try {
+                if (stored.isEmpty() || ttl.isEmpty()) {
+                    this.spill.save(key, names, entry.value().asBytes());
+                } else {
+                    this.spill.save(
+                        key,
+                        names,
+                        stored.get(0),
+                        ttl.get(0),
+                        entry.value().asBytes()
+                    );
+                }
+            // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Exception ex) {
+                throw new IllegalStateException(
+                    "Unable to spill a cached table",
+                    ex
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.cache;
+
+import com.github.fabriciofx.cactoos.cache.Entries;
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.Keys;
+import com.github.fabriciofx.cactoos.cache.Store;
+import com.github.fabriciofx.cactoos.jdbc.Invalidable;
+import com.github.fabriciofx.cactoos.jdbc.Query;
+import com.github.fabriciofx.cactoos.jdbc.Table;
+import com.github.fabriciofx.cactoos.jdbc.scalar.Footprint;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.cactoos.Func;
+import org.cactoos.func.UncheckedFunc;
+
+/**
+ * Weighted store.
+ * <p>Keeps tables up to a budget of bytes, weighting each one by its
+ * {@link Footprint}, evicting them in a segmented LRU: a new table enters
+ * the probation segment and moves to the protected one (at most 80% of the
+ * budget) when read again. A new table is admitted only if it was used
+ * more often than the tables it would evict, as counted by a TinyLFU
+ * sketch, so one large scan can not flush the tables used all the time.
+ *
+ * <p>Writes should invalidate tables by {@link #invalidate(Set)}, as
+ * {@link com.github.fabriciofx.cactoos.jdbc.source.Cached} does by default
+ * through an {@link Invalidation}; tables
+ * invalidated through {@link #entries()} keep their weight until they are
+ * chosen to be evicted.
+ *
+ * @since 1.0
+ */
+public final class Weighted implements Store<Query, Table>, Invalidable {
+    /**
+     * Store.
+     */
+    private final TableStore origin;
+
+    /**
+     * Weight of a table, in bytes.
+     */
+    private final Func<Table, Long> weight;
+
+    /**
+     * Maximum amount of bytes kept.
+     */
+    private final long budget;
+
+    /**
+     * Probation segment: weight by key, from the least recently used.
+     */
+    private final Map<Key<Query>, Long> probation;
+
+    /**
+     * Protected segment: weight by key, from the least recently used.
+     */
+    private final Map<Key<Query>, Long> hot;
+
+    /**
+     * Bytes in the protected segment.
+     */
+    private final AtomicLong guarded;
+
+    /**
+     * Bytes in both segments.
+     */
+    private final AtomicLong total;
+
+    /**
+     * Frequency of use of the keys.
+     */
+    private final Sketch sketch;
+
+    /**
+     * Ctor.
+     * @param budget Maximum amount of bytes kept
+     */
+    public Weighted(final long budget) {
+        this(new TableStore(), budget);
+    }
+
+    /**
+     * Ctor.
+     * @param store The store
+     * @param budget Maximum amount of bytes kept
+     */
+    public Weighted(final TableStore store, final long budget) {
+        this(store, table -> new Footprint(table).value(), budget);
+    }
+
+    /**
+     * Ctor.
+     * @param store The store
+     * @param weight Weight of a table, in bytes
+     * @param budget Maximum amount of bytes kept
+     */
+    public Weighted(
+        final TableStore store,
+        final Func<Table, Long> weight,
+        final long budget
+    ) {
+        this.origin = store;
+        this.weight = weight;
+        this.budget = budget;
+        this.probation = new LinkedHashMap<>(16, 0.75f, true);
+        this.hot = new LinkedHashMap<>(16, 0.75f, true);
+        this.guarded = new AtomicLong();
+        this.total = new AtomicLong();
+        this.sketch = new Sketch(1024);
+    }
+
+    @Override
+    public Entry<Query, Table> retrieve(final Key<Query> key) {
+        synchronized (this.sketch) {
+            this.sketch.increment(key);
+            final Long size = this.probation.remove(key);
+            if (size == null) {
+                this.hot.get(key);
+            } else {
+                this.hot.put(key, size);
+                this.guarded.addAndGet(size);
+                this.demote();
+            }
+            return this.origin.retrieve(key);
+        }
+    }
+
+    @Override
+    public Entry<Query, Table> save(
+        final Key<Query> key,
+        final Entry<Query, Table> entry
+    ) {
+        synchronized (this.sketch) {
+            this.sketch.increment(key);
+            this.forget(key);
+            final long size = new UncheckedFunc<>(this.weight)
+                .apply(entry.value());
+            final Entry<Query, Table> saved;
+            if (this.admitted(key, size)) {
+                saved = this.origin.save(key, entry);
+                this.probation.put(key, size);
+                this.total.addAndGet(size);
+            } else {
+                this.origin.delete(key);
+                saved = entry;
+            }
+            return saved;
+        }
+    }
+
+    @Override
+    public Entry<Query, Table> delete(final Key<Query> key) {
+        synchronized (this.sketch) {
+            this.forget(key);
+            return this.origin.delete(key);
+        }
+    }
+
+    @Override
+    public boolean contains(final Key<Query> key) {
+        return this.origin.contains(key);
+    }
+
+    @Override
+    public Keys<Query> keys() {
+        return this.origin.keys();
+    }
+
+    @Override
+    public Entries<Query, Table> entries() {
+        return this.origin.entries();
+    }
+
+    /**
+     * Invalidate (delete) the entries which read any of the tables.
+     * @param tables Table names
+     * @return The deleted entries
+     */
+    @Override
+    public List<Entry<Query, Table>> invalidate(final Set<String> tables) {
+        synchronized (this.sketch) {
+            final List<Entry<Query, Table>> deleted =
+                this.origin.invalidate(tables);
+            for (final Entry<Query, Table> entry : deleted) {
+                this.forget(entry.key());
+            }
+            return deleted;
+        }
+    }
+
+    /**
+     * Amount of bytes kept.
+     * @return The amount of bytes
+     */
+    public long used() {
+        return this.total.get();
+    }
+
+    /**
+     * Make room for a new table, if it is worth it.
+     * @param key The key of the new table
+     * @param size Weight of the new table
+     * @return True if the table can be kept
+     */
+    private boolean admitted(final Key<Query> key, final long size) {
+        final List<Key<Query>> victims = new LinkedList<>();
+        long free = this.budget - this.total.get();
+        int frequency = 0;
+        final Iterator<Map.Entry<Key<Query>, Long>> candidates = Stream
+            .concat(
+                this.probation.entrySet().stream(),
+                this.hot.entrySet().stream()
+            ).iterator();
+        while (free < size && candidates.hasNext()) {
+            final Map.Entry<Key<Query>, Long> candidate = candidates.next();
+            final Key<Query> victim = candidate.getKey();
+            victims.add(victim);
+            free += candidate.getValue();
+            if (this.origin.contains(victim)) {
+                frequency = Math.max(frequency, this.sketch.frequency(victim));
+            }
+        }
+        final boolean admit = size <= this.budget
+            && (victims.isEmpty() || this.sketch.frequency(key) > frequency);
+        if (admit) {
+            for (final Key<Query> victim : victims) {
+                this.forget(victim);
+                this.origin.delete(victim);
+            }
+        }
+        return admit;
+    }
+
+    /**
+     * Move the least recently used tables of the protected segment back to
+     * probation, while it is over 80% of the budget.
+     */
+    private void demote() {
+        final Iterator<Map.Entry<Key<Query>, Long>> eldest =
+            this.hot.entrySet().iterator();
+        while (this.guarded.get() * 5 > this.budget * 4 && eldest.hasNext()) {
+            final Map.Entry<Key<Query>, Long> entry = eldest.next();
+            eldest.remove();
+            this.guarded.addAndGet(-entry.getValue());
+            this.probation.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Stop weighting a key.
+     * @param key The key
+     */
+    private void forget(final Key<Query> key) {
+        final Long size = this.probation.remove(key);
+        if (size == null) {
+            final Long guard = this.hot.remove(key);
+            if (guard != null) {
+                this.guarded.addAndGet(-guard);
+                this.total.addAndGet(-guard);
+            }
+        } else {
+            this.total.addAndGet(-size);
+        }
+    }
+}
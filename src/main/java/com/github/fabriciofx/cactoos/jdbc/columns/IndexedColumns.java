@@ -0,0 +1,94 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.columns;
+
+import com.github.fabriciofx.cactoos.jdbc.Columns;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.cactoos.text.FormattedText;
+
+/**
+ * IndexedColumns.
+ * <p>Columns kept in arrays by position, plus an index from their names to
+ * their positions, so looking up a column by name or by position takes
+ * constant time.
+ * @since 1.0
+ */
+public final class IndexedColumns implements Columns {
+    /**
+     * Column names, in column order.
+     */
+    private final List<String> names;
+
+    /**
+     * Column types, in column order.
+     */
+    private final List<Integer> types;
+
+    /**
+     * Column index (starting at 0) by name.
+     */
+    private final Map<String, Integer> indexes;
+
+    /**
+     * Ctor.
+     */
+    public IndexedColumns() {
+        this.names = new ArrayList<>();
+        this.types = new ArrayList<>();
+        this.indexes = new HashMap<>();
+    }
+
+    @Override
+    public int count() {
+        return this.names.size();
+    }
+
+    @Override
+    public void add(final String name, final Integer type) {
+        final Integer index = this.indexes.get(name);
+        if (index == null) {
+            this.indexes.put(name, this.names.size());
+            this.names.add(name);
+            this.types.add(type);
+        } else {
+            this.types.set(index, type);
+        }
+    }
+
+    @Override
+    public Integer type(final String name) throws Exception {
+        return this.types.get(this.index(name));
+    }
+
+    @Override
+    public String name(final int index) throws Exception {
+        if (index < 1 || index > this.names.size()) {
+            throw new IllegalArgumentException(
+                new FormattedText(
+                    "Column number '%d' does not exist",
+                    index
+                ).asString()
+            );
+        }
+        return this.names.get(index - 1);
+    }
+
+    @Override
+    public int index(final String name) throws Exception {
+        final Integer index = this.indexes.get(name);
+        if (index == null) {
+            throw new IllegalArgumentException(
+                new FormattedText(
+                    "Column name '%s' does not exist",
+                    name
+                ).asString()
+            );
+        }
+        return index;
+    }
+}
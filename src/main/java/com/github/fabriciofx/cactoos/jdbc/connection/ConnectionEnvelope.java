@@ -0,0 +1,424 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.connection;
+
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Savepoint;
+import java.sql.ShardingKey;
+import java.sql.Statement;
+import java.sql.Struct;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+
+/**
+ * Connection Envelope.
+ *
+ * @since 1.0
+ * @checkstyle ParameterNameCheck (1000 lines)
+ * @checkstyle ParameterNumberCheck (1000 lines)
+ * @checkstyle DesignForExtensionCheck (1000 lines)
+ */
+@SuppressWarnings(
+    {
+        "PMD.TooManyMethods",
+        "PMD.ExcessivePublicCount",
+        "PMD.CouplingBetweenObjects"
+    }
+)
+public abstract class ConnectionEnvelope implements Connection {
+    /**
+     * The Connection.
+     */
+    private final Connection origin;
+
+    /**
+     * Ctor.
+     * @param connection Decorated Connection
+     */
+    public ConnectionEnvelope(final Connection connection) {
+        this.origin = connection;
+    }
+
+    @Override
+    public Statement createStatement() throws SQLException {
+        return this.origin.createStatement();
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(
+        final String sql
+    ) throws SQLException {
+        return this.origin.prepareStatement(sql);
+    }
+
+    @Override
+    public CallableStatement prepareCall(final String sql) throws SQLException {
+        return this.origin.prepareCall(sql);
+    }
+
+    @Override
+    public String nativeSQL(final String sql) throws SQLException {
+        return this.origin.nativeSQL(sql);
+    }
+
+    @Override
+    public void setAutoCommit(final boolean enabled) throws SQLException {
+        this.origin.setAutoCommit(enabled);
+    }
+
+    @Override
+    public boolean getAutoCommit() throws SQLException {
+        return this.origin.getAutoCommit();
+    }
+
+    @Override
+    public void commit() throws SQLException {
+        this.origin.commit();
+    }
+
+    @Override
+    public void rollback() throws SQLException {
+        this.origin.rollback();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        this.origin.close();
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        return this.origin.isClosed();
+    }
+
+    @Override
+    public DatabaseMetaData getMetaData() throws SQLException {
+        return this.origin.getMetaData();
+    }
+
+    @Override
+    public void setReadOnly(final boolean readonly) throws SQLException {
+        this.origin.setReadOnly(readonly);
+    }
+
+    @Override
+    public boolean isReadOnly() throws SQLException {
+        return this.origin.isReadOnly();
+    }
+
+    @Override
+    public void setCatalog(final String catalog) throws SQLException {
+        this.origin.setCatalog(catalog);
+    }
+
+    @Override
+    public String getCatalog() throws SQLException {
+        return this.origin.getCatalog();
+    }
+
+    @Override
+    public void setTransactionIsolation(final int level) throws SQLException {
+        this.origin.setTransactionIsolation(level);
+    }
+
+    @Override
+    public int getTransactionIsolation() throws SQLException {
+        return this.origin.getTransactionIsolation();
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        return this.origin.getWarnings();
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        this.origin.clearWarnings();
+    }
+
+    @Override
+    public Statement createStatement(
+        final int type,
+        final int concurrency
+    ) throws SQLException {
+        return this.origin.createStatement(type, concurrency);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(
+        final String sql,
+        final int type,
+        final int concurrency
+    ) throws SQLException {
+        return this.origin.prepareStatement(sql, type, concurrency);
+    }
+
+    @Override
+    public CallableStatement prepareCall(
+        final String sql,
+        final int type,
+        final int concurrency
+    ) throws SQLException {
+        return this.origin.prepareCall(sql, type, concurrency);
+    }
+
+    @Override
+    public Map<String, Class<?>> getTypeMap() throws SQLException {
+        return this.origin.getTypeMap();
+    }
+
+    @Override
+    public void setTypeMap(
+        final Map<String, Class<?>> map
+    ) throws SQLException {
+        this.origin.setTypeMap(map);
+    }
+
+    @Override
+    public void setHoldability(final int holdability) throws SQLException {
+        this.origin.setHoldability(holdability);
+    }
+
+    @Override
+    public int getHoldability() throws SQLException {
+        return this.origin.getHoldability();
+    }
+
+    @Override
+    public Savepoint setSavepoint() throws SQLException {
+        return this.origin.setSavepoint();
+    }
+
+    @Override
+    public Savepoint setSavepoint(final String name) throws SQLException {
+        return this.origin.setSavepoint(name);
+    }
+
+    @Override
+    public void rollback(final Savepoint savepoint) throws SQLException {
+        this.origin.rollback(savepoint);
+    }
+
+    @Override
+    public void releaseSavepoint(
+        final Savepoint savepoint
+    ) throws SQLException {
+        this.origin.releaseSavepoint(savepoint);
+    }
+
+    @Override
+    public Statement createStatement(
+        final int type,
+        final int concurrency,
+        final int holdability
+    ) throws SQLException {
+        return this.origin.createStatement(type, concurrency, holdability);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(
+        final String sql,
+        final int type,
+        final int concurrency,
+        final int holdability
+    ) throws SQLException {
+        return this.origin.prepareStatement(
+            sql,
+            type,
+            concurrency,
+            holdability
+        );
+    }
+
+    @Override
+    public CallableStatement prepareCall(
+        final String sql,
+        final int type,
+        final int concurrency,
+        final int holdability
+    ) throws SQLException {
+        return this.origin.prepareCall(sql, type, concurrency, holdability);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(
+        final String sql,
+        final int keys
+    ) throws SQLException {
+        return this.origin.prepareStatement(sql, keys);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(
+        final String sql,
+        final int[] indexes
+    ) throws SQLException {
+        return this.origin.prepareStatement(sql, indexes);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(
+        final String sql,
+        final String[] names
+    ) throws SQLException {
+        return this.origin.prepareStatement(sql, names);
+    }
+
+    @Override
+    public Clob createClob() throws SQLException {
+        return this.origin.createClob();
+    }
+
+    @Override
+    public Blob createBlob() throws SQLException {
+        return this.origin.createBlob();
+    }
+
+    @Override
+    public NClob createNClob() throws SQLException {
+        return this.origin.createNClob();
+    }
+
+    @Override
+    public SQLXML createSQLXML() throws SQLException {
+        return this.origin.createSQLXML();
+    }
+
+    @Override
+    public boolean isValid(final int timeout) throws SQLException {
+        return this.origin.isValid(timeout);
+    }
+
+    @Override
+    public void setClientInfo(
+        final String name,
+        final String value
+    ) throws SQLClientInfoException {
+        this.origin.setClientInfo(name, value);
+    }
+
+    @Override
+    public void setClientInfo(
+        final Properties properties
+    ) throws SQLClientInfoException {
+        this.origin.setClientInfo(properties);
+    }
+
+    @Override
+    public String getClientInfo(final String name) throws SQLException {
+        return this.origin.getClientInfo(name);
+    }
+
+    @Override
+    public Properties getClientInfo() throws SQLException {
+        return this.origin.getClientInfo();
+    }
+
+    @Override
+    public Array createArrayOf(
+        final String type,
+        final Object[] elements
+    ) throws SQLException {
+        return this.origin.createArrayOf(type, elements);
+    }
+
+    @Override
+    public Struct createStruct(
+        final String type,
+        final Object[] attributes
+    ) throws SQLException {
+        return this.origin.createStruct(type, attributes);
+    }
+
+    @Override
+    public void setSchema(final String schema) throws SQLException {
+        this.origin.setSchema(schema);
+    }
+
+    @Override
+    public String getSchema() throws SQLException {
+        return this.origin.getSchema();
+    }
+
+    @Override
+    public void abort(final Executor executor) throws SQLException {
+        this.origin.abort(executor);
+    }
+
+    @Override
+    public void setNetworkTimeout(
+        final Executor executor,
+        final int milliseconds
+    ) throws SQLException {
+        this.origin.setNetworkTimeout(executor, milliseconds);
+    }
+
+    @Override
+    public int getNetworkTimeout() throws SQLException {
+        return this.origin.getNetworkTimeout();
+    }
+
+    @Override
+    public void beginRequest() throws SQLException {
+        this.origin.beginRequest();
+    }
+
+    @Override
+    public void endRequest() throws SQLException {
+        this.origin.endRequest();
+    }
+
+    @Override
+    public boolean setShardingKeyIfValid(
+        final ShardingKey shard,
+        final ShardingKey supershard,
+        final int timeout
+    ) throws SQLException {
+        return this.origin.setShardingKeyIfValid(shard, supershard, timeout);
+    }
+
+    @Override
+    public boolean setShardingKeyIfValid(
+        final ShardingKey shard,
+        final int timeout
+    ) throws SQLException {
+        return this.origin.setShardingKeyIfValid(shard, timeout);
+    }
+
+    @Override
+    public void setShardingKey(
+        final ShardingKey shard,
+        final ShardingKey supershard
+    ) throws SQLException {
+        this.origin.setShardingKey(shard, supershard);
+    }
+
+    @Override
+    public void setShardingKey(final ShardingKey shard) throws SQLException {
+        this.origin.setShardingKey(shard);
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        return this.origin.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+        return this.origin.isWrapperFor(iface);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.connection;
+
+import com.github.fabriciofx.cactoos.jdbc.prepared.Recycler;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import org.cactoos.Scalar;
+
+/**
+ * Recycled.
+ * <p>A {@link Connection} that takes its {@link PreparedStatement}s from a
+ * {@link Recycler}, keyed by SQL and result set or generated keys flags,
+ * preparing them only when there is no idle one.
+ * @since 1.0
+ */
+public final class Recycled extends ConnectionEnvelope {
+    /**
+     * Recycler.
+     */
+    private final Recycler recycler;
+
+    /**
+     * Ctor.
+     * @param connection Decorated Connection
+     * @param recycler Recycler of statements
+     */
+    public Recycled(final Connection connection, final Recycler recycler) {
+        super(connection);
+        this.recycler = recycler;
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(
+        final String sql
+    ) throws SQLException {
+        return this.recycled(
+            String.join(":", "plain", sql),
+            () -> super.prepareStatement(sql)
+        );
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(
+        final String sql,
+        final int keys
+    ) throws SQLException {
+        return this.recycled(
+            String.join(":", "keys", Integer.toString(keys), sql),
+            () -> super.prepareStatement(sql, keys)
+        );
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(
+        final String sql,
+        final int type,
+        final int concurrency
+    ) throws SQLException {
+        return this.recycled(
+            String.join(
+                ":",
+                "rset",
+                Integer.toString(type),
+                Integer.toString(concurrency),
+                sql
+            ),
+            () -> super.prepareStatement(sql, type, concurrency)
+        );
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(
+        final String sql,
+        final int type,
+        final int concurrency,
+        final int holdability
+    ) throws SQLException {
+        return this.recycled(
+            String.join(
+                ":",
+                "rset",
+                Integer.toString(type),
+                Integer.toString(concurrency),
+                Integer.toString(holdability),
+                sql
+            ),
+            () -> super.prepareStatement(sql, type, concurrency, holdability)
+        );
+    }
+
+    /**
+     * Take a statement from the recycler.
+     * @param key Key of the statement
+     * @param prepare Prepares a new statement
+     * @return The statement
+     * @throws SQLException if fails
+     * @checkstyle IllegalCatchCheck (20 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private PreparedStatement recycled(
+        final String key,
+        final Scalar<PreparedStatement> prepare
+    ) throws SQLException {
+        try {
+            return this.recycler.statement(key, prepare);
+        } catch (final SQLException ex) {
+            throw ex;
+        } catch (final Exception ex) {
+            throw new SQLException(ex);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.executor;
+
+import com.github.fabriciofx.cactoos.jdbc.source.Pooled;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Bounded executor.
+ * <p>Runs each task in a new virtual thread, but at most {@code limit}
+ * tasks at the same time: the others wait, in their own virtual threads,
+ * for a running task to finish. The caller never blocks.
+ *
+ * <p>Bounded by the size of a {@link Pooled} source, no task waits for a
+ * connection inside the pool.
+ *
+ * @since 1.0
+ */
+public final class Bounded implements Executor {
+    /**
+     * Permits to run a task.
+     */
+    private final Scalar<Semaphore> permits;
+
+    /**
+     * Ctor.
+     * @param source A pooled source, whose size bounds the tasks
+     */
+    public Bounded(final Pooled source) {
+        this(source::size);
+    }
+
+    /**
+     * Ctor.
+     * @param limit Maximum amount of tasks running at the same time
+     */
+    public Bounded(final int limit) {
+        this(() -> limit);
+    }
+
+    /**
+     * Ctor.
+     * @param limit Maximum amount of tasks running at the same time
+     */
+    public Bounded(final Scalar<Integer> limit) {
+        this.permits = new Synced<>(
+            new Sticky<>(() -> new Semaphore(limit.value(), true))
+        );
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        final Semaphore semaphore = new Unchecked<>(this.permits).value();
+        Thread.startVirtualThread(
+            () -> {
+                semaphore.acquireUninterruptibly();
+                try {
+                    task.run();
+                } finally {
+                    semaphore.release();
+                }
+            }
+        );
+    }
+}
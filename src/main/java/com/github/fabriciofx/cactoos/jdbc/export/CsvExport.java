@@ -0,0 +1,278 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.export;
+
+import com.github.fabriciofx.cactoos.jdbc.Export;
+import com.github.fabriciofx.cactoos.jdbc.Statement;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Base64;
+import java.util.Locale;
+
+/**
+ * CsvExport.
+ * <p>Writes the result of a query as CSV (RFC 4180), in UTF-8: a header
+ * with the columns, in lower case, followed by a line per row. A NULL value
+ * is an empty field and an empty text is an empty quoted field. Dates and
+ * times are written in ISO-8601 and binaries in Base64. Rows are written as
+ * they are read, through a char and a byte buffer reused for the whole
+ * export, so the result is never kept in memory; to stream a large result,
+ * read it with a {@link com.github.fabriciofx.cactoos.jdbc.statement.Streamed}
+ * and write it into a {@link java.nio.channels.FileChannel}. It is read back
+ * by {@link com.github.fabriciofx.cactoos.jdbc.statement.CsvImport}.
+ *
+ * @since 1.0
+ */
+public final class CsvExport implements Export {
+    /**
+     * Statement that returns a ResultSet.
+     */
+    private final Statement<ResultSet> statement;
+
+    /**
+     * Size of the buffers, in chars and bytes.
+     */
+    private final int size;
+
+    /**
+     * Ctor.
+     * @param stmt A statement
+     */
+    public CsvExport(final Statement<ResultSet> stmt) {
+        // @checkstyle MagicNumber (1 line)
+        this(stmt, 64 * 1024);
+    }
+
+    /**
+     * Ctor.
+     * @param stmt A statement
+     * @param size Size of the buffers, in chars and bytes
+     */
+    public CsvExport(final Statement<ResultSet> stmt, final int size) {
+        this.statement = stmt;
+        this.size = size;
+    }
+
+    @Override
+    public void write(final OutputStream output) throws Exception {
+        this.write(Channels.newChannel(output));
+    }
+
+    @Override
+    public void write(final WritableByteChannel channel) throws Exception {
+        try (ResultSet rset = this.statement.execute()) {
+            final Buffered out = new Buffered(channel, this.size);
+            final ResultSetMetaData meta = rset.getMetaData();
+            final int count = meta.getColumnCount();
+            for (int col = 1; col <= count; ++col) {
+                if (col > 1) {
+                    out.put(',');
+                }
+                out.field(meta.getColumnLabel(col).toLowerCase(Locale.ENGLISH));
+            }
+            out.line();
+            while (rset.next()) {
+                for (int col = 1; col <= count; ++col) {
+                    if (col > 1) {
+                        out.put(',');
+                    }
+                    CsvExport.value(out, rset.getObject(col));
+                }
+                out.line();
+            }
+            out.finish();
+        }
+    }
+
+    /**
+     * Write a value, as its class says.
+     * @param out The output
+     * @param value The value, that can be null
+     * @throws Exception if fails
+     */
+    private static void value(final Buffered out, final Object value)
+        throws Exception {
+        switch (value) {
+            case null -> {
+            }
+            case BigDecimal num -> out.plain(num.toPlainString());
+            case Number num -> out.plain(num.toString());
+            case Boolean bool -> out.plain(bool.toString());
+            case byte[] bytes -> out.plain(
+                Base64.getEncoder().encodeToString(bytes)
+            );
+            case Blob blob -> out.plain(
+                Base64.getEncoder().encodeToString(
+                    blob.getBytes(1L, (int) blob.length())
+                )
+            );
+            case Timestamp stamp -> out.plain(
+                stamp.toLocalDateTime().toString()
+            );
+            case Date date -> out.plain(date.toLocalDate().toString());
+            case Time time -> out.plain(time.toLocalTime().toString());
+            default -> out.field(value.toString());
+        }
+    }
+
+    /**
+     * Chars encoded into UTF-8 and written into a channel through reused
+     * buffers.
+     * @since 1.0
+     */
+    private static final class Buffered {
+        /**
+         * Channel.
+         */
+        private final WritableByteChannel channel;
+
+        /**
+         * Chars to be encoded.
+         */
+        private final CharBuffer chars;
+
+        /**
+         * Bytes to be written.
+         */
+        private final ByteBuffer bytes;
+
+        /**
+         * Encoder.
+         */
+        private final CharsetEncoder encoder;
+
+        /**
+         * Ctor.
+         * @param channel The channel
+         * @param size Size of the buffers
+         */
+        Buffered(final WritableByteChannel channel, final int size) {
+            this.channel = channel;
+            this.chars = CharBuffer.allocate(size);
+            this.bytes = ByteBuffer.allocate(size);
+            this.encoder = StandardCharsets.UTF_8.newEncoder();
+        }
+
+        /**
+         * Put a char.
+         * @param chr The char
+         * @throws IOException if fails
+         */
+        void put(final char chr) throws IOException {
+            if (!this.chars.hasRemaining()) {
+                this.encode(false);
+            }
+            this.chars.put(chr);
+        }
+
+        /**
+         * Put a text that needs no quotes.
+         * @param text The text
+         * @throws IOException if fails
+         */
+        void plain(final CharSequence text) throws IOException {
+            for (int idx = 0; idx < text.length(); ++idx) {
+                this.put(text.charAt(idx));
+            }
+        }
+
+        /**
+         * Put a text, quoted if it is empty or has a comma, a quote or a
+         * line break.
+         * @param text The text
+         * @throws IOException if fails
+         */
+        void field(final CharSequence text) throws IOException {
+            boolean quoted = text.isEmpty();
+            for (int idx = 0; idx < text.length() && !quoted; ++idx) {
+                final char chr = text.charAt(idx);
+                quoted = chr == ',' || chr == '"' || chr == '\r'
+                    || chr == '\n';
+            }
+            if (quoted) {
+                this.put('"');
+                for (int idx = 0; idx < text.length(); ++idx) {
+                    final char chr = text.charAt(idx);
+                    if (chr == '"') {
+                        this.put('"');
+                    }
+                    this.put(chr);
+                }
+                this.put('"');
+            } else {
+                this.plain(text);
+            }
+        }
+
+        /**
+         * End a line.
+         * @throws IOException if fails
+         */
+        void line() throws IOException {
+            this.put('\r');
+            this.put('\n');
+        }
+
+        /**
+         * Encode and write all pending chars.
+         * @throws IOException if fails
+         */
+        void finish() throws IOException {
+            this.encode(true);
+            while (this.encoder.flush(this.bytes).isOverflow()) {
+                this.drain();
+            }
+            this.drain();
+        }
+
+        /**
+         * Encode the pending chars, writing the bytes as the buffer fills.
+         * @param end Whether there are no more chars
+         * @throws IOException if fails
+         */
+        private void encode(final boolean end) throws IOException {
+            this.chars.flip();
+            CoderResult result = this.encoder.encode(
+                this.chars,
+                this.bytes,
+                end
+            );
+            while (result.isOverflow()) {
+                this.drain();
+                result = this.encoder.encode(this.chars, this.bytes, end);
+            }
+            if (result.isError()) {
+                result.throwException();
+            }
+            this.chars.compact();
+        }
+
+        /**
+         * Write the encoded bytes into the channel.
+         * @throws IOException if fails
+         */
+        private void drain() throws IOException {
+            this.bytes.flip();
+            while (this.bytes.hasRemaining()) {
+                this.channel.write(this.bytes);
+            }
+            this.bytes.clear();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.github.fabriciofx.cactoos.jdbc.Export;
+import com.github.fabriciofx.cactoos.jdbc.Statement;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Locale;
+
+/**
+ * JsonExport.
+ * <p>Writes the result of a query as a JSON array with an object per row,
+ * whose fields are the columns, in lower case. Each value is written as
+ * its class says: integers and decimals as numbers, booleans as booleans,
+ * dates and times in ISO-8601, binaries in Base64 and anything else as
+ * text. Rows are written as they are read, so the result is never
+ * kept in memory; to stream a large result, read it with a
+ * {@link com.github.fabriciofx.cactoos.jdbc.statement.Streamed}.
+ *
+ * @since 1.0
+ */
+public final class JsonExport implements Export {
+    /**
+     * Statement that returns a ResultSet.
+     */
+    private final Statement<ResultSet> statement;
+
+    /**
+     * JSON factory.
+     */
+    private final JsonFactory factory;
+
+    /**
+     * Ctor.
+     * @param stmt A statement
+     */
+    public JsonExport(final Statement<ResultSet> stmt) {
+        this(stmt, new JsonFactory());
+    }
+
+    /**
+     * Ctor.
+     * @param stmt A statement
+     * @param factory A JSON factory
+     */
+    public JsonExport(
+        final Statement<ResultSet> stmt,
+        final JsonFactory factory
+    ) {
+        this.statement = stmt;
+        this.factory = factory;
+    }
+
+    @Override
+    public void write(final OutputStream output) throws Exception {
+        try (
+            ResultSet rset = this.statement.execute();
+            JsonGenerator json = this.factory.createGenerator(
+                output,
+                JsonEncoding.UTF8
+            )
+        ) {
+            json.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            final ResultSetMetaData meta = rset.getMetaData();
+            final int count = meta.getColumnCount();
+            final SerializedString[] names = new SerializedString[count];
+            for (int col = 1; col <= count; ++col) {
+                names[col - 1] = new SerializedString(
+                    meta.getColumnLabel(col).toLowerCase(Locale.ENGLISH)
+                );
+            }
+            json.writeStartArray();
+            while (rset.next()) {
+                json.writeStartObject();
+                for (int col = 1; col <= count; ++col) {
+                    json.writeFieldName(names[col - 1]);
+                    JsonExport.value(json, rset.getObject(col));
+                }
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+        }
+    }
+
+    @Override
+    public void write(final WritableByteChannel channel) throws Exception {
+        this.write(Channels.newOutputStream(channel));
+    }
+
+    /**
+     * Write a value, as its class says.
+     * @param json The JSON generator
+     * @param value The value, that can be null
+     * @throws Exception if fails
+     * @checkstyle CyclomaticComplexityCheck (100 lines)
+     */
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    private static void value(final JsonGenerator json, final Object value)
+        throws Exception {
+        switch (value) {
+            case null -> json.writeNull();
+            case Integer num -> json.writeNumber(num);
+            case Long num -> json.writeNumber(num);
+            case Short num -> json.writeNumber(num);
+            case Byte num -> json.writeNumber(num);
+            case Double num -> json.writeNumber(num);
+            case Float num -> json.writeNumber(num);
+            case BigDecimal num -> json.writeNumber(num);
+            case BigInteger num -> json.writeNumber(num);
+            case Boolean bool -> json.writeBoolean(bool);
+            case byte[] bytes -> json.writeBinary(bytes);
+            case Blob blob -> json.writeBinary(
+                blob.getBytes(1L, (int) blob.length())
+            );
+            case Timestamp stamp -> json.writeString(
+                stamp.toLocalDateTime().toString()
+            );
+            case Date date -> json.writeString(
+                date.toLocalDate().toString()
+            );
+            case Time time -> json.writeString(
+                time.toLocalTime().toString()
+            );
+            case Clob clob -> json.writeString(
+                clob.getSubString(1L, (int) clob.length())
+            );
+            default -> json.writeString(value.toString());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.export;
+
+import com.github.fabriciofx.cactoos.jdbc.Export;
+import com.github.fabriciofx.cactoos.jdbc.Statement;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.util.Locale;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * XmlExport.
+ * <p>Writes the result of a query as XML, with a root element holding a
+ * child element per row, whose elements are the columns, in lower case. A
+ * NULL value is written as an empty element. Rows are written as they are
+ * read, so the result is never kept in memory; to stream a large result,
+ * read it with a
+ * {@link com.github.fabriciofx.cactoos.jdbc.statement.Streamed}.
+ *
+ * @since 1.0
+ */
+public final class XmlExport implements Export {
+    /**
+     * Statement that returns a ResultSet.
+     */
+    private final Statement<ResultSet> statement;
+
+    /**
+     * Root tag in the XML.
+     */
+    private final String root;
+
+    /**
+     * Child tag in the XML.
+     */
+    private final String child;
+
+    /**
+     * XML factory.
+     */
+    private final XMLOutputFactory factory;
+
+    /**
+     * Ctor.
+     * @param stmt A statement
+     * @param root A root tag
+     * @param child A child tag
+     */
+    public XmlExport(
+        final Statement<ResultSet> stmt,
+        final String root,
+        final String child
+    ) {
+        this(stmt, root, child, XMLOutputFactory.newFactory());
+    }
+
+    /**
+     * Ctor.
+     * @param stmt A statement
+     * @param root A root tag
+     * @param child A child tag
+     * @param factory A XML factory
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public XmlExport(
+        final Statement<ResultSet> stmt,
+        final String root,
+        final String child,
+        final XMLOutputFactory factory
+    ) {
+        this.statement = stmt;
+        this.root = root;
+        this.child = child;
+        this.factory = factory;
+    }
+
+    @Override
+    public void write(final OutputStream output) throws Exception {
+        try (ResultSet rset = this.statement.execute()) {
+            final XMLStreamWriter xml = this.factory.createXMLStreamWriter(
+                output,
+                "UTF-8"
+            );
+            try {
+                final ResultSetMetaData meta = rset.getMetaData();
+                final int count = meta.getColumnCount();
+                final String[] names = new String[count];
+                for (int col = 1; col <= count; ++col) {
+                    names[col - 1] = meta.getColumnName(col)
+                        .toLowerCase(Locale.ENGLISH);
+                }
+                xml.writeStartElement(this.root);
+                while (rset.next()) {
+                    xml.writeStartElement(this.child);
+                    for (int col = 1; col <= count; ++col) {
+                        final Object value = rset.getObject(col);
+                        if (value == null) {
+                            xml.writeEmptyElement(names[col - 1]);
+                        } else {
+                            xml.writeStartElement(names[col - 1]);
+                            xml.writeCharacters(value.toString());
+                            xml.writeEndElement();
+                        }
+                    }
+                    xml.writeEndElement();
+                }
+                xml.writeEndElement();
+                xml.flush();
+            } finally {
+                xml.close();
+            }
+        }
+    }
+
+    @Override
+    public void write(final WritableByteChannel channel) throws Exception {
+        this.write(Channels.newOutputStream(channel));
+    }
+}
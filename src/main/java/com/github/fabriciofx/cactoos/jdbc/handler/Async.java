@@ -0,0 +1,234 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.handler;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Async.
+ * <p>A logging {@link Handler} that hands the records to a bounded ring
+ * buffer and publishes them to another handler in a background thread, so
+ * the logging thread never waits for the I/O. When the buffer is full the
+ * oldest record is dropped and counted.
+ * <p>Only the background thread publishes, so the records keep their order
+ * and the other handler is never entered concurrently. {@link #flush()}
+ * and {@link #close()} wait for it to publish the records handed before.
+ * Records handed after {@link #close()} are not published, but reported
+ * to the {@link ErrorManager}.
+ * <p>The caller of a record is not inferred, so its source class and
+ * method are not known unless set by who logged it.
+ * @since 1.0
+ * @checkstyle IllegalCatchCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidCatchingGenericException")
+public final class Async extends Handler {
+    /**
+     * Handler that publishes the records.
+     */
+    private final Handler origin;
+
+    /**
+     * Records waiting to be published.
+     */
+    private final BlockingQueue<LogRecord> records;
+
+    /**
+     * Number of dropped records.
+     */
+    private final AtomicLong drops;
+
+    /**
+     * Thread that publishes the records, once started.
+     */
+    private final AtomicReference<Thread> worker;
+
+    /**
+     * Number of records handed to the buffer.
+     */
+    private final AtomicLong handed;
+
+    /**
+     * Number of records published by the background thread.
+     */
+    private final AtomicLong published;
+
+    /**
+     * Number of callers handing a record right now.
+     */
+    private final AtomicLong handing;
+
+    /**
+     * Whether it is closed.
+     */
+    private final AtomicBoolean closed;
+
+    /**
+     * Ctor.
+     * @param handler Handler that publishes the records
+     */
+    public Async(final Handler handler) {
+        this(handler, 8192);
+    }
+
+    /**
+     * Ctor.
+     * @param handler Handler that publishes the records
+     * @param capacity Max number of records waiting to be published
+     */
+    public Async(final Handler handler, final int capacity) {
+        super();
+        if (capacity < 1) {
+            throw new IllegalArgumentException(
+                new UncheckedText(
+                    new FormattedText(
+                        "Invalid capacity %d, it must be greater than zero",
+                        capacity
+                    )
+                ).asString()
+            );
+        }
+        this.origin = handler;
+        this.records = new ArrayBlockingQueue<>(capacity);
+        this.drops = new AtomicLong();
+        this.worker = new AtomicReference<>();
+        this.handed = new AtomicLong();
+        this.published = new AtomicLong();
+        this.handing = new AtomicLong();
+        this.closed = new AtomicBoolean();
+    }
+
+    @Override
+    public void publish(final LogRecord record) {
+        if (this.isLoggable(record)) {
+            this.handing.incrementAndGet();
+            try {
+                if (this.closed.get()) {
+                    this.reportError(
+                        "Handler closed, record not published",
+                        null,
+                        ErrorManager.WRITE_FAILURE
+                    );
+                } else {
+                    this.started();
+                    this.handed.incrementAndGet();
+                    while (!this.records.offer(record)) {
+                        if (this.records.poll() != null) {
+                            this.drops.incrementAndGet();
+                        }
+                    }
+                }
+            } finally {
+                this.handing.decrementAndGet();
+            }
+        }
+    }
+
+    @Override
+    public void flush() {
+        this.awaited(this.handed.get());
+        synchronized (this.origin) {
+            this.origin.flush();
+        }
+    }
+
+    @Override
+    public void close() {
+        this.closed.set(true);
+        while (this.handing.get() > 0) {
+            Thread.onSpinWait();
+        }
+        this.awaited(this.handed.get());
+        final Thread thread = this.worker.get();
+        if (thread != null && thread != Thread.currentThread()) {
+            thread.interrupt();
+            try {
+                thread.join();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this.origin) {
+            this.origin.close();
+        }
+    }
+
+    /**
+     * Number of records dropped because the buffer was full.
+     * @return The number of dropped records
+     */
+    public long dropped() {
+        return this.drops.get();
+    }
+
+    /**
+     * Start the thread that publishes the records, if not started yet.
+     */
+    private void started() {
+        if (this.worker.get() == null) {
+            final Thread thread = Thread.ofPlatform()
+                .name("cactoos-jdbc-async-handler")
+                .daemon()
+                .unstarted(this::published);
+            if (this.worker.compareAndSet(null, thread)) {
+                thread.start();
+            }
+        }
+    }
+
+    /**
+     * Publish the records, in order, until interrupted.
+     */
+    private void published() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                final LogRecord record = this.records.take();
+                synchronized (this.origin) {
+                    try {
+                        this.origin.publish(record);
+                    } catch (final RuntimeException ex) {
+                        this.reportError(
+                            "Unable to publish a record",
+                            ex,
+                            ErrorManager.WRITE_FAILURE
+                        );
+                    } finally {
+                        this.published.incrementAndGet();
+                        this.origin.notifyAll();
+                    }
+                }
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Wait for the background thread to publish or drop a number of
+     * records, unless called by it.
+     * @param count The number of records
+     */
+    private void awaited(final long count) {
+        if (this.worker.get() != Thread.currentThread()) {
+            synchronized (this.origin) {
+                try {
+                    while (this.published.get() + this.drops.get() < count) {
+                        this.origin.wait();
+                    }
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
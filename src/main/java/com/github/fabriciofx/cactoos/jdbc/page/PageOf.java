@@ -0,0 +1,71 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.page;
+
+import com.github.fabriciofx.cactoos.jdbc.Page;
+import java.util.List;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * PageOf.
+ * <p>A {@link Page} of already retrieved items, whose total is computed
+ * only when asked.
+ *
+ * @param <T> Type of the page's content
+ * @since 1.0
+ */
+public final class PageOf<T> implements Page<T> {
+    /**
+     * Items.
+     */
+    private final List<T> content;
+
+    /**
+     * Total amount of items.
+     */
+    private final Unchecked<Long> amount;
+
+    /**
+     * Page number.
+     */
+    private final int num;
+
+    /**
+     * Ctor.
+     * @param items The items of this page
+     * @param total The total amount of items
+     * @param number The page number
+     */
+    public PageOf(
+        final List<T> items,
+        final Scalar<Long> total,
+        final int number
+    ) {
+        this.content = items;
+        this.amount = new Unchecked<>(total);
+        this.num = number;
+    }
+
+    @Override
+    public List<T> items() {
+        return this.content;
+    }
+
+    @Override
+    public long total() {
+        return this.amount.value();
+    }
+
+    @Override
+    public int number() {
+        return this.num;
+    }
+
+    @Override
+    public int size() {
+        return this.content.size();
+    }
+}
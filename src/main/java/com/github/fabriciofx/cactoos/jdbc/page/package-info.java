@@ -0,0 +1,11 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+
+/**
+ * Pages.
+ *
+ * @since 1.0
+ */
+package com.github.fabriciofx.cactoos.jdbc.page;
@@ -0,0 +1,195 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.pagination;
+
+import com.github.fabriciofx.cactoos.jdbc.Page;
+import com.github.fabriciofx.cactoos.jdbc.Pagination;
+import com.github.fabriciofx.cactoos.jdbc.Param;
+import com.github.fabriciofx.cactoos.jdbc.Query;
+import com.github.fabriciofx.cactoos.jdbc.Row;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.page.PageOf;
+import com.github.fabriciofx.cactoos.jdbc.param.AnyParam;
+import com.github.fabriciofx.cactoos.jdbc.query.Counted;
+import com.github.fabriciofx.cactoos.jdbc.query.Keyset;
+import com.github.fabriciofx.cactoos.jdbc.rset.Cursor;
+import com.github.fabriciofx.cactoos.jdbc.scalar.ResultSetAsValue;
+import com.github.fabriciofx.cactoos.jdbc.statement.Select;
+import com.github.fabriciofx.cactoos.jdbc.statement.Streamed;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.Lowered;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * KeysetPagination.
+ * <p>A {@link Pagination} that retrieves each page with a {@link Keyset}
+ * query, seeking the rows after the last row of the previous page. It
+ * remembers the keys of the last row of every page it has retrieved, so
+ * going to the next page, or back to any previous one, costs a single
+ * query; a page further ahead is reached walking page by page from the
+ * nearest known one. The ORDER BY columns must be selected by the query.
+ *
+ * <p>The ORDER BY must end with a unique key, e.g. the primary key, as in
+ * {@code ORDER BY created_at, id}: a page starts after the keys of the last
+ * row of the previous page, so the rows sharing those keys with it would be
+ * skipped.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <T> Type of the page's content
+ * @since 1.0
+ */
+public final class KeysetPagination<T> implements Pagination<T> {
+    /**
+     * Session.
+     */
+    private final Session session;
+
+    /**
+     * Query, with ORDER BY, that retrieves all elements.
+     */
+    private final Query query;
+
+    /**
+     * Function to convert a row into an item.
+     */
+    private final Func<Row, T> item;
+
+    /**
+     * Keys of the last row of each retrieved full page, by page number.
+     */
+    private final Map<Integer, List<Param>> bounds;
+
+    /**
+     * The page size the bounds were computed with.
+     */
+    private final AtomicInteger current;
+
+    /**
+     * Ctor.
+     * @param session A session
+     * @param query A select query, with ORDER BY, that retrieves all elements
+     * @param item Function to convert a row into an item
+     */
+    public KeysetPagination(
+        final Session session,
+        final Query query,
+        final Func<Row, T> item
+    ) {
+        this.session = session;
+        this.query = query;
+        this.item = item;
+        this.bounds = new HashMap<>();
+        this.current = new AtomicInteger();
+    }
+
+    @Override
+    public Page<T> page(final int number, final int size) throws Exception {
+        if (number < 1 || size < 1) {
+            throw new IllegalArgumentException(
+                new UncheckedText(
+                    new FormattedText(
+                        "Invalid page %d of size %d",
+                        number,
+                        size
+                    )
+                ).asString()
+            );
+        }
+        if (this.current.getAndSet(size) != size) {
+            this.bounds.clear();
+            this.bounds.put(0, new ArrayList<>(0));
+        }
+        int known = number - 1;
+        while (!this.bounds.containsKey(known)) {
+            --known;
+        }
+        List<Row> rows = null;
+        for (int page = known + 1; page <= number; ++page) {
+            final Keyset keyset = new Keyset(
+                this.query,
+                size,
+                this.bounds.get(page - 1)
+            );
+            rows = this.fetched(keyset, size);
+            if (rows.size() < size) {
+                if (page < number) {
+                    rows = null;
+                }
+                break;
+            }
+            this.bounds.put(
+                page,
+                KeysetPagination.last(keyset.keys(), rows)
+            );
+        }
+        final List<T> items = new ArrayList<>(size);
+        if (rows != null) {
+            for (final Row row : rows) {
+                items.add(this.item.apply(row));
+            }
+        }
+        return new PageOf<>(
+            items,
+            new Sticky<>(
+                () -> new ResultSetAsValue<Number>(
+                    new Select(this.session, new Counted(this.query))
+                ).value().longValue()
+            ),
+            number
+        );
+    }
+
+    /**
+     * Retrieve the rows of a page.
+     * @param keyset The page query
+     * @param size The page size
+     * @return The rows
+     * @throws Exception if fails
+     */
+    private List<Row> fetched(
+        final Keyset keyset,
+        final int size
+    ) throws Exception {
+        final List<Row> rows = new ArrayList<>(size);
+        try (
+            Cursor cursor = new Cursor(
+                new Streamed(this.session, keyset).execute()
+            )
+        ) {
+            for (final Row row : cursor) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Keys of the last row of a page.
+     * @param keys The key column names
+     * @param rows The rows of a page
+     * @return The keys as parameters
+     * @throws Exception if fails
+     */
+    private static List<Param> last(
+        final List<String> keys,
+        final List<Row> rows
+    ) throws Exception {
+        final List<Param> params = new ArrayList<>(keys.size());
+        final Row row = rows.get(rows.size() - 1);
+        for (final String key : keys) {
+            final String name = new Lowered(key).asString();
+            params.add(new AnyParam(name, row.value(name, Object.class)));
+        }
+        return params;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.param;
+
+import com.github.fabriciofx.cactoos.jdbc.Param;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+
+/**
+ * NullParam.
+ *
+ * @since 1.0
+ */
+public final class NullParam implements Param {
+    /**
+     * Name.
+     */
+    private final String id;
+
+    /**
+     * SQL type, as in {@link Types}.
+     */
+    private final int type;
+
+    /**
+     * Ctor.
+     * @param name The id
+     * @param type The SQL type, as in {@link Types}
+     */
+    public NullParam(final String name, final int type) {
+        this.id = name;
+        this.type = type;
+    }
+
+    @Override
+    public String name() {
+        return this.id;
+    }
+
+    @Override
+    public void prepare(
+        final PreparedStatement stmt,
+        final int index
+    ) throws Exception {
+        stmt.setNull(index, this.type);
+    }
+
+    @Override
+    public byte[] asBytes() throws Exception {
+        return new byte[] {(byte) Types.NULL, (byte) this.type};
+    }
+}
@@ -0,0 +1,572 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.params;
+
+import com.github.fabriciofx.cactoos.jdbc.Param;
+import com.github.fabriciofx.cactoos.jdbc.Params;
+import com.github.fabriciofx.cactoos.jdbc.param.AnyParam;
+import com.github.fabriciofx.cactoos.jdbc.param.BoolParam;
+import com.github.fabriciofx.cactoos.jdbc.param.DateParam;
+import com.github.fabriciofx.cactoos.jdbc.param.DateTimeParam;
+import com.github.fabriciofx.cactoos.jdbc.param.DecimalParam;
+import com.github.fabriciofx.cactoos.jdbc.param.DoubleParam;
+import com.github.fabriciofx.cactoos.jdbc.param.IntParam;
+import com.github.fabriciofx.cactoos.jdbc.param.LongParam;
+import com.github.fabriciofx.cactoos.jdbc.param.NullParam;
+import com.github.fabriciofx.cactoos.jdbc.param.TextParam;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * CsvRows.
+ * <p>The rows of a CSV (RFC 4180) file in UTF-8, after its header line, as
+ * {@link Params}, one typed {@link Param} per column as its SQL type says.
+ * The file is memory-mapped, in windows, and each field is copied into a
+ * buffer reused for the whole file, so a field becomes a {@link String} only
+ * when its value is a text or a floating-point number. An empty field is a
+ * NULL value and an empty quoted field is an empty text.
+ *
+ * <p>The rows can be iterated only once. There is no thread-safety
+ * guarantee.
+ *
+ * @since 1.0
+ */
+public final class CsvRows implements Iterator<Params>, AutoCloseable {
+    /**
+     * The file.
+     */
+    private final Mapped file;
+
+    /**
+     * Names of the columns.
+     */
+    private final List<String> names;
+
+    /**
+     * SQL types of the columns, as in {@link Types}.
+     */
+    private final int[] types;
+
+    /**
+     * Next row, if already parsed.
+     */
+    private final List<Params> next;
+
+    /**
+     * Ctor.
+     * @param path The CSV file
+     * @param names Names of the columns
+     * @param types SQL types of the columns, as in {@link Types}
+     */
+    public CsvRows(
+        final Path path,
+        final List<String> names,
+        final int[] types
+    ) {
+        // @checkstyle MagicNumber (1 line)
+        this(path, names, types, 1 << 28);
+    }
+
+    /**
+     * Ctor.
+     * @param path The CSV file
+     * @param names Names of the columns
+     * @param types SQL types of the columns, as in {@link Types}
+     * @param window Size of each memory-mapped window of the file, in bytes
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public CsvRows(
+        final Path path,
+        final List<String> names,
+        final int[] types,
+        final int window
+    ) {
+        this.file = new Mapped(path, window);
+        this.names = names;
+        this.types = Arrays.copyOf(types, types.length);
+        this.next = new ArrayList<>(1);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.next.isEmpty()) {
+            try {
+                if (this.file.row()) {
+                    final List<Param> params = new ArrayList<>(
+                        this.types.length
+                    );
+                    for (int col = 0; col < this.types.length; ++col) {
+                        params.add(this.param(col));
+                    }
+                    this.next.add(new ParamsOf(params));
+                }
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        return !this.next.isEmpty();
+    }
+
+    @Override
+    public Params next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException("There are no more CSV rows");
+        }
+        return this.next.remove(0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.file.close();
+    }
+
+    /**
+     * Parse the next field of the row as a parameter.
+     * @param col The column index, starting at 0
+     * @return The parameter
+     * @throws IOException if fails
+     * @checkstyle CyclomaticComplexityCheck (100 lines)
+     */
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    private Param param(final int col) throws IOException {
+        final boolean quoted = this.file.field(col == this.types.length - 1);
+        final String name = this.names.get(col);
+        final Field field = this.file.current();
+        final Param param;
+        if (field.empty() && !quoted) {
+            param = new NullParam(name, this.types[col]);
+        } else {
+            param = switch (this.types[col]) {
+                case Types.TINYINT, Types.SMALLINT, Types.INTEGER ->
+                    new IntParam(name, Math.toIntExact(field.number()));
+                case Types.BIGINT -> new LongParam(name, field.number());
+                case Types.REAL, Types.FLOAT, Types.DOUBLE -> new DoubleParam(
+                    name,
+                    Double.parseDouble(field.chars().toString())
+                );
+                case Types.DECIMAL, Types.NUMERIC -> new DecimalParam(
+                    name,
+                    field.decimal()
+                );
+                case Types.BIT, Types.BOOLEAN -> new BoolParam(
+                    name,
+                    field.bool()
+                );
+                case Types.DATE -> new DateParam(
+                    name,
+                    LocalDate.parse(field.chars())
+                );
+                case Types.TIMESTAMP -> new DateTimeParam(
+                    name,
+                    LocalDateTime.parse(field.stamp())
+                );
+                case Types.BINARY, Types.VARBINARY, Types.LONGVARBINARY,
+                    Types.BLOB -> new AnyParam(name, field.binary());
+                default -> new TextParam(name, field.text());
+            };
+        }
+        return param;
+    }
+
+    /**
+     * A field, kept in a buffer reused for all fields.
+     * @since 1.0
+     */
+    private static final class Field {
+        /**
+         * Bytes of the field.
+         */
+        private byte[] bytes;
+
+        /**
+         * Chars of the field, if it is ASCII.
+         */
+        private char[] ascii;
+
+        /**
+         * Length of the field, in bytes.
+         */
+        private int length;
+
+        /**
+         * Ctor.
+         */
+        Field() {
+            // @checkstyle MagicNumber (2 lines)
+            this.bytes = new byte[256];
+            this.ascii = new char[256];
+        }
+
+        /**
+         * Forget the current field.
+         */
+        void clear() {
+            this.length = 0;
+        }
+
+        /**
+         * Add a byte to the field.
+         * @param octet The byte
+         */
+        void add(final byte octet) {
+            if (this.length == this.bytes.length) {
+                this.bytes = Arrays.copyOf(this.bytes, this.length * 2);
+            }
+            this.bytes[this.length] = octet;
+            ++this.length;
+        }
+
+        /**
+         * Whether the field is empty.
+         * @return True if empty
+         */
+        boolean empty() {
+            return this.length == 0;
+        }
+
+        /**
+         * The field as an integer number.
+         * @return The number
+         * @checkstyle MagicNumberCheck (30 lines)
+         */
+        long number() {
+            int idx = 0;
+            final boolean negative = this.bytes[0] == '-';
+            if (negative || this.bytes[0] == '+') {
+                idx = 1;
+            }
+            if (idx == this.length) {
+                throw this.invalid("an integer");
+            }
+            long number = 0;
+            for (; idx < this.length; ++idx) {
+                final int digit = this.bytes[idx] - '0';
+                if (digit < 0 || digit > 9) {
+                    throw this.invalid("an integer");
+                }
+                number = Math.addExact(Math.multiplyExact(number, 10), digit);
+            }
+            if (negative) {
+                number = -number;
+            }
+            return number;
+        }
+
+        /**
+         * The field as a decimal number.
+         * @return The number
+         */
+        BigDecimal decimal() {
+            final CharSequence chars = this.chars();
+            return new BigDecimal(this.ascii, 0, chars.length());
+        }
+
+        /**
+         * The field as a boolean: true or 1, false or 0.
+         * @return The boolean
+         */
+        boolean bool() {
+            final String text = this.chars().toString();
+            final boolean bool;
+            if ("1".equals(text) || "true".equalsIgnoreCase(text)) {
+                bool = true;
+            } else if ("0".equals(text) || "false".equalsIgnoreCase(text)) {
+                bool = false;
+            } else {
+                throw this.invalid("a boolean");
+            }
+            return bool;
+        }
+
+        /**
+         * The field as a timestamp in ISO-8601, accepting a space between
+         * the date and the time.
+         * @return The timestamp chars
+         * @checkstyle MagicNumberCheck (10 lines)
+         */
+        CharSequence stamp() {
+            final CharSequence chars = this.chars();
+            if (chars.length() > 10 && this.ascii[10] == ' ') {
+                this.ascii[10] = 'T';
+            }
+            return chars;
+        }
+
+        /**
+         * The field as binary, in Base64.
+         * @return The bytes
+         */
+        byte[] binary() {
+            final ByteBuffer decoded = Base64.getDecoder().decode(
+                ByteBuffer.wrap(this.bytes, 0, this.length)
+            );
+            final byte[] binary = new byte[decoded.remaining()];
+            decoded.get(binary);
+            return binary;
+        }
+
+        /**
+         * The field as text.
+         * @return The text
+         */
+        String text() {
+            return new String(
+                this.bytes,
+                0,
+                this.length,
+                StandardCharsets.UTF_8
+            );
+        }
+
+        /**
+         * The field as ASCII chars, in a buffer reused for all fields.
+         * @return The chars
+         */
+        CharSequence chars() {
+            if (this.ascii.length < this.length) {
+                this.ascii = new char[this.bytes.length];
+            }
+            for (int idx = 0; idx < this.length; ++idx) {
+                this.ascii[idx] = (char) (this.bytes[idx] & 0xFF);
+            }
+            return CharBuffer.wrap(this.ascii, 0, this.length);
+        }
+
+        /**
+         * An error for a field that is not of a type.
+         * @param type The type
+         * @return The error
+         */
+        private IllegalArgumentException invalid(final String type) {
+            return new IllegalArgumentException(
+                new UncheckedText(
+                    new FormattedText(
+                        "CSV field '%s' is not %s",
+                        this.text(),
+                        type
+                    )
+                ).asString()
+            );
+        }
+    }
+
+    /**
+     * A file memory-mapped in windows, read forward.
+     * @since 1.0
+     */
+    private static final class Mapped {
+        /**
+         * The file.
+         */
+        private final Path path;
+
+        /**
+         * Size of a window.
+         */
+        private final int window;
+
+        /**
+         * Current field.
+         */
+        private final Field field;
+
+        /**
+         * The channel, once opened.
+         */
+        private FileChannel channel;
+
+        /**
+         * Current window.
+         */
+        private MappedByteBuffer buffer;
+
+        /**
+         * Offset of the current window in the file.
+         */
+        private long base;
+
+        /**
+         * Offset of the next byte to read in the file.
+         */
+        private long offset;
+
+        /**
+         * Size of the file.
+         */
+        private long size;
+
+        /**
+         * Ctor.
+         * @param path The file
+         * @param window Size of a window
+         */
+        Mapped(final Path path, final int window) {
+            this.path = path;
+            this.window = window;
+            this.field = new Field();
+        }
+
+        /**
+         * Move to the next row, skipping the header first. The line break
+         * of a row is read with its last field, so only the one at the end
+         * of the file is not followed by a row; a blank line is a row, e.g.
+         * of a single NULL field.
+         * @return True if there is a row
+         * @throws IOException if fails
+         */
+        boolean row() throws IOException {
+            if (this.channel == null) {
+                this.channel = FileChannel.open(
+                    this.path,
+                    StandardOpenOption.READ
+                );
+                this.size = this.channel.size();
+                while (this.offset < this.size
+                    && this.at(this.offset) != '\n') {
+                    ++this.offset;
+                }
+                if (this.offset < this.size) {
+                    ++this.offset;
+                }
+            }
+            return this.offset < this.size;
+        }
+
+        /**
+         * Read the next field of the row into the current field.
+         * @param last Whether it is the last field of the row
+         * @return True if the field was quoted
+         * @throws IOException if fails
+         */
+        boolean field(final boolean last) throws IOException {
+            this.field.clear();
+            final boolean quoted = this.offset < this.size
+                && this.at(this.offset) == '"';
+            if (quoted) {
+                ++this.offset;
+                while (true) {
+                    if (this.offset >= this.size) {
+                        throw new IllegalArgumentException(
+                            "CSV quoted field is not closed"
+                        );
+                    }
+                    final byte octet = this.at(this.offset);
+                    ++this.offset;
+                    if (octet == '"') {
+                        if (this.offset < this.size
+                            && this.at(this.offset) == '"') {
+                            ++this.offset;
+                        } else {
+                            break;
+                        }
+                    }
+                    this.field.add(octet);
+                }
+            } else {
+                while (this.offset < this.size) {
+                    final byte octet = this.at(this.offset);
+                    if (octet == ',' || octet == '\r' || octet == '\n') {
+                        break;
+                    }
+                    this.field.add(octet);
+                    ++this.offset;
+                }
+            }
+            this.separator(last);
+            return quoted;
+        }
+
+        /**
+         * The current field.
+         * @return The field
+         */
+        Field current() {
+            return this.field;
+        }
+
+        /**
+         * Close the file.
+         * @throws IOException if fails
+         */
+        void close() throws IOException {
+            if (this.channel != null) {
+                this.channel.close();
+            }
+        }
+
+        /**
+         * Skip the separator after a field.
+         * @param last Whether it is the last field of the row
+         * @throws IOException if fails
+         */
+        private void separator(final boolean last) throws IOException {
+            final byte expected;
+            if (last) {
+                expected = '\n';
+            } else {
+                expected = ',';
+            }
+            if (last && this.offset < this.size
+                && this.at(this.offset) == '\r') {
+                ++this.offset;
+            }
+            if (this.offset < this.size) {
+                if (this.at(this.offset) != expected) {
+                    throw new IllegalArgumentException(
+                        new UncheckedText(
+                            new FormattedText(
+                                "CSV row has wrong fields at byte %d",
+                                this.offset
+                            )
+                        ).asString()
+                    );
+                }
+                ++this.offset;
+            } else if (!last) {
+                throw new IllegalArgumentException(
+                    "CSV row has less fields than columns"
+                );
+            }
+        }
+
+        /**
+         * The byte at an offset of the file, mapping its window if needed.
+         * @param position The offset
+         * @return The byte
+         * @throws IOException if fails
+         */
+        private byte at(final long position) throws IOException {
+            if (this.buffer == null || position < this.base
+                || position >= this.base + this.buffer.limit()) {
+                this.base = position;
+                this.buffer = this.channel.map(
+                    FileChannel.MapMode.READ_ONLY,
+                    position,
+                    Math.min(this.window, this.size - position)
+                );
+            }
+            return this.buffer.get((int) (position - this.base));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.plan;
+
+import com.github.fabriciofx.cactoos.jdbc.Plan;
+import com.github.fabriciofx.cactoos.jdbc.Query;
+import com.github.fabriciofx.cactoos.jdbc.prepared.Recycler;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+/**
+ * Recycled.
+ * <p>Prepares a {@link Plan} reusing the idle statements of a
+ * {@link Recycler}.
+ * @since 1.0
+ */
+public final class Recycled implements Plan {
+    /**
+     * Plan.
+     */
+    private final Plan origin;
+
+    /**
+     * Recycler.
+     */
+    private final Recycler recycler;
+
+    /**
+     * Ctor.
+     * @param plan Decorated plan
+     * @param recycler Recycler of statements
+     */
+    public Recycled(final Plan plan, final Recycler recycler) {
+        this.origin = plan;
+        this.recycler = recycler;
+    }
+
+    @Override
+    public PreparedStatement prepare(
+        final Connection connection
+    ) throws Exception {
+        return this.origin.prepare(
+            new com.github.fabriciofx.cactoos.jdbc.connection.Recycled(
+                connection,
+                this.recycler
+            )
+        );
+    }
+
+    @Override
+    public Query query() {
+        return this.origin.query();
+    }
+}
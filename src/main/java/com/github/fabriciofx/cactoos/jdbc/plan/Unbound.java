@@ -0,0 +1,43 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.plan;
+
+import com.github.fabriciofx.cactoos.jdbc.Plan;
+import com.github.fabriciofx.cactoos.jdbc.Query;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+/**
+ * Unbound.
+ * <p>Prepares the SQL of a {@link Query} without binding its parameters,
+ * leaving them to be bound later, e.g. row by row.
+ * @since 1.0
+ */
+public final class Unbound implements Plan {
+    /**
+     * Query.
+     */
+    private final Query qry;
+
+    /**
+     * Ctor.
+     * @param query A {@link Query}
+     */
+    public Unbound(final Query query) {
+        this.qry = query;
+    }
+
+    @Override
+    public PreparedStatement prepare(
+        final Connection connection
+    ) throws Exception {
+        return connection.prepareStatement(this.qry.sql());
+    }
+
+    @Override
+    public Query query() {
+        return this.qry;
+    }
+}
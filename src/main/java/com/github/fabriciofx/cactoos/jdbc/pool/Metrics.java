@@ -0,0 +1,167 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.pool;
+
+import com.github.fabriciofx.cactoos.jdbc.Registry;
+import com.github.fabriciofx.cactoos.jdbc.registry.InMemory;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool metrics.
+ * <p>The connections of the pool (active, idle, total and threads waiting
+ * for one) and how long it took to acquire them. All of them are zero
+ * until the pool starts. Each acquisition time is also recorded, tagged
+ * by the pool name, in {@code jdbc.connection.acquire} (nanoseconds) and
+ * each timeout counted in {@code jdbc.connection.timeout} of a
+ * {@link Registry}.
+ *
+ * @since 1.0
+ */
+public final class Metrics implements MetricsTrackerFactory {
+    /**
+     * Pool statistics.
+     */
+    private final AtomicReference<PoolStats> stats;
+
+    /**
+     * Amount of acquired connections.
+     */
+    private final LongAdder acquired;
+
+    /**
+     * Time waiting to acquire connections, in nanoseconds.
+     */
+    private final LongAdder waited;
+
+    /**
+     * Amount of timeouts acquiring connections.
+     */
+    private final LongAdder fails;
+
+    /**
+     * Registry.
+     */
+    private final Registry registry;
+
+    /**
+     * Ctor.
+     */
+    public Metrics() {
+        this(new InMemory());
+    }
+
+    /**
+     * Ctor.
+     * @param registry Registry of metrics
+     */
+    public Metrics(final Registry registry) {
+        this.registry = registry;
+        this.stats = new AtomicReference<>();
+        this.acquired = new LongAdder();
+        this.waited = new LongAdder();
+        this.fails = new LongAdder();
+    }
+
+    @Override
+    public IMetricsTracker create(final String name, final PoolStats pool) {
+        this.stats.set(pool);
+        return new Tracker(
+            this.acquired,
+            this.waited,
+            this.fails,
+            this.registry,
+            name
+        );
+    }
+
+    /**
+     * Amount of connections in use.
+     * @return Amount of active connections
+     */
+    public int active() {
+        final PoolStats pool = this.stats.get();
+        final int count;
+        if (pool == null) {
+            count = 0;
+        } else {
+            count = pool.getActiveConnections();
+        }
+        return count;
+    }
+
+    /**
+     * Amount of connections not in use.
+     * @return Amount of idle connections
+     */
+    public int idle() {
+        final PoolStats pool = this.stats.get();
+        final int count;
+        if (pool == null) {
+            count = 0;
+        } else {
+            count = pool.getIdleConnections();
+        }
+        return count;
+    }
+
+    /**
+     * Amount of threads waiting for a connection.
+     * @return Amount of pending threads
+     */
+    public int pending() {
+        final PoolStats pool = this.stats.get();
+        final int count;
+        if (pool == null) {
+            count = 0;
+        } else {
+            count = pool.getPendingThreads();
+        }
+        return count;
+    }
+
+    /**
+     * Amount of connections, in use or not.
+     * @return Amount of connections
+     */
+    public int total() {
+        final PoolStats pool = this.stats.get();
+        final int count;
+        if (pool == null) {
+            count = 0;
+        } else {
+            count = pool.getTotalConnections();
+        }
+        return count;
+    }
+
+    /**
+     * Amount of connections acquired from the pool.
+     * @return Amount of acquisitions
+     */
+    public long acquisitions() {
+        return this.acquired.sum();
+    }
+
+    /**
+     * Time waited to acquire all connections.
+     * @return Total wait time
+     */
+    public Duration waited() {
+        return Duration.ofNanos(this.waited.sum());
+    }
+
+    /**
+     * Amount of times a connection could not be acquired in time.
+     * @return Amount of timeouts
+     */
+    public long timeouts() {
+        return this.fails.sum();
+    }
+}
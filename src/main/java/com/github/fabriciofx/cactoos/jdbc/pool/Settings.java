@@ -0,0 +1,91 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.pool;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import org.cactoos.Scalar;
+import org.cactoos.map.MapOf;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Pool settings.
+ * <p>The settings are HikariCP properties, keyed by their names, e.g.
+ * {@code maximumPoolSize}, {@code connectionTimeout},
+ * {@code leakDetectionThreshold}, {@code validationTimeout},
+ * {@code connectionTestQuery} or data source properties, like
+ * {@code dataSource.cachePrepStmts} and
+ * {@code dataSource.prepStmtCacheSize}. They override the defaults:
+ * <ul>
+ *     <li>{@code maximumPoolSize}: 10</li>
+ *     <li>{@code minimumIdle}: 2</li>
+ *     <li>{@code connectionTimeout}: 30 seconds</li>
+ *     <li>{@code idleTimeout}: 10 minutes</li>
+ *     <li>{@code maxLifetime}: 30 minutes</li>
+ *     <li>{@code poolName}: unique for each settings</li>
+ * </ul>
+ *
+ * @since 1.0
+ */
+public final class Settings {
+    /**
+     * Properties.
+     */
+    private final Scalar<Properties> props;
+
+    /**
+     * Ctor.
+     */
+    public Settings() {
+        this(new MapOf<String, Object>());
+    }
+
+    /**
+     * Ctor.
+     * @param overrides Properties overriding the defaults
+     */
+    public Settings(final Map<String, ?> overrides) {
+        this.props = new Synced<>(
+            new Sticky<>(
+                () -> {
+                    final Properties properties = new Properties();
+                    properties.setProperty(
+                        "poolName",
+                        String.format(
+                            "cactoos-jdbc-pool-%s",
+                            UUID.randomUUID().toString().substring(0, 8)
+                        )
+                    );
+                    properties.setProperty("maximumPoolSize", "10");
+                    properties.setProperty("minimumIdle", "2");
+                    properties.setProperty("connectionTimeout", "30000");
+                    properties.setProperty("idleTimeout", "600000");
+                    properties.setProperty("maxLifetime", "1800000");
+                    for (final Map.Entry<String, ?> entry
+                        : overrides.entrySet()) {
+                        properties.setProperty(
+                            entry.getKey(),
+                            String.valueOf(entry.getValue())
+                        );
+                    }
+                    return properties;
+                }
+            )
+        );
+    }
+
+    /**
+     * The settings as HikariCP properties.
+     * @return A copy of the properties
+     */
+    public Properties properties() {
+        final Properties copy = new Properties();
+        copy.putAll(new Unchecked<>(this.props).value());
+        return copy;
+    }
+}
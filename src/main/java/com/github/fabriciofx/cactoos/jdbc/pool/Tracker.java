@@ -0,0 +1,79 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.pool;
+
+import com.github.fabriciofx.cactoos.jdbc.Registry;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracker.
+ * <p>Records the connection acquisitions and timeouts of a pool, also in
+ * a {@link Registry}.
+ *
+ * @since 1.0
+ */
+final class Tracker implements IMetricsTracker {
+    /**
+     * Amount of acquired connections.
+     */
+    private final LongAdder acquired;
+
+    /**
+     * Time waiting to acquire connections, in nanoseconds.
+     */
+    private final LongAdder waited;
+
+    /**
+     * Amount of timeouts acquiring connections.
+     */
+    private final LongAdder timeouts;
+
+    /**
+     * Registry.
+     */
+    private final Registry registry;
+
+    /**
+     * Pool name.
+     */
+    private final String pool;
+
+    /**
+     * Ctor.
+     * @param acquired Amount of acquired connections
+     * @param waited Time waiting to acquire connections, in nanoseconds
+     * @param timeouts Amount of timeouts acquiring connections
+     * @param registry Registry of metrics
+     * @param pool Pool name
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    Tracker(
+        final LongAdder acquired,
+        final LongAdder waited,
+        final LongAdder timeouts,
+        final Registry registry,
+        final String pool
+    ) {
+        this.acquired = acquired;
+        this.waited = waited;
+        this.timeouts = timeouts;
+        this.registry = registry;
+        this.pool = pool;
+    }
+
+    @Override
+    public void recordConnectionAcquiredNanos(final long nanos) {
+        this.acquired.increment();
+        this.waited.add(nanos);
+        this.registry.record("jdbc.connection.acquire", this.pool, nanos);
+    }
+
+    @Override
+    public void recordConnectionTimeout() {
+        this.timeouts.increment();
+        this.registry.count("jdbc.connection.timeout", this.pool, 1L);
+    }
+}
@@ -9,20 +9,39 @@ import com.github.fabriciofx.cactoos.cache.Entry;
 import com.github.fabriciofx.cactoos.cache.Key;
 import com.github.fabriciofx.cactoos.cache.Store;
 import com.github.fabriciofx.cactoos.cache.key.KeyOf;
+import com.github.fabriciofx.cactoos.cache.metadata.TypeOf;
 import com.github.fabriciofx.cactoos.jdbc.Query;
 import com.github.fabriciofx.cactoos.jdbc.Table;
 import com.github.fabriciofx.cactoos.jdbc.cache.CacheEntry;
+import com.github.fabriciofx.cactoos.jdbc.cache.Flights;
+import com.github.fabriciofx.cactoos.jdbc.cache.Freshness;
 import com.github.fabriciofx.cactoos.jdbc.query.Normalized;
 import com.github.fabriciofx.cactoos.jdbc.rset.CachedResultSet;
 import com.github.fabriciofx.cactoos.jdbc.scalar.TableNames;
-import com.github.fabriciofx.cactoos.jdbc.table.ArrayedTable;
+import com.github.fabriciofx.cactoos.jdbc.table.ColumnarTable;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
 
 /**
  * Cached.
  * A {@link java.sql.PreparedStatement} decorator for cache query data.
+ * <p>On a cache hit the decorated statements are not used at all, so if they
+ * are {@link Lazy} no statement is prepared and no connection is touched.
+ * <p>A cached result older than its time-to-live, given by a
+ * {@link Freshness}, is fetched again. A result near to expire can be
+ * refreshed in the background, by a function fetching the normalized
+ * query, by default running the normalized statement again. A refresh
+ * started before an invalidation of the tables it reads, as told to the
+ * {@link Freshness}, is discarded.
+ * <p>Concurrent misses of the same query, sharing the {@link Flights},
+ * fetch it once.
  * @since 0.9.0
  * @checkstyle ParameterNumberCheck (500 lines)
  * @checkstyle IllegalCatchCheck (500 lines)
@@ -39,60 +58,303 @@ public final class Cached extends PreparedEnvelope {
      */
     private final Normalized normalized;
 
+    /**
+     * The query whose bytes are the cache key of the result.
+     */
+    private final Query key;
+
+    /**
+     * The names of the tables used by the SQL select.
+     */
+    private final Scalar<Set<String>> tables;
+
     /**
      * The cache.
      */
     private final Cache<Query, Table> cache;
 
+    /**
+     * Freshness of the cached results.
+     */
+    private final Freshness freshness;
+
+    /**
+     * Fetch a query in the background, to refresh its result.
+     */
+    private final Func<Query, Table> fetch;
+
+    /**
+     * Fetches of cache misses in flight.
+     */
+    private final Flights flights;
+
+    /**
+     * Ctor.
+     *
+     * @param origin Decorated PreparedStatement
+     * @param stored PreparedStatement to normalized SQL select
+     * @param normalized The normalized select SQL
+     * @param cache The cache
+     */
+    public Cached(
+        final PreparedStatement origin,
+        final PreparedStatement stored,
+        final Normalized normalized,
+        final Cache<Query, Table> cache
+    ) {
+        this(origin, stored, normalized, new TableNames(normalized), cache);
+    }
+
     /**
      * Ctor.
      *
      * @param origin Decorated PreparedStatement
      * @param stored PreparedStatement to normalized SQL select
      * @param normalized The normalized select SQL
+     * @param tables The names of the tables used by the select SQL
      * @param cache The cache
      */
     public Cached(
         final PreparedStatement origin,
         final PreparedStatement stored,
         final Normalized normalized,
+        final Scalar<Set<String>> tables,
         final Cache<Query, Table> cache
+    ) {
+        this(
+            origin,
+            stored,
+            normalized,
+            tables,
+            cache,
+            new Freshness(),
+            query -> Cached.table(stored),
+            new Flights()
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param origin Decorated PreparedStatement
+     * @param stored PreparedStatement to normalized SQL select
+     * @param normalized The normalized select SQL
+     * @param tables The names of the tables used by the select SQL
+     * @param cache The cache
+     * @param freshness Freshness of the cached results
+     * @param fetch Fetch a query in the background, to refresh its result
+     * @param flights Fetches of cache misses in flight
+     */
+    public Cached(
+        final PreparedStatement origin,
+        final PreparedStatement stored,
+        final Normalized normalized,
+        final Scalar<Set<String>> tables,
+        final Cache<Query, Table> cache,
+        final Freshness freshness,
+        final Func<Query, Table> fetch,
+        final Flights flights
+    ) {
+        this(
+            origin,
+            stored,
+            normalized,
+            tables,
+            cache,
+            freshness,
+            fetch,
+            flights,
+            normalized
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param origin Decorated PreparedStatement
+     * @param stored PreparedStatement to normalized SQL select
+     * @param normalized The normalized select SQL
+     * @param tables The names of the tables used by the select SQL
+     * @param cache The cache
+     * @param freshness Freshness of the cached results
+     * @param fetch Fetch a query in the background, to refresh its result
+     * @param flights Fetches of cache misses in flight
+     * @param key The query whose bytes are the cache key of the result
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public Cached(
+        final PreparedStatement origin,
+        final PreparedStatement stored,
+        final Normalized normalized,
+        final Scalar<Set<String>> tables,
+        final Cache<Query, Table> cache,
+        final Freshness freshness,
+        final Func<Query, Table> fetch,
+        final Flights flights,
+        final Query key
     ) {
         super(origin);
         this.stored = stored;
         this.normalized = normalized;
+        this.key = key;
+        this.tables = tables;
         this.cache = cache;
+        this.freshness = freshness;
+        this.fetch = fetch;
+        this.flights = flights;
     }
 
     @Override
     public ResultSet executeQuery() throws SQLException {
         try {
             final ResultSet result;
-            final Key<Query> key = new KeyOf<>(this.normalized);
+            final Key<Query> key = new KeyOf<>(this.key);
             final Store<Query, Table> store = this.cache.store();
             if (store.contains(key)) {
                 final Entry<Query, Table> entry = store.retrieve(key);
-                result = new CachedResultSet(
-                    entry.value().rows(),
-                    entry.value().columns()
+                final List<Instant> saved = entry.metadata().value(
+                    "stored",
+                    new TypeOf<>() { }
                 );
-            } else {
-                try (ResultSet rset = this.stored.executeQuery()) {
-                    final Table table = new ArrayedTable(rset);
-                    result = new CachedResultSet(table.rows(), table.columns());
-                    store.save(
+                final List<Duration> ttl = entry.metadata().value(
+                    "ttl",
+                    new TypeOf<>() { }
+                );
+                if (saved.isEmpty() || ttl.isEmpty()) {
+                    result = new CachedResultSet(
+                        entry.value().rows(),
+                        entry.value().columns()
+                    );
+                } else if (this.freshness.expired(saved.get(0), ttl.get(0))) {
+                    store.delete(key);
+                    result = this.fetched(store, key);
+                } else {
+                    this.freshness.refresh(
                         key,
-                        new CacheEntry(
-                            key,
-                            table,
-                            new TableNames(this.normalized)
-                        )
+                        saved.get(0),
+                        ttl.get(0),
+                        refreshed -> this.refresh(store, refreshed)
+                    );
+                    result = new CachedResultSet(
+                        entry.value().rows(),
+                        entry.value().columns()
                     );
                 }
+            } else {
+                result = this.fetched(store, key);
             }
             return result;
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
     }
+
+    @Override
+    public void setMaxRows(final int max) throws SQLException {
+        super.setMaxRows(max);
+        this.stored.setMaxRows(max);
+    }
+
+    @Override
+    public void setQueryTimeout(final int seconds) throws SQLException {
+        super.setQueryTimeout(seconds);
+        this.stored.setQueryTimeout(seconds);
+    }
+
+    @Override
+    public void setFetchSize(final int rows) throws SQLException {
+        super.setFetchSize(rows);
+        this.stored.setFetchSize(rows);
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            this.stored.close();
+        } finally {
+            super.close();
+        }
+    }
+
+    /**
+     * Fetch the normalized query, once for concurrent misses, and store its
+     * result.
+     * @param store The cache store
+     * @param key The key of the result
+     * @return The result
+     * @throws Exception if fails
+     */
+    private ResultSet fetched(
+        final Store<Query, Table> store,
+        final Key<Query> key
+    ) throws Exception {
+        final Table table = this.flights.table(
+            key,
+            () -> {
+                final Table fetched = Cached.table(this.stored);
+                this.save(store, key, fetched);
+                return fetched;
+            }
+        );
+        return new CachedResultSet(table.rows(), table.columns());
+    }
+
+    /**
+     * Fetch the normalized query again and store its result, unless a table
+     * it reads was invalidated meanwhile.
+     * @param store The cache store
+     * @param key The key of the result
+     * @throws Exception if fails
+     */
+    private void refresh(
+        final Store<Query, Table> store,
+        final Key<Query> key
+    ) throws Exception {
+        final Set<String> names = this.tables.value();
+        final long version = this.freshness.version(names);
+        this.save(store, key, this.fetch.apply(this.normalized));
+        if (this.freshness.version(names) != version) {
+            store.delete(key);
+        }
+    }
+
+    /**
+     * Store a result with its time-to-live.
+     * @param store The cache store
+     * @param key The key of the result
+     * @param table The result
+     * @throws Exception if fails
+     */
+    private void save(
+        final Store<Query, Table> store,
+        final Key<Query> key,
+        final Table table
+    ) throws Exception {
+        store.save(
+            key,
+            new CacheEntry(
+                key,
+                table,
+                this.tables,
+                Instant.now(),
+                this.freshness.ttl(this.normalized.sql(), this.tables.value())
+            )
+        );
+    }
+
+    /**
+     * Execute a statement and read its whole result.
+     * @param stmt The statement
+     * @return The result
+     * @throws Exception if fails
+     */
+    private static Table table(final PreparedStatement stmt)
+        throws Exception {
+        try (ResultSet rset = stmt.executeQuery()) {
+            final Table table = new ColumnarTable(rset);
+            table.rows();
+            table.columns();
+            return table;
+        }
+    }
 }
@@ -0,0 +1,843 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.prepared;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.Proc;
+import org.cactoos.Scalar;
+
+/**
+ * Lazy PreparedStatement.
+ * <p>A {@link PreparedStatement} that is only created (and only touches the
+ * connection) when it is really used, e.g. to be executed. Statement
+ * settings as query timeout, max rows and fetch size are kept until then.
+ * Closing a never created statement does nothing.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ * @checkstyle ParameterNameCheck (1000 lines)
+ * @checkstyle ParameterNumberCheck (1000 lines)
+ * @checkstyle IllegalCatchCheck (1000 lines)
+ */
+@SuppressWarnings(
+    {
+        "PMD.TooManyMethods",
+        "PMD.ExcessivePublicCount",
+        "PMD.CouplingBetweenObjects",
+        "PMD.ReplaceJavaUtilDate",
+        "PMD.ReplaceJavaUtilCalendar",
+        "PMD.AvoidCatchingGenericException",
+        "PMD.AvoidRethrowingException"
+    }
+)
+public final class Lazy implements PreparedStatement {
+    /**
+     * Creates the PreparedStatement.
+     */
+    private final Scalar<PreparedStatement> origin;
+
+    /**
+     * The PreparedStatement, once created.
+     */
+    private final AtomicReference<PreparedStatement> created;
+
+    /**
+     * Settings to apply when the PreparedStatement is created.
+     */
+    private final List<Proc<PreparedStatement>> settings;
+
+    /**
+     * Closed before being created.
+     */
+    private final AtomicBoolean closed;
+
+    /**
+     * Ctor.
+     * @param prepared Creates the PreparedStatement
+     */
+    public Lazy(final Scalar<PreparedStatement> prepared) {
+        this.origin = prepared;
+        this.created = new AtomicReference<>();
+        this.settings = new LinkedList<>();
+        this.closed = new AtomicBoolean();
+    }
+
+    @Override
+    public ResultSet executeQuery() throws SQLException {
+        return this.statement().executeQuery();
+    }
+
+    @Override
+    public int executeUpdate() throws SQLException {
+        return this.statement().executeUpdate();
+    }
+
+    @Override
+    public void setNull(
+        final int parameterIndex,
+        final int sqlType
+    ) throws SQLException {
+        this.statement().setNull(parameterIndex, sqlType);
+    }
+
+    @Override
+    public void setBoolean(
+        final int parameterIndex,
+        final boolean x
+    ) throws SQLException {
+        this.statement().setBoolean(parameterIndex, x);
+    }
+
+    @Override
+    public void setByte(
+        final int parameterIndex,
+        final byte x
+    ) throws SQLException {
+        this.statement().setByte(parameterIndex, x);
+    }
+
+    @Override
+    public void setShort(
+        final int parameterIndex,
+        final short x
+    ) throws SQLException {
+        this.statement().setShort(parameterIndex, x);
+    }
+
+    @Override
+    public void setInt(
+        final int parameterIndex,
+        final int x
+    ) throws SQLException {
+        this.statement().setInt(parameterIndex, x);
+    }
+
+    @Override
+    public void setLong(
+        final int parameterIndex,
+        final long x
+    ) throws SQLException {
+        this.statement().setLong(parameterIndex, x);
+    }
+
+    @Override
+    public void setFloat(
+        final int parameterIndex,
+        final float x
+    ) throws SQLException {
+        this.statement().setFloat(parameterIndex, x);
+    }
+
+    @Override
+    public void setDouble(
+        final int parameterIndex,
+        final double x
+    ) throws SQLException {
+        this.statement().setDouble(parameterIndex, x);
+    }
+
+    @Override
+    public void setBigDecimal(
+        final int parameterIndex,
+        final BigDecimal x
+    ) throws SQLException {
+        this.statement().setBigDecimal(parameterIndex, x);
+    }
+
+    @Override
+    public void setString(
+        final int parameterIndex,
+        final String x
+    ) throws SQLException {
+        this.statement().setString(parameterIndex, x);
+    }
+
+    @Override
+    public void setBytes(
+        final int parameterIndex,
+        final byte[] x
+    ) throws SQLException {
+        this.statement().setBytes(parameterIndex, x);
+    }
+
+    @Override
+    public void setDate(
+        final int parameterIndex,
+        final Date x
+    ) throws SQLException {
+        this.statement().setDate(parameterIndex, x);
+    }
+
+    @Override
+    public void setTime(
+        final int parameterIndex,
+        final Time x
+    ) throws SQLException {
+        this.statement().setTime(parameterIndex, x);
+    }
+
+    @Override
+    public void setTimestamp(
+        final int parameterIndex,
+        final Timestamp x
+    ) throws SQLException {
+        this.statement().setTimestamp(parameterIndex, x);
+    }
+
+    @Override
+    public void setAsciiStream(
+        final int parameterIndex,
+        final InputStream x,
+        final int length
+    ) throws SQLException {
+        this.statement().setAsciiStream(parameterIndex, x, length);
+    }
+
+    @Deprecated
+    @Override
+    public void setUnicodeStream(
+        final int parameterIndex,
+        final InputStream x,
+        final int length
+    ) throws SQLException {
+        this.statement().setUnicodeStream(parameterIndex, x, length);
+    }
+
+    @Override
+    public void setBinaryStream(
+        final int parameterIndex,
+        final InputStream x,
+        final int length
+    ) throws SQLException {
+        this.statement().setBinaryStream(parameterIndex, x, length);
+    }
+
+    @Override
+    public void clearParameters() throws SQLException {
+        this.statement().clearParameters();
+    }
+
+    @Override
+    public void setObject(
+        final int parameterIndex,
+        final Object x,
+        final int targetSqlType
+    ) throws SQLException {
+        this.statement().setObject(parameterIndex, x, targetSqlType);
+    }
+
+    @Override
+    public void setObject(
+        final int parameterIndex,
+        final Object x
+    ) throws SQLException {
+        this.statement().setObject(parameterIndex, x);
+    }
+
+    @Override
+    public boolean execute() throws SQLException {
+        return this.statement().execute();
+    }
+
+    @Override
+    public void addBatch() throws SQLException {
+        this.statement().addBatch();
+    }
+
+    @Override
+    public void setCharacterStream(
+        final int parameterIndex,
+        final Reader reader,
+        final int length
+    ) throws SQLException {
+        this.statement().setCharacterStream(parameterIndex, reader, length);
+    }
+
+    @Override
+    public void setRef(
+        final int parameterIndex,
+        final Ref x
+    ) throws SQLException {
+        this.statement().setRef(parameterIndex, x);
+    }
+
+    @Override
+    public void setBlob(
+        final int parameterIndex,
+        final Blob x
+    ) throws SQLException {
+        this.statement().setBlob(parameterIndex, x);
+    }
+
+    @Override
+    public void setClob(
+        final int parameterIndex,
+        final Clob x
+    ) throws SQLException {
+        this.statement().setClob(parameterIndex, x);
+    }
+
+    @Override
+    public void setArray(
+        final int parameterIndex,
+        final Array x
+    ) throws SQLException {
+        this.statement().setArray(parameterIndex, x);
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() throws SQLException {
+        return this.statement().getMetaData();
+    }
+
+    @Override
+    public void setDate(
+        final int parameterIndex,
+        final Date x,
+        final Calendar cal
+    ) throws SQLException {
+        this.statement().setDate(parameterIndex, x, cal);
+    }
+
+    @Override
+    public void setTime(
+        final int parameterIndex,
+        final Time x,
+        final Calendar cal
+    ) throws SQLException {
+        this.statement().setTime(parameterIndex, x, cal);
+    }
+
+    @Override
+    public void setTimestamp(
+        final int parameterIndex,
+        final Timestamp x,
+        final Calendar cal
+    ) throws SQLException {
+        this.statement().setTimestamp(parameterIndex, x, cal);
+    }
+
+    @Override
+    public void setNull(
+        final int parameterIndex,
+        final int sqlType,
+        final String typeName
+    ) throws SQLException {
+        this.statement().setNull(parameterIndex, sqlType, typeName);
+    }
+
+    @Override
+    public void setURL(
+        final int parameterIndex,
+        final URL x
+    ) throws SQLException {
+        this.statement().setURL(parameterIndex, x);
+    }
+
+    @Override
+    public ParameterMetaData getParameterMetaData() throws SQLException {
+        return this.statement().getParameterMetaData();
+    }
+
+    @Override
+    public void setRowId(
+        final int parameterIndex,
+        final RowId x
+    ) throws SQLException {
+        this.statement().setRowId(parameterIndex, x);
+    }
+
+    @Override
+    public void setNString(
+        final int parameterIndex,
+        final String value
+    ) throws SQLException {
+        this.statement().setNString(parameterIndex, value);
+    }
+
+    @Override
+    public void setNCharacterStream(
+        final int parameterIndex,
+        final Reader value,
+        final long length
+    ) throws SQLException {
+        this.statement().setNCharacterStream(parameterIndex, value, length);
+    }
+
+    @Override
+    public void setNClob(
+        final int parameterIndex,
+        final NClob value
+    ) throws SQLException {
+        this.statement().setNClob(parameterIndex, value);
+    }
+
+    @Override
+    public void setClob(
+        final int parameterIndex,
+        final Reader reader,
+        final long length
+    ) throws SQLException {
+        this.statement().setClob(parameterIndex, reader, length);
+    }
+
+    @Override
+    public void setBlob(
+        final int parameterIndex,
+        final InputStream inputStream,
+        final long length
+    ) throws SQLException {
+        this.statement().setBlob(parameterIndex, inputStream, length);
+    }
+
+    @Override
+    public void setNClob(
+        final int parameterIndex,
+        final Reader reader,
+        final long length
+    ) throws SQLException {
+        this.statement().setNClob(parameterIndex, reader, length);
+    }
+
+    @Override
+    public void setSQLXML(
+        final int parameterIndex,
+        final SQLXML xmlObject
+    ) throws SQLException {
+        this.statement().setSQLXML(parameterIndex, xmlObject);
+    }
+
+    @Override
+    public void setObject(
+        final int parameterIndex,
+        final Object x,
+        final int targetSqlType,
+        final int scaleOrLength
+    ) throws SQLException {
+        this.statement().setObject(parameterIndex, x, targetSqlType, scaleOrLength);
+    }
+
+    @Override
+    public void setAsciiStream(
+        final int parameterIndex,
+        final InputStream x,
+        final long length
+    ) throws SQLException {
+        this.statement().setAsciiStream(parameterIndex, x, length);
+    }
+
+    @Override
+    public void setBinaryStream(
+        final int parameterIndex,
+        final InputStream x,
+        final long length
+    ) throws SQLException {
+        this.statement().setBinaryStream(parameterIndex, x, length);
+    }
+
+    @Override
+    public void setCharacterStream(
+        final int parameterIndex,
+        final Reader reader,
+        final long length
+    ) throws SQLException {
+        this.statement().setCharacterStream(parameterIndex, reader, length);
+    }
+
+    @Override
+    public void setAsciiStream(
+        final int parameterIndex,
+        final InputStream x
+    ) throws SQLException {
+        this.statement().setAsciiStream(parameterIndex, x);
+    }
+
+    @Override
+    public void setBinaryStream(
+        final int parameterIndex,
+        final InputStream x
+    ) throws SQLException {
+        this.statement().setBinaryStream(parameterIndex, x);
+    }
+
+    @Override
+    public void setCharacterStream(
+        final int parameterIndex,
+        final Reader reader
+    ) throws SQLException {
+        this.statement().setCharacterStream(parameterIndex, reader);
+    }
+
+    @Override
+    public void setNCharacterStream(
+        final int parameterIndex,
+        final Reader value
+    ) throws SQLException {
+        this.statement().setNCharacterStream(parameterIndex, value);
+    }
+
+    @Override
+    public void setClob(
+        final int parameterIndex,
+        final Reader reader
+    ) throws SQLException {
+        this.statement().setClob(parameterIndex, reader);
+    }
+
+    @Override
+    public void setBlob(
+        final int parameterIndex,
+        final InputStream inputStream
+    ) throws SQLException {
+        this.statement().setBlob(parameterIndex, inputStream);
+    }
+
+    @Override
+    public void setNClob(
+        final int parameterIndex,
+        final Reader reader
+    ) throws SQLException {
+        this.statement().setNClob(parameterIndex, reader);
+    }
+
+    @Override
+    public ResultSet executeQuery(final String sql) throws SQLException {
+        return this.statement().executeQuery(sql);
+    }
+
+    @Override
+    public int executeUpdate(final String sql) throws SQLException {
+        return this.statement().executeUpdate(sql);
+    }
+
+    @Override
+    public void close() throws SQLException {
+        this.closed.set(true);
+        final PreparedStatement stmt = this.created.get();
+        if (stmt != null) {
+            stmt.close();
+        }
+    }
+
+    @Override
+    public int getMaxFieldSize() throws SQLException {
+        return this.statement().getMaxFieldSize();
+    }
+
+    @Override
+    public void setMaxFieldSize(final int max) throws SQLException {
+        this.configure(stmt -> stmt.setMaxFieldSize(max));
+    }
+
+    @Override
+    public int getMaxRows() throws SQLException {
+        return this.statement().getMaxRows();
+    }
+
+    @Override
+    public void setMaxRows(final int max) throws SQLException {
+        this.configure(stmt -> stmt.setMaxRows(max));
+    }
+
+    @Override
+    public void setEscapeProcessing(final boolean enable) throws SQLException {
+        this.configure(stmt -> stmt.setEscapeProcessing(enable));
+    }
+
+    @Override
+    public int getQueryTimeout() throws SQLException {
+        return this.statement().getQueryTimeout();
+    }
+
+    @Override
+    public void setQueryTimeout(final int seconds) throws SQLException {
+        this.configure(stmt -> stmt.setQueryTimeout(seconds));
+    }
+
+    @Override
+    public void cancel() throws SQLException {
+        this.statement().cancel();
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        return this.statement().getWarnings();
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        this.statement().clearWarnings();
+    }
+
+    @Override
+    public void setCursorName(final String name) throws SQLException {
+        this.statement().setCursorName(name);
+    }
+
+    @Override
+    public boolean execute(final String sql) throws SQLException {
+        return this.statement().execute(sql);
+    }
+
+    @Override
+    public ResultSet getResultSet() throws SQLException {
+        return this.statement().getResultSet();
+    }
+
+    @Override
+    public int getUpdateCount() throws SQLException {
+        return this.statement().getUpdateCount();
+    }
+
+    @Override
+    public boolean getMoreResults() throws SQLException {
+        return this.statement().getMoreResults();
+    }
+
+    @Override
+    public void setFetchDirection(final int direction) throws SQLException {
+        this.configure(stmt -> stmt.setFetchDirection(direction));
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        return this.statement().getFetchDirection();
+    }
+
+    @Override
+    public void setFetchSize(final int rows) throws SQLException {
+        this.configure(stmt -> stmt.setFetchSize(rows));
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        return this.statement().getFetchSize();
+    }
+
+    @Override
+    public int getResultSetConcurrency() throws SQLException {
+        return this.statement().getResultSetConcurrency();
+    }
+
+    @Override
+    public int getResultSetType() throws SQLException {
+        return this.statement().getResultSetType();
+    }
+
+    @Override
+    public void addBatch(final String sql) throws SQLException {
+        this.statement().addBatch(sql);
+    }
+
+    @Override
+    public void clearBatch() throws SQLException {
+        this.statement().clearBatch();
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+        return this.statement().executeBatch();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return this.statement().getConnection();
+    }
+
+    @Override
+    public boolean getMoreResults(final int current) throws SQLException {
+        return this.statement().getMoreResults();
+    }
+
+    @Override
+    public ResultSet getGeneratedKeys() throws SQLException {
+        return this.statement().getGeneratedKeys();
+    }
+
+    @Override
+    public int executeUpdate(
+        final String sql,
+        final int autoGeneratedKeys
+    ) throws SQLException {
+        return this.statement().executeUpdate(sql, autoGeneratedKeys);
+    }
+
+    @Override
+    public int executeUpdate(
+        final String sql,
+        final int[] columnIndexes
+    ) throws SQLException {
+        return this.statement().executeUpdate(sql, columnIndexes);
+    }
+
+    @Override
+    public int executeUpdate(
+        final String sql,
+        final String[] columnNames
+    ) throws SQLException {
+        return this.statement().executeUpdate(sql, columnNames);
+    }
+
+    @Override
+    public boolean execute(
+        final String sql,
+        final int autoGeneratedKeys
+    ) throws SQLException {
+        return this.statement().execute(sql, autoGeneratedKeys);
+    }
+
+    @Override
+    public boolean execute(
+        final String sql,
+        final int[] columnIndexes
+    ) throws SQLException {
+        return this.statement().execute(sql, columnIndexes);
+    }
+
+    @Override
+    public boolean execute(
+        final String sql,
+        final String[] columnNames
+    ) throws SQLException {
+        return this.statement().execute(sql, columnNames);
+    }
+
+    @Override
+    public int getResultSetHoldability() throws SQLException {
+        return this.statement().getResultSetHoldability();
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        final PreparedStatement stmt = this.created.get();
+        final boolean result;
+        if (stmt == null) {
+            result = this.closed.get();
+        } else {
+            result = stmt.isClosed();
+        }
+        return result;
+    }
+
+    @Override
+    public void setPoolable(final boolean poolable) throws SQLException {
+        this.configure(stmt -> stmt.setPoolable(poolable));
+    }
+
+    @Override
+    public boolean isPoolable() throws SQLException {
+        return this.statement().isPoolable();
+    }
+
+    @Override
+    public void closeOnCompletion() throws SQLException {
+        this.statement().closeOnCompletion();
+    }
+
+    @Override
+    public boolean isCloseOnCompletion() throws SQLException {
+        return this.statement().isCloseOnCompletion();
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        return this.statement().unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+        return this.statement().isWrapperFor(iface);
+    }
+
+    /**
+     * Create the PreparedStatement, if not created yet.
+     * @return The PreparedStatement
+     * @throws SQLException if fails
+     */
+    private PreparedStatement statement() throws SQLException {
+        PreparedStatement stmt = this.created.get();
+        if (stmt == null) {
+            if (this.closed.get()) {
+                throw new SQLException("PreparedStatement is closed");
+            }
+            try {
+                stmt = this.origin.value();
+            } catch (final SQLException ex) {
+                throw ex;
+            } catch (final Exception ex) {
+                throw new SQLException(ex);
+            }
+            try {
+                for (final Proc<PreparedStatement> setting : this.settings) {
+                    setting.exec(stmt);
+                }
+            } catch (final Exception ex) {
+                final SQLException error;
+                if (ex instanceof SQLException) {
+                    error = (SQLException) ex;
+                } else {
+                    error = new SQLException(ex);
+                }
+                try {
+                    stmt.close();
+                } catch (final SQLException suppressed) {
+                    error.addSuppressed(suppressed);
+                }
+                throw error;
+            }
+            this.settings.clear();
+            this.created.set(stmt);
+        }
+        return stmt;
+    }
+
+    /**
+     * Apply a setting to the PreparedStatement now, if it has been created,
+     * or when it will be.
+     * @param setting The setting
+     * @throws SQLException if fails
+     */
+    private void configure(final Proc<PreparedStatement> setting)
+        throws SQLException {
+        final PreparedStatement stmt = this.created.get();
+        if (stmt == null) {
+            this.settings.add(setting);
+        } else {
+            try {
+                setting.exec(stmt);
+            } catch (final SQLException ex) {
+                throw ex;
+            } catch (final Exception ex) {
+                throw new SQLException(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.prepared;
+
+import com.github.fabriciofx.cactoos.jdbc.Registry;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measured PreparedStatement.
+ * <p>Records, tagged by the normalized SQL, the latency of each execution
+ * in {@code jdbc.query.latency} (nanoseconds), the rows retrieved in
+ * {@code jdbc.query.rows} and the size of each batch in
+ * {@code jdbc.batch.size}.
+ * @since 1.0
+ */
+public final class Measured extends PreparedEnvelope {
+    /**
+     * The PreparedStatement.
+     */
+    private final PreparedStatement origin;
+
+    /**
+     * Registry.
+     */
+    private final Registry registry;
+
+    /**
+     * Normalized SQL.
+     */
+    private final String sql;
+
+    /**
+     * Amount of rows added to the batch.
+     */
+    private final AtomicLong batched;
+
+    /**
+     * Ctor.
+     * @param prepared Decorated PreparedStatement
+     * @param registry Registry of metrics
+     * @param sql Normalized SQL
+     */
+    public Measured(
+        final PreparedStatement prepared,
+        final Registry registry,
+        final String sql
+    ) {
+        super(prepared);
+        this.origin = prepared;
+        this.registry = registry;
+        this.sql = sql;
+        this.batched = new AtomicLong();
+    }
+
+    @Override
+    public ResultSet executeQuery() throws SQLException {
+        final long begin = System.nanoTime();
+        final ResultSet rset = this.origin.executeQuery();
+        this.latency(begin);
+        return new com.github.fabriciofx.cactoos.jdbc.rset.Measured(
+            rset,
+            this.registry,
+            this.sql
+        );
+    }
+
+    @Override
+    public int executeUpdate() throws SQLException {
+        final long begin = System.nanoTime();
+        final int updated = this.origin.executeUpdate();
+        this.latency(begin);
+        return updated;
+    }
+
+    @Override
+    public boolean execute() throws SQLException {
+        final long begin = System.nanoTime();
+        final boolean result = this.origin.execute();
+        this.latency(begin);
+        return result;
+    }
+
+    @Override
+    public long executeLargeUpdate() throws SQLException {
+        final long begin = System.nanoTime();
+        final long updated = this.origin.executeLargeUpdate();
+        this.latency(begin);
+        return updated;
+    }
+
+    @Override
+    public void addBatch() throws SQLException {
+        this.origin.addBatch();
+        this.batched.incrementAndGet();
+    }
+
+    @Override
+    public void clearBatch() throws SQLException {
+        this.origin.clearBatch();
+        this.batched.set(0L);
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+        final long begin = System.nanoTime();
+        final int[] counts = this.origin.executeBatch();
+        this.latency(begin);
+        this.registry.record(
+            "jdbc.batch.size",
+            this.sql,
+            this.batched.getAndSet(0L)
+        );
+        return counts;
+    }
+
+    /**
+     * Record the latency of an execution.
+     * @param begin When the execution began, in nanoseconds
+     */
+    private void latency(final long begin) {
+        this.registry.record(
+            "jdbc.query.latency",
+            this.sql,
+            System.nanoTime() - begin
+        );
+    }
+}
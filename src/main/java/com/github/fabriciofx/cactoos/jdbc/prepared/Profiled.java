@@ -0,0 +1,111 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.prepared;
+
+import com.github.fabriciofx.cactoos.jdbc.Query;
+import com.github.fabriciofx.cactoos.jdbc.profile.Profile;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Profiled PreparedStatement.
+ * <p>Records the latency of each execution in a {@link Profile}.
+ * @since 1.0
+ */
+public final class Profiled extends PreparedEnvelope {
+    /**
+     * The PreparedStatement.
+     */
+    private final PreparedStatement origin;
+
+    /**
+     * Profile.
+     */
+    private final Profile profile;
+
+    /**
+     * Normalized SQL.
+     */
+    private final String fingerprint;
+
+    /**
+     * The query.
+     */
+    private final Query query;
+
+    /**
+     * Ctor.
+     * @param prepared Decorated PreparedStatement
+     * @param profile Profile of the queries
+     * @param fingerprint Normalized SQL
+     * @param query The query
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public Profiled(
+        final PreparedStatement prepared,
+        final Profile profile,
+        final String fingerprint,
+        final Query query
+    ) {
+        super(prepared);
+        this.origin = prepared;
+        this.profile = profile;
+        this.fingerprint = fingerprint;
+        this.query = query;
+    }
+
+    @Override
+    public ResultSet executeQuery() throws SQLException {
+        final long begin = System.nanoTime();
+        final ResultSet rset = this.origin.executeQuery();
+        this.record(begin);
+        return rset;
+    }
+
+    @Override
+    public int executeUpdate() throws SQLException {
+        final long begin = System.nanoTime();
+        final int updated = this.origin.executeUpdate();
+        this.record(begin);
+        return updated;
+    }
+
+    @Override
+    public boolean execute() throws SQLException {
+        final long begin = System.nanoTime();
+        final boolean result = this.origin.execute();
+        this.record(begin);
+        return result;
+    }
+
+    @Override
+    public long executeLargeUpdate() throws SQLException {
+        final long begin = System.nanoTime();
+        final long updated = this.origin.executeLargeUpdate();
+        this.record(begin);
+        return updated;
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+        final long begin = System.nanoTime();
+        final int[] counts = this.origin.executeBatch();
+        this.record(begin);
+        return counts;
+    }
+
+    /**
+     * Record the latency of an execution.
+     * @param begin When the execution began, in nanoseconds
+     */
+    private void record(final long begin) {
+        this.profile.record(
+            this.fingerprint,
+            this.query,
+            System.nanoTime() - begin
+        );
+    }
+}
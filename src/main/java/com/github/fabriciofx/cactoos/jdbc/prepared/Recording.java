@@ -0,0 +1,862 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.prepared;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import org.cactoos.BiProc;
+
+
+/**
+ * Recording.
+ * <p>A {@link PreparedStatement} that only records the parameters set into
+ * it, e.g. by a {@link com.github.fabriciofx.cactoos.jdbc.Param}: each one
+ * is given, by the name of its setter and its value, to a procedure. A
+ * parameter set to NULL is recorded with a null value. It has no
+ * connection, so anything else is unsupported.
+ *
+ * @since 1.0
+ * @checkstyle ParameterNameCheck (1000 lines)
+ * @checkstyle ParameterNumberCheck (1000 lines)
+ * @checkstyle IllegalCatchCheck (1000 lines)
+ */
+@SuppressWarnings(
+    {
+        "PMD.TooManyMethods",
+        "PMD.ExcessivePublicCount",
+        "PMD.CouplingBetweenObjects",
+        "PMD.ReplaceJavaUtilDate",
+        "PMD.ReplaceJavaUtilCalendar",
+        "PMD.AvoidCatchingGenericException"
+    }
+)
+public final class Recording implements PreparedStatement {
+    /**
+     * Records a parameter, by the name of its setter and its value.
+     */
+    private final BiProc<String, Object> recorded;
+
+    /**
+     * Ctor.
+     * @param recorded Records a parameter, by its setter and value
+     */
+    public Recording(final BiProc<String, Object> recorded) {
+        this.recorded = recorded;
+    }
+
+    @Override
+    public ResultSet executeQuery() throws SQLException {
+        throw new UnsupportedOperationException(
+            "#executeQuery(): only records the parameters"
+        );
+    }
+
+    @Override
+    public int executeUpdate() throws SQLException {
+        throw new UnsupportedOperationException(
+            "#executeUpdate(): only records the parameters"
+        );
+    }
+
+    @Override
+    public void setNull(
+        final int parameterIndex,
+        final int sqlType
+    ) throws SQLException {
+        this.record("setNull", null);
+    }
+
+    @Override
+    public void setBoolean(
+        final int parameterIndex,
+        final boolean x
+    ) throws SQLException {
+        this.record("setBoolean", x);
+    }
+
+    @Override
+    public void setByte(
+        final int parameterIndex,
+        final byte x
+    ) throws SQLException {
+        this.record("setByte", x);
+    }
+
+    @Override
+    public void setShort(
+        final int parameterIndex,
+        final short x
+    ) throws SQLException {
+        this.record("setShort", x);
+    }
+
+    @Override
+    public void setInt(
+        final int parameterIndex,
+        final int x
+    ) throws SQLException {
+        this.record("setInt", x);
+    }
+
+    @Override
+    public void setLong(
+        final int parameterIndex,
+        final long x
+    ) throws SQLException {
+        this.record("setLong", x);
+    }
+
+    @Override
+    public void setFloat(
+        final int parameterIndex,
+        final float x
+    ) throws SQLException {
+        this.record("setFloat", x);
+    }
+
+    @Override
+    public void setDouble(
+        final int parameterIndex,
+        final double x
+    ) throws SQLException {
+        this.record("setDouble", x);
+    }
+
+    @Override
+    public void setBigDecimal(
+        final int parameterIndex,
+        final BigDecimal x
+    ) throws SQLException {
+        this.record("setBigDecimal", x);
+    }
+
+    @Override
+    public void setString(
+        final int parameterIndex,
+        final String x
+    ) throws SQLException {
+        this.record("setString", x);
+    }
+
+    @Override
+    public void setBytes(
+        final int parameterIndex,
+        final byte[] x
+    ) throws SQLException {
+        this.record("setBytes", x);
+    }
+
+    @Override
+    public void setDate(
+        final int parameterIndex,
+        final Date x
+    ) throws SQLException {
+        this.record("setDate", x);
+    }
+
+    @Override
+    public void setTime(
+        final int parameterIndex,
+        final Time x
+    ) throws SQLException {
+        this.record("setTime", x);
+    }
+
+    @Override
+    public void setTimestamp(
+        final int parameterIndex,
+        final Timestamp x
+    ) throws SQLException {
+        this.record("setTimestamp", x);
+    }
+
+    @Override
+    public void setAsciiStream(
+        final int parameterIndex,
+        final InputStream x,
+        final int length
+    ) throws SQLException {
+        this.record("setAsciiStream", x);
+    }
+
+    @Override
+    public void setUnicodeStream(
+        final int parameterIndex,
+        final InputStream x,
+        final int length
+    ) throws SQLException {
+        this.record("setUnicodeStream", x);
+    }
+
+    @Override
+    public void setBinaryStream(
+        final int parameterIndex,
+        final InputStream x,
+        final int length
+    ) throws SQLException {
+        this.record("setBinaryStream", x);
+    }
+
+    @Override
+    public void clearParameters() throws SQLException {
+        throw new UnsupportedOperationException(
+            "#clearParameters(): only records the parameters"
+        );
+    }
+
+    @Override
+    public void setObject(
+        final int parameterIndex,
+        final Object x,
+        final int targetSqlType
+    ) throws SQLException {
+        this.record("setObject", x);
+    }
+
+    @Override
+    public void setObject(
+        final int parameterIndex,
+        final Object x
+    ) throws SQLException {
+        this.record("setObject", x);
+    }
+
+    @Override
+    public boolean execute() throws SQLException {
+        throw new UnsupportedOperationException(
+            "#execute(): only records the parameters"
+        );
+    }
+
+    @Override
+    public void addBatch() throws SQLException {
+        throw new UnsupportedOperationException(
+            "#addBatch(): only records the parameters"
+        );
+    }
+
+    @Override
+    public void setCharacterStream(
+        final int parameterIndex,
+        final Reader reader,
+        final int length
+    ) throws SQLException {
+        this.record("setCharacterStream", reader);
+    }
+
+    @Override
+    public void setRef(
+        final int parameterIndex,
+        final Ref x
+    ) throws SQLException {
+        this.record("setRef", x);
+    }
+
+    @Override
+    public void setBlob(
+        final int parameterIndex,
+        final Blob x
+    ) throws SQLException {
+        this.record("setBlob", x);
+    }
+
+    @Override
+    public void setClob(
+        final int parameterIndex,
+        final Clob x
+    ) throws SQLException {
+        this.record("setClob", x);
+    }
+
+    @Override
+    public void setArray(
+        final int parameterIndex,
+        final Array x
+    ) throws SQLException {
+        this.record("setArray", x);
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() throws SQLException {
+        throw new UnsupportedOperationException(
+            "#getMetaData(): only records the parameters"
+        );
+    }
+
+    @Override
+    public void setDate(
+        final int parameterIndex,
+        final Date x,
+        final Calendar cal
+    ) throws SQLException {
+        this.record("setDate", x);
+    }
+
+    @Override
+    public void setTime(
+        final int parameterIndex,
+        final Time x,
+        final Calendar cal
+    ) throws SQLException {
+        this.record("setTime", x);
+    }
+
+    @Override
+    public void setTimestamp(
+        final int parameterIndex,
+        final Timestamp x,
+        final Calendar cal
+    ) throws SQLException {
+        this.record("setTimestamp", x);
+    }
+
+    @Override
+    public void setNull(
+        final int parameterIndex,
+        final int sqlType,
+        final String typeName
+    ) throws SQLException {
+        this.record("setNull", null);
+    }
+
+    @Override
+    public void setURL(
+        final int parameterIndex,
+        final URL x
+    ) throws SQLException {
+        this.record("setURL", x);
+    }
+
+    @Override
+    public ParameterMetaData getParameterMetaData() throws SQLException {
+        throw new UnsupportedOperationException(
+            "#getParameterMetaData(): only records the parameters"
+        );
+    }
+
+    @Override
+    public void setRowId(
+        final int parameterIndex,
+        final RowId x
+    ) throws SQLException {
+        this.record("setRowId", x);
+    }
+
+    @Override
+    public void setNString(
+        final int parameterIndex,
+        final String value
+    ) throws SQLException {
+        this.record("setNString", value);
+    }
+
+    @Override
+    public void setNCharacterStream(
+        final int parameterIndex,
+        final Reader value,
+        final long length
+    ) throws SQLException {
+        this.record("setNCharacterStream", value);
+    }
+
+    @Override
+    public void setNClob(
+        final int parameterIndex,
+        final NClob value
+    ) throws SQLException {
+        this.record("setNClob", value);
+    }
+
+    @Override
+    public void setClob(
+        final int parameterIndex,
+        final Reader reader,
+        final long length
+    ) throws SQLException {
+        this.record("setClob", reader);
+    }
+
+    @Override
+    public void setBlob(
+        final int parameterIndex,
+        final InputStream inputStream,
+        final long length
+    ) throws SQLException {
+        this.record("setBlob", inputStream);
+    }
+
+    @Override
+    public void setNClob(
+        final int parameterIndex,
+        final Reader reader,
+        final long length
+    ) throws SQLException {
+        this.record("setNClob", reader);
+    }
+
+    @Override
+    public void setSQLXML(
+        final int parameterIndex,
+        final SQLXML xmlObject
+    ) throws SQLException {
+        this.record("setSQLXML", xmlObject);
+    }
+
+    @Override
+    public void setObject(
+        final int parameterIndex,
+        final Object x,
+        final int targetSqlType,
+        final int scaleOrLength
+    ) throws SQLException {
+        this.record("setObject", x);
+    }
+
+    @Override
+    public void setAsciiStream(
+        final int parameterIndex,
+        final InputStream x,
+        final long length
+    ) throws SQLException {
+        this.record("setAsciiStream", x);
+    }
+
+    @Override
+    public void setBinaryStream(
+        final int parameterIndex,
+        final InputStream x,
+        final long length
+    ) throws SQLException {
+        this.record("setBinaryStream", x);
+    }
+
+    @Override
+    public void setCharacterStream(
+        final int parameterIndex,
+        final Reader reader,
+        final long length
+    ) throws SQLException {
+        this.record("setCharacterStream", reader);
+    }
+
+    @Override
+    public void setAsciiStream(
+        final int parameterIndex,
+        final InputStream x
+    ) throws SQLException {
+        this.record("setAsciiStream", x);
+    }
+
+    @Override
+    public void setBinaryStream(
+        final int parameterIndex,
+        final InputStream x
+    ) throws SQLException {
+        this.record("setBinaryStream", x);
+    }
+
+    @Override
+    public void setCharacterStream(
+        final int parameterIndex,
+        final Reader reader
+    ) throws SQLException {
+        this.record("setCharacterStream", reader);
+    }
+
+    @Override
+    public void setNCharacterStream(
+        final int parameterIndex,
+        final Reader value
+    ) throws SQLException {
+        this.record("setNCharacterStream", value);
+    }
+
+    @Override
+    public void setClob(
+        final int parameterIndex,
+        final Reader reader
+    ) throws SQLException {
+        this.record("setClob", reader);
+    }
+
+    @Override
+    public void setBlob(
+        final int parameterIndex,
+        final InputStream inputStream
+    ) throws SQLException {
+        this.record("setBlob", inputStream);
+    }
+
+    @Override
+    public void setNClob(
+        final int parameterIndex,
+        final Reader reader
+    ) throws SQLException {
+        this.record("setNClob", reader);
+    }
+
+    @Override
+    public ResultSet executeQuery(final String sql) throws SQLException {
+        throw new UnsupportedOperationException(
+            "#executeQuery(String): only records the parameters"
+        );
+    }
+
+    @Override
+    public int executeUpdate(final String sql) throws SQLException {
+        throw new UnsupportedOperationException(
+            "#executeUpdate(String): only records the parameters"
+        );
+    }
+
+    @Override
+    public void close() throws SQLException {
+        throw new UnsupportedOperationException(
+            "#close(): only records the parameters"
+        );
+    }
+
+    @Override
+    public int getMaxFieldSize() throws SQLException {
+        throw new UnsupportedOperationException(
+            "#getMaxFieldSize(): only records the parameters"
+        );
+    }
+
+    @Override
+    public void setMaxFieldSize(final int max) throws SQLException {
+        throw new UnsupportedOperationException(
+            "#setMaxFieldSize(int): only records the parameters"
+        );
+    }
+
+    @Override
+    public int getMaxRows() throws SQLException {
+        throw new UnsupportedOperationException(
+            "#getMaxRows(): only records the parameters"
+        );
+    }
+
+    @Override
+    public void setMaxRows(final int max) throws SQLException {
+        throw new UnsupportedOperationException(
+            "#setMaxRows(int): only records the parameters"
+        );
+    }
+
+    @Override
+    public void setEscapeProcessing(final boolean enable) throws SQLException {
+        throw new UnsupportedOperationException(
+            "#setEscapeProcessing(boolean): only records the parameters"
+        );
+    }
+
+    @Override
+    public int getQueryTimeout() throws SQLException {
+        throw new UnsupportedOperationException(
+            "#getQueryTimeout(): only records the parameters"
+        );
+    }
+
+    @Override
+    public void setQueryTimeout(final int seconds) throws SQLException {
+        throw new UnsupportedOperationException(
+            "#setQueryTimeout(int): only records the parameters"
+        );
+    }
+
+    @Override
+    public void cancel() throws SQLException {
+        throw new UnsupportedOperationException(
+            "#cancel(): only records the parameters"
+        );
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        throw new UnsupportedOperationException(
+            "#getWarnings(): only records the parameters"
+        );
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        throw new UnsupportedOperationException(
+            "#clearWarnings(): only records the parameters"
+        );
+    }
+
+    @Override
+    public void setCursorName(final String name) throws SQLException {
+        throw new UnsupportedOperationException(
+            "#setCursorName(String): only records the parameters"
+        );
+    }
+
+    @Override
+    public boolean execute(final String sql) throws SQLException {
+        throw new UnsupportedOperationException(
+            "#execute(String): only records the parameters"
+        );
+    }
+
+    @Override
+    public ResultSet getResultSet() throws SQLException {
+        throw new UnsupportedOperationException(
+            "#getResultSet(): only records the parameters"
+        );
+    }
+
+    @Override
+    public int getUpdateCount() throws SQLException {
+        throw new UnsupportedOperationException(
+            "#getUpdateCount(): only records the parameters"
+        );
+    }
+
+    @Override
+    public boolean getMoreResults() throws SQLException {
+        throw new UnsupportedOperationException(
+            "#getMoreResults(): only records the parameters"
+        );
+    }
+
+    @Override
+    public void setFetchDirection(final int direction) throws SQLException {
+        throw new UnsupportedOperationException(
+            "#setFetchDirection(int): only records the parameters"
+        );
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        throw new UnsupportedOperationException(
+            "#getFetchDirection(): only records the parameters"
+        );
+    }
+
+    @Override
+    public void setFetchSize(final int rows) throws SQLException {
+        throw new UnsupportedOperationException(
+            "#setFetchSize(int): only records the parameters"
+        );
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        throw new UnsupportedOperationException(
+            "#getFetchSize(): only records the parameters"
+        );
+    }
+
+    @Override
+    public int getResultSetConcurrency() throws SQLException {
+        throw new UnsupportedOperationException(
+            "#getResultSetConcurrency(): only records the parameters"
+        );
+    }
+
+    @Override
+    public int getResultSetType() throws SQLException {
+        throw new UnsupportedOperationException(
+            "#getResultSetType(): only records the parameters"
+        );
+    }
+
+    @Override
+    public void addBatch(final String sql) throws SQLException {
+        throw new UnsupportedOperationException(
+            "#addBatch(String): only records the parameters"
+        );
+    }
+
+    @Override
+    public void clearBatch() throws SQLException {
+        throw new UnsupportedOperationException(
+            "#clearBatch(): only records the parameters"
+        );
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+        throw new UnsupportedOperationException(
+            "#executeBatch(): only records the parameters"
+        );
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        throw new UnsupportedOperationException(
+            "#getConnection(): only records the parameters"
+        );
+    }
+
+    @Override
+    public boolean getMoreResults(final int current) throws SQLException {
+        throw new UnsupportedOperationException(
+            "#getMoreResults(int): only records the parameters"
+        );
+    }
+
+    @Override
+    public ResultSet getGeneratedKeys() throws SQLException {
+        throw new UnsupportedOperationException(
+            "#getGeneratedKeys(): only records the parameters"
+        );
+    }
+
+    @Override
+    public int executeUpdate(
+        final String sql,
+        final int autoGeneratedKeys
+    ) throws SQLException {
+        throw new UnsupportedOperationException(
+            "#executeUpdate(String, int): only records the parameters"
+        );
+    }
+
+    @Override
+    public int executeUpdate(
+        final String sql,
+        final int[] columnIndexes
+    ) throws SQLException {
+        throw new UnsupportedOperationException(
+            "#executeUpdate(String, int[]): only records the parameters"
+        );
+    }
+
+    @Override
+    public int executeUpdate(
+        final String sql,
+        final String[] columnNames
+    ) throws SQLException {
+        throw new UnsupportedOperationException(
+            "#executeUpdate(String, String[]): only records the parameters"
+        );
+    }
+
+    @Override
+    public boolean execute(
+        final String sql,
+        final int autoGeneratedKeys
+    ) throws SQLException {
+        throw new UnsupportedOperationException(
+            "#execute(String, int): only records the parameters"
+        );
+    }
+
+    @Override
+    public boolean execute(
+        final String sql,
+        final int[] columnIndexes
+    ) throws SQLException {
+        throw new UnsupportedOperationException(
+            "#execute(String, int[]): only records the parameters"
+        );
+    }
+
+    @Override
+    public boolean execute(
+        final String sql,
+        final String[] columnNames
+    ) throws SQLException {
+        throw new UnsupportedOperationException(
+            "#execute(String, String[]): only records the parameters"
+        );
+    }
+
+    @Override
+    public int getResultSetHoldability() throws SQLException {
+        throw new UnsupportedOperationException(
+            "#getResultSetHoldability(): only records the parameters"
+        );
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        throw new UnsupportedOperationException(
+            "#isClosed(): only records the parameters"
+        );
+    }
+
+    @Override
+    public void setPoolable(final boolean poolable) throws SQLException {
+        throw new UnsupportedOperationException(
+            "#setPoolable(boolean): only records the parameters"
+        );
+    }
+
+    @Override
+    public boolean isPoolable() throws SQLException {
+        throw new UnsupportedOperationException(
+            "#isPoolable(): only records the parameters"
+        );
+    }
+
+    @Override
+    public void closeOnCompletion() throws SQLException {
+        throw new UnsupportedOperationException(
+            "#closeOnCompletion(): only records the parameters"
+        );
+    }
+
+    @Override
+    public boolean isCloseOnCompletion() throws SQLException {
+        throw new UnsupportedOperationException(
+            "#isCloseOnCompletion(): only records the parameters"
+        );
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        throw new UnsupportedOperationException(
+            "#unwrap(Class): only records the parameters"
+        );
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+        throw new UnsupportedOperationException(
+            "#isWrapperFor(Class): only records the parameters"
+        );
+    }
+
+    /**
+     * Record a parameter.
+     * @param setter Name of the setter
+     * @param value The value
+     * @throws SQLException if fails to record it
+     */
+    private void record(
+        final String setter,
+        final Object value
+    ) throws SQLException {
+        try {
+            this.recorded.exec(setter, value);
+        } catch (final Exception ex) {
+            throw new SQLException(ex);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.prepared;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.cactoos.Scalar;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Recycler.
+ * <p>A bounded, least recently used, pool of idle
+ * {@link PreparedStatement}s of one connection. A statement is checked out
+ * while in use and returned, with its parameters cleared, when closed; the
+ * least recently used statement is really closed when the pool is full.
+ * @since 1.0
+ */
+public final class Recycler {
+    /**
+     * Idle statements, by key, in access order.
+     */
+    private final Map<String, List<PreparedStatement>> idle;
+
+    /**
+     * Max number of idle statements.
+     */
+    private final int capacity;
+
+    /**
+     * Ctor.
+     * @param capacity Max number of idle statements
+     */
+    public Recycler(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException(
+                new UncheckedText(
+                    new FormattedText(
+                        "Invalid capacity %d, it must be greater than zero",
+                        capacity
+                    )
+                ).asString()
+            );
+        }
+        this.idle = new LinkedHashMap<>(16, 0.75f, true);
+        this.capacity = capacity;
+    }
+
+    /**
+     * Check out an idle statement or prepare a new one.
+     * @param key Key of the statement (its SQL and flags)
+     * @param prepare Prepares a new statement
+     * @return A statement that returns here when closed
+     * @throws Exception if fails
+     */
+    public PreparedStatement statement(
+        final String key,
+        final Scalar<PreparedStatement> prepare
+    ) throws Exception {
+        PreparedStatement stmt = this.checkout(key);
+        if (stmt == null) {
+            stmt = prepare.value();
+        }
+        return new Recycled(stmt, this, key);
+    }
+
+    /**
+     * Return a statement to the idle ones, closing the least recently used
+     * if the pool is full.
+     * @param key Key of the statement
+     * @param stmt The statement
+     * @throws SQLException if fails
+     */
+    public void release(
+        final String key,
+        final PreparedStatement stmt
+    ) throws SQLException {
+        if (stmt.isClosed()) {
+            return;
+        }
+        try {
+            stmt.clearParameters();
+            stmt.clearBatch();
+            stmt.clearWarnings();
+            Recycler.unlimited(stmt);
+            stmt.setQueryTimeout(0);
+            stmt.setFetchSize(0);
+            stmt.setFetchDirection(ResultSet.FETCH_FORWARD);
+        } catch (final SQLException ex) {
+            stmt.close();
+            throw ex;
+        }
+        final List<PreparedStatement> evicted = new ArrayList<>(1);
+        synchronized (this.idle) {
+            this.idle.computeIfAbsent(key, k -> new ArrayList<>(1)).add(stmt);
+            int size = this.size();
+            final Iterator<List<PreparedStatement>> eldest =
+                this.idle.values().iterator();
+            while (size > this.capacity) {
+                final List<PreparedStatement> stmts = eldest.next();
+                evicted.addAll(stmts);
+                size -= stmts.size();
+                eldest.remove();
+            }
+        }
+        Recycler.closed(evicted);
+    }
+
+    /**
+     * Close all idle statements.
+     * @throws SQLException if fails
+     */
+    public void close() throws SQLException {
+        final List<PreparedStatement> all = new ArrayList<>(this.capacity);
+        synchronized (this.idle) {
+            this.idle.values().forEach(all::addAll);
+            this.idle.clear();
+        }
+        Recycler.closed(all);
+    }
+
+    /**
+     * Remove the limit of rows of a statement, large or not.
+     * @param stmt The statement
+     * @throws SQLException if fails
+     */
+    private static void unlimited(final PreparedStatement stmt)
+        throws SQLException {
+        try {
+            stmt.setLargeMaxRows(0);
+        } catch (final UnsupportedOperationException ex) {
+            stmt.setMaxRows(0);
+        }
+    }
+
+    /**
+     * Remove an idle statement.
+     * @param key Key of the statement
+     * @return The statement or null if there is no one idle
+     */
+    private PreparedStatement checkout(final String key) {
+        synchronized (this.idle) {
+            final List<PreparedStatement> stmts = this.idle.get(key);
+            PreparedStatement stmt = null;
+            if (stmts != null) {
+                stmt = stmts.remove(stmts.size() - 1);
+                if (stmts.isEmpty()) {
+                    this.idle.remove(key);
+                }
+            }
+            return stmt;
+        }
+    }
+
+    /**
+     * Number of idle statements.
+     * @return The number of idle statements
+     */
+    private int size() {
+        int size = 0;
+        for (final List<PreparedStatement> stmts : this.idle.values()) {
+            size += stmts.size();
+        }
+        return size;
+    }
+
+    /**
+     * Close statements, reporting the first failure.
+     * @param stmts Statements
+     * @throws SQLException if fails
+     */
+    private static void closed(
+        final List<PreparedStatement> stmts
+    ) throws SQLException {
+        SQLException error = null;
+        for (final PreparedStatement stmt : stmts) {
+            try {
+                stmt.close();
+            } catch (final SQLException ex) {
+                if (error == null) {
+                    error = ex;
+                } else {
+                    error.addSuppressed(ex);
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+}
@@ -0,0 +1,471 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.profile;
+
+import com.github.fabriciofx.cactoos.jdbc.Param;
+import com.github.fabriciofx.cactoos.jdbc.Params;
+import com.github.fabriciofx.cactoos.jdbc.Query;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.Source;
+import com.github.fabriciofx.cactoos.jdbc.analysis.Analyses;
+import com.github.fabriciofx.cactoos.jdbc.executor.Bounded;
+import com.github.fabriciofx.cactoos.jdbc.prepared.Recording;
+import com.github.fabriciofx.cactoos.jdbc.query.Explained;
+import com.github.fabriciofx.cactoos.jdbc.query.MetricTag;
+import com.github.fabriciofx.cactoos.jdbc.registry.Histogram;
+import com.github.fabriciofx.cactoos.jdbc.statement.Select;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Profile of the queries.
+ * <p>Tracks the latency of each query, by its normalized SQL, and keeps
+ * samples of the parameters of the executions slower than a threshold. The
+ * first time a query is slower than the threshold, its execution plan can
+ * be captured in background. The {@link #report()} shows the queries that
+ * took more time in total, slowest first.
+ *
+ * <p>A bounded amount of queries is profiled: when a new query exceeds it,
+ * the query that took less time in total is no longer profiled.
+ *
+ * <p>This class is thread-safe.
+ *
+ * @since 1.0
+ * @checkstyle IllegalCatchCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidCatchingGenericException")
+public final class Profile {
+    /**
+     * Amount of queries in the report.
+     */
+    private final int top;
+
+    /**
+     * Latency above which an execution is slow.
+     */
+    private final Duration threshold;
+
+    /**
+     * Analyses, to normalize the queries.
+     */
+    private final Analyses analyses;
+
+    /**
+     * Retrieves the execution plan of a query.
+     */
+    private final Func<Query, String> plans;
+
+    /**
+     * Executor of the plan retrievals.
+     */
+    private final Executor executor;
+
+    /**
+     * Max amount of profiled queries.
+     */
+    private final int max;
+
+    /**
+     * Profiled queries, by normalized SQL.
+     */
+    private final Map<String, Stats> queries;
+
+    /**
+     * Ctor.
+     */
+    public Profile() {
+        this(10, Duration.ofSeconds(1));
+    }
+
+    /**
+     * Ctor.
+     * @param top Amount of queries in the report
+     * @param threshold Latency above which an execution is slow
+     */
+    public Profile(final int top, final Duration threshold) {
+        this(top, threshold, new Analyses(), query -> "", Runnable::run);
+    }
+
+    /**
+     * Ctor.
+     * <p>Captures the execution plan of the slow queries running
+     * {@code EXPLAIN} on a session of the source, in background.
+     * @param top Amount of queries in the report
+     * @param threshold Latency above which an execution is slow
+     * @param source Source where the plans are retrieved
+     */
+    public Profile(
+        final int top,
+        final Duration threshold,
+        final Source source
+    ) {
+        this(
+            top,
+            threshold,
+            new Analyses(),
+            query -> Profile.explained(source, query),
+            new Bounded(1)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param top Amount of queries in the report
+     * @param threshold Latency above which an execution is slow
+     * @param analyses Analyses, to normalize the queries
+     * @param plans Retrieves the execution plan of a query
+     * @param executor Executor of the plan retrievals
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public Profile(
+        final int top,
+        final Duration threshold,
+        final Analyses analyses,
+        final Func<Query, String> plans,
+        final Executor executor
+    ) {
+        // @checkstyle MagicNumber (1 line)
+        this(top, threshold, analyses, plans, executor, 1000);
+    }
+
+    /**
+     * Ctor.
+     * @param top Amount of queries in the report
+     * @param threshold Latency above which an execution is slow
+     * @param analyses Analyses, to normalize the queries
+     * @param plans Retrieves the execution plan of a query
+     * @param executor Executor of the plan retrievals
+     * @param max Max amount of profiled queries
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public Profile(
+        final int top,
+        final Duration threshold,
+        final Analyses analyses,
+        final Func<Query, String> plans,
+        final Executor executor,
+        final int max
+    ) {
+        this.top = top;
+        this.threshold = threshold;
+        this.analyses = analyses;
+        this.plans = plans;
+        this.executor = executor;
+        this.max = max;
+        this.queries = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * The normalized SQL of a query, which identifies it in the profile.
+     * <p>A SQL that can not be parsed, e.g. a DDL, is only trimmed and has
+     * its literals replaced.
+     * @param query The query
+     * @return The normalized SQL
+     * @throws Exception if fails
+     */
+    public String fingerprint(final Query query) throws Exception {
+        return new MetricTag(query, this.analyses).asString();
+    }
+
+    /**
+     * Record an execution of a query.
+     * @param fingerprint Normalized SQL of the query
+     * @param query The query
+     * @param nanos Latency of the execution, in nanoseconds
+     */
+    public void record(
+        final String fingerprint,
+        final Query query,
+        final long nanos
+    ) {
+        final Stats stats = this.queries.computeIfAbsent(
+            fingerprint,
+            key -> new Stats(3)
+        );
+        if (this.queries.size() > this.max) {
+            this.evict(fingerprint);
+        }
+        stats.latencies().record(nanos);
+        if (nanos >= this.threshold.toNanos()) {
+            stats.sample(Profile.sample(query));
+            if (stats.unexplained()) {
+                this.executor.execute(
+                    () -> stats.explain(() -> this.plans.apply(query))
+                );
+            }
+        }
+    }
+
+    /**
+     * Report of the queries that took more time in total.
+     * @return The report
+     */
+    public String report() {
+        final List<Map.Entry<String, Stats>> entries = new ArrayList<>(
+            this.queries.entrySet()
+        );
+        entries.sort(
+            Comparator.comparingLong(
+                (Map.Entry<String, Stats> entry) ->
+                    entry.getValue().latencies().sum()
+            ).reversed()
+        );
+        final StringBuilder report = new StringBuilder(
+            new UncheckedText(
+                new FormattedText(
+                    "Slowest %d of %d queries, by total time (us)\n",
+                    Math.min(this.top, entries.size()),
+                    entries.size()
+                )
+            ).asString()
+        );
+        for (int idx = 0; idx < Math.min(this.top, entries.size()); ++idx) {
+            report.append(
+                entries.get(idx).getValue().report(
+                    idx + 1,
+                    entries.get(idx).getKey()
+                )
+            );
+        }
+        return report.toString();
+    }
+
+    /**
+     * Stop profiling the query that took less time in total, but a new
+     * one, if there are too many of them.
+     * @param kept Normalized SQL of the new query
+     */
+    private void evict(final String kept) {
+        synchronized (this.queries) {
+            if (this.queries.size() > this.max) {
+                this.queries.entrySet().stream()
+                    .filter(entry -> !entry.getKey().equals(kept))
+                    .min(
+                        Comparator.comparingLong(
+                            (Map.Entry<String, Stats> entry) ->
+                                entry.getValue().latencies().sum()
+                        )
+                    )
+                    .ifPresent(entry -> this.queries.remove(entry.getKey()));
+            }
+        }
+    }
+
+    /**
+     * A sample of the parameters of a query.
+     * @param query The query
+     * @return The parameters, as name and value
+     */
+    private static String sample(final Query query) {
+        final List<String> values = new ArrayList<>(1);
+        final AtomicReference<Object> bound = new AtomicReference<>();
+        final PreparedStatement recorder = new Recording(
+            (setter, value) -> bound.set(value)
+        );
+        for (final Params params : query.params()) {
+            for (final Param param : params) {
+                bound.set(null);
+                try {
+                    param.prepare(recorder, 1);
+                } catch (final Exception ex) {
+                    bound.set("?");
+                }
+                values.add(
+                    String.join("=", param.name(), String.valueOf(bound.get()))
+                );
+            }
+        }
+        return String.join(", ", values);
+    }
+
+    /**
+     * The execution plan of a query.
+     * @param source Source where the plan is retrieved
+     * @param query The query
+     * @return The execution plan, one row per line
+     * @throws Exception if fails
+     */
+    private static String explained(
+        final Source source,
+        final Query query
+    ) throws Exception {
+        final List<String> lines = new ArrayList<>(1);
+        try (
+            Session session = source.session();
+            ResultSet rset = new Select(session, new Explained(query))
+                .execute()
+        ) {
+            final int columns = rset.getMetaData().getColumnCount();
+            while (rset.next()) {
+                final List<String> cells = new ArrayList<>(columns);
+                for (int idx = 1; idx <= columns; ++idx) {
+                    cells.add(rset.getString(idx));
+                }
+                lines.add(String.join(" | ", cells));
+            }
+        }
+        return String.join("\n", lines);
+    }
+
+    /**
+     * Statistics of one query.
+     *
+     * @since 1.0
+     */
+    private static final class Stats {
+        /**
+         * Max amount of parameter samples.
+         */
+        private final int max;
+
+        /**
+         * Latencies, in nanoseconds.
+         */
+        private final Histogram histogram;
+
+        /**
+         * Parameters of the last slow executions.
+         */
+        private final Deque<String> samples;
+
+        /**
+         * Whether the plan was requested.
+         */
+        private final AtomicBoolean requested;
+
+        /**
+         * Execution plan, once captured.
+         */
+        private final AtomicReference<String> plan;
+
+        /**
+         * Ctor.
+         * @param max Max amount of parameter samples
+         */
+        Stats(final int max) {
+            this.max = max;
+            this.histogram = new Histogram();
+            this.samples = new ArrayDeque<>(max);
+            this.requested = new AtomicBoolean();
+            this.plan = new AtomicReference<>("");
+        }
+
+        /**
+         * Latencies.
+         * @return The latencies, in nanoseconds
+         */
+        Histogram latencies() {
+            return this.histogram;
+        }
+
+        /**
+         * Keep a sample of parameters, forgetting the oldest.
+         * @param sample The parameters
+         */
+        void sample(final String sample) {
+            synchronized (this.samples) {
+                if (this.samples.size() == this.max) {
+                    this.samples.removeFirst();
+                }
+                this.samples.addLast(sample);
+            }
+        }
+
+        /**
+         * Check, only once, if the plan must be captured.
+         * @return True the first time
+         */
+        boolean unexplained() {
+            return this.requested.compareAndSet(false, true);
+        }
+
+        /**
+         * Capture the execution plan.
+         * @param plans Retrieves the plan
+         */
+        void explain(final Scalar<String> plans) {
+            try {
+                this.plan.set(plans.value());
+            } catch (final Exception ex) {
+                Logger.getLogger(Profile.class.getName()).log(
+                    Level.WARNING,
+                    "Failed to capture an execution plan",
+                    ex
+                );
+            }
+        }
+
+        /**
+         * Report of this query.
+         * @param rank Position in the report
+         * @param sql Normalized SQL
+         * @return The report
+         */
+        String report(final int rank, final String sql) {
+            final String sampled;
+            synchronized (this.samples) {
+                sampled = String.join("], [", this.samples);
+            }
+            final StringBuilder report = new StringBuilder(
+                new UncheckedText(
+                    new FormattedText(
+                        """
+                        #%d %s
+                            count: %d, total: %d, mean: %d, p50 <= %d, \
+                        p95 <= %d, p99 <= %d, max: %d
+                        """,
+                        rank,
+                        sql,
+                        this.histogram.count(),
+                        Stats.micros(this.histogram.sum()),
+                        Stats.micros(
+                            this.histogram.sum()
+                                / Math.max(this.histogram.count(), 1L)
+                        ),
+                        Stats.micros(this.histogram.percentile(0.5)),
+                        Stats.micros(this.histogram.percentile(0.95)),
+                        Stats.micros(this.histogram.percentile(0.99)),
+                        Stats.micros(this.histogram.max())
+                    )
+                ).asString()
+            );
+            if (!sampled.isEmpty()) {
+                report.append("    samples: [").append(sampled).append("]\n");
+            }
+            if (!this.plan.get().isEmpty()) {
+                report.append("    plan: ")
+                    .append(this.plan.get().replace("\n", "\n          "))
+                    .append('\n');
+            }
+            return report.toString();
+        }
+
+        /**
+         * Nanoseconds as microseconds.
+         * @param nanos Nanoseconds
+         * @return Microseconds
+         */
+        private static long micros(final long nanos) {
+            return nanos / 1000L;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.query;
+
+import com.github.fabriciofx.cactoos.jdbc.Params;
+import com.github.fabriciofx.cactoos.jdbc.Query;
+import com.github.fabriciofx.cactoos.jdbc.text.Pretty;
+import java.util.List;
+import org.apache.calcite.avatica.util.Quoting;
+import org.apache.calcite.sql.SqlIdentifier;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.SqlNodeList;
+import org.apache.calcite.sql.SqlOrderBy;
+import org.apache.calcite.sql.SqlSelect;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.parser.SqlParser;
+import org.apache.calcite.sql.parser.SqlParserPos;
+import org.cactoos.Text;
+import org.cactoos.text.Sticky;
+
+/**
+ * Counted.
+ * <p>
+ * A decorator for {@link Query} that counts the rows a SELECT retrieves,
+ * ignoring its ORDER BY, OFFSET and FETCH.
+ * @since 1.0
+ */
+public final class Counted implements Query {
+    /**
+     * The query.
+     */
+    private final Query origin;
+
+    /**
+     * Counted SQL code.
+     */
+    private final Text code;
+
+    /**
+     * Ctor.
+     *
+     * @param query A select query
+     */
+    public Counted(final Query query) {
+        this.origin = query;
+        this.code = new Sticky(
+            () -> {
+                final SqlParser.Config config = SqlParser.config()
+                    .withCaseSensitive(false)
+                    .withQuoting(Quoting.BACK_TICK);
+                SqlNode stmt = SqlParser
+                    .create(query.sql(), config)
+                    .parseQuery();
+                if (stmt instanceof SqlOrderBy order) {
+                    stmt = order.query;
+                }
+                if (!(stmt instanceof SqlSelect)) {
+                    throw new IllegalArgumentException(
+                        "The query MUST be a SELECT"
+                    );
+                }
+                final SqlParserPos pos = SqlParserPos.ZERO;
+                return new Pretty(
+                    new SqlSelect(
+                        pos,
+                        null,
+                        new SqlNodeList(
+                            List.of(
+                                SqlStdOperatorTable.COUNT.createCall(
+                                    pos,
+                                    SqlIdentifier.star(pos)
+                                )
+                            ),
+                            pos
+                        ),
+                        SqlStdOperatorTable.AS.createCall(
+                            pos,
+                            stmt,
+                            new SqlIdentifier("COUNTED", pos)
+                        ),
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null
+                    )
+                ).asString();
+            }
+        );
+    }
+
+    @Override
+    public Iterable<Params> params() {
+        return this.origin.params();
+    }
+
+    @Override
+    public String sql() throws Exception {
+        return this.code.asString();
+    }
+
+    @Override
+    public byte[] asBytes() throws Exception {
+        return new QueryOf(this.sql()).asBytes();
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.query;
+
+import com.github.fabriciofx.cactoos.jdbc.Params;
+import com.github.fabriciofx.cactoos.jdbc.Query;
+import com.github.fabriciofx.cactoos.jdbc.bytes.QueryAsBytes;
+
+/**
+ * Explained.
+ * <p>A {@link Query} that retrieves the execution plan of another, with the
+ * same parameters.
+ *
+ * @since 1.0
+ */
+public final class Explained implements Query {
+    /**
+     * The query.
+     */
+    private final Query origin;
+
+    /**
+     * Ctor.
+     *
+     * @param query A {@link Query}
+     */
+    public Explained(final Query query) {
+        this.origin = query;
+    }
+
+    @Override
+    public Iterable<Params> params() {
+        return this.origin.params();
+    }
+
+    @Override
+    public String sql() throws Exception {
+        return String.join(" ", "EXPLAIN", this.origin.sql());
+    }
+
+    @Override
+    public byte[] asBytes() throws Exception {
+        return new QueryAsBytes(this).asBytes();
+    }
+}
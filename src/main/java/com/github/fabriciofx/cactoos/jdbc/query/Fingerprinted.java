@@ -0,0 +1,84 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.query;
+
+import com.github.fabriciofx.cactoos.jdbc.Params;
+import com.github.fabriciofx.cactoos.jdbc.Query;
+import com.github.fabriciofx.cactoos.jdbc.bytes.Fingerprint;
+import java.io.ByteArrayOutputStream;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Sticky;
+
+/**
+ * Fingerprinted.
+ * <p>
+ * A decorator for {@link Query} whose bytes are its {@link Fingerprint},
+ * computed once, instead of its SQL code and parameters. It makes a small
+ * and cheap cache key. When no collision can be tolerated, the fingerprint
+ * can be followed by the exact bytes of the query; the key is then as long
+ * as before, but two different keys still differ in their first bytes.
+ * @since 1.0
+ */
+public final class Fingerprinted implements Query {
+    /**
+     * The query.
+     */
+    private final Query origin;
+
+    /**
+     * The bytes of the query.
+     */
+    private final Scalar<byte[]> bytes;
+
+    /**
+     * Ctor.
+     *
+     * @param query The query
+     */
+    public Fingerprinted(final Query query) {
+        this(query, false);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param query The query
+     * @param exact Whether the exact bytes of the query follow the fingerprint
+     */
+    public Fingerprinted(final Query query, final boolean exact) {
+        this.origin = query;
+        this.bytes = new Sticky<>(
+            () -> {
+                final byte[] fingerprint = new Fingerprint(query).asBytes();
+                final byte[] result;
+                if (exact) {
+                    final ByteArrayOutputStream stream =
+                        new ByteArrayOutputStream();
+                    stream.write(fingerprint);
+                    stream.write(query.asBytes());
+                    result = stream.toByteArray();
+                } else {
+                    result = fingerprint;
+                }
+                return result;
+            }
+        );
+    }
+
+    @Override
+    public Iterable<Params> params() {
+        return this.origin.params();
+    }
+
+    @Override
+    public String sql() throws Exception {
+        return this.origin.sql();
+    }
+
+    @Override
+    public byte[] asBytes() throws Exception {
+        return this.bytes.value();
+    }
+}
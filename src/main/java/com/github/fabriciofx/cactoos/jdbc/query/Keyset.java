@@ -0,0 +1,192 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.query;
+
+import com.github.fabriciofx.cactoos.jdbc.Param;
+import com.github.fabriciofx.cactoos.jdbc.Params;
+import com.github.fabriciofx.cactoos.jdbc.Query;
+import com.github.fabriciofx.cactoos.jdbc.params.ParamsOf;
+import com.github.fabriciofx.cactoos.jdbc.query.paginated.KeysetSelect;
+import com.github.fabriciofx.cactoos.jdbc.text.Pretty;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.calcite.avatica.util.Quoting;
+import org.apache.calcite.sql.SqlBasicCall;
+import org.apache.calcite.sql.SqlIdentifier;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.SqlOrderBy;
+import org.apache.calcite.sql.parser.SqlParser;
+import org.cactoos.Scalar;
+import org.cactoos.Text;
+import org.cactoos.list.ListOf;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Keyset.
+ * <p>
+ * A decorator for {@link Query} that retrieves a page of a query seeking,
+ * by its ORDER BY columns, the rows after the last row of the previous page,
+ * instead of numbering and skipping all previous rows. The parameters of the
+ * query come first, followed by the keys of the last row, in the ORDER BY
+ * order; the query must not have parameters after its WHERE clause. The
+ * ORDER BY must end with a unique key, or the rows with the same keys as the
+ * last row are skipped.
+ * @since 1.0
+ */
+public final class Keyset implements Query {
+    /**
+     * The query.
+     */
+    private final Query origin;
+
+    /**
+     * Keys of the last row of the previous page.
+     */
+    private final List<Param> last;
+
+    /**
+     * Parsed query.
+     */
+    private final Unchecked<SqlOrderBy> order;
+
+    /**
+     * Keyset SQL code.
+     */
+    private final Text code;
+
+    /**
+     * Ctor.
+     *
+     * @param query A select query, with ORDER BY, that retrieves all elements
+     * @param size The amount of elements in the first page
+     */
+    public Keyset(final Query query, final int size) {
+        this(query, size, new ListOf<>());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param query A select query, with ORDER BY, that retrieves all elements
+     * @param size The amount of elements in this page
+     * @param last Keys of the last row of the previous page
+     */
+    public Keyset(final Query query, final int size, final Param... last) {
+        this(query, size, new ListOf<>(last));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param query A select query, with ORDER BY, that retrieves all elements
+     * @param size The amount of elements in this page
+     * @param last Keys of the last row of the previous page
+     */
+    public Keyset(final Query query, final int size, final List<Param> last) {
+        this(query, size, last, new Sticky<>(() -> Keyset.parsed(query)));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param query A select query, with ORDER BY, that retrieves all elements
+     * @param size The amount of elements in this page
+     * @param last Keys of the last row of the previous page
+     * @param order Parsed query
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private Keyset(
+        final Query query,
+        final int size,
+        final List<Param> last,
+        final Scalar<SqlOrderBy> order
+    ) {
+        this.origin = query;
+        this.last = last;
+        this.order = new Unchecked<>(order);
+        this.code = new org.cactoos.text.Sticky(
+            () -> new Pretty(
+                new KeysetSelect(order.value(), size, !last.isEmpty())
+            ).asString()
+        );
+    }
+
+    /**
+     * Names of the ORDER BY columns, which are the keys of a row.
+     * @return The column names
+     */
+    public List<String> keys() {
+        final List<String> names = new ArrayList<>(
+            this.order.value().orderList.size()
+        );
+        for (final SqlNode item : this.order.value().orderList) {
+            SqlNode key = item;
+            while (key instanceof SqlBasicCall call) {
+                key = call.operand(0);
+            }
+            if (!(key instanceof SqlIdentifier identifier)) {
+                throw new IllegalArgumentException(
+                    "The ORDER BY MUST have only columns"
+                );
+            }
+            names.add(identifier.names.get(identifier.names.size() - 1));
+        }
+        return names;
+    }
+
+    @Override
+    public Iterable<Params> params() {
+        final List<Params> all = new ArrayList<>(1);
+        for (final Params params : this.origin.params()) {
+            final List<Param> joined = new ArrayList<>(1);
+            params.forEach(joined::add);
+            joined.addAll(this.last);
+            all.add(new ParamsOf(joined));
+        }
+        if (all.isEmpty() && !this.last.isEmpty()) {
+            all.add(new ParamsOf(this.last));
+        }
+        return all;
+    }
+
+    @Override
+    public String sql() throws Exception {
+        return this.code.asString();
+    }
+
+    @Override
+    public byte[] asBytes() throws Exception {
+        return new QueryOf(this.sql()).asBytes();
+    }
+
+    /**
+     * Parse a query, that must be a SELECT with ORDER BY.
+     * @param query The query
+     * @return The parsed query
+     * @throws Exception if fails
+     */
+    private static SqlOrderBy parsed(final Query query) throws Exception {
+        final SqlParser.Config config = SqlParser.config()
+            .withCaseSensitive(false)
+            .withQuoting(Quoting.BACK_TICK);
+        final SqlNode stmt = SqlParser
+            .create(query.sql(), config)
+            .parseQuery();
+        if (!(stmt instanceof SqlOrderBy order)
+            || order.query.getKind() != SqlKind.SELECT) {
+            throw new IllegalArgumentException(
+                "The query MUST be a SELECT with ORDER BY"
+            );
+        }
+        if (order.fetch != null || order.offset != null) {
+            throw new IllegalArgumentException(
+                "The query MUST NOT have OFFSET nor FETCH"
+            );
+        }
+        return order;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.query;
+
+import com.github.fabriciofx.cactoos.jdbc.Query;
+import com.github.fabriciofx.cactoos.jdbc.analysis.Analyses;
+import org.cactoos.Text;
+import org.cactoos.text.Replaced;
+import org.cactoos.text.TextOf;
+import org.cactoos.text.Trimmed;
+
+/**
+ * MetricTag.
+ * <p>The SQL that identifies a query in metrics and profiles: its
+ * {@link Normalized} SQL, parsed once by the shared {@link Analyses}, so
+ * queries that differ only by values or formatting have the same tag.
+ * A SQL that can not be parsed, e.g. a DDL, is only trimmed and has its
+ * literals replaced.
+ *
+ * @since 1.0
+ * @checkstyle IllegalCatchCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidCatchingGenericException")
+public final class MetricTag implements Text {
+    /**
+     * The query.
+     */
+    private final Query query;
+
+    /**
+     * Analyses of the SQL code.
+     */
+    private final Analyses analyses;
+
+    /**
+     * Ctor.
+     *
+     * @param query The query
+     */
+    public MetricTag(final Query query) {
+        this(query, new Analyses());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param query The query
+     * @param analyses Analyses of the SQL code, shared among queries
+     */
+    public MetricTag(final Query query, final Analyses analyses) {
+        this.query = query;
+        this.analyses = analyses;
+    }
+
+    @Override
+    public String asString() throws Exception {
+        String sql;
+        try {
+            sql = new Normalized(this.query, this.analyses).sql();
+        } catch (final Exception ex) {
+            sql = MetricTag.replaced(this.query.sql());
+        }
+        return sql;
+    }
+
+    /**
+     * A SQL with its literals replaced by placeholders and its blanks
+     * collapsed.
+     * @param sql The SQL
+     * @return The SQL replaced
+     * @throws Exception if fails
+     */
+    private static String replaced(final String sql) throws Exception {
+        return new Replaced(
+            new Replaced(
+                new Replaced(
+                    new Trimmed(new Replaced(new TextOf(sql), "\\s+", " ")),
+                    "'(?:[^']|'')*'",
+                    "?"
+                ),
+                "(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])",
+                "?"
+            ),
+            "\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)",
+            "(?)"
+        ).asString();
+    }
+}
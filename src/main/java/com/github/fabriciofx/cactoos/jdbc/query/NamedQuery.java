@@ -7,12 +7,11 @@ package com.github.fabriciofx.cactoos.jdbc.query;
 import com.github.fabriciofx.cactoos.jdbc.Param;
 import com.github.fabriciofx.cactoos.jdbc.Params;
 import com.github.fabriciofx.cactoos.jdbc.Query;
+import com.github.fabriciofx.cactoos.jdbc.Template;
 import com.github.fabriciofx.cactoos.jdbc.bytes.QueryAsBytes;
 import com.github.fabriciofx.cactoos.jdbc.params.ParamsOf;
-import java.util.ArrayList;
+import com.github.fabriciofx.cactoos.jdbc.template.Templates;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import org.cactoos.Text;
 import org.cactoos.list.ListOf;
 import org.cactoos.text.FormattedText;
@@ -23,9 +22,18 @@ import org.cactoos.text.TextOf;
  * NamedQuery. A {@link Query} that transform a named query, changing named
  * parameters for question marks.
  *
+ * <p>The named SQL text is compiled once into a {@link Template}, kept in a
+ * bounded cache shared by the whole process, so building the same named
+ * query again only checks its parameters.
+ *
  * @since 0.9.0
  */
 public final class NamedQuery implements Query {
+    /**
+     * Templates shared by all named queries of the process.
+     */
+    private static final Templates TEMPLATES = new Templates();
+
     /**
      * SQL code.
      */
@@ -101,29 +109,31 @@ public final class NamedQuery implements Query {
      * @param params A list of SQL query parameters
      */
     public NamedQuery(final Text sql, final Iterable<Params> params) {
+        this(NamedQuery.TEMPLATES, sql, params);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param templates Cache of compiled templates
+     * @param sql The SQL query
+     * @param params A list of SQL query parameters
+     */
+    public NamedQuery(
+        final Templates templates,
+        final Text sql,
+        final Iterable<Params> params
+    ) {
         this.code = new Sticky(
             () -> {
-                final List<String> names = new ArrayList<>();
-                final Pattern find = Pattern.compile(
-                    ":(\\p{Alpha}[\\p{Alnum}_]*)"
-                );
-                final Matcher matcher = find.matcher(sql.asString());
-                while (matcher.find()) {
-                    names.add(matcher.group().substring(1));
+                final Template template = templates.template(sql.asString());
+                if (!template.names().isEmpty()) {
+                    NamedQuery.validate(
+                        template.names(),
+                        params.iterator().next()
+                    );
                 }
-                for (int idx = 0; idx < names.size(); ++idx) {
-                    if (
-                        !params.iterator().next().contains(names.get(idx), idx)
-                    ) {
-                        throw new IllegalArgumentException(
-                            new FormattedText(
-                                "SQL parameter #%d is wrong or out of order",
-                                idx + 1
-                            ).asString()
-                        );
-                    }
-                }
-                return sql.asString().replaceAll(find.pattern(), "?");
+                return template.sql();
             }
         );
         this.parameters = params;
@@ -143,4 +153,26 @@ public final class NamedQuery implements Query {
     public byte[] asBytes() throws Exception {
         return new QueryAsBytes(this).asBytes();
     }
+
+    /**
+     * Check if the parameters have the names of the template, in order.
+     * @param names The parameter names of the template
+     * @param params The parameters
+     * @throws Exception if a parameter is wrong or out of order
+     */
+    private static void validate(
+        final List<String> names,
+        final Params params
+    ) throws Exception {
+        for (int idx = 0; idx < names.size(); ++idx) {
+            if (!params.contains(names.get(idx), idx)) {
+                throw new IllegalArgumentException(
+                    new FormattedText(
+                        "SQL parameter #%d is wrong or out of order",
+                        idx + 1
+                    ).asString()
+                );
+            }
+        }
+    }
 }
@@ -6,6 +6,7 @@ package com.github.fabriciofx.cactoos.jdbc.query;
 
 import com.github.fabriciofx.cactoos.jdbc.Params;
 import com.github.fabriciofx.cactoos.jdbc.Query;
+import com.github.fabriciofx.cactoos.jdbc.analysis.Analyses;
 import com.github.fabriciofx.cactoos.jdbc.bytes.QueryAsBytes;
 import com.github.fabriciofx.cactoos.jdbc.query.normalized.Shuttle;
 import com.github.fabriciofx.cactoos.jdbc.text.Pretty;
@@ -37,8 +38,8 @@ public final class Normalized implements Query {
      * @param query A {@link Query}
      */
     public Normalized(final Query query) {
-        this.origin = query;
-        this.code = new Sticky(
+        this(
+            query,
             () -> {
                 final SqlParser.Config config = SqlParser.config()
                     .withCaseSensitive(false)
@@ -53,6 +54,29 @@ public final class Normalized implements Query {
         );
     }
 
+    /**
+     * Ctor.
+     * <p>The normalized SQL code is retrieved from the analyses, so a SQL
+     * text is parsed only once.
+     *
+     * @param query A {@link Query}
+     * @param analyses The analyses
+     */
+    public Normalized(final Query query, final Analyses analyses) {
+        this(query, () -> analyses.analysis(query.sql()).normalized());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param query A {@link Query}
+     * @param code Normalized SQL code
+     */
+    private Normalized(final Query query, final Text code) {
+        this.origin = query;
+        this.code = new Sticky(code);
+    }
+
     @Override
     public Iterable<Params> params() {
         return this.origin.params();
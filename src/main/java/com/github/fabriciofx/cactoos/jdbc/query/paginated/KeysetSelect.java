@@ -0,0 +1,159 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.query.paginated;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.calcite.sql.SqlBasicCall;
+import org.apache.calcite.sql.SqlDynamicParam;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.SqlLiteral;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.SqlNodeList;
+import org.apache.calcite.sql.SqlOrderBy;
+import org.apache.calcite.sql.SqlSelect;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.parser.SqlParserPos;
+import org.cactoos.Scalar;
+
+/**
+ * KeysetSelect.
+ * <p>Seeks the rows after the last row of the previous page, comparing the
+ * ORDER BY columns to parameters, e.g.
+ * {@code WHERE (a, b) > (?, ?) ORDER BY a, b FETCH NEXT n ROWS ONLY}. All
+ * ORDER BY columns must be in the same direction.
+ *
+ * @since 1.0
+ */
+public final class KeysetSelect implements Scalar<SqlNode> {
+    /**
+     * Select with its order.
+     */
+    private final SqlOrderBy order;
+
+    /**
+     * Rows per page.
+     */
+    private final int size;
+
+    /**
+     * Whether it seeks after a previous page.
+     */
+    private final boolean seek;
+
+    /**
+     * Ctor.
+     *
+     * @param order A SqlOrderBy
+     * @param size Rows per page
+     * @param seek Whether it seeks after a previous page
+     */
+    public KeysetSelect(
+        final SqlOrderBy order,
+        final int size,
+        final boolean seek
+    ) {
+        this.order = order;
+        this.size = size;
+        this.seek = seek;
+    }
+
+    @Override
+    public SqlNode value() throws Exception {
+        final SqlSelect select = (SqlSelect) this.order.query;
+        final SqlParserPos pos = select.getParserPosition();
+        final List<SqlNode> keys = new ArrayList<>(this.order.orderList.size());
+        final List<SqlNode> params = new ArrayList<>(keys.size());
+        final List<Boolean> descending = new ArrayList<>(keys.size());
+        for (final SqlNode item : this.order.orderList) {
+            SqlNode key = item;
+            boolean desc = false;
+            while (key.getKind() == SqlKind.DESCENDING
+                || key.getKind() == SqlKind.NULLS_FIRST
+                || key.getKind() == SqlKind.NULLS_LAST) {
+                desc = desc || key.getKind() == SqlKind.DESCENDING;
+                key = ((SqlBasicCall) key).operand(0);
+            }
+            keys.add(key);
+            params.add(new SqlDynamicParam(params.size(), pos));
+            descending.add(desc);
+        }
+        if (descending.contains(true) && descending.contains(false)) {
+            throw new IllegalArgumentException(
+                "All ORDER BY columns MUST be in the same direction"
+            );
+        }
+        SqlNode where = select.getWhere();
+        if (this.seek) {
+            final SqlNode after = KeysetSelect.after(
+                pos,
+                keys,
+                params,
+                descending.contains(true)
+            );
+            if (where == null) {
+                where = after;
+            } else {
+                where = SqlStdOperatorTable.AND.createCall(pos, where, after);
+            }
+        }
+        return new SqlSelect(
+            pos,
+            (SqlNodeList) select.getOperandList().get(0),
+            select.getSelectList(),
+            select.getFrom(),
+            where,
+            select.getGroup(),
+            select.getHaving(),
+            select.getWindowList(),
+            select.getQualify(),
+            this.order.orderList,
+            null,
+            SqlLiteral.createExactNumeric(String.valueOf(this.size), pos),
+            select.getHints()
+        );
+    }
+
+    /**
+     * Predicate of the rows after the keys.
+     * @param pos Parser position
+     * @param keys ORDER BY columns
+     * @param params Parameters with the keys of the last row
+     * @param descending Whether the order is descending
+     * @return The predicate
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private static SqlNode after(
+        final SqlParserPos pos,
+        final List<SqlNode> keys,
+        final List<SqlNode> params,
+        final boolean descending
+    ) {
+        final SqlNode left;
+        final SqlNode right;
+        if (keys.size() == 1) {
+            left = keys.get(0);
+            right = params.get(0);
+        } else {
+            left = SqlStdOperatorTable.ROW.createCall(pos, keys);
+            right = SqlStdOperatorTable.ROW.createCall(pos, params);
+        }
+        final SqlNode predicate;
+        if (descending) {
+            predicate = SqlStdOperatorTable.LESS_THAN.createCall(
+                pos,
+                left,
+                right
+            );
+        } else {
+            predicate = SqlStdOperatorTable.GREATER_THAN.createCall(
+                pos,
+                left,
+                right
+            );
+        }
+        return predicate;
+    }
+}
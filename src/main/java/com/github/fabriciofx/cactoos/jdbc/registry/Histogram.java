@@ -0,0 +1,137 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.registry;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Histogram.
+ * <p>A lock free distribution of non negative values, in power of two
+ * buckets, so a percentile is known up to a factor of two.
+ * @since 1.0
+ */
+public final class Histogram {
+    /**
+     * Amount of values per bucket; bucket {@code n} holds values below
+     * {@code 2^n}.
+     */
+    private final LongAdder[] buckets;
+
+    /**
+     * Sum of all values.
+     */
+    private final LongAdder total;
+
+    /**
+     * Greatest value.
+     */
+    private final LongAccumulator greatest;
+
+    /**
+     * Ctor.
+     */
+    public Histogram() {
+        this.buckets = new LongAdder[Long.SIZE];
+        for (int idx = 0; idx < this.buckets.length; ++idx) {
+            this.buckets[idx] = new LongAdder();
+        }
+        this.total = new LongAdder();
+        this.greatest = new LongAccumulator(Math::max, 0L);
+    }
+
+    /**
+     * Record a value; negative values are recorded as zero.
+     * @param value The value
+     */
+    public void record(final long value) {
+        final long positive = Math.max(value, 0L);
+        this.buckets[Long.SIZE - Long.numberOfLeadingZeros(positive)]
+            .increment();
+        this.total.add(positive);
+        this.greatest.accumulate(positive);
+    }
+
+    /**
+     * Amount of recorded values.
+     * @return The amount of values
+     */
+    public long count() {
+        long count = 0L;
+        for (final LongAdder bucket : this.buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Sum of recorded values.
+     * @return The sum
+     */
+    public long sum() {
+        return this.total.sum();
+    }
+
+    /**
+     * Greatest recorded value.
+     * @return The greatest value or zero if nothing was recorded
+     */
+    public long max() {
+        return this.greatest.get();
+    }
+
+    /**
+     * An upper bound of the value below which a fraction of the recorded
+     * values lies.
+     * @param fraction The fraction, between 0 and 1, e.g. 0.99
+     * @return The upper bound or zero if nothing was recorded
+     */
+    public long percentile(final double fraction) {
+        if (fraction < 0 || fraction > 1) {
+            throw new IllegalArgumentException(
+                new UncheckedText(
+                    new FormattedText(
+                        "Invalid fraction %f, it must be between 0 and 1",
+                        fraction
+                    )
+                ).asString()
+            );
+        }
+        final long[] counts = new long[this.buckets.length];
+        long amount = 0L;
+        for (int idx = 0; idx < counts.length; ++idx) {
+            counts[idx] = this.buckets[idx].sum();
+            amount += counts[idx];
+        }
+        final long rank = (long) Math.ceil(fraction * amount);
+        long seen = 0L;
+        long bound = 0L;
+        for (int idx = 0; idx < counts.length; ++idx) {
+            seen += counts[idx];
+            if (counts[idx] > 0 && seen >= rank) {
+                bound = Math.min(Histogram.upper(idx), this.max());
+                break;
+            }
+        }
+        return bound;
+    }
+
+    /**
+     * Greatest value of a bucket.
+     * @param bucket The bucket
+     * @return The greatest value it holds
+     */
+    private static long upper(final int bucket) {
+        final long bound;
+        if (bucket >= Long.SIZE - 1) {
+            bound = Long.MAX_VALUE;
+        } else {
+            bound = (1L << bucket) - 1;
+        }
+        return bound;
+    }
+}
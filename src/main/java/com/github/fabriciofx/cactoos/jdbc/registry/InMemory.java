@@ -0,0 +1,103 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.registry;
+
+import com.github.fabriciofx.cactoos.jdbc.Registry;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * InMemory.
+ * <p>A {@link Registry} that keeps the metrics in memory, to be read back,
+ * e.g. by tests or by an exporter.
+ * @since 1.0
+ */
+public final class InMemory implements Registry {
+    /**
+     * Counters, by name and tag.
+     */
+    private final Map<String, Map<String, LongAdder>> counters;
+
+    /**
+     * Distributions, by name and tag.
+     */
+    private final Map<String, Map<String, Histogram>> histograms;
+
+    /**
+     * Ctor.
+     */
+    public InMemory() {
+        this.counters = new ConcurrentHashMap<>();
+        this.histograms = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void count(final String name, final String tag, final long amount) {
+        this.counters
+            .computeIfAbsent(name, key -> new ConcurrentHashMap<>())
+            .computeIfAbsent(tag, key -> new LongAdder())
+            .add(amount);
+    }
+
+    @Override
+    public void record(final String name, final String tag, final long value) {
+        this.histograms
+            .computeIfAbsent(name, key -> new ConcurrentHashMap<>())
+            .computeIfAbsent(tag, key -> new Histogram())
+            .record(value);
+    }
+
+    /**
+     * Value of a counter.
+     * @param name Metric name
+     * @param tag Metric tag
+     * @return The value or zero if never incremented
+     */
+    public long counter(final String name, final String tag) {
+        final LongAdder adder = this.counters
+            .getOrDefault(name, Map.of())
+            .get(tag);
+        long value = 0L;
+        if (adder != null) {
+            value = adder.sum();
+        }
+        return value;
+    }
+
+    /**
+     * A distribution.
+     * @param name Metric name
+     * @param tag Metric tag
+     * @return The distribution, empty if nothing was recorded
+     */
+    public Histogram histogram(final String name, final String tag) {
+        final Histogram histogram = this.histograms
+            .getOrDefault(name, Map.of())
+            .get(tag);
+        final Histogram found;
+        if (histogram == null) {
+            found = new Histogram();
+        } else {
+            found = histogram;
+        }
+        return found;
+    }
+
+    /**
+     * Tags of a metric.
+     * @param name Metric name
+     * @return The tags with a counter or a distribution
+     */
+    public Iterable<String> tags(final String name) {
+        final Set<String> tags = new TreeSet<>(
+            this.counters.getOrDefault(name, Map.of()).keySet()
+        );
+        tags.addAll(this.histograms.getOrDefault(name, Map.of()).keySet());
+        return tags;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.row;
+
+import com.github.fabriciofx.cactoos.jdbc.Row;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * ArrayedRow.
+ * <p>A row that keeps its values in an array. The column labels and their
+ * indexes are shared by all rows of a table, so both lookups by label and by
+ * position take constant time.
+ * @since 1.0
+ */
+public final class ArrayedRow implements Row {
+    /**
+     * Column labels, in column order.
+     */
+    private final List<String> labels;
+
+    /**
+     * Column index (starting at 0) by label.
+     */
+    private final Map<String, Integer> indexes;
+
+    /**
+     * Row's values.
+     */
+    private final Object[] items;
+
+    /**
+     * Ctor.
+     * @param labels Column labels, in column order
+     * @param indexes Column index (starting at 0) by label
+     */
+    public ArrayedRow(
+        final List<String> labels,
+        final Map<String, Integer> indexes
+    ) {
+        this(labels, indexes, new Object[labels.size()]);
+    }
+
+    /**
+     * Ctor.
+     * @param labels Column labels, in column order
+     * @param indexes Column index (starting at 0) by label
+     * @param items Row's values, in column order
+     */
+    public ArrayedRow(
+        final List<String> labels,
+        final Map<String, Integer> indexes,
+        final Object... items
+    ) {
+        this.labels = labels;
+        this.indexes = indexes;
+        this.items = items;
+    }
+
+    @Override
+    public void add(final String column, final Object value) {
+        final Integer col = this.indexes.get(column);
+        if (col == null) {
+            throw new IllegalArgumentException(
+                new UncheckedText(
+                    new FormattedText("Column '%s' does not exist", column)
+                ).asString()
+            );
+        }
+        this.items[col] = value;
+    }
+
+    @Override
+    public <T> T value(final String column, final Class<T> type)
+        throws Exception {
+        final Integer col = this.indexes.get(column);
+        if (col == null) {
+            throw new IllegalArgumentException(
+                new FormattedText(
+                    "Column '%s' does not exist",
+                    column
+                ).asString()
+            );
+        }
+        return type.cast(this.items[col]);
+    }
+
+    @Override
+    public <T> T value(final int index, final Class<T> type)
+        throws Exception {
+        if (index < 1 || index > this.items.length) {
+            throw new IllegalArgumentException(
+                new FormattedText(
+                    "Column number '%d' does not exist",
+                    index
+                ).asString()
+            );
+        }
+        return type.cast(this.items[index - 1]);
+    }
+
+    @Override
+    public List<String> labels() {
+        return Collections.unmodifiableList(this.labels);
+    }
+
+    @Override
+    public byte[] asBytes() throws Exception {
+        try (
+            ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            ObjectOutputStream out = new ObjectOutputStream(stream)
+        ) {
+            for (int col = 0; col < this.items.length; ++col) {
+                out.writeObject(this.labels.get(col));
+                out.writeObject(this.items[col]);
+            }
+            return stream.toByteArray();
+        }
+    }
+}
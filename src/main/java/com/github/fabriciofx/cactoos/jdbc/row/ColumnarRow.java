@@ -0,0 +1,124 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.row;
+
+import com.github.fabriciofx.cactoos.jdbc.Row;
+import com.github.fabriciofx.cactoos.jdbc.Values;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * ColumnarRow.
+ * <p>A view of a row of values kept by column: adding a value to a column
+ * replaces the value of this row in that column.
+ * @since 1.0
+ */
+public final class ColumnarRow implements Row {
+    /**
+     * Column labels, in column order.
+     */
+    private final List<String> labels;
+
+    /**
+     * Column index by label.
+     */
+    private final Map<String, Integer> indexes;
+
+    /**
+     * Values of each column.
+     */
+    private final List<Values> columns;
+
+    /**
+     * Row index.
+     */
+    private final int index;
+
+    /**
+     * Ctor.
+     * @param labels Column labels, in column order
+     * @param indexes Column index (starting at 0) by label
+     * @param columns Values of each column
+     * @param index Row index
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public ColumnarRow(
+        final List<String> labels,
+        final Map<String, Integer> indexes,
+        final List<Values> columns,
+        final int index
+    ) {
+        this.labels = labels;
+        this.indexes = indexes;
+        this.columns = columns;
+        this.index = index;
+    }
+
+    @Override
+    public void add(final String column, final Object value) {
+        final Integer col = this.indexes.get(column);
+        if (col == null) {
+            throw new IllegalArgumentException(
+                new UncheckedText(
+                    new FormattedText("Column '%s' does not exist", column)
+                ).asString()
+            );
+        }
+        this.columns.get(col).set(this.index, value);
+    }
+
+    @Override
+    public <T> T value(final String column, final Class<T> type)
+        throws Exception {
+        final Integer col = this.indexes.get(column);
+        if (col == null) {
+            throw new IllegalArgumentException(
+                new FormattedText(
+                    "Column '%s' does not exist",
+                    column
+                ).asString()
+            );
+        }
+        return type.cast(this.columns.get(col).value(this.index));
+    }
+
+    @Override
+    public <T> T value(final int index, final Class<T> type)
+        throws Exception {
+        if (index < 1 || index > this.columns.size()) {
+            throw new IllegalArgumentException(
+                new FormattedText(
+                    "Column number '%d' does not exist",
+                    index
+                ).asString()
+            );
+        }
+        return type.cast(this.columns.get(index - 1).value(this.index));
+    }
+
+    @Override
+    public List<String> labels() {
+        return Collections.unmodifiableList(this.labels);
+    }
+
+    @Override
+    public byte[] asBytes() throws Exception {
+        try (
+            ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            ObjectOutputStream out = new ObjectOutputStream(stream)
+        ) {
+            for (int col = 0; col < this.labels.size(); ++col) {
+                out.writeObject(this.labels.get(col));
+                out.writeObject(this.columns.get(col).value(this.index));
+            }
+            return stream.toByteArray();
+        }
+    }
+}
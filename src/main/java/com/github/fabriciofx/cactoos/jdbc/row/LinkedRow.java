@@ -7,7 +7,9 @@ package com.github.fabriciofx.cactoos.jdbc.row;
 import com.github.fabriciofx.cactoos.jdbc.Row;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectOutputStream;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import org.cactoos.text.FormattedText;
 
@@ -55,6 +57,34 @@ public final class LinkedRow implements Row {
         return type.cast(this.items.get(column));
     }
 
+    @Override
+    public <T> T value(final int index, final Class<T> type)
+        throws Exception {
+        if (index < 1 || index > this.items.size()) {
+            throw new IllegalArgumentException(
+                new FormattedText(
+                    "Column number '%d' does not exist",
+                    index
+                ).asString()
+            );
+        }
+        int col = 1;
+        Object value = null;
+        for (final Object item : this.items.values()) {
+            if (col == index) {
+                value = item;
+                break;
+            }
+            ++col;
+        }
+        return type.cast(value);
+    }
+
+    @Override
+    public List<String> labels() {
+        return new ArrayList<>(this.items.keySet());
+    }
+
     @Override
     public byte[] asBytes() throws Exception {
         try (
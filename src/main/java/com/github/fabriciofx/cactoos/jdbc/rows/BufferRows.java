@@ -0,0 +1,155 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.rows;
+
+import com.github.fabriciofx.cactoos.jdbc.Row;
+import com.github.fabriciofx.cactoos.jdbc.Rows;
+import com.github.fabriciofx.cactoos.jdbc.bytes.BufferInput;
+import com.github.fabriciofx.cactoos.jdbc.bytes.Tag;
+import com.github.fabriciofx.cactoos.jdbc.row.ArrayedRow;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.map.MapEntry;
+import org.cactoos.text.FormattedText;
+
+/**
+ * BufferRows.
+ * <p>Rows kept in the binary format written by
+ * {@link com.github.fabriciofx.cactoos.jdbc.bytes.TableAsBytes}, in a
+ * {@link ByteBuffer}, e.g. out of the heap. A row is decoded from the buffer
+ * only when it is read, and only the last one read is kept, so reading the
+ * rows one at a time does not rebuild them all. A decoded row is a copy:
+ * changing it does not change the buffer. Added rows are kept after the
+ * rows of the buffer.
+ * @since 1.0
+ */
+public final class BufferRows implements Rows {
+    /**
+     * The buffer.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Column labels, in column order.
+     */
+    private final List<String> labels;
+
+    /**
+     * Column index (starting at 0) by label.
+     */
+    private final Map<String, Integer> indexes;
+
+    /**
+     * Position of each row in the buffer.
+     */
+    private final int[] offsets;
+
+    /**
+     * Added rows.
+     */
+    private final List<Row> added;
+
+    /**
+     * Last row read, by its index.
+     */
+    private final AtomicReference<Map.Entry<Integer, Row>> last;
+
+    /**
+     * Ctor.
+     * @param buffer The buffer
+     * @param labels Column labels, in column order
+     * @param indexes Column index (starting at 0) by label
+     * @param offsets Position of each row in the buffer
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public BufferRows(
+        final ByteBuffer buffer,
+        final List<String> labels,
+        final Map<String, Integer> indexes,
+        final int... offsets
+    ) {
+        this.buffer = buffer;
+        this.labels = labels;
+        this.indexes = indexes;
+        this.offsets = Arrays.copyOf(offsets, offsets.length);
+        this.added = new ArrayList<>(0);
+        this.last = new AtomicReference<>(new MapEntry<>(-1, null));
+    }
+
+    @Override
+    public int count() {
+        return this.offsets.length + this.added.size();
+    }
+
+    @Override
+    public void add(final Row row) {
+        this.added.add(row);
+    }
+
+    @Override
+    public Row row(final int index) throws Exception {
+        if (index < 0 || index >= this.count()) {
+            throw new IndexOutOfBoundsException(
+                new FormattedText(
+                    "Row '%d' does not exist [0,%d]",
+                    index,
+                    this.count() - 1
+                ).asString()
+            );
+        }
+        final Row row;
+        if (index >= this.offsets.length) {
+            row = this.added.get(index - this.offsets.length);
+        } else {
+            final Map.Entry<Integer, Row> read = this.last.get();
+            if (read.getKey() == index) {
+                row = read.getValue();
+            } else {
+                row = this.decoded(index);
+                this.last.set(new MapEntry<>(index, row));
+            }
+        }
+        return row;
+    }
+
+    @Override
+    public byte[] asBytes() throws Exception {
+        try (ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
+            for (int idx = 0; idx < this.count(); ++idx) {
+                stream.write(this.row(idx).asBytes());
+            }
+            return stream.toByteArray();
+        }
+    }
+
+    /**
+     * Decode a row from the buffer.
+     * @param index The row index
+     * @return The row
+     * @throws IOException if fails
+     */
+    private Row decoded(final int index) throws IOException {
+        final ByteBuffer bytes = this.buffer.duplicate();
+        bytes.position(this.offsets[index]);
+        final DataInputStream in = new DataInputStream(new BufferInput(bytes));
+        final int width = this.labels.size();
+        final byte[] nulls = new byte[(width + 7) / 8];
+        in.readFully(nulls);
+        final Object[] values = new Object[width];
+        for (int col = 0; col < width; ++col) {
+            if ((nulls[col / 8] & 1 << col % 8) == 0) {
+                values[col] = Tag.tagged(in);
+            }
+        }
+        return new ArrayedRow(this.labels, this.indexes, values);
+    }
+}
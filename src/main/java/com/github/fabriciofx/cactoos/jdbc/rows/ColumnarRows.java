@@ -0,0 +1,98 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.rows;
+
+import com.github.fabriciofx.cactoos.jdbc.Row;
+import com.github.fabriciofx.cactoos.jdbc.Rows;
+import com.github.fabriciofx.cactoos.jdbc.Values;
+import com.github.fabriciofx.cactoos.jdbc.row.ColumnarRow;
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.cactoos.scalar.Unchecked;
+import org.cactoos.text.FormattedText;
+
+/**
+ * ColumnarRows.
+ * <p>Rows kept by column: each column keeps its values in a {@link Values},
+ * instead of each row keeping a map of column labels to boxed values.
+ * @since 1.0
+ */
+public final class ColumnarRows implements Rows {
+    /**
+     * Column labels, in column order.
+     */
+    private final List<String> labels;
+
+    /**
+     * Column index by label.
+     */
+    private final Map<String, Integer> indexes;
+
+    /**
+     * Values of each column.
+     */
+    private final List<Values> columns;
+
+    /**
+     * Ctor.
+     * @param labels Column labels, in column order
+     * @param columns Values of each column
+     */
+    public ColumnarRows(final List<String> labels, final List<Values> columns) {
+        this.labels = labels;
+        this.indexes = new HashMap<>(labels.size() * 2);
+        for (int col = 0; col < labels.size(); ++col) {
+            this.indexes.put(labels.get(col), col);
+        }
+        this.columns = columns;
+    }
+
+    @Override
+    public int count() {
+        final int count;
+        if (this.columns.isEmpty()) {
+            count = 0;
+        } else {
+            count = this.columns.get(0).count();
+        }
+        return count;
+    }
+
+    @Override
+    public void add(final Row row) {
+        for (int col = 0; col < this.labels.size(); ++col) {
+            final String label = this.labels.get(col);
+            this.columns.get(col).add(
+                new Unchecked<>(() -> row.value(label, Object.class)).value()
+            );
+        }
+    }
+
+    @Override
+    public Row row(final int index) throws Exception {
+        if (index < 0 || index >= this.count()) {
+            throw new IndexOutOfBoundsException(
+                new FormattedText(
+                    "Row '%d' does not exist [0,%d]",
+                    index,
+                    this.count() - 1
+                ).asString()
+            );
+        }
+        return new ColumnarRow(this.labels, this.indexes, this.columns, index);
+    }
+
+    @Override
+    public byte[] asBytes() throws Exception {
+        try (ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
+            for (int idx = 0; idx < this.count(); ++idx) {
+                stream.write(this.row(idx).asBytes());
+            }
+            return stream.toByteArray();
+        }
+    }
+}
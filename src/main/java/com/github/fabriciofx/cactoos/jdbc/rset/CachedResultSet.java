@@ -73,6 +73,11 @@ public final class CachedResultSet implements ResultSet {
      */
     private final AtomicBoolean closed;
 
+    /**
+     * Controls if the last value read was SQL NULL.
+     */
+    private final AtomicBoolean nulled;
+
     /**
      * Ctor.
      *
@@ -84,6 +89,7 @@ public final class CachedResultSet implements ResultSet {
         this.columns = columns;
         this.cursor = new AtomicInteger(-1);
         this.closed = new AtomicBoolean(false);
+        this.nulled = new AtomicBoolean(false);
     }
 
     @Override
@@ -101,7 +107,10 @@ public final class CachedResultSet implements ResultSet {
 
     @Override
     public boolean wasNull() throws SQLException {
-        return false;
+        if (this.closed.get()) {
+            throw new SQLException("ResultSet is already closed");
+        }
+        return this.nulled.get();
     }
 
     @Override
@@ -177,7 +186,7 @@ public final class CachedResultSet implements ResultSet {
             throw new SQLException("ResultSet is already closed");
         }
         try {
-            return this.rows.row(this.cursor.get()).value(column, Object.class);
+            return this.read(column, Object.class);
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
@@ -189,7 +198,7 @@ public final class CachedResultSet implements ResultSet {
             throw new SQLException("ResultSet is already closed");
         }
         try {
-            return this.rows.row(this.cursor.get()).value(
+            return this.read(
                 column,
                 String.class
             );
@@ -204,7 +213,7 @@ public final class CachedResultSet implements ResultSet {
             throw new SQLException("ResultSet is already closed");
         }
         try {
-            final Boolean value = this.rows.row(this.cursor.get()).value(
+            final Boolean value = this.read(
                 column,
                 Boolean.class
             );
@@ -220,7 +229,7 @@ public final class CachedResultSet implements ResultSet {
             throw new SQLException("ResultSet is already closed");
         }
         try {
-            final Byte value = this.rows.row(this.cursor.get()).value(
+            final Byte value = this.read(
                 column,
                 Byte.class
             );
@@ -240,7 +249,7 @@ public final class CachedResultSet implements ResultSet {
             throw new SQLException("ResultSet is already closed");
         }
         try {
-            final Short value = this.rows.row(this.cursor.get()).value(
+            final Short value = this.read(
                 column,
                 Short.class
             );
@@ -260,7 +269,7 @@ public final class CachedResultSet implements ResultSet {
             throw new SQLException("ResultSet is already closed");
         }
         try {
-            final Integer value = this.rows.row(this.cursor.get()).value(
+            final Integer value = this.read(
                 column,
                 Integer.class
             );
@@ -280,7 +289,7 @@ public final class CachedResultSet implements ResultSet {
             throw new SQLException("ResultSet is already closed");
         }
         try {
-            final Long value = this.rows.row(this.cursor.get()).value(
+            final Long value = this.read(
                 column,
                 Long.class
             );
@@ -300,7 +309,7 @@ public final class CachedResultSet implements ResultSet {
             throw new SQLException("ResultSet is already closed");
         }
         try {
-            final Float value = this.rows.row(this.cursor.get()).value(
+            final Float value = this.read(
                 column,
                 Float.class
             );
@@ -320,7 +329,7 @@ public final class CachedResultSet implements ResultSet {
             throw new SQLException("ResultSet is already closed");
         }
         try {
-            final Double value = this.rows.row(this.cursor.get()).value(
+            final Double value = this.read(
                 column,
                 Double.class
             );
@@ -340,7 +349,7 @@ public final class CachedResultSet implements ResultSet {
             throw new SQLException("ResultSet is already closed");
         }
         try {
-            return this.rows.row(this.cursor.get()).value(
+            return this.read(
                 column,
                 BigDecimal.class
             );
@@ -357,7 +366,7 @@ public final class CachedResultSet implements ResultSet {
             throw new SQLException("ResultSet is already closed");
         }
         try {
-            return this.rows.row(this.cursor.get()).value(
+            return this.read(
                 column,
                 BigDecimal.class
             );
@@ -372,7 +381,7 @@ public final class CachedResultSet implements ResultSet {
             throw new SQLException("ResultSet is already closed");
         }
         try {
-            return this.rows.row(this.cursor.get()).value(
+            return this.read(
                 column,
                 byte[].class
             );
@@ -387,7 +396,7 @@ public final class CachedResultSet implements ResultSet {
             throw new SQLException("ResultSet is already closed");
         }
         try {
-            return this.rows.row(this.cursor.get()).value(
+            return this.read(
                 column,
                 Date.class
             );
@@ -402,7 +411,7 @@ public final class CachedResultSet implements ResultSet {
             throw new SQLException("ResultSet is already closed");
         }
         try {
-            return this.rows.row(this.cursor.get()).value(
+            return this.read(
                 column,
                 Time.class
             );
@@ -417,7 +426,7 @@ public final class CachedResultSet implements ResultSet {
             throw new SQLException("ResultSet is already closed");
         }
         try {
-            return this.rows.row(this.cursor.get()).value(
+            return this.read(
                 column,
                 Timestamp.class
             );
@@ -432,7 +441,7 @@ public final class CachedResultSet implements ResultSet {
             throw new SQLException("ResultSet is already closed");
         }
         try {
-            return this.rows.row(this.cursor.get()).value(
+            return this.read(
                 column,
                 Ref.class
             );
@@ -447,7 +456,7 @@ public final class CachedResultSet implements ResultSet {
             throw new SQLException("ResultSet is already closed");
         }
         try {
-            return this.rows.row(this.cursor.get()).value(
+            return this.read(
                 column,
                 Blob.class
             );
@@ -462,7 +471,7 @@ public final class CachedResultSet implements ResultSet {
             throw new SQLException("ResultSet is already closed");
         }
         try {
-            return this.rows.row(this.cursor.get()).value(
+            return this.read(
                 column,
                 Clob.class
             );
@@ -477,7 +486,7 @@ public final class CachedResultSet implements ResultSet {
             throw new SQLException("ResultSet is already closed");
         }
         try {
-            return this.rows.row(this.cursor.get()).value(
+            return this.read(
                 column,
                 Array.class
             );
@@ -532,7 +541,7 @@ public final class CachedResultSet implements ResultSet {
             throw new SQLException("ResultSet is already closed");
         }
         try {
-            return this.rows.row(this.cursor.get()).value(
+            return this.read(
                 column,
                 URL.class
             );
@@ -550,7 +559,7 @@ public final class CachedResultSet implements ResultSet {
             throw new SQLException("ResultSet is already closed");
         }
         try {
-            return this.rows.row(this.cursor.get()).value(
+            return this.read(
                 column,
                 map.values().iterator().next()
             );
@@ -571,7 +580,7 @@ public final class CachedResultSet implements ResultSet {
             throw new SQLException("ResultSet is already closed");
         }
         try {
-            return this.rows.row(this.cursor.get()).value(
+            return this.read(
                 column,
                 String.class
             );
@@ -587,7 +596,7 @@ public final class CachedResultSet implements ResultSet {
             throw new SQLException("ResultSet is already closed");
         }
         try {
-            return this.rows.row(this.cursor.get()).value(
+            return this.read(
                 column,
                 Reader.class
             );
@@ -603,7 +612,7 @@ public final class CachedResultSet implements ResultSet {
             throw new SQLException("ResultSet is already closed");
         }
         try {
-            return this.rows.row(this.cursor.get()).value(
+            return this.read(
                 column,
                 InputStream.class
             );
@@ -620,7 +629,7 @@ public final class CachedResultSet implements ResultSet {
             throw new SQLException("ResultSet is already closed");
         }
         try {
-            return this.rows.row(this.cursor.get()).value(
+            return this.read(
                 column,
                 InputStream.class
             );
@@ -636,7 +645,7 @@ public final class CachedResultSet implements ResultSet {
             throw new SQLException("ResultSet is already closed");
         }
         try {
-            return this.rows.row(this.cursor.get()).value(
+            return this.read(
                 column,
                 InputStream.class
             );
@@ -652,7 +661,7 @@ public final class CachedResultSet implements ResultSet {
             throw new SQLException("ResultSet is already closed");
         }
         try {
-            return this.rows.row(this.cursor.get()).value(
+            return this.read(
                 column,
                 Reader.class
             );
@@ -667,7 +676,7 @@ public final class CachedResultSet implements ResultSet {
             throw new SQLException("ResultSet is already closed");
         }
         try {
-            return this.rows.row(this.cursor.get()).value(
+            return this.read(
                 column,
                 NClob.class
             );
@@ -682,7 +691,7 @@ public final class CachedResultSet implements ResultSet {
             throw new SQLException("ResultSet is already closed");
         }
         try {
-            return this.rows.row(this.cursor.get()).value(
+            return this.read(
                 column,
                 SQLXML.class
             );
@@ -697,7 +706,7 @@ public final class CachedResultSet implements ResultSet {
             throw new SQLException("ResultSet is already closed");
         }
         try {
-            return this.rows.row(this.cursor.get()).value(
+            return this.read(
                 column,
                 RowId.class
             );
@@ -708,8 +717,11 @@ public final class CachedResultSet implements ResultSet {
 
     @Override
     public Object getObject(final int index) throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("ResultSet is already closed");
+        }
         try {
-            return this.getObject(this.columns.name(index));
+            return this.read(index, Object.class);
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
@@ -717,8 +729,14 @@ public final class CachedResultSet implements ResultSet {
 
     @Override
     public String getString(final int index) throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("ResultSet is already closed");
+        }
         try {
-            return this.getString(this.columns.name(index));
+            return this.read(
+                index,
+                String.class
+            );
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
@@ -726,8 +744,15 @@ public final class CachedResultSet implements ResultSet {
 
     @Override
     public boolean getBoolean(final int index) throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("ResultSet is already closed");
+        }
         try {
-            return this.getBoolean(this.columns.name(index));
+            final Boolean value = this.read(
+                index,
+                Boolean.class
+            );
+            return value != null && value;
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
@@ -735,8 +760,19 @@ public final class CachedResultSet implements ResultSet {
 
     @Override
     public byte getByte(final int index) throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("ResultSet is already closed");
+        }
         try {
-            return this.getByte(this.columns.name(index));
+            final Byte value = this.read(
+                index,
+                Byte.class
+            );
+            return new Ternary<>(
+                value != null,
+                () -> value,
+                () -> (byte) 0
+            ).value();
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
@@ -744,8 +780,19 @@ public final class CachedResultSet implements ResultSet {
 
     @Override
     public short getShort(final int index) throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("ResultSet is already closed");
+        }
         try {
-            return this.getShort(this.columns.name(index));
+            final Short value = this.read(
+                index,
+                Short.class
+            );
+            return new Ternary<>(
+                value != null,
+                () -> value,
+                () -> (short) 0
+            ).value();
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
@@ -753,8 +800,19 @@ public final class CachedResultSet implements ResultSet {
 
     @Override
     public int getInt(final int index) throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("ResultSet is already closed");
+        }
         try {
-            return this.getInt(this.columns.name(index));
+            final Integer value = this.read(
+                index,
+                Integer.class
+            );
+            return new Ternary<>(
+                value != null,
+                () -> value,
+                () -> 0
+            ).value();
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
@@ -762,8 +820,19 @@ public final class CachedResultSet implements ResultSet {
 
     @Override
     public long getLong(final int index) throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("ResultSet is already closed");
+        }
         try {
-            return this.getLong(this.columns.name(index));
+            final Long value = this.read(
+                index,
+                Long.class
+            );
+            return new Ternary<>(
+                value != null,
+                () -> value,
+                () -> 0L
+            ).value();
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
@@ -771,8 +840,19 @@ public final class CachedResultSet implements ResultSet {
 
     @Override
     public float getFloat(final int index) throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("ResultSet is already closed");
+        }
         try {
-            return this.getFloat(this.columns.name(index));
+            final Float value = this.read(
+                index,
+                Float.class
+            );
+            return new Ternary<>(
+                value != null,
+                () -> value,
+                () -> 0f
+            ).value();
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
@@ -780,8 +860,19 @@ public final class CachedResultSet implements ResultSet {
 
     @Override
     public double getDouble(final int index) throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("ResultSet is already closed");
+        }
         try {
-            return this.getDouble(this.columns.name(index));
+            final Double value = this.read(
+                index,
+                Double.class
+            );
+            return new Ternary<>(
+                value != null,
+                () -> value,
+                () -> 0.0
+            ).value();
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
@@ -789,8 +880,14 @@ public final class CachedResultSet implements ResultSet {
 
     @Override
     public BigDecimal getBigDecimal(final int index) throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("ResultSet is already closed");
+        }
         try {
-            return this.getBigDecimal(this.columns.name(index));
+            return this.read(
+                index,
+                BigDecimal.class
+            );
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
@@ -800,8 +897,14 @@ public final class CachedResultSet implements ResultSet {
     @Override
     public BigDecimal getBigDecimal(final int index, final int scale)
         throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("ResultSet is already closed");
+        }
         try {
-            return this.getBigDecimal(this.columns.name(index));
+            return this.read(
+                index,
+                BigDecimal.class
+            );
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
@@ -809,8 +912,14 @@ public final class CachedResultSet implements ResultSet {
 
     @Override
     public byte[] getBytes(final int index) throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("ResultSet is already closed");
+        }
         try {
-            return this.getBytes(this.columns.name(index));
+            return this.read(
+                index,
+                byte[].class
+            );
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
@@ -818,8 +927,14 @@ public final class CachedResultSet implements ResultSet {
 
     @Override
     public Date getDate(final int index) throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("ResultSet is already closed");
+        }
         try {
-            return this.getDate(this.columns.name(index));
+            return this.read(
+                index,
+                Date.class
+            );
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
@@ -827,8 +942,14 @@ public final class CachedResultSet implements ResultSet {
 
     @Override
     public Time getTime(final int index) throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("ResultSet is already closed");
+        }
         try {
-            return this.getTime(this.columns.name(index));
+            return this.read(
+                index,
+                Time.class
+            );
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
@@ -836,8 +957,14 @@ public final class CachedResultSet implements ResultSet {
 
     @Override
     public Timestamp getTimestamp(final int index) throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("ResultSet is already closed");
+        }
         try {
-            return this.getTimestamp(this.columns.name(index));
+            return this.read(
+                index,
+                Timestamp.class
+            );
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
@@ -853,8 +980,14 @@ public final class CachedResultSet implements ResultSet {
 
     @Override
     public URL getURL(final int index) throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("ResultSet is already closed");
+        }
         try {
-            return this.getURL(this.columns.name(index));
+            return this.read(
+                index,
+                URL.class
+            );
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
@@ -862,8 +995,14 @@ public final class CachedResultSet implements ResultSet {
 
     @Override
     public Ref getRef(final int index) throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("ResultSet is already closed");
+        }
         try {
-            return this.getRef(this.columns.name(index));
+            return this.read(
+                index,
+                Ref.class
+            );
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
@@ -871,8 +1010,14 @@ public final class CachedResultSet implements ResultSet {
 
     @Override
     public Blob getBlob(final int index) throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("ResultSet is already closed");
+        }
         try {
-            return this.getBlob(this.columns.name(index));
+            return this.read(
+                index,
+                Blob.class
+            );
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
@@ -880,8 +1025,14 @@ public final class CachedResultSet implements ResultSet {
 
     @Override
     public Clob getClob(final int index) throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("ResultSet is already closed");
+        }
         try {
-            return this.getClob(this.columns.name(index));
+            return this.read(
+                index,
+                Clob.class
+            );
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
@@ -889,8 +1040,14 @@ public final class CachedResultSet implements ResultSet {
 
     @Override
     public Array getArray(final int index) throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("ResultSet is already closed");
+        }
         try {
-            return this.getArray(this.columns.name(index));
+            return this.read(
+                index,
+                Array.class
+            );
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
@@ -901,8 +1058,14 @@ public final class CachedResultSet implements ResultSet {
         final int index,
         final Map<String, Class<?>> map
     ) throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("ResultSet is already closed");
+        }
         try {
-            return this.getObject(this.columns.name(index), map);
+            return this.read(
+                index,
+                map.values().iterator().next()
+            );
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
@@ -917,8 +1080,14 @@ public final class CachedResultSet implements ResultSet {
     @Override
     public InputStream getAsciiStream(final int index)
         throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("ResultSet is already closed");
+        }
         try {
-            return this.getAsciiStream(this.columns.name(index));
+            return this.read(
+                index,
+                InputStream.class
+            );
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
@@ -928,8 +1097,14 @@ public final class CachedResultSet implements ResultSet {
     @Override
     public InputStream getUnicodeStream(final int index)
         throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("ResultSet is already closed");
+        }
         try {
-            return this.getUnicodeStream(this.columns.name(index));
+            return this.read(
+                index,
+                InputStream.class
+            );
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
@@ -938,8 +1113,14 @@ public final class CachedResultSet implements ResultSet {
     @Override
     public InputStream getBinaryStream(final int index)
         throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("ResultSet is already closed");
+        }
         try {
-            return this.getBinaryStream(this.columns.name(index));
+            return this.read(
+                index,
+                InputStream.class
+            );
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
@@ -948,8 +1129,14 @@ public final class CachedResultSet implements ResultSet {
     @Override
     public Reader getCharacterStream(final int index)
         throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("ResultSet is already closed");
+        }
         try {
-            return this.getCharacterStream(this.columns.name(index));
+            return this.read(
+                index,
+                Reader.class
+            );
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
@@ -957,8 +1144,14 @@ public final class CachedResultSet implements ResultSet {
 
     @Override
     public String getNString(final int index) throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("ResultSet is already closed");
+        }
         try {
-            return this.getNString(this.columns.name(index));
+            return this.read(
+                index,
+                String.class
+            );
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
@@ -967,8 +1160,14 @@ public final class CachedResultSet implements ResultSet {
     @Override
     public Reader getNCharacterStream(final int index)
         throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("ResultSet is already closed");
+        }
         try {
-            return this.getNCharacterStream(this.columns.name(index));
+            return this.read(
+                index,
+                Reader.class
+            );
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
@@ -976,8 +1175,14 @@ public final class CachedResultSet implements ResultSet {
 
     @Override
     public NClob getNClob(final int index) throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("ResultSet is already closed");
+        }
         try {
-            return this.getNClob(this.columns.name(index));
+            return this.read(
+                index,
+                NClob.class
+            );
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
@@ -985,8 +1190,14 @@ public final class CachedResultSet implements ResultSet {
 
     @Override
     public SQLXML getSQLXML(final int index) throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("ResultSet is already closed");
+        }
         try {
-            return this.getSQLXML(this.columns.name(index));
+            return this.read(
+                index,
+                SQLXML.class
+            );
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
@@ -994,8 +1205,14 @@ public final class CachedResultSet implements ResultSet {
 
     @Override
     public RowId getRowId(final int index) throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("ResultSet is already closed");
+        }
         try {
-            return this.getRowId(this.columns.name(index));
+            return this.read(
+                index,
+                RowId.class
+            );
         } catch (final Exception ex) {
             throw new SQLException(ex);
         }
@@ -1910,4 +2127,36 @@ public final class CachedResultSet implements ResultSet {
             "#updateNClob(String, Reader): read-only in memory ResultSet"
         );
     }
+
+    /**
+     * Read a value of the current row, remembering if it was SQL NULL.
+     *
+     * @param column The column name
+     * @param type The value type
+     * @param <T> Type of the value
+     * @return The value
+     * @throws Exception If fails
+     */
+    private <T> T read(final String column, final Class<T> type)
+        throws Exception {
+        final T value = this.rows.row(this.cursor.get()).value(column, type);
+        this.nulled.set(value == null);
+        return value;
+    }
+
+    /**
+     * Read a value of the current row, remembering if it was SQL NULL.
+     *
+     * @param index The column index, starting at 1
+     * @param type The value type
+     * @param <T> Type of the value
+     * @return The value
+     * @throws Exception If fails
+     */
+    private <T> T read(final int index, final Class<T> type)
+        throws Exception {
+        final T value = this.rows.row(this.cursor.get()).value(index, type);
+        this.nulled.set(value == null);
+        return value;
+    }
 }
@@ -0,0 +1,180 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.rset;
+
+import com.github.fabriciofx.cactoos.jdbc.Row;
+import com.github.fabriciofx.cactoos.jdbc.row.LinkedRow;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.cactoos.text.Lowered;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Cursor.
+ * <p>Iterates over a {@link ResultSet} as {@link Row}s, reading one row at
+ * a time, so the whole result is never kept in memory. Rows are keyed by
+ * their lowercased column labels, as in
+ * {@link com.github.fabriciofx.cactoos.jdbc.table.ArrayedTable}. It can be
+ * iterated only once and closes the ResultSet when closed.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class Cursor implements Iterable<Row>, AutoCloseable {
+    /**
+     * The ResultSet.
+     */
+    private final ResultSet rset;
+
+    /**
+     * Already iterated.
+     */
+    private final AtomicBoolean used;
+
+    /**
+     * Ctor.
+     * @param rset The ResultSet
+     */
+    public Cursor(final ResultSet rset) {
+        this.rset = rset;
+        this.used = new AtomicBoolean();
+    }
+
+    @Override
+    public Iterator<Row> iterator() {
+        if (this.used.getAndSet(true)) {
+            throw new IllegalStateException("Cursor can be iterated only once");
+        }
+        try {
+            return new Rows(this.rset, Cursor.labels(this.rset));
+        } catch (final SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * The rows as a sequential stream, that closes this cursor when closed.
+     * @return The stream of rows
+     */
+    public Stream<Row> stream() {
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(
+                this.iterator(),
+                Spliterator.ORDERED | Spliterator.NONNULL
+            ),
+            false
+        ).onClose(
+            () -> {
+                try {
+                    this.close();
+                } catch (final SQLException ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+        );
+    }
+
+    @Override
+    public void close() throws SQLException {
+        this.rset.close();
+    }
+
+    /**
+     * The lowercased column labels of a ResultSet.
+     * @param rset The ResultSet
+     * @return The labels
+     * @throws SQLException if fails
+     */
+    private static String[] labels(final ResultSet rset) throws SQLException {
+        final ResultSetMetaData meta = rset.getMetaData();
+        final String[] labels = new String[meta.getColumnCount()];
+        for (int col = 0; col < labels.length; ++col) {
+            labels[col] = new UncheckedText(
+                new Lowered(meta.getColumnLabel(col + 1))
+            ).asString();
+        }
+        return labels;
+    }
+
+    /**
+     * Iterator over the rows of a ResultSet.
+     * @since 1.0
+     */
+    private static final class Rows implements Iterator<Row> {
+        /**
+         * The ResultSet.
+         */
+        private final ResultSet rset;
+
+        /**
+         * Column labels.
+         */
+        private final String[] labels;
+
+        /**
+         * The ResultSet is positioned in a row not read yet.
+         */
+        private final AtomicBoolean pending;
+
+        /**
+         * There are no more rows.
+         */
+        private final AtomicBoolean done;
+
+        /**
+         * Ctor.
+         * @param rset The ResultSet
+         * @param labels Column labels
+         */
+        Rows(final ResultSet rset, final String... labels) {
+            this.rset = rset;
+            this.labels = labels;
+            this.pending = new AtomicBoolean();
+            this.done = new AtomicBoolean();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!this.pending.get() && !this.done.get()) {
+                try {
+                    if (this.rset.next()) {
+                        this.pending.set(true);
+                    } else {
+                        this.done.set(true);
+                    }
+                } catch (final SQLException ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+            return this.pending.get();
+        }
+
+        @Override
+        public Row next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException("No more rows");
+            }
+            this.pending.set(false);
+            final Row row = new LinkedRow();
+            try {
+                for (int col = 0; col < this.labels.length; ++col) {
+                    row.add(this.labels[col], this.rset.getObject(col + 1));
+                }
+            } catch (final SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+            return row;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.rset;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Live ResultSet.
+ * <p>A {@link ResultSet} still attached to the database cursor, that closes
+ * its {@link Statement} when it is closed. It can only be read while the
+ * session that created it is open.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class Live extends ResultSetEnvelope {
+    /**
+     * The statement that created the ResultSet.
+     */
+    private final Statement stmt;
+
+    /**
+     * Ctor.
+     * @param rset The ResultSet
+     * @param stmt The statement that created the ResultSet
+     */
+    public Live(final ResultSet rset, final Statement stmt) {
+        super(rset);
+        this.stmt = stmt;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            super.close();
+        } finally {
+            this.stmt.close();
+        }
+    }
+}
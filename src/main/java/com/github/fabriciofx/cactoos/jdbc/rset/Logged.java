@@ -101,16 +101,18 @@ public final class Logged implements ResultSet {
     @Override
     public void close() throws SQLException {
         this.origin.close();
-        this.logger.log(
-            this.level,
-            new UncheckedText(
-                new FormattedText(
-                    "[%s] ResultSet[#%d] closed",
-                    this.from,
-                    this.id
-                )
-            ).asString()
-        );
+        if (this.logger.isLoggable(this.level)) {
+            this.logger.log(
+                this.level,
+                new UncheckedText(
+                    new FormattedText(
+                        "[%s] ResultSet[#%d] closed",
+                        this.from,
+                        this.id
+                    )
+                ).asString()
+            );
+        }
     }
 
     @Override
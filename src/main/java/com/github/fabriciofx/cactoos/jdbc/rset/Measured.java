@@ -0,0 +1,80 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.rset;
+
+import com.github.fabriciofx.cactoos.jdbc.Registry;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measured ResultSet.
+ * <p>Counts the rows read and records them, when closed, in
+ * {@code jdbc.query.rows}.
+ * @since 1.0
+ */
+public final class Measured extends ResultSetEnvelope {
+    /**
+     * ResultSet.
+     */
+    private final ResultSet origin;
+
+    /**
+     * Registry.
+     */
+    private final Registry registry;
+
+    /**
+     * Normalized SQL.
+     */
+    private final String sql;
+
+    /**
+     * Amount of rows read.
+     */
+    private final AtomicLong rows;
+
+    /**
+     * Closed flag.
+     */
+    private final AtomicBoolean closed;
+
+    /**
+     * Ctor.
+     * @param rset A ResultSet
+     * @param registry Registry of metrics
+     * @param sql Normalized SQL
+     */
+    public Measured(
+        final ResultSet rset,
+        final Registry registry,
+        final String sql
+    ) {
+        super(rset);
+        this.origin = rset;
+        this.registry = registry;
+        this.sql = sql;
+        this.rows = new AtomicLong();
+        this.closed = new AtomicBoolean();
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+        final boolean found = this.origin.next();
+        if (found) {
+            this.rows.incrementAndGet();
+        }
+        return found;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        this.origin.close();
+        if (this.closed.compareAndSet(false, true)) {
+            this.registry.record("jdbc.query.rows", this.sql, this.rows.get());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.scalar;
+
+import com.github.fabriciofx.cactoos.jdbc.Columns;
+import com.github.fabriciofx.cactoos.jdbc.Table;
+import java.sql.Types;
+import org.cactoos.Scalar;
+
+/**
+ * Footprint.
+ * <p>A cheap estimate of the memory, in bytes, kept by a {@link Table}:
+ * the amount of rows times the width of a row, given by the SQL types of
+ * its columns. It does not read any value.
+ * @since 1.0
+ */
+public final class Footprint implements Scalar<Long> {
+    /**
+     * Table.
+     */
+    private final Table table;
+
+    /**
+     * Ctor.
+     * @param table The table
+     */
+    public Footprint(final Table table) {
+        this.table = table;
+    }
+
+    @Override
+    public Long value() throws Exception {
+        final Columns columns = this.table.columns();
+        long row = 16;
+        for (int col = 1; col <= columns.count(); ++col) {
+            row += Footprint.width(columns.type(columns.name(col)));
+        }
+        return 64 + row * this.table.rows().count();
+    }
+
+    /**
+     * Estimated width of a value of a SQL type.
+     * @param type The SQL type
+     * @return The width, in bytes
+     * @checkstyle MagicNumberCheck (50 lines)
+     */
+    private static int width(final int type) {
+        return switch (type) {
+            case Types.BOOLEAN, Types.BIT, Types.TINYINT -> 1;
+            case Types.SMALLINT -> 2;
+            case Types.INTEGER, Types.REAL, Types.FLOAT -> 4;
+            case Types.BIGINT, Types.DOUBLE, Types.DATE, Types.TIME -> 8;
+            case Types.TIMESTAMP, Types.TIMESTAMP_WITH_TIMEZONE,
+                Types.DECIMAL, Types.NUMERIC -> 24;
+            case Types.BLOB, Types.CLOB, Types.NCLOB, Types.LONGVARBINARY,
+                Types.LONGVARCHAR, Types.LONGNVARCHAR -> 256;
+            default -> 48;
+        };
+    }
+}
@@ -5,6 +5,7 @@
 package com.github.fabriciofx.cactoos.jdbc.scalar;
 
 import com.github.fabriciofx.cactoos.jdbc.Query;
+import com.github.fabriciofx.cactoos.jdbc.analysis.Analyses;
 import org.apache.calcite.avatica.util.Quoting;
 import org.apache.calcite.sql.SqlKind;
 import org.apache.calcite.sql.SqlNode;
@@ -26,9 +27,9 @@ import org.cactoos.text.Upper;
 @SuppressWarnings({"PMD.CognitiveComplexity", "PMD.NcssCount"})
 public final class KindOfQuery implements Scalar<SqlKind> {
     /**
-     * Query.
+     * Kind of query.
      */
-    private final Query query;
+    private final Scalar<SqlKind> kind;
 
     /**
      * Ctor.
@@ -36,14 +37,46 @@ public final class KindOfQuery implements Scalar<SqlKind> {
      * @param query A {@link Query}
      */
     public KindOfQuery(final Query query) {
-        this.query = query;
+        this(() -> KindOfQuery.parsed(query.sql()));
+    }
+
+    /**
+     * Ctor.
+     * <p>The kind is retrieved from the analyses, so a SQL text is parsed
+     * only once.
+     *
+     * @param query A {@link Query}
+     * @param analyses The analyses
+     */
+    public KindOfQuery(final Query query, final Analyses analyses) {
+        this(() -> analyses.analysis(query.sql()).kind());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param kind Kind of query
+     */
+    public KindOfQuery(final Scalar<SqlKind> kind) {
+        this.kind = kind;
     }
 
     @Override
     public SqlKind value() throws Exception {
+        return this.kind.value();
+    }
+
+    /**
+     * Find out the kind of SQL code.
+     *
+     * @param sql SQL code
+     * @return The kind of query
+     * @throws Exception if fails
+     */
+    private static SqlKind parsed(final String sql) throws Exception {
         final String normalized = new Upper(
             new Trimmed(
-                new TextOf(this.query.sql())
+                new TextOf(sql)
             )
         ).asString();
         SqlKind kind;
@@ -5,6 +5,7 @@
 package com.github.fabriciofx.cactoos.jdbc.scalar;
 
 import com.github.fabriciofx.cactoos.jdbc.Query;
+import com.github.fabriciofx.cactoos.jdbc.analysis.Analyses;
 import com.github.fabriciofx.cactoos.jdbc.scalar.table.Visitor;
 import java.util.Set;
 import org.apache.calcite.avatica.util.Quoting;
@@ -53,6 +54,17 @@ public final class TableNames implements Scalar<Set<String>> {
         );
     }
 
+    /**
+     * Ctor.
+     * <p>The table names are retrieved from the analyses, so a SQL text is
+     * parsed only once.
+     * @param query The query
+     * @param analyses The analyses
+     */
+    public TableNames(final Query query, final Analyses analyses) {
+        this(() -> analyses.analysis(query.sql()).tables());
+    }
+
     /**
      * Ctor.
      * @param names Table names
@@ -5,22 +5,45 @@
 package com.github.fabriciofx.cactoos.jdbc.session;
 
 import com.github.fabriciofx.cactoos.cache.Cache;
-import com.github.fabriciofx.cactoos.cache.invalidate.MetadataInvalidate;
 import com.github.fabriciofx.cactoos.jdbc.Plan;
 import com.github.fabriciofx.cactoos.jdbc.Query;
 import com.github.fabriciofx.cactoos.jdbc.Session;
 import com.github.fabriciofx.cactoos.jdbc.Table;
+import com.github.fabriciofx.cactoos.jdbc.analysis.Analyses;
+import com.github.fabriciofx.cactoos.jdbc.cache.Flights;
+import com.github.fabriciofx.cactoos.jdbc.cache.Freshness;
+import com.github.fabriciofx.cactoos.jdbc.cache.Invalidation;
 import com.github.fabriciofx.cactoos.jdbc.plan.Simple;
+import com.github.fabriciofx.cactoos.jdbc.prepared.Lazy;
 import com.github.fabriciofx.cactoos.jdbc.query.Normalized;
 import com.github.fabriciofx.cactoos.jdbc.scalar.KindOfQuery;
 import com.github.fabriciofx.cactoos.jdbc.scalar.TableNames;
+import com.github.fabriciofx.cactoos.jdbc.table.ColumnarTable;
 import java.io.IOException;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Set;
+import org.cactoos.Func;
+import org.cactoos.Proc;
 
 /**
  * Cached.
  * <p>
  * A decorator for Session that allows caching results.
+ * <p>Selects are prepared lazily: on a cache hit no statement is prepared
+ * and the decorated session is not used at all. Settings made by
+ * decorators as {@link Timeout} or {@link MaxRows} are kept until a
+ * statement is really prepared.
+ * <p>Inserts, updates and deletes invalidate the cached results of the
+ * tables they change. By default it looks for them in all cache entries,
+ * but an invalidation that knows the entries of each table (as
+ * {@link com.github.fabriciofx.cactoos.jdbc.cache.TableStore#invalidate})
+ * can be given.
+ * <p>Cached results live as long as a {@link Freshness} says, which is
+ * told of every invalidation. By default they are refreshed in the
+ * background in this session; a function fetching a query in another
+ * session can be given, as
+ * {@link com.github.fabriciofx.cactoos.jdbc.source.Cached} does.
  *
  * @since 0.9.0
  */
@@ -35,6 +58,36 @@ public final class Cached implements Session {
      */
     private final Cache<Query, Table> cache;
 
+    /**
+     * Analyses of the SQL code.
+     */
+    private final Analyses analyses;
+
+    /**
+     * Invalidation of the cached results of tables.
+     */
+    private final Proc<Set<String>> invalidation;
+
+    /**
+     * Freshness of the cached results.
+     */
+    private final Freshness freshness;
+
+    /**
+     * Fetch a query in another session, to refresh its result.
+     */
+    private final Func<Query, Table> fetch;
+
+    /**
+     * Fetches of cache misses in flight, shared among sessions.
+     */
+    private final Flights flights;
+
+    /**
+     * Query whose bytes are the cache key of a normalized query.
+     */
+    private final Func<Query, Query> keys;
+
     /**
      * Ctor.
      *
@@ -44,29 +97,164 @@ public final class Cached implements Session {
     public Cached(
         final Session session,
         final Cache<Query, Table> cache
+    ) {
+        this(session, cache, new Analyses());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param session A session
+     * @param cache The cache
+     * @param analyses Analyses of the SQL code, shared among sessions
+     */
+    public Cached(
+        final Session session,
+        final Cache<Query, Table> cache,
+        final Analyses analyses
+    ) {
+        this(
+            session,
+            cache,
+            analyses,
+            new Invalidation(cache)
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param session A session
+     * @param cache The cache
+     * @param analyses Analyses of the SQL code, shared among sessions
+     * @param invalidation Invalidation of the cached results of tables
+     */
+    public Cached(
+        final Session session,
+        final Cache<Query, Table> cache,
+        final Analyses analyses,
+        final Proc<Set<String>> invalidation
+    ) {
+        this(
+            session,
+            cache,
+            analyses,
+            invalidation,
+            new Freshness(),
+            query -> {
+                try (
+                    PreparedStatement stmt = session.prepared(
+                        new Simple(query)
+                    );
+                    ResultSet rset = stmt.executeQuery()
+                ) {
+                    final Table table = new ColumnarTable(rset);
+                    table.rows();
+                    table.columns();
+                    return table;
+                }
+            },
+            new Flights()
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param session A session
+     * @param cache The cache
+     * @param analyses Analyses of the SQL code, shared among sessions
+     * @param invalidation Invalidation of the cached results of tables
+     * @param freshness Freshness of the cached results
+     * @param fetch Fetch a query in another session, to refresh its result
+     * @param flights Fetches of cache misses in flight, shared among sessions
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public Cached(
+        final Session session,
+        final Cache<Query, Table> cache,
+        final Analyses analyses,
+        final Proc<Set<String>> invalidation,
+        final Freshness freshness,
+        final Func<Query, Table> fetch,
+        final Flights flights
+    ) {
+        this(
+            session,
+            cache,
+            analyses,
+            invalidation,
+            freshness,
+            fetch,
+            flights,
+            query -> query
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param session A session
+     * @param cache The cache
+     * @param analyses Analyses of the SQL code, shared among sessions
+     * @param invalidation Invalidation of the cached results of tables
+     * @param freshness Freshness of the cached results
+     * @param fetch Fetch a query in another session, to refresh its result
+     * @param flights Fetches of cache misses in flight, shared among sessions
+     * @param keys Query whose bytes are the cache key of a normalized query,
+     *  as a {@link com.github.fabriciofx.cactoos.jdbc.query.Fingerprinted}
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public Cached(
+        final Session session,
+        final Cache<Query, Table> cache,
+        final Analyses analyses,
+        final Proc<Set<String>> invalidation,
+        final Freshness freshness,
+        final Func<Query, Table> fetch,
+        final Flights flights,
+        final Func<Query, Query> keys
     ) {
         this.origin = session;
         this.cache = cache;
+        this.analyses = analyses;
+        this.invalidation = invalidation;
+        this.freshness = freshness;
+        this.fetch = fetch;
+        this.flights = flights;
+        this.keys = keys;
     }
 
     @Override
     public PreparedStatement prepared(final Plan plan) throws Exception {
-        return switch (new KindOfQuery(plan.query()).value()) {
+        final Query query = plan.query();
+        return switch (new KindOfQuery(query, this.analyses).value()) {
             case SELECT, WITH, ORDER_BY -> {
-                final Normalized normalized = new Normalized(plan.query());
+                final Normalized normalized = new Normalized(
+                    query,
+                    this.analyses
+                );
                 yield new com.github.fabriciofx.cactoos.jdbc.prepared.Cached(
-                    this.origin.prepared(plan),
-                    this.origin.prepared(new Simple(normalized)),
+                    new Lazy(() -> this.origin.prepared(plan)),
+                    new Lazy(
+                        () -> this.origin.prepared(new Simple(normalized))
+                    ),
                     normalized,
-                    this.cache
+                    new TableNames(query, this.analyses),
+                    this.cache,
+                    this.freshness,
+                    this.fetch,
+                    this.flights,
+                    this.keys.apply(normalized)
                 );
             }
             case INSERT, UPDATE, DELETE -> {
-                this.cache.store().entries().invalidate(
-                    new MetadataInvalidate<>(
-                        new TableNames(plan.query()).value()
-                    )
-                );
+                final Set<String> names = new TableNames(
+                    query,
+                    this.analyses
+                ).value();
+                this.freshness.invalidated(names);
+                this.invalidation.exec(names);
                 yield this.origin.prepared(plan);
             }
             default -> this.origin.prepared(plan);
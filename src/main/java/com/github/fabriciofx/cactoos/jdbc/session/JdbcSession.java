@@ -10,52 +10,124 @@ import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.cactoos.Scalar;
 
 /**
  * JdbcSession.
  * Encapsulate the {@link java.sql.Connection}.
+ * <p>The connection can be opened lazily, only when a statement is prepared
+ * or the auto commit is changed. Commit, rollback and close do nothing if
+ * it has never been opened.
  * @since 0.9.0
  */
 public final class JdbcSession implements Session {
     /**
-     * JDBC Connection.
+     * Opens the JDBC Connection.
      */
-    private final Connection connection;
+    private final Scalar<Connection> source;
+
+    /**
+     * JDBC Connection, once opened.
+     */
+    private final AtomicReference<Connection> connection;
+
+    /**
+     * Guards the opening of the connection.
+     */
+    private final Lock lock;
 
     /**
      * Ctor.
      * @param connection A JDBC connection
      */
     public JdbcSession(final Connection connection) {
+        this(() -> connection, new AtomicReference<>(connection));
+    }
+
+    /**
+     * Ctor.
+     * @param connection Opens a JDBC connection when it is first needed
+     */
+    public JdbcSession(final Scalar<Connection> connection) {
+        this(connection, new AtomicReference<>());
+    }
+
+    /**
+     * Ctor.
+     * @param source Opens a JDBC connection
+     * @param connection JDBC connection, if already opened
+     */
+    private JdbcSession(
+        final Scalar<Connection> source,
+        final AtomicReference<Connection> connection
+    ) {
+        this.source = source;
         this.connection = connection;
+        this.lock = new ReentrantLock();
     }
 
     @Override
     public PreparedStatement prepared(final Plan plan) throws Exception {
-        return plan.prepare(this.connection);
+        return plan.prepare(this.opened());
     }
 
     @Override
     public void autocommit(final boolean enabled) throws Exception {
-        this.connection.setAutoCommit(enabled);
+        this.opened().setAutoCommit(enabled);
     }
 
     @Override
     public void commit() throws Exception {
-        this.connection.commit();
+        final Connection conn = this.connection.get();
+        if (conn != null) {
+            conn.commit();
+        }
     }
 
     @Override
     public void rollback() throws Exception {
-        this.connection.rollback();
+        final Connection conn = this.connection.get();
+        if (conn != null) {
+            conn.rollback();
+        }
     }
 
     @Override
     public void close() throws IOException {
-        try {
-            this.connection.close();
-        } catch (final SQLException ex) {
-            throw new IOException(ex);
+        final Connection conn = this.connection.get();
+        if (conn != null) {
+            try {
+                conn.close();
+            } catch (final SQLException ex) {
+                throw new IOException(ex);
+            }
+        }
+    }
+
+    /**
+     * The JDBC connection, opening it if needed.
+     * <p>It opens the connection holding a {@link Lock}, not a monitor, so
+     * a virtual thread waiting for the connection does not pin its carrier.
+     * @return The JDBC connection
+     * @throws Exception if fails
+     */
+    private Connection opened() throws Exception {
+        Connection conn = this.connection.get();
+        if (conn == null) {
+            this.lock.lock();
+            try {
+                conn = this.connection.get();
+                if (conn == null) {
+                    conn = this.source.value();
+                    this.connection.set(conn);
+                }
+            } finally {
+                this.lock.unlock();
+            }
         }
+        return conn;
     }
 }
@@ -84,15 +84,17 @@ public final class Logged implements Session {
             this.level,
             this.statements.incrementAndGet()
         );
-        this.logger.log(
-            this.level,
-            new FormattedText(
-                "[%s] Session[#%d] prepared PreparedStatement[#%d]",
-                this.from,
-                this.id,
-                this.statements.get()
-            ).asString()
-        );
+        if (this.logger.isLoggable(this.level)) {
+            this.logger.log(
+                this.level,
+                new FormattedText(
+                    "[%s] Session[#%d] prepared PreparedStatement[#%d]",
+                    this.from,
+                    this.id,
+                    this.statements.get()
+                ).asString()
+            );
+        }
         return prepared;
     }
 
@@ -105,50 +107,58 @@ public final class Logged implements Session {
         } else {
             msg = "[%s] Session[#%d] autocommit disabled";
         }
-        this.logger.log(
-            this.level,
-            new FormattedText(msg, this.from, this.id).asString()
-        );
+        if (this.logger.isLoggable(this.level)) {
+            this.logger.log(
+                this.level,
+                new FormattedText(msg, this.from, this.id).asString()
+            );
+        }
     }
 
     @Override
     public void commit() throws Exception {
         this.origin.commit();
-        this.logger.log(
-            this.level,
-            new FormattedText(
-                "[%s] Session[#%d] committed",
-                this.from,
-                this.id
-            ).asString()
-        );
+        if (this.logger.isLoggable(this.level)) {
+            this.logger.log(
+                this.level,
+                new FormattedText(
+                    "[%s] Session[#%d] committed",
+                    this.from,
+                    this.id
+                ).asString()
+            );
+        }
     }
 
     @Override
     public void rollback() throws Exception {
         this.origin.rollback();
-        this.logger.log(
-            this.level,
-            new FormattedText(
-                "[%s] Session[#%d] rolled back",
-                this.from,
-                this.id
-            ).asString()
-        );
+        if (this.logger.isLoggable(this.level)) {
+            this.logger.log(
+                this.level,
+                new FormattedText(
+                    "[%s] Session[#%d] rolled back",
+                    this.from,
+                    this.id
+                ).asString()
+            );
+        }
     }
 
     @Override
     public void close() throws IOException {
         this.origin.close();
-        this.logger.log(
-            this.level,
-            new UncheckedText(
-                new FormattedText(
-                    "[%s] Session[#%d] closed",
-                    this.from,
-                    this.id
-                )
-            ).asString()
-        );
+        if (this.logger.isLoggable(this.level)) {
+            this.logger.log(
+                this.level,
+                new UncheckedText(
+                    new FormattedText(
+                        "[%s] Session[#%d] closed",
+                        this.from,
+                        this.id
+                    )
+                ).asString()
+            );
+        }
     }
 }
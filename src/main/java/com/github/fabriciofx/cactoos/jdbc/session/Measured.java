@@ -0,0 +1,94 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.session;
+
+import com.github.fabriciofx.cactoos.jdbc.Plan;
+import com.github.fabriciofx.cactoos.jdbc.Registry;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.analysis.Analyses;
+import com.github.fabriciofx.cactoos.jdbc.query.MetricTag;
+import java.io.IOException;
+import java.sql.PreparedStatement;
+
+/**
+ * Measured.
+ * A decorator for Session that measures its statements, tagged by their
+ * normalized SQL as a {@link MetricTag}, and counts commits in
+ * {@code jdbc.transaction.commit} and rollbacks in
+ * {@code jdbc.transaction.rollback}.
+ * @since 1.0
+ */
+public final class Measured implements Session {
+    /**
+     * Session.
+     */
+    private final Session origin;
+
+    /**
+     * Registry.
+     */
+    private final Registry registry;
+
+    /**
+     * Analyses of the SQL code.
+     */
+    private final Analyses analyses;
+
+    /**
+     * Ctor.
+     * @param origin A session
+     * @param registry Registry of metrics
+     */
+    public Measured(final Session origin, final Registry registry) {
+        this(origin, registry, new Analyses());
+    }
+
+    /**
+     * Ctor.
+     * @param origin A session
+     * @param registry Registry of metrics
+     * @param analyses Analyses of the SQL code, shared among sessions
+     */
+    public Measured(
+        final Session origin,
+        final Registry registry,
+        final Analyses analyses
+    ) {
+        this.origin = origin;
+        this.registry = registry;
+        this.analyses = analyses;
+    }
+
+    @Override
+    public PreparedStatement prepared(final Plan plan) throws Exception {
+        return new com.github.fabriciofx.cactoos.jdbc.prepared.Measured(
+            this.origin.prepared(plan),
+            this.registry,
+            new MetricTag(plan.query(), this.analyses).asString()
+        );
+    }
+
+    @Override
+    public void autocommit(final boolean enabled) throws Exception {
+        this.origin.autocommit(enabled);
+    }
+
+    @Override
+    public void commit() throws Exception {
+        this.origin.commit();
+        this.registry.count("jdbc.transaction.commit", "", 1L);
+    }
+
+    @Override
+    public void rollback() throws Exception {
+        this.origin.rollback();
+        this.registry.count("jdbc.transaction.rollback", "", 1L);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.origin.close();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.session;
+
+import com.github.fabriciofx.cactoos.jdbc.Plan;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.profile.Profile;
+import java.io.IOException;
+import java.sql.PreparedStatement;
+
+/**
+ * Profiled.
+ * A decorator for Session that records the latency of its statements, by
+ * normalized SQL, in a {@link Profile}, usually shared by all sessions.
+ * @since 1.0
+ */
+public final class Profiled implements Session {
+    /**
+     * Session.
+     */
+    private final Session origin;
+
+    /**
+     * Profile.
+     */
+    private final Profile profile;
+
+    /**
+     * Ctor.
+     * @param origin A session
+     * @param profile Profile of the queries
+     */
+    public Profiled(final Session origin, final Profile profile) {
+        this.origin = origin;
+        this.profile = profile;
+    }
+
+    @Override
+    public PreparedStatement prepared(final Plan plan) throws Exception {
+        return new com.github.fabriciofx.cactoos.jdbc.prepared.Profiled(
+            this.origin.prepared(plan),
+            this.profile,
+            this.profile.fingerprint(plan.query()),
+            plan.query()
+        );
+    }
+
+    @Override
+    public void autocommit(final boolean enabled) throws Exception {
+        this.origin.autocommit(enabled);
+    }
+
+    @Override
+    public void commit() throws Exception {
+        this.origin.commit();
+    }
+
+    @Override
+    public void rollback() throws Exception {
+        this.origin.rollback();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.origin.close();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.session;
+
+import com.github.fabriciofx.cactoos.jdbc.Plan;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.prepared.Recycler;
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Recycled.
+ * A decorator for Session that keeps its prepared statements open and
+ * reuses them, up to a capacity, instead of preparing the same SQL again.
+ * Reused statements have their parameters cleared; the idle ones are closed
+ * with the session.
+ * @since 1.0
+ */
+public final class Recycled implements Session {
+    /**
+     * Session.
+     */
+    private final Session origin;
+
+    /**
+     * Recycler.
+     */
+    private final Recycler recycler;
+
+    /**
+     * Ctor.
+     * @param origin A session
+     */
+    public Recycled(final Session origin) {
+        this(origin, 64);
+    }
+
+    /**
+     * Ctor.
+     * @param origin A session
+     * @param capacity Max number of idle statements
+     */
+    public Recycled(final Session origin, final int capacity) {
+        this.origin = origin;
+        this.recycler = new Recycler(capacity);
+    }
+
+    @Override
+    public PreparedStatement prepared(final Plan plan) throws Exception {
+        return this.origin.prepared(
+            new com.github.fabriciofx.cactoos.jdbc.plan.Recycled(
+                plan,
+                this.recycler
+            )
+        );
+    }
+
+    @Override
+    public void autocommit(final boolean enabled) throws Exception {
+        this.origin.autocommit(enabled);
+    }
+
+    @Override
+    public void commit() throws Exception {
+        this.origin.commit();
+    }
+
+    @Override
+    public void rollback() throws Exception {
+        this.origin.rollback();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            this.recycler.close();
+        } catch (final SQLException ex) {
+            throw new IOException(ex);
+        } finally {
+            this.origin.close();
+        }
+    }
+}
@@ -9,14 +9,32 @@ import com.github.fabriciofx.cactoos.cache.base.CacheOf;
 import com.github.fabriciofx.cactoos.cache.base.Policed;
 import com.github.fabriciofx.cactoos.cache.policy.MaxCountPolicy;
 import com.github.fabriciofx.cactoos.jdbc.Query;
+import com.github.fabriciofx.cactoos.jdbc.Registry;
 import com.github.fabriciofx.cactoos.jdbc.Session;
 import com.github.fabriciofx.cactoos.jdbc.Source;
 import com.github.fabriciofx.cactoos.jdbc.Table;
+import com.github.fabriciofx.cactoos.jdbc.analysis.Analyses;
+import com.github.fabriciofx.cactoos.jdbc.cache.Flights;
+import com.github.fabriciofx.cactoos.jdbc.cache.Freshness;
+import com.github.fabriciofx.cactoos.jdbc.cache.Invalidation;
 import com.github.fabriciofx.cactoos.jdbc.cache.TableStore;
+import com.github.fabriciofx.cactoos.jdbc.plan.Simple;
+import com.github.fabriciofx.cactoos.jdbc.table.ColumnarTable;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.Set;
+import org.cactoos.Func;
+import org.cactoos.Proc;
 
 /**
  * Cached.
  * A {@link Source} decorator to cache query data.
+ * <p>Given a {@link TableStore}, writes invalidate only the entries of the
+ * tables they change, using the store index.
+ * <p>Given a {@link Freshness}, cached results expire and can be refreshed
+ * in the background, each refresh in a new session of the source.
+ * Concurrent misses of the same query, in any session, fetch it once.
  * @since 0.9.0
  */
 public final class Cached implements Source {
@@ -30,16 +48,85 @@ public final class Cached implements Source {
      */
     private final Cache<Query, Table> cache;
 
+    /**
+     * Analyses of the SQL code, shared by all sessions.
+     */
+    private final Analyses analyses;
+
+    /**
+     * Invalidation of the cached results of tables.
+     */
+    private final Proc<Set<String>> invalidation;
+
+    /**
+     * Freshness of the cached results.
+     */
+    private final Freshness freshness;
+
+    /**
+     * Fetches of cache misses in flight, shared by all sessions.
+     */
+    private final Flights flights;
+
+    /**
+     * Query whose bytes are the cache key of a normalized query.
+     */
+    private final Func<Query, Query> keys;
+
     /**
      * Ctor.
      * @param source The source
      */
     public Cached(final Source source) {
+        this(source, new TableStore());
+    }
+
+    /**
+     * Ctor.
+     * @param source The source
+     * @param store The store
+     */
+    public Cached(final Source source, final TableStore store) {
+        this(
+            source,
+            new Policed<>(
+                new CacheOf<>(store),
+                new MaxCountPolicy<>()
+            ),
+            new Analyses(),
+            store::invalidate
+        );
+    }
+
+    /**
+     * Ctor.
+     * <p>Counts the hits, misses and evictions of the store in a
+     * {@link Registry}.
+     * @param source The source
+     * @param store The store
+     * @param registry Registry of metrics
+     */
+    public Cached(
+        final Source source,
+        final TableStore store,
+        final Registry registry
+    ) {
         this(
             source,
             new Policed<>(
-                new CacheOf<>(new TableStore()),
+                new CacheOf<>(
+                    new com.github.fabriciofx.cactoos.jdbc.cache.Measured(
+                        store,
+                        registry
+                    )
+                ),
                 new MaxCountPolicy<>()
+            ),
+            new Analyses(),
+            tables -> registry.count(
+                "jdbc.cache.invalidation",
+                "tables",
+                store.invalidate(tables).size()
             )
         );
     }
@@ -52,16 +139,166 @@ public final class Cached implements Source {
     public Cached(
         final Source source,
         final Cache<Query, Table> cache
+    ) {
+        this(source, cache, new Analyses());
+    }
+
+    /**
+     * Ctor.
+     * @param source The source
+     * @param cache The cache
+     * @param analyses Analyses of the SQL code
+     */
+    public Cached(
+        final Source source,
+        final Cache<Query, Table> cache,
+        final Analyses analyses
+    ) {
+        this(
+            source,
+            cache,
+            analyses,
+            new Invalidation(cache)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param source The source
+     * @param cache The cache
+     * @param analyses Analyses of the SQL code
+     * @param invalidation Invalidation of the cached results of tables
+     */
+    public Cached(
+        final Source source,
+        final Cache<Query, Table> cache,
+        final Analyses analyses,
+        final Proc<Set<String>> invalidation
+    ) {
+        this(source, cache, analyses, invalidation, new Freshness());
+    }
+
+    /**
+     * Ctor.
+     * @param source The source
+     * @param cache The cache
+     * @param analyses Analyses of the SQL code
+     * @param invalidation Invalidation of the cached results of tables
+     * @param freshness Freshness of the cached results
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public Cached(
+        final Source source,
+        final Cache<Query, Table> cache,
+        final Analyses analyses,
+        final Proc<Set<String>> invalidation,
+        final Freshness freshness
+    ) {
+        this(source, cache, analyses, invalidation, freshness, query -> query);
+    }
+
+    /**
+     * Ctor.
+     * @param source The source
+     * @param cache The cache
+     * @param analyses Analyses of the SQL code
+     * @param invalidation Invalidation of the cached results of tables
+     * @param freshness Freshness of the cached results
+     * @param keys Query whose bytes are the cache key of a normalized query,
+     *  as a {@link com.github.fabriciofx.cactoos.jdbc.query.Fingerprinted}
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public Cached(
+        final Source source,
+        final Cache<Query, Table> cache,
+        final Analyses analyses,
+        final Proc<Set<String>> invalidation,
+        final Freshness freshness,
+        final Func<Query, Query> keys
+    ) {
+        this(
+            source,
+            cache,
+            analyses,
+            invalidation,
+            freshness,
+            keys,
+            new Flights()
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param source The source
+     * @param cache The cache
+     * @param analyses Analyses of the SQL code
+     * @param invalidation Invalidation of the cached results of tables
+     * @param freshness Freshness of the cached results
+     * @param keys Query whose bytes are the cache key of a normalized query,
+     *  as a {@link com.github.fabriciofx.cactoos.jdbc.query.Fingerprinted}
+     * @param timeout How long a miss waits for the same query in flight
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public Cached(
+        final Source source,
+        final Cache<Query, Table> cache,
+        final Analyses analyses,
+        final Proc<Set<String>> invalidation,
+        final Freshness freshness,
+        final Func<Query, Query> keys,
+        final Duration timeout
+    ) {
+        this(
+            source,
+            cache,
+            analyses,
+            invalidation,
+            freshness,
+            keys,
+            new Flights(timeout)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param source The source
+     * @param cache The cache
+     * @param analyses Analyses of the SQL code
+     * @param invalidation Invalidation of the cached results of tables
+     * @param freshness Freshness of the cached results
+     * @param keys Query whose bytes are the cache key of a normalized query
+     * @param flights Fetches of cache misses in flight
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private Cached(
+        final Source source,
+        final Cache<Query, Table> cache,
+        final Analyses analyses,
+        final Proc<Set<String>> invalidation,
+        final Freshness freshness,
+        final Func<Query, Query> keys,
+        final Flights flights
     ) {
         this.origin = source;
         this.cache = cache;
+        this.analyses = analyses;
+        this.invalidation = invalidation;
+        this.freshness = freshness;
+        this.flights = flights;
+        this.keys = keys;
     }
 
     @Override
     public Session session() throws Exception {
         return new com.github.fabriciofx.cactoos.jdbc.session.Cached(
             this.origin.session(),
-            this.cache
+            this.cache,
+            this.analyses,
+            this.invalidation,
+            this.freshness,
+            this::fetched,
+            this.flights,
+            this.keys
         );
     }
 
@@ -79,4 +316,23 @@ public final class Cached implements Source {
     public String password() {
         return this.origin.password();
     }
+
+    /**
+     * Fetch a query in a new session.
+     * @param query The query
+     * @return Its result
+     * @throws Exception if fails
+     */
+    private Table fetched(final Query query) throws Exception {
+        try (
+            Session session = this.origin.session();
+            PreparedStatement stmt = session.prepared(new Simple(query));
+            ResultSet rset = stmt.executeQuery()
+        ) {
+            final Table table = new ColumnarTable(rset);
+            table.rows();
+            table.columns();
+            return table;
+        }
+    }
 }
@@ -65,24 +65,64 @@ public final class Logged implements Source {
         final String from,
         final Logger logger
     ) {
-        this.origin = source;
-        this.from = from;
-        this.logger = logger;
-        this.level = new Unchecked<>(
-            new Sticky<>(
-                () -> {
-                    Level lvl = logger.getLevel();
-                    if (lvl == null) {
-                        Logger parent = logger;
-                        while (lvl == null) {
-                            parent = parent.getParent();
-                            lvl = parent.getLevel();
+        this(
+            source,
+            from,
+            logger,
+            new Unchecked<>(
+                new Sticky<>(
+                    () -> {
+                        Level lvl = logger.getLevel();
+                        if (lvl == null) {
+                            Logger parent = logger;
+                            while (lvl == null) {
+                                parent = parent.getParent();
+                                lvl = parent.getLevel();
+                            }
                         }
+                        return lvl;
                     }
-                    return lvl;
-                }
+                )
             )
         );
+    }
+
+    /**
+     * Ctor.
+     * <p>Nothing is formatted if the logger does not log at this level, so
+     * a Logged source can stay in place, at a disabled level, at near-zero
+     * cost.
+     * @param source A Source
+     * @param from Where the logs come from
+     * @param logger A logger
+     * @param level The level of the logs
+     */
+    public Logged(
+        final Source source,
+        final String from,
+        final Logger logger,
+        final Level level
+    ) {
+        this(source, from, logger, new Unchecked<>(() -> level));
+    }
+
+    /**
+     * Ctor.
+     * @param source A Source
+     * @param from Where the logs come from
+     * @param logger A logger
+     * @param level The level of the logs
+     */
+    private Logged(
+        final Source source,
+        final String from,
+        final Logger logger,
+        final Unchecked<Level> level
+    ) {
+        this.origin = source;
+        this.from = from;
+        this.logger = logger;
+        this.level = level;
         this.sessions = new AtomicInteger(-1);
     }
 
@@ -95,58 +135,66 @@ public final class Logged implements Source {
             this.level.value(),
             this.sessions.incrementAndGet()
         );
-        this.logger.log(
-            this.level.value(),
-            new FormattedText(
-                "[%s] Session[#%d] opened",
-                this.from,
-                this.sessions.get()
-            ).asString()
-        );
+        if (this.logger.isLoggable(this.level.value())) {
+            this.logger.log(
+                this.level.value(),
+                new FormattedText(
+                    "[%s] Session[#%d] opened",
+                    this.from,
+                    this.sessions.get()
+                ).asString()
+            );
+        }
         return session;
     }
 
     @Override
     public String url() throws Exception {
         final String location = this.origin.url();
-        this.logger.log(
-            this.level.value(),
-            new FormattedText(
-                "[%s] Source retrieve url: '%s'",
-                this.from,
-                location
-            ).asString()
-        );
+        if (this.logger.isLoggable(this.level.value())) {
+            this.logger.log(
+                this.level.value(),
+                new FormattedText(
+                    "[%s] Source retrieve url: '%s'",
+                    this.from,
+                    location
+                ).asString()
+            );
+        }
         return location;
     }
 
     @Override
     public String username() {
         final String user = this.origin.username();
-        this.logger.log(
-            this.level.value(),
-            new UncheckedText(
-                new FormattedText(
-                    "[%s] Source retrieve username: '%s'",
-                    this.from,
-                    user
-                )
-            ).asString()
-        );
+        if (this.logger.isLoggable(this.level.value())) {
+            this.logger.log(
+                this.level.value(),
+                new UncheckedText(
+                    new FormattedText(
+                        "[%s] Source retrieve username: '%s'",
+                        this.from,
+                        user
+                    )
+                ).asString()
+            );
+        }
         return user;
     }
 
     @Override
     public String password() {
-        this.logger.log(
-            this.level.value(),
-            new UncheckedText(
-                new FormattedText(
-                    "[%s] Source retrieve password: '********'",
-                    this.from
-                )
-            ).asString()
-        );
+        if (this.logger.isLoggable(this.level.value())) {
+            this.logger.log(
+                this.level.value(),
+                new UncheckedText(
+                    new FormattedText(
+                        "[%s] Source retrieve password: '********'",
+                        this.from
+                    )
+                ).asString()
+            );
+        }
         return this.origin.password();
     }
 }
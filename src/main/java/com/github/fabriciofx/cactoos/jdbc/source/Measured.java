@@ -0,0 +1,84 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.source;
+
+import com.github.fabriciofx.cactoos.jdbc.Registry;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.Source;
+import com.github.fabriciofx.cactoos.jdbc.analysis.Analyses;
+
+/**
+ * Measured Source.
+ * <p>Its sessions record their metrics in a {@link Registry}. The time to
+ * acquire a connection from a {@link Pooled} source is recorded by its
+ * {@link com.github.fabriciofx.cactoos.jdbc.pool.Metrics}.
+ *
+ * @since 1.0
+ */
+public final class Measured implements Source {
+    /**
+     * Source.
+     */
+    private final Source origin;
+
+    /**
+     * Registry.
+     */
+    private final Registry registry;
+
+    /**
+     * Analyses of the SQL code, shared by all sessions.
+     */
+    private final Analyses analyses;
+
+    /**
+     * Ctor.
+     * @param source A Source
+     * @param registry Registry of metrics
+     */
+    public Measured(final Source source, final Registry registry) {
+        this(source, registry, new Analyses());
+    }
+
+    /**
+     * Ctor.
+     * @param source A Source
+     * @param registry Registry of metrics
+     * @param analyses Analyses of the SQL code, shared by all sessions
+     */
+    public Measured(
+        final Source source,
+        final Registry registry,
+        final Analyses analyses
+    ) {
+        this.origin = source;
+        this.registry = registry;
+        this.analyses = analyses;
+    }
+
+    @Override
+    public Session session() throws Exception {
+        return new com.github.fabriciofx.cactoos.jdbc.session.Measured(
+            this.origin.session(),
+            this.registry,
+            this.analyses
+        );
+    }
+
+    @Override
+    public String url() throws Exception {
+        return this.origin.url();
+    }
+
+    @Override
+    public String username() {
+        return this.origin.username();
+    }
+
+    @Override
+    public String password() {
+        return this.origin.password();
+    }
+}
@@ -6,6 +6,8 @@ package com.github.fabriciofx.cactoos.jdbc.source;
 
 import com.github.fabriciofx.cactoos.jdbc.Session;
 import com.github.fabriciofx.cactoos.jdbc.Source;
+import com.github.fabriciofx.cactoos.jdbc.pool.Metrics;
+import com.github.fabriciofx.cactoos.jdbc.pool.Settings;
 import com.github.fabriciofx.cactoos.jdbc.session.JdbcSession;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
@@ -15,6 +17,10 @@ import org.cactoos.scalar.Unchecked;
 
 /**
  * Pooled source.
+ * <p>A connection is borrowed from the pool only when a session really
+ * uses it, so a session answered by a cache does not hold one.
+ * <p>The pool is configured by {@link Settings} and its {@link Metrics}
+ * are updated while it is used.
  *
  * @since 0.9.0
  */
@@ -24,31 +30,57 @@ public final class Pooled implements Source {
      */
     private final Scalar<HikariDataSource> hikari;
 
+    /**
+     * Metrics.
+     */
+    private final Metrics stats;
+
     /**
      * Ctor.
      * @param source Source to be pooled
      */
     public Pooled(final Source source) {
+        this(source, new Settings());
+    }
+
+    /**
+     * Ctor.
+     * @param source Source to be pooled
+     * @param settings Pool settings
+     */
+    public Pooled(final Source source, final Settings settings) {
+        this(source, settings, new Metrics());
+    }
+
+    /**
+     * Ctor.
+     * @param source Source to be pooled
+     * @param settings Pool settings
+     * @param metrics Pool metrics
+     */
+    public Pooled(
+        final Source source,
+        final Settings settings,
+        final Metrics metrics
+    ) {
         this.hikari = new Sticky<>(
             () -> {
-                final HikariConfig config = new HikariConfig();
-                config.setPoolName("cactoos-jdbc-pool");
+                final HikariConfig config = new HikariConfig(
+                    settings.properties()
+                );
                 config.setJdbcUrl(source.url());
                 config.setUsername(source.username());
                 config.setPassword(source.password());
-                config.setMaximumPoolSize(10);
-                config.setMinimumIdle(2);
-                config.setConnectionTimeout(30_000);
-                config.setIdleTimeout(600_000);
-                config.setMaxLifetime(1_800_000);
+                config.setMetricsTrackerFactory(metrics);
                 return new HikariDataSource(config);
             }
         );
+        this.stats = metrics;
     }
 
     @Override
     public Session session() throws Exception {
-        return new JdbcSession(this.hikari.value().getConnection());
+        return new JdbcSession(() -> this.hikari.value().getConnection());
     }
 
     @Override
@@ -65,4 +97,21 @@ public final class Pooled implements Source {
     public String password() {
         return new Unchecked<>(this.hikari).value().getPassword();
     }
+
+    /**
+     * Maximum amount of connections of the pool.
+     * @return The pool size
+     * @throws Exception if fails
+     */
+    public int size() throws Exception {
+        return this.hikari.value().getMaximumPoolSize();
+    }
+
+    /**
+     * Pool metrics.
+     * @return The metrics
+     */
+    public Metrics metrics() {
+        return this.stats;
+    }
 }
@@ -0,0 +1,87 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.statement;
+
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.Source;
+import com.github.fabriciofx.cactoos.jdbc.Statement;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.cactoos.Func;
+
+/**
+ * Asynchronous statement.
+ * <p>Executes a statement ({@link Select}, {@link Insert}, {@link Update},
+ * {@link KeyedInsert}, {@link Batch}, ...) in an executor, e.g.
+ * {@link com.github.fabriciofx.cactoos.jdbc.executor.Bounded}, returning
+ * at once a future of its result.
+ *
+ * <p>A session must not be used by two threads at the same time, so to
+ * run several statements in parallel, build each one with its own session
+ * taken from a {@link Source}: the session is closed when the statement
+ * finishes.
+ *
+ * @param <T> Type of the result
+ * @since 1.0
+ * @checkstyle IllegalCatchCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidCatchingGenericException")
+public final class Async<T> implements Statement<CompletableFuture<T>> {
+    /**
+     * Statement.
+     */
+    private final Statement<T> origin;
+
+    /**
+     * Executor.
+     */
+    private final Executor executor;
+
+    /**
+     * Ctor.
+     * @param source A source, to open a session for the statement
+     * @param statement Build the statement with the session
+     * @param executor An executor
+     */
+    public Async(
+        final Source source,
+        final Func<Session, Statement<T>> statement,
+        final Executor executor
+    ) {
+        this(
+            () -> {
+                try (Session session = source.session()) {
+                    return statement.apply(session).execute();
+                }
+            },
+            executor
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param statement A statement
+     * @param executor An executor
+     */
+    public Async(final Statement<T> statement, final Executor executor) {
+        this.origin = statement;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<T> execute() {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        this.executor.execute(
+            () -> {
+                try {
+                    future.complete(this.origin.execute());
+                } catch (final Exception ex) {
+                    future.completeExceptionally(ex);
+                }
+            }
+        );
+        return future;
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.statement;
+
+import com.github.fabriciofx.cactoos.jdbc.Params;
+import com.github.fabriciofx.cactoos.jdbc.Query;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.Statement;
+import com.github.fabriciofx.cactoos.jdbc.plan.Unbound;
+import java.sql.PreparedStatement;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import org.cactoos.Proc;
+
+/**
+ * Chunked batch statement.
+ * <p>Unlike {@link Batch}, it does not build one batch with all rows: it
+ * binds the rows one at a time, as they are read from the params, and
+ * executes the batch every {@code size} rows. So the params can be lazy
+ * (e.g. read from a file) and only one chunk is kept by the driver.
+ *
+ * <p>If asked, it commits after each chunk, disabling autocommit while
+ * executing and restoring the previous autocommit mode after: a failure
+ * rolls back only the current chunk, keeping the chunks already committed.
+ *
+ * <p>It returns the update counts of all rows, as {@link Batch} does, or
+ * hands the update counts of each chunk to a {@link Proc}, without keeping
+ * them, see {@link #execute(Proc)}.
+ *
+ * @since 1.0
+ * @checkstyle IllegalCatchCheck (500 lines)
+ */
+@SuppressWarnings(
+    {
+        "PMD.AvoidCatchingGenericException",
+        "PMD.UnnecessaryLocalRule"
+    }
+)
+public final class ChunkedBatch implements Statement<int[]> {
+    /**
+     * Session.
+     */
+    private final Session session;
+
+    /**
+     * The SQL query.
+     */
+    private final Query qry;
+
+    /**
+     * The rows params.
+     */
+    private final Iterable<Params> rows;
+
+    /**
+     * Amount of rows per chunk.
+     */
+    private final int size;
+
+    /**
+     * Commit after each chunk.
+     */
+    private final boolean commit;
+
+    /**
+     * Ctor.
+     * @param session A {@link Session}
+     * @param query A SQL {@link Query}, with the params of all rows
+     * @param size Amount of rows per chunk
+     */
+    public ChunkedBatch(
+        final Session session,
+        final Query query,
+        final int size
+    ) {
+        this(session, query, size, false);
+    }
+
+    /**
+     * Ctor.
+     * @param session A {@link Session}
+     * @param query A SQL {@link Query}, with the params of all rows
+     * @param size Amount of rows per chunk
+     * @param commit Commit after each chunk
+     */
+    public ChunkedBatch(
+        final Session session,
+        final Query query,
+        final int size,
+        final boolean commit
+    ) {
+        this(session, query, query.params(), size, commit);
+    }
+
+    /**
+     * Ctor.
+     * @param session A {@link Session}
+     * @param query A SQL {@link Query}, used only for its SQL
+     * @param rows The params of the rows, read only once
+     * @param size Amount of rows per chunk
+     * @param commit Commit after each chunk
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public ChunkedBatch(
+        final Session session,
+        final Query query,
+        final Iterator<Params> rows,
+        final int size,
+        final boolean commit
+    ) {
+        this(session, query, () -> rows, size, commit);
+    }
+
+    /**
+     * Ctor.
+     * @param session A {@link Session}
+     * @param query A SQL {@link Query}, used only for its SQL
+     * @param rows The params of the rows
+     * @param size Amount of rows per chunk
+     * @param commit Commit after each chunk
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public ChunkedBatch(
+        final Session session,
+        final Query query,
+        final Iterable<Params> rows,
+        final int size,
+        final boolean commit
+    ) {
+        if (size < 1) {
+            throw new IllegalArgumentException(
+                "Chunk size must be greater than zero"
+            );
+        }
+        this.session = session;
+        this.qry = query;
+        this.rows = rows;
+        this.size = size;
+        this.commit = commit;
+    }
+
+    @Override
+    public int[] execute() throws Exception {
+        final List<int[]> counts = new LinkedList<>();
+        this.execute(counts::add);
+        return ChunkedBatch.joined(counts);
+    }
+
+    /**
+     * Execute, handing the update counts of each chunk, as it is executed,
+     * instead of keeping them.
+     * @param chunks Receives the update counts of each chunk
+     * @throws Exception if fails
+     */
+    public void execute(final Proc<int[]> chunks) throws Exception {
+        try (
+            PreparedStatement stmt = this.session.prepared(
+                new Unbound(this.qry)
+            )
+        ) {
+            final boolean previous = stmt.getConnection().getAutoCommit();
+            if (this.commit) {
+                this.session.autocommit(false);
+            }
+            try {
+                this.chunks(stmt, chunks);
+            } finally {
+                if (this.commit) {
+                    this.session.autocommit(previous);
+                }
+            }
+        }
+    }
+
+    /**
+     * Bind all rows and execute them in chunks.
+     * @param stmt The statement
+     * @param chunks Receives the update counts of each chunk
+     * @throws Exception if fails
+     */
+    private void chunks(
+        final PreparedStatement stmt,
+        final Proc<int[]> chunks
+    ) throws Exception {
+        int pending = 0;
+        try {
+            for (final Params params : this.rows) {
+                params.prepare(stmt);
+                stmt.addBatch();
+                ++pending;
+                if (pending == this.size) {
+                    chunks.exec(this.flush(stmt));
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                chunks.exec(this.flush(stmt));
+            }
+        } catch (final Exception ex) {
+            if (this.commit) {
+                this.session.rollback();
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Execute the pending chunk.
+     * @param stmt The statement
+     * @return The update counts of the chunk
+     * @throws Exception if fails
+     */
+    private int[] flush(final PreparedStatement stmt) throws Exception {
+        final int[] counts = stmt.executeBatch();
+        stmt.clearBatch();
+        if (this.commit) {
+            this.session.commit();
+        }
+        return counts;
+    }
+
+    /**
+     * Join the update counts of all chunks.
+     * @param chunks The update counts of each chunk
+     * @return All update counts
+     */
+    private static int[] joined(final List<int[]> chunks) {
+        int total = 0;
+        for (final int[] chunk : chunks) {
+            total += chunk.length;
+        }
+        final int[] counts = new int[total];
+        int pos = 0;
+        for (final int[] chunk : chunks) {
+            System.arraycopy(chunk, 0, counts, pos, chunk.length);
+            pos += chunk.length;
+        }
+        return counts;
+    }
+}
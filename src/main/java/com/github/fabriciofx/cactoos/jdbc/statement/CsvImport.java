@@ -0,0 +1,234 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.statement;
+
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.Statement;
+import com.github.fabriciofx.cactoos.jdbc.params.CsvRows;
+import com.github.fabriciofx.cactoos.jdbc.plan.Simple;
+import com.github.fabriciofx.cactoos.jdbc.query.QueryOf;
+import java.io.BufferedReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * CsvImport.
+ * <p>Inserts the rows of a CSV (RFC 4180) file in UTF-8, as written by
+ * {@link com.github.fabriciofx.cactoos.jdbc.export.CsvExport}, into a table.
+ * The header line names the columns; their types are read from the table,
+ * so each field is bound as a typed param. The file is read through
+ * {@link CsvRows}, that memory-maps it, and the rows are inserted by a
+ * {@link ChunkedBatch}, so neither the file nor the rows are kept in memory.
+ *
+ * <p>It returns the total of rows inserted, summed chunk by chunk, instead
+ * of the update counts of all rows; a row inserted without a count, as
+ * some drivers report in batches, counts as one, and a row reported as
+ * failed, with a driver that goes on after a failure, fails the import.
+ *
+ * @since 1.0
+ */
+public final class CsvImport implements Statement<Long> {
+    /**
+     * Session.
+     */
+    private final Session session;
+
+    /**
+     * The CSV file.
+     */
+    private final Path file;
+
+    /**
+     * Name of the table.
+     */
+    private final String table;
+
+    /**
+     * Amount of rows per chunk.
+     */
+    private final int size;
+
+    /**
+     * Commit after each chunk.
+     */
+    private final boolean commit;
+
+    /**
+     * Ctor.
+     * @param session A {@link Session}
+     * @param file The CSV file
+     * @param table Name of the table
+     */
+    public CsvImport(
+        final Session session,
+        final Path file,
+        final String table
+    ) {
+        // @checkstyle MagicNumber (1 line)
+        this(session, file, table, 1000, false);
+    }
+
+    /**
+     * Ctor.
+     * @param session A {@link Session}
+     * @param file The CSV file
+     * @param table Name of the table
+     * @param size Amount of rows per chunk
+     * @param commit Commit after each chunk
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public CsvImport(
+        final Session session,
+        final Path file,
+        final String table,
+        final int size,
+        final boolean commit
+    ) {
+        this.session = session;
+        this.file = file;
+        this.table = table;
+        this.size = size;
+        this.commit = commit;
+    }
+
+    @Override
+    public Long execute() throws Exception {
+        final List<String> names = this.header();
+        final String columns = String.join(", ", names);
+        final int[] types = new int[names.size()];
+        try (
+            PreparedStatement stmt = this.session.prepared(
+                new Simple(
+                    new QueryOf(
+                        new FormattedText(
+                            "SELECT %s FROM %s WHERE 1 = 0",
+                            columns,
+                            this.table
+                        )
+                    )
+                )
+            );
+            ResultSet rset = stmt.executeQuery()
+        ) {
+            final ResultSetMetaData meta = rset.getMetaData();
+            for (int col = 0; col < types.length; ++col) {
+                types[col] = meta.getColumnType(col + 1);
+            }
+        }
+        final AtomicLong total = new AtomicLong();
+        try (CsvRows rows = new CsvRows(this.file, names, types)) {
+            new ChunkedBatch(
+                this.session,
+                new QueryOf(
+                    new FormattedText(
+                        "INSERT INTO %s (%s) VALUES (%s)",
+                        this.table,
+                        columns,
+                        String.join(
+                            ", ",
+                            Collections.nCopies(types.length, "?")
+                        )
+                    )
+                ),
+                rows,
+                this.size,
+                this.commit
+            ).execute(
+                counts -> {
+                    for (final int count : counts) {
+                        total.addAndGet(CsvImport.inserted(count));
+                    }
+                }
+            );
+        }
+        return total.get();
+    }
+
+    /**
+     * Read the columns from the header line, checking them and the table
+     * as identifiers, since they are written in the SQL.
+     * @return The names of the columns
+     * @throws Exception if fails
+     */
+    private List<String> header() throws Exception {
+        CsvImport.identifier(this.table);
+        final String line;
+        try (
+            BufferedReader reader = Files.newBufferedReader(
+                this.file,
+                StandardCharsets.UTF_8
+            )
+        ) {
+            line = reader.readLine();
+        }
+        if (line == null || line.isBlank()) {
+            throw new IllegalArgumentException(
+                new UncheckedText(
+                    new FormattedText(
+                        "CSV file '%s' has no header",
+                        this.file
+                    )
+                ).asString()
+            );
+        }
+        final List<String> names = new ArrayList<>(0);
+        for (final String field : line.split(",", -1)) {
+            final String name = field.strip().replace("\"", "");
+            CsvImport.identifier(name);
+            names.add(name);
+        }
+        return names;
+    }
+
+    /**
+     * Amount of rows inserted by a batched row.
+     * @param count The update count of the row
+     * @return The amount of rows
+     * @throws SQLException if the row failed to be inserted
+     */
+    private static int inserted(final int count) throws SQLException {
+        final int rows;
+        if (count == java.sql.Statement.SUCCESS_NO_INFO) {
+            rows = 1;
+        } else if (count < 0) {
+            throw new SQLException(
+                new UncheckedText(
+                    new FormattedText(
+                        "A row failed to be inserted, with update count %d",
+                        count
+                    )
+                ).asString()
+            );
+        } else {
+            rows = count;
+        }
+        return rows;
+    }
+
+    /**
+     * Check an identifier.
+     * @param name The identifier
+     */
+    private static void identifier(final String name) {
+        if (!name.matches("[A-Za-z_][A-Za-z0-9_.]*")) {
+            throw new IllegalArgumentException(
+                new UncheckedText(
+                    new FormattedText("Invalid SQL identifier '%s'", name)
+                ).asString()
+            );
+        }
+    }
+}
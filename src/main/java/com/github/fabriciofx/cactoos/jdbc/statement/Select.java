@@ -10,7 +10,7 @@ import com.github.fabriciofx.cactoos.jdbc.Statement;
 import com.github.fabriciofx.cactoos.jdbc.Table;
 import com.github.fabriciofx.cactoos.jdbc.plan.Simple;
 import com.github.fabriciofx.cactoos.jdbc.rset.CachedResultSet;
-import com.github.fabriciofx.cactoos.jdbc.table.ArrayedTable;
+import com.github.fabriciofx.cactoos.jdbc.table.ColumnarTable;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 
@@ -46,10 +46,20 @@ public final class Select implements Statement<ResultSet> {
         try (
             PreparedStatement stmt = this.session.prepared(new Simple(this.qry))
         ) {
-            try (ResultSet rset = stmt.executeQuery()) {
-                final Table table = new ArrayedTable(rset);
-                return new CachedResultSet(table.rows(), table.columns());
+            final ResultSet rset = stmt.executeQuery();
+            final ResultSet result;
+            if (rset instanceof CachedResultSet) {
+                result = rset;
+            } else {
+                try (rset) {
+                    final Table table = new ColumnarTable(rset);
+                    result = new CachedResultSet(
+                        table.rows(),
+                        table.columns()
+                    );
+                }
             }
+            return result;
         }
     }
 }
@@ -0,0 +1,83 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.statement;
+
+import com.github.fabriciofx.cactoos.jdbc.Query;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.Statement;
+import com.github.fabriciofx.cactoos.jdbc.plan.Simple;
+import com.github.fabriciofx.cactoos.jdbc.rset.Live;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Streamed select.
+ * <p>Unlike {@link Select}, it does not read the whole result into memory:
+ * it returns a live {@link ResultSet}, still attached to the database
+ * cursor, that fetches rows from the database in blocks of the fetch size.
+ * The ResultSet must be closed, what closes its statement too, and can only
+ * be read while the session is open. Wrap it in a
+ * {@link com.github.fabriciofx.cactoos.jdbc.rset.Cursor} to read it as
+ * rows.
+ *
+ * <p>Some drivers (e.g. PostgreSQL) only honour the fetch size when
+ * autocommit is disabled. A cached session reads the whole result anyway.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.CloseResource")
+public final class Streamed implements Statement<ResultSet> {
+    /**
+     * Session.
+     */
+    private final Session session;
+
+    /**
+     * The SQL query.
+     */
+    private final Query qry;
+
+    /**
+     * Amount of rows fetched from the database at once.
+     */
+    private final int fetch;
+
+    /**
+     * Ctor.
+     * @param session A {@link Session}
+     * @param query A SQL {@link Query}
+     */
+    public Streamed(final Session session, final Query query) {
+        // @checkstyle MagicNumber (1 line)
+        this(session, query, 1000);
+    }
+
+    /**
+     * Ctor.
+     * @param session A {@link Session}
+     * @param query A SQL {@link Query}
+     * @param fetch Amount of rows fetched from the database at once
+     */
+    public Streamed(final Session session, final Query query, final int fetch) {
+        this.session = session;
+        this.qry = query;
+        this.fetch = fetch;
+    }
+
+    @Override
+    public ResultSet execute() throws Exception {
+        final PreparedStatement stmt = this.session.prepared(
+            new Simple(this.qry)
+        );
+        try {
+            stmt.setFetchSize(this.fetch);
+            return new Live(stmt.executeQuery(), stmt);
+        } catch (final SQLException ex) {
+            stmt.close();
+            throw ex;
+        }
+    }
+}
@@ -5,14 +5,18 @@
 package com.github.fabriciofx.cactoos.jdbc.table;
 
 import com.github.fabriciofx.cactoos.jdbc.Columns;
-import com.github.fabriciofx.cactoos.jdbc.Row;
 import com.github.fabriciofx.cactoos.jdbc.Rows;
 import com.github.fabriciofx.cactoos.jdbc.Table;
-import com.github.fabriciofx.cactoos.jdbc.columns.LinkedColumns;
-import com.github.fabriciofx.cactoos.jdbc.row.LinkedRow;
+import com.github.fabriciofx.cactoos.jdbc.bytes.TableAsBytes;
+import com.github.fabriciofx.cactoos.jdbc.columns.IndexedColumns;
+import com.github.fabriciofx.cactoos.jdbc.row.ArrayedRow;
 import com.github.fabriciofx.cactoos.jdbc.rows.ArrayedRows;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.cactoos.Scalar;
 import org.cactoos.scalar.Sticky;
 import org.cactoos.text.Lowered;
@@ -41,15 +45,21 @@ public final class ArrayedTable implements Table {
             () -> {
                 final Rows rows = new ArrayedRows();
                 final ResultSetMetaData meta = rset.getMetaData();
+                final int count = meta.getColumnCount();
+                final List<String> names = new ArrayList<>(count);
+                final Map<String, Integer> indexes = new HashMap<>(count * 2);
+                for (int col = 1; col <= count; ++col) {
+                    final String label = new Lowered(meta.getColumnLabel(col))
+                        .asString();
+                    indexes.put(label, names.size());
+                    names.add(label);
+                }
                 while (rset.next()) {
-                    final Row row = new LinkedRow();
-                    for (int col = 1; col <= meta.getColumnCount(); ++col) {
-                        row.add(
-                            new Lowered(meta.getColumnLabel(col)).asString(),
-                            rset.getObject(col)
-                        );
+                    final Object[] values = new Object[count];
+                    for (int col = 1; col <= count; ++col) {
+                        values[col - 1] = rset.getObject(col);
                     }
-                    rows.add(row);
+                    rows.add(new ArrayedRow(names, indexes, values));
                 }
                 return rows;
             }
@@ -57,7 +67,7 @@ public final class ArrayedTable implements Table {
         this.labels = new Sticky<>(
             () -> {
                 final ResultSetMetaData meta = rset.getMetaData();
-                final Columns columns = new LinkedColumns();
+                final Columns columns = new IndexedColumns();
                 for (int col = 1; col <= meta.getColumnCount(); ++col) {
                     columns.add(
                         new Lowered(meta.getColumnName(col)).asString(),
@@ -81,6 +91,6 @@ public final class ArrayedTable implements Table {
 
     @Override
     public byte[] asBytes() throws Exception {
-        return this.records.value().asBytes();
+        return new TableAsBytes(this).asBytes();
     }
 }
@@ -0,0 +1,110 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.table;
+
+import com.github.fabriciofx.cactoos.jdbc.Columns;
+import com.github.fabriciofx.cactoos.jdbc.Rows;
+import com.github.fabriciofx.cactoos.jdbc.Table;
+import com.github.fabriciofx.cactoos.jdbc.bytes.BufferInput;
+import com.github.fabriciofx.cactoos.jdbc.bytes.Tag;
+import com.github.fabriciofx.cactoos.jdbc.columns.IndexedColumns;
+import com.github.fabriciofx.cactoos.jdbc.rows.BufferRows;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.cactoos.Scalar;
+import org.cactoos.map.MapEntry;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+
+/**
+ * BufferTable.
+ * <p>A {@link Table} read in place from the binary format written by
+ * {@link com.github.fabriciofx.cactoos.jdbc.bytes.TableAsBytes}, kept in a
+ * {@link ByteBuffer}, e.g. a direct or memory mapped one. Only the header
+ * and the position of each row, from the row lengths, are decoded, when the
+ * rows or columns are first needed; the rows are {@link BufferRows},
+ * decoded one at a time as they are read. The buffer is kept as long as the
+ * table is.
+ * @since 1.0
+ */
+public final class BufferTable implements Table {
+    /**
+     * The buffer.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Decoded columns and rows.
+     */
+    private final Scalar<Map.Entry<Columns, Rows>> decoded;
+
+    /**
+     * Ctor.
+     * @param buffer The table as bytes, from its position to its limit
+     */
+    public BufferTable(final ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.decoded = new Synced<>(
+            new Sticky<>(() -> BufferTable.decode(buffer.duplicate()))
+        );
+    }
+
+    @Override
+    public Rows rows() throws Exception {
+        return this.decoded.value().getValue();
+    }
+
+    @Override
+    public Columns columns() throws Exception {
+        return this.decoded.value().getKey();
+    }
+
+    @Override
+    public byte[] asBytes() throws Exception {
+        final ByteBuffer bytes = this.buffer.duplicate();
+        final byte[] copy = new byte[bytes.remaining()];
+        bytes.get(copy);
+        return copy;
+    }
+
+    /**
+     * Decode the header and find the position of each row.
+     * @param bytes The table as bytes, from its position
+     * @return The columns and rows
+     * @throws IOException if fails
+     */
+    private static Map.Entry<Columns, Rows> decode(final ByteBuffer bytes)
+        throws IOException {
+        final DataInputStream in = new DataInputStream(new BufferInput(bytes));
+        final int count = (Integer) Tag.INT.read(in);
+        final Columns columns = new IndexedColumns();
+        for (int col = 0; col < count; ++col) {
+            columns.add((String) Tag.TEXT.read(in), (Integer) Tag.INT.read(in));
+        }
+        final int width = (Integer) Tag.INT.read(in);
+        final List<String> labels = new ArrayList<>(width);
+        final Map<String, Integer> indexes = new HashMap<>(width * 2);
+        for (int col = 0; col < width; ++col) {
+            final String label = (String) Tag.TEXT.read(in);
+            indexes.put(label, labels.size());
+            labels.add(label);
+        }
+        final int[] offsets = new int[(Integer) Tag.INT.read(in)];
+        int position = bytes.position();
+        for (int idx = 0; idx < offsets.length; ++idx) {
+            offsets[idx] = position + Integer.BYTES;
+            position = offsets[idx] + bytes.getInt(position);
+        }
+        return new MapEntry<>(
+            columns,
+            new BufferRows(bytes, labels, indexes, offsets)
+        );
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.table;
+
+import com.github.fabriciofx.cactoos.jdbc.Columns;
+import com.github.fabriciofx.cactoos.jdbc.Rows;
+import com.github.fabriciofx.cactoos.jdbc.Table;
+import com.github.fabriciofx.cactoos.jdbc.rows.ArrayedRows;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Map;
+import org.cactoos.Bytes;
+import org.cactoos.Scalar;
+import org.cactoos.map.MapEntry;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+
+/**
+ * BytesTable.
+ * <p>A {@link Table} read from the binary format written by
+ * {@link com.github.fabriciofx.cactoos.jdbc.bytes.TableAsBytes}. The bytes
+ * are decoded only when the rows or columns are needed, all at once, and
+ * the rows are kept on the heap; to read them in place, e.g. out of the
+ * heap, use a {@link BufferTable}. The rows are labeled as they were when
+ * written, e.g. by the column aliases.
+ * @since 1.0
+ */
+public final class BytesTable implements Table {
+    /**
+     * Bytes.
+     */
+    private final Bytes bytes;
+
+    /**
+     * Decoded columns and rows.
+     */
+    private final Scalar<Map.Entry<Columns, Rows>> decoded;
+
+    /**
+     * Ctor.
+     * @param bytes The table as bytes
+     */
+    public BytesTable(final byte[] bytes) {
+        this(() -> bytes);
+    }
+
+    /**
+     * Ctor.
+     * @param bytes The table as bytes
+     */
+    public BytesTable(final Bytes bytes) {
+        this.bytes = bytes;
+        this.decoded = new Synced<>(
+            new Sticky<>(() -> BytesTable.decode(bytes.asBytes()))
+        );
+    }
+
+    @Override
+    public Rows rows() throws Exception {
+        return this.decoded.value().getValue();
+    }
+
+    @Override
+    public Columns columns() throws Exception {
+        return this.decoded.value().getKey();
+    }
+
+    @Override
+    public byte[] asBytes() throws Exception {
+        return this.bytes.asBytes();
+    }
+
+    /**
+     * Decode a table, keeping its rows on the heap.
+     * @param bytes The table as bytes
+     * @return The columns and rows
+     * @throws Exception if fails
+     */
+    private static Map.Entry<Columns, Rows> decode(final byte[] bytes)
+        throws Exception {
+        final Table table = new BufferTable(ByteBuffer.wrap(bytes));
+        final Rows read = table.rows();
+        final Rows rows = new ArrayedRows(new ArrayList<>(read.count()));
+        for (int idx = 0; idx < read.count(); ++idx) {
+            rows.add(read.row(idx));
+        }
+        return new MapEntry<>(table.columns(), rows);
+    }
+}
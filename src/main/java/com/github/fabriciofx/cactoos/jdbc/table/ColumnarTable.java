@@ -0,0 +1,137 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.table;
+
+import com.github.fabriciofx.cactoos.jdbc.Columns;
+import com.github.fabriciofx.cactoos.jdbc.Rows;
+import com.github.fabriciofx.cactoos.jdbc.Table;
+import com.github.fabriciofx.cactoos.jdbc.bytes.TableAsBytes;
+import com.github.fabriciofx.cactoos.jdbc.Values;
+import com.github.fabriciofx.cactoos.jdbc.columns.IndexedColumns;
+import com.github.fabriciofx.cactoos.jdbc.rows.ColumnarRows;
+import com.github.fabriciofx.cactoos.jdbc.values.BoolValues;
+import com.github.fabriciofx.cactoos.jdbc.values.DoubleValues;
+import com.github.fabriciofx.cactoos.jdbc.values.IntValues;
+import com.github.fabriciofx.cactoos.jdbc.values.LongValues;
+import com.github.fabriciofx.cactoos.jdbc.values.ObjectValues;
+import com.github.fabriciofx.cactoos.jdbc.values.TextValues;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.text.Lowered;
+
+/**
+ * ColumnarTable.
+ * <p>A {@link Table} that keeps its rows by column, choosing how to keep
+ * each column from the Java class of its values, as reported by the
+ * {@link ResultSetMetaData}: int, long, double and boolean values are kept
+ * as primitives, texts are dictionary encoded and any other value, or any
+ * column whose class the metadata can't tell, is kept as returned by the
+ * driver. It takes far less memory than an
+ * {@link ArrayedTable} for large results.
+ * @since 1.0
+ */
+public final class ColumnarTable implements Table {
+    /**
+     * Rows.
+     */
+    private final Scalar<Rows> records;
+
+    /**
+     * Columns.
+     */
+    private final Scalar<Columns> labels;
+
+    /**
+     * Ctor.
+     * @param rset A {@link ResultSet}
+     */
+    public ColumnarTable(final ResultSet rset) {
+        this.records = new Sticky<>(
+            () -> {
+                final ResultSetMetaData meta = rset.getMetaData();
+                final int count = meta.getColumnCount();
+                final List<String> names = new ArrayList<>(count);
+                final List<Values> columns = new ArrayList<>(count);
+                for (int col = 1; col <= count; ++col) {
+                    names.add(new Lowered(meta.getColumnLabel(col)).asString());
+                    columns.add(ColumnarTable.values(meta, col));
+                }
+                while (rset.next()) {
+                    for (int col = 1; col <= count; ++col) {
+                        columns.get(col - 1).read(rset, col);
+                    }
+                }
+                return new ColumnarRows(names, columns);
+            }
+        );
+        this.labels = new Sticky<>(
+            () -> {
+                final ResultSetMetaData meta = rset.getMetaData();
+                final Columns columns = new IndexedColumns();
+                for (int col = 1; col <= meta.getColumnCount(); ++col) {
+                    columns.add(
+                        new Lowered(meta.getColumnName(col)).asString(),
+                        meta.getColumnType(col)
+                    );
+                }
+                return columns;
+            }
+        );
+    }
+
+    @Override
+    public Rows rows() throws Exception {
+        return this.records.value();
+    }
+
+    @Override
+    public Columns columns() throws Exception {
+        return this.labels.value();
+    }
+
+    @Override
+    public byte[] asBytes() throws Exception {
+        return new TableAsBytes(this).asBytes();
+    }
+
+    /**
+     * Values able to keep a column.
+     * @param meta The ResultSet metadata
+     * @param column The column index, that start at 1
+     * @return The values
+     * @throws SQLException if fails
+     */
+    private static Values values(
+        final ResultSetMetaData meta,
+        final int column
+    ) throws SQLException {
+        String type;
+        try {
+            type = meta.getColumnClassName(column);
+        } catch (final UnsupportedOperationException ex) {
+            type = Object.class.getName();
+        }
+        final Values values;
+        if (Integer.class.getName().equals(type)) {
+            values = new IntValues();
+        } else if (Long.class.getName().equals(type)) {
+            values = new LongValues();
+        } else if (Double.class.getName().equals(type)) {
+            values = new DoubleValues();
+        } else if (Boolean.class.getName().equals(type)) {
+            values = new BoolValues();
+        } else if (String.class.getName().equals(type)) {
+            values = new TextValues();
+        } else {
+            values = new ObjectValues();
+        }
+        return values;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.template;
+
+import com.github.fabriciofx.cactoos.jdbc.Template;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * NamedTemplate.
+ * <p>The {@link Template} of a SQL text whose parameters are written as
+ * {@code :name}, where a name starts with a letter followed by letters,
+ * digits or underscores. The text is scanned once, when the template is
+ * built.
+ *
+ * <p>This class is immutable and thread-safe.
+ *
+ * @since 1.0
+ */
+public final class NamedTemplate implements Template {
+    /**
+     * Positional SQL code.
+     */
+    private final String code;
+
+    /**
+     * Parameter names.
+     */
+    private final List<String> params;
+
+    /**
+     * Ctor.
+     * @param sql The SQL code with named parameters
+     */
+    public NamedTemplate(final String sql) {
+        final StringBuilder positional = new StringBuilder(sql.length());
+        final List<String> names = new ArrayList<>(1);
+        int idx = 0;
+        while (idx < sql.length()) {
+            final char chr = sql.charAt(idx);
+            if (chr == ':' && idx + 1 < sql.length()
+                && NamedTemplate.alpha(sql.charAt(idx + 1))) {
+                int end = idx + 2;
+                while (end < sql.length()
+                    && (NamedTemplate.alpha(sql.charAt(end))
+                    || NamedTemplate.digit(sql.charAt(end))
+                    || sql.charAt(end) == '_')) {
+                    ++end;
+                }
+                names.add(sql.substring(idx + 1, end));
+                positional.append('?');
+                idx = end;
+            } else {
+                positional.append(chr);
+                ++idx;
+            }
+        }
+        this.code = positional.toString();
+        this.params = Collections.unmodifiableList(names);
+    }
+
+    @Override
+    public String sql() {
+        return this.code;
+    }
+
+    @Override
+    public List<String> names() {
+        return this.params;
+    }
+
+    /**
+     * Check if a char is an ASCII letter.
+     * @param chr The char
+     * @return True if it is
+     */
+    private static boolean alpha(final char chr) {
+        return chr >= 'a' && chr <= 'z' || chr >= 'A' && chr <= 'Z';
+    }
+
+    /**
+     * Check if a char is an ASCII digit.
+     * @param chr The char
+     * @return True if it is
+     */
+    private static boolean digit(final char chr) {
+        return chr >= '0' && chr <= '9';
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.template;
+
+import com.github.fabriciofx.cactoos.jdbc.Template;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Templates.
+ * <p>A bounded cache of {@link Template}s keyed by the named SQL text, so
+ * each distinct text is scanned only once. When full, the oldest templates
+ * are evicted first.
+ *
+ * <p>This class is thread-safe.
+ *
+ * @since 1.0
+ */
+public final class Templates {
+    /**
+     * Templates by SQL text.
+     */
+    private final Map<String, Template> templates;
+
+    /**
+     * SQL texts in insertion order.
+     */
+    private final Queue<String> order;
+
+    /**
+     * Max number of templates.
+     */
+    private final int max;
+
+    /**
+     * Ctor.
+     */
+    public Templates() {
+        // @checkstyle MagicNumber (1 line)
+        this(1024);
+    }
+
+    /**
+     * Ctor.
+     * @param max Max number of templates kept
+     */
+    public Templates(final int max) {
+        this.templates = new ConcurrentHashMap<>();
+        this.order = new ConcurrentLinkedQueue<>();
+        this.max = max;
+    }
+
+    /**
+     * Retrieve the template of a SQL text, compiling it if not cached.
+     * @param sql The SQL text with named parameters
+     * @return The template
+     */
+    public Template template(final String sql) {
+        Template template = this.templates.get(sql);
+        if (template == null) {
+            final Template created = new NamedTemplate(sql);
+            template = this.templates.putIfAbsent(sql, created);
+            if (template == null) {
+                template = created;
+                this.order.add(sql);
+                this.evict();
+            }
+        }
+        return template;
+    }
+
+    /**
+     * Amount of cached templates.
+     * @return The amount
+     */
+    public int size() {
+        return this.templates.size();
+    }
+
+    /**
+     * Remove the oldest templates while the cache is over its limit.
+     */
+    private void evict() {
+        while (this.templates.size() > this.max) {
+            final String oldest = this.order.poll();
+            if (oldest == null) {
+                break;
+            }
+            this.templates.remove(oldest);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.values;
+
+import com.github.fabriciofx.cactoos.jdbc.Values;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BoolValues.
+ * <p>Boolean values kept as a bitmap, plus a bitmap of nulls.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class BoolValues implements Values {
+    /**
+     * True values.
+     */
+    private final BitSet trues;
+
+    /**
+     * Null values.
+     */
+    private final BitSet nulls;
+
+    /**
+     * Amount of values.
+     */
+    private final AtomicInteger amount;
+
+    /**
+     * Ctor.
+     */
+    public BoolValues() {
+        this.trues = new BitSet();
+        this.nulls = new BitSet();
+        this.amount = new AtomicInteger();
+    }
+
+    @Override
+    public int count() {
+        return this.amount.get();
+    }
+
+    @Override
+    public void add(final Object value) {
+        if (value == null) {
+            this.addNull();
+        } else {
+            this.addValue((Boolean) value);
+        }
+    }
+
+    @Override
+    public void read(final ResultSet rset, final int column)
+        throws SQLException {
+        final boolean value = rset.getBoolean(column);
+        if (rset.wasNull()) {
+            this.addNull();
+        } else {
+            this.addValue(value);
+        }
+    }
+
+    @Override
+    public void set(final int index, final Object value) {
+        final int idx = new Index(index, this.amount.get()).value();
+        if (value == null) {
+            this.nulls.set(idx);
+        } else {
+            this.nulls.clear(idx);
+            this.trues.set(idx, (Boolean) value);
+        }
+    }
+
+    @Override
+    public Object value(final int index) {
+        final int idx = new Index(index, this.amount.get()).value();
+        final Object value;
+        if (this.nulls.get(idx)) {
+            value = null;
+        } else {
+            value = this.trues.get(idx);
+        }
+        return value;
+    }
+
+    /**
+     * Adds a null value.
+     */
+    private void addNull() {
+        this.nulls.set(this.amount.get());
+        this.addValue(false);
+    }
+
+    /**
+     * Adds a value.
+     * @param value The value
+     */
+    private void addValue(final boolean value) {
+        this.trues.set(this.amount.getAndIncrement(), value);
+    }
+}
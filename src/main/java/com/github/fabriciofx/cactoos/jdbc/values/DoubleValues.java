@@ -0,0 +1,131 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.values;
+
+import com.github.fabriciofx.cactoos.jdbc.Values;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DoubleValues.
+ * <p>Double values kept as primitives, in chunks, plus a bitmap of nulls.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class DoubleValues implements Values {
+    /**
+     * Chunks of values.
+     */
+    private final List<double[]> chunks;
+
+    /**
+     * Null values.
+     */
+    private final BitSet nulls;
+
+    /**
+     * Amount of values.
+     */
+    private final AtomicInteger amount;
+
+    /**
+     * Amount of values in a chunk.
+     */
+    private final int chunk;
+
+    /**
+     * Ctor.
+     */
+    public DoubleValues() {
+        // @checkstyle MagicNumber (1 line)
+        this(1024);
+    }
+
+    /**
+     * Ctor.
+     * @param chunk Amount of values in a chunk
+     */
+    public DoubleValues(final int chunk) {
+        this.chunks = new ArrayList<>(1);
+        this.nulls = new BitSet();
+        this.amount = new AtomicInteger();
+        this.chunk = chunk;
+    }
+
+    @Override
+    public int count() {
+        return this.amount.get();
+    }
+
+    @Override
+    public void add(final Object value) {
+        if (value == null) {
+            this.addNull();
+        } else {
+            this.addValue((Double) value);
+        }
+    }
+
+    @Override
+    public void read(final ResultSet rset, final int column)
+        throws SQLException {
+        final double value = rset.getDouble(column);
+        if (rset.wasNull()) {
+            this.addNull();
+        } else {
+            this.addValue(value);
+        }
+    }
+
+    @Override
+    public void set(final int index, final Object value) {
+        final int idx = new Index(index, this.amount.get()).value();
+        if (value == null) {
+            this.nulls.set(idx);
+        } else {
+            this.nulls.clear(idx);
+            this.chunks.get(idx / this.chunk)[idx % this.chunk] =
+                (Double) value;
+        }
+    }
+
+    @Override
+    public Object value(final int index) {
+        final int idx = new Index(index, this.amount.get()).value();
+        final Object value;
+        if (this.nulls.get(idx)) {
+            value = null;
+        } else {
+            value = this.chunks.get(idx / this.chunk)[idx % this.chunk];
+        }
+        return value;
+    }
+
+    /**
+     * Adds a null value.
+     */
+    private void addNull() {
+        this.nulls.set(this.amount.get());
+        this.addValue(0.0);
+    }
+
+    /**
+     * Adds a value.
+     * @param value The value
+     */
+    private void addValue(final double value) {
+        final int index = this.amount.getAndIncrement();
+        if (index % this.chunk == 0) {
+            this.chunks.add(new double[this.chunk]);
+        }
+        this.chunks.get(index / this.chunk)[index % this.chunk] = value;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.values;
+
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Index.
+ * <p>The index of one of some values, e.g. of a
+ * {@link com.github.fabriciofx.cactoos.jdbc.Values}, checked against the
+ * amount of values.
+ * @since 1.0
+ */
+final class Index {
+    /**
+     * The index, that start at 0.
+     */
+    private final int index;
+
+    /**
+     * Amount of values.
+     */
+    private final int count;
+
+    /**
+     * Ctor.
+     * @param index The index, that start at 0
+     * @param count Amount of values
+     */
+    Index(final int index, final int count) {
+        this.index = index;
+        this.count = count;
+    }
+
+    /**
+     * The index, if there is a value at it.
+     * @return The index
+     * @throws IndexOutOfBoundsException if there is no value at the index
+     */
+    int value() {
+        if (this.index < 0 || this.index >= this.count) {
+            throw new IndexOutOfBoundsException(
+                new UncheckedText(
+                    new FormattedText(
+                        "Value '%d' does not exist [0,%d]",
+                        this.index,
+                        this.count - 1
+                    )
+                ).asString()
+            );
+        }
+        return this.index;
+    }
+}
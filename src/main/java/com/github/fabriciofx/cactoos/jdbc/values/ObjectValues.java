@@ -0,0 +1,61 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.values;
+
+import com.github.fabriciofx.cactoos.jdbc.Values;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ObjectValues.
+ * <p>Values of any type, as returned by the JDBC driver.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class ObjectValues implements Values {
+    /**
+     * The values.
+     */
+    private final List<Object> items;
+
+    /**
+     * Ctor.
+     */
+    public ObjectValues() {
+        this.items = new ArrayList<>();
+    }
+
+    @Override
+    public int count() {
+        return this.items.size();
+    }
+
+    @Override
+    public void add(final Object value) {
+        this.items.add(value);
+    }
+
+    @Override
+    public void read(final ResultSet rset, final int column)
+        throws SQLException {
+        this.items.add(rset.getObject(column));
+    }
+
+    @Override
+    public void set(final int index, final Object value) {
+        final int idx = new Index(index, this.items.size()).value();
+        this.items.set(idx, value);
+    }
+
+    @Override
+    public Object value(final int index) {
+        final int idx = new Index(index, this.items.size()).value();
+        return this.items.get(idx);
+    }
+}
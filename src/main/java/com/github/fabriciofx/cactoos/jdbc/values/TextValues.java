@@ -0,0 +1,178 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.values;
+
+import com.github.fabriciofx.cactoos.jdbc.Values;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TextValues.
+ * <p>Text values, dictionary encoded: each distinct text is kept only once
+ * and the values are kept as codes to it. When there are more distinct
+ * texts than the dictionary limit, i.e. the column has a high cardinality,
+ * the texts are kept as they are.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class TextValues implements Values {
+    /**
+     * Codes of the values.
+     */
+    private final IntValues codes;
+
+    /**
+     * Distinct texts, indexed by its code.
+     */
+    private final List<String> words;
+
+    /**
+     * Codes of the distinct texts.
+     */
+    private final Map<String, Integer> dictionary;
+
+    /**
+     * Texts kept as they are, after the dictionary reached its limit.
+     */
+    private final ObjectValues plain;
+
+    /**
+     * Max amount of distinct texts.
+     */
+    private final int limit;
+
+    /**
+     * Ctor.
+     */
+    public TextValues() {
+        // @checkstyle MagicNumber (1 line)
+        this(4096);
+    }
+
+    /**
+     * Ctor.
+     * @param limit Max amount of distinct texts in the dictionary
+     */
+    public TextValues(final int limit) {
+        this.codes = new IntValues();
+        this.words = new ArrayList<>(0);
+        this.dictionary = new HashMap<>();
+        this.plain = new ObjectValues();
+        this.limit = limit;
+    }
+
+    @Override
+    public int count() {
+        final int count;
+        if (this.plain.count() == 0) {
+            count = this.codes.count();
+        } else {
+            count = this.plain.count();
+        }
+        return count;
+    }
+
+    @Override
+    public void add(final Object value) {
+        this.text((String) value);
+    }
+
+    @Override
+    public void read(final ResultSet rset, final int column)
+        throws SQLException {
+        this.text(rset.getString(column));
+    }
+
+    @Override
+    public void set(final int index, final Object value) {
+        final String text = (String) value;
+        if (this.plain.count() > 0) {
+            this.plain.set(index, text);
+        } else if (text == null) {
+            this.codes.set(index, null);
+        } else {
+            final Integer code = this.code(text);
+            if (code == null) {
+                this.expand();
+                this.plain.set(index, text);
+            } else {
+                this.codes.set(index, code);
+            }
+        }
+    }
+
+    @Override
+    public Object value(final int index) {
+        final Object value;
+        if (this.plain.count() == 0) {
+            final Object code = this.codes.value(index);
+            if (code == null) {
+                value = null;
+            } else {
+                value = this.words.get((Integer) code);
+            }
+        } else {
+            value = this.plain.value(index);
+        }
+        return value;
+    }
+
+    /**
+     * Adds a text.
+     * @param text The text, can be null
+     */
+    private void text(final String text) {
+        if (this.plain.count() > 0) {
+            this.plain.add(text);
+        } else if (text == null) {
+            this.codes.add(null);
+        } else {
+            final Integer code = this.code(text);
+            if (code == null) {
+                this.expand();
+                this.plain.add(text);
+            } else {
+                this.codes.add(code);
+            }
+        }
+    }
+
+    /**
+     * The code of a text, adding it to the dictionary if needed.
+     * @param text The text
+     * @return The code, or null if the dictionary is full
+     */
+    private Integer code(final String text) {
+        Integer code = this.dictionary.get(text);
+        if (code == null && this.words.size() < this.limit) {
+            code = this.words.size();
+            this.words.add(text);
+            this.dictionary.put(text, code);
+        }
+        return code;
+    }
+
+    /**
+     * Stop using the dictionary, moving the texts to the plain values.
+     */
+    private void expand() {
+        for (int idx = 0; idx < this.codes.count(); ++idx) {
+            final Object code = this.codes.value(idx);
+            if (code == null) {
+                this.plain.add(null);
+            } else {
+                this.plain.add(this.words.get((Integer) code));
+            }
+        }
+        this.dictionary.clear();
+        this.words.clear();
+    }
+}
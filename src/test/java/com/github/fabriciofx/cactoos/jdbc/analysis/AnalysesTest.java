@@ -0,0 +1,90 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.analysis;
+
+import com.github.fabriciofx.cactoos.jdbc.query.Normalized;
+import com.github.fabriciofx.cactoos.jdbc.query.QueryOf;
+import com.github.fabriciofx.cactoos.jdbc.scalar.KindOfQuery;
+import com.github.fabriciofx.cactoos.jdbc.scalar.TableNames;
+import org.apache.calcite.sql.SqlKind;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+import org.llorllale.cactoos.matchers.HasValues;
+import org.llorllale.cactoos.matchers.Matches;
+
+/**
+ * Analyses tests.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class AnalysesTest {
+    @Test
+    void reusesTheAnalysisOfTheSameSql() {
+        final Analyses analyses = new Analyses();
+        new Assertion<>(
+            "must reuse the analysis of the same SQL",
+            analyses.analysis("SELECT id FROM person"),
+            new IsSame<>(analyses.analysis("SELECT id FROM person"))
+        ).affirm();
+    }
+
+    @Test
+    void evictsTheOldestAnalyses() {
+        final Analyses analyses = new Analyses(2);
+        analyses.analysis("SELECT id FROM person");
+        analyses.analysis("SELECT name FROM person");
+        analyses.analysis("SELECT age FROM person");
+        new Assertion<>(
+            "must keep at most the max number of analyses",
+            analyses.size(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void analysesTheKind() {
+        new Assertion<>(
+            "must get the kind from analyses",
+            new KindOfQuery(
+                new QueryOf("DELETE FROM person WHERE id = 1"),
+                new Analyses()
+            ),
+            new HasValue<>(SqlKind.DELETE)
+        ).affirm();
+    }
+
+    @Test
+    void analysesTheTableNames() throws Exception {
+        new Assertion<>(
+            "must get the table names from analyses",
+            new HasValues<>(
+                new TableNames(
+                    new QueryOf(
+                        "SELECT * FROM person p JOIN phone f ON p.id = f.id"
+                    ),
+                    new Analyses()
+                ).value()
+            ),
+            new Matches<>(new ListOf<>("PERSON", "PHONE"))
+        ).affirm();
+    }
+
+    @Test
+    void analysesTheNormalizedSql() throws Exception {
+        final QueryOf query = new QueryOf(
+            "select name, id from person where id = 1"
+        );
+        new Assertion<>(
+            "must normalize as without analyses",
+            new Normalized(query, new Analyses()).sql(),
+            new IsEqual<>(new Normalized(query).sql())
+        ).affirm();
+    }
+}
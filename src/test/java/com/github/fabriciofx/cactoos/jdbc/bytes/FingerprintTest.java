@@ -0,0 +1,80 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.bytes;
+
+import com.github.fabriciofx.cactoos.jdbc.param.IntParam;
+import com.github.fabriciofx.cactoos.jdbc.param.TextParam;
+import com.github.fabriciofx.cactoos.jdbc.query.NamedQuery;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Fingerprint tests.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class FingerprintTest {
+    @Test
+    void hasOneHundredAndTwentyEightBits() throws Exception {
+        new Assertion<>(
+            "must have 16 bytes",
+            new Fingerprint(
+                new NamedQuery(
+                    "SELECT * FROM person WHERE id = :id",
+                    new IntParam("id", 1)
+                )
+            ).asBytes().length,
+            new IsEqual<>(16)
+        ).affirm();
+    }
+
+    @Test
+    void isTheSameForTheSameQuery() throws Exception {
+        new Assertion<>(
+            "must be the same for the same SQL and parameters",
+            new Fingerprint(
+                new NamedQuery(
+                    "SELECT * FROM person WHERE name = :name",
+                    new TextParam("name", "Joseph")
+                )
+            ).asBytes(),
+            new IsEqual<>(
+                new Fingerprint(
+                    new NamedQuery(
+                        "SELECT * FROM person WHERE name = :name",
+                        new TextParam("name", "Joseph")
+                    )
+                ).asBytes()
+            )
+        ).affirm();
+    }
+
+    @Test
+    void differsForAnotherParameterValue() throws Exception {
+        new Assertion<>(
+            "must differ for another parameter value",
+            new Fingerprint(
+                new NamedQuery(
+                    "SELECT * FROM person WHERE id = :id",
+                    new IntParam("id", 1)
+                )
+            ).asBytes(),
+            new IsNot<>(
+                new IsEqual<>(
+                    new Fingerprint(
+                        new NamedQuery(
+                            "SELECT * FROM person WHERE id = :id",
+                            new IntParam("id", 2)
+                        )
+                    ).asBytes()
+                )
+            )
+        ).affirm();
+    }
+}
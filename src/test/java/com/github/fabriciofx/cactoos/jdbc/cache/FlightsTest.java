@@ -0,0 +1,212 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.cache;
+
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.key.KeyOf;
+import com.github.fabriciofx.cactoos.jdbc.Query;
+import com.github.fabriciofx.cactoos.jdbc.Table;
+import com.github.fabriciofx.cactoos.jdbc.columns.LinkedColumns;
+import com.github.fabriciofx.cactoos.jdbc.query.QueryOf;
+import com.github.fabriciofx.cactoos.jdbc.rows.ArrayedRows;
+import com.github.fabriciofx.cactoos.jdbc.table.FakeTable;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.ScalarOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Matches;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Flights tests.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class FlightsTest {
+    @Test
+    void fetchesOnceForConcurrentMisses() throws Exception {
+        final Flights flights = new Flights();
+        final AtomicInteger fetches = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Table table = new FakeTable(
+            new ArrayedRows(),
+            new LinkedColumns()
+        );
+        final CompletableFuture<Table> first = CompletableFuture.supplyAsync(
+            () -> {
+                try {
+                    return flights.table(
+                        new KeyOf<>(new QueryOf("SELECT * FROM person")),
+                        () -> {
+                            fetches.incrementAndGet();
+                            started.countDown();
+                            release.await();
+                            return table;
+                        }
+                    );
+                // @checkstyle IllegalCatchCheck (1 line)
+                } catch (final Exception ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+        );
+        started.await();
+        final CompletableFuture<Table> second = CompletableFuture.supplyAsync(
+            () -> {
+                try {
+                    return flights.table(
+                        new KeyOf<>(new QueryOf("SELECT * FROM person")),
+                        () -> {
+                            fetches.incrementAndGet();
+                            return table;
+                        }
+                    );
+                // @checkstyle IllegalCatchCheck (1 line)
+                } catch (final Exception ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+        );
+        FlightsTest.await(
+            flights,
+            new KeyOf<>(new QueryOf("SELECT * FROM person"))
+        );
+        release.countDown();
+        new Assertion<>(
+            "must share the fetched table",
+            second.get(),
+            new IsSame<>(first.get())
+        ).affirm();
+        new Assertion<>(
+            "must fetch once",
+            fetches.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void timesOutWaitingForAFetch() throws Exception {
+        final Flights flights = new Flights(Duration.ofMillis(50));
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<Table> first = CompletableFuture.supplyAsync(
+            () -> {
+                try {
+                    return flights.table(
+                        new KeyOf<>(new QueryOf("SELECT * FROM person")),
+                        () -> {
+                            started.countDown();
+                            release.await();
+                            throw new SQLException("Connection lost");
+                        }
+                    );
+                // @checkstyle IllegalCatchCheck (1 line)
+                } catch (final Exception ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+        );
+        started.await();
+        new Assertion<>(
+            "must time out waiting for a query in flight",
+            new Throws<>(SQLTimeoutException.class),
+            new Matches<>(
+                new ScalarOf<>(
+                    () -> flights.table(
+                        new KeyOf<>(new QueryOf("SELECT * FROM person")),
+                        () -> new FakeTable(
+                            new ArrayedRows(),
+                            new LinkedColumns()
+                        )
+                    )
+                )
+            )
+        ).affirm();
+        release.countDown();
+        new Assertion<>(
+            "must fail the fetch in flight",
+            first.handle((table, error) -> error != null).get(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void failsTheWaitingCallersWithTheFetchError() throws Exception {
+        final Flights flights = new Flights();
+        final SQLException lost = new SQLException("Connection lost");
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<Exception> first = CompletableFuture
+            .supplyAsync(
+                () -> FlightsTest.error(
+                    flights,
+                    () -> {
+                        started.countDown();
+                        release.await();
+                        throw lost;
+                    }
+                )
+            );
+        started.await();
+        final CompletableFuture<Exception> second = CompletableFuture
+            .supplyAsync(
+                () -> FlightsTest.error(
+                    flights,
+                    () -> new FakeTable(
+                        new ArrayedRows(),
+                        new LinkedColumns()
+                    )
+                )
+            );
+        FlightsTest.await(
+            flights,
+            new KeyOf<>(new QueryOf("SELECT * FROM person"))
+        );
+        release.countDown();
+        new Assertion<>(
+            "must fail the fetching caller with the fetch error",
+            first.get(),
+            new IsSame<>(lost)
+        ).affirm();
+        new Assertion<>(
+            "must fail the waiting caller with the fetch error",
+            second.get(),
+            new IsSame<>(lost)
+        ).affirm();
+    }
+
+    private static void await(final Flights flights, final Key<Query> key) {
+        while (flights.waiting(key) == 0) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static Exception error(
+        final Flights flights,
+        final Scalar<Table> fetch
+    ) {
+        Exception error = null;
+        try {
+            flights.table(
+                new KeyOf<>(new QueryOf("SELECT * FROM person")),
+                fetch
+            );
+        // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            error = ex;
+        }
+        return error;
+    }
+}
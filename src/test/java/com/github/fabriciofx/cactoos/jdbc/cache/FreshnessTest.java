@@ -0,0 +1,160 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.cache;
+
+import com.github.fabriciofx.cactoos.cache.key.KeyOf;
+import com.github.fabriciofx.cactoos.jdbc.query.QueryOf;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Freshness tests.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class FreshnessTest {
+    @Test
+    void choosesTheShortestTableTtl() {
+        new Assertion<>(
+            "must choose the shortest time-to-live of the tables",
+            new Freshness(
+                Duration.ofMinutes(10),
+                Map.of(
+                    "person", Duration.ofMinutes(5),
+                    "client", Duration.ofMinutes(1)
+                )
+            ).ttl("SELECT * FROM person, client", Set.of("person", "client")),
+            new IsEqual<>(Duration.ofMinutes(1))
+        ).affirm();
+    }
+
+    @Test
+    void prefersTheQueryTtl() {
+        new Assertion<>(
+            "must prefer the time-to-live of the query",
+            new Freshness(
+                Duration.ofMinutes(10),
+                Map.of("person", Duration.ofMinutes(5)),
+                Map.of("SELECT * FROM person", Duration.ofSeconds(30)),
+                0,
+                Runnable::run
+            ).ttl("SELECT * FROM person", Set.of("person")),
+            new IsEqual<>(Duration.ofSeconds(30))
+        ).affirm();
+    }
+
+    @Test
+    void expiresAnOldResult() {
+        new Assertion<>(
+            "must expire a result older than its time-to-live",
+            new Freshness().expired(
+                Instant.now().minusSeconds(10),
+                Duration.ofSeconds(5)
+            ),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void refreshesAResultNearToExpire() {
+        final AtomicInteger refreshes = new AtomicInteger();
+        final Freshness freshness = new Freshness(
+            Duration.ofSeconds(10),
+            Map.of(),
+            Map.of(),
+            0.8,
+            Runnable::run
+        );
+        freshness.refresh(
+            new KeyOf<>(new QueryOf("SELECT * FROM person")),
+            Instant.now().minusSeconds(9),
+            Duration.ofSeconds(10),
+            key -> refreshes.incrementAndGet()
+        );
+        freshness.refresh(
+            new KeyOf<>(new QueryOf("SELECT * FROM client")),
+            Instant.now(),
+            Duration.ofSeconds(10),
+            key -> refreshes.incrementAndGet()
+        );
+        new Assertion<>(
+            "must refresh only the result near to expire",
+            refreshes.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void refreshesASubSecondTtlAtItsFraction() {
+        final AtomicInteger refreshes = new AtomicInteger();
+        new Freshness(
+            Duration.ofMillis(500),
+            Map.of(),
+            Map.of(),
+            0.8,
+            Runnable::run
+        ).refresh(
+            new KeyOf<>(new QueryOf("SELECT * FROM person")),
+            Instant.now(),
+            Duration.ofMillis(500),
+            key -> refreshes.incrementAndGet()
+        );
+        new Assertion<>(
+            "must not refresh a sub-second result before its fraction",
+            refreshes.get(),
+            new IsEqual<>(0)
+        ).affirm();
+    }
+
+    @Test
+    void refreshesAgainAfterARejectedRefresh() {
+        final AtomicInteger tries = new AtomicInteger();
+        final Freshness freshness = new Freshness(
+            Duration.ofSeconds(10),
+            Map.of(),
+            Map.of(),
+            0.8,
+            task -> {
+                if (tries.incrementAndGet() == 1) {
+                    throw new RejectedExecutionException("Busy");
+                }
+                task.run();
+            }
+        );
+        for (int idx = 0; idx < 2; ++idx) {
+            freshness.refresh(
+                new KeyOf<>(new QueryOf("SELECT * FROM person")),
+                Instant.now().minusSeconds(9),
+                Duration.ofSeconds(10),
+                key -> { }
+            );
+        }
+        new Assertion<>(
+            "must schedule a refresh again after it was rejected",
+            tries.get(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void changesTheVersionOnInvalidation() {
+        final Freshness freshness = new Freshness();
+        final long version = freshness.version(Set.of("person", "client"));
+        freshness.invalidated(Set.of("client"));
+        new Assertion<>(
+            "must change the version of an invalidated table",
+            freshness.version(Set.of("person", "client")),
+            new IsEqual<>(version + 1)
+        ).affirm();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.cache;
+
+import com.github.fabriciofx.cactoos.cache.base.CacheOf;
+import com.github.fabriciofx.cactoos.cache.key.KeyOf;
+import com.github.fabriciofx.cactoos.jdbc.columns.IndexedColumns;
+import com.github.fabriciofx.cactoos.jdbc.query.QueryOf;
+import com.github.fabriciofx.cactoos.jdbc.rows.ArrayedRows;
+import com.github.fabriciofx.cactoos.jdbc.table.FakeTable;
+import java.util.Set;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Invalidation tests.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class InvalidationTest {
+    @Test
+    void invalidatesByTheIndexOfTheStore() throws Exception {
+        final TableStore store = new TableStore();
+        InvalidationTest.save(store, "SELECT * FROM person", "person");
+        InvalidationTest.save(store, "SELECT * FROM client", "client");
+        new Invalidation(new CacheOf<>(store)).exec(Set.of("person"));
+        new Assertion<>(
+            "must invalidate the results of the table",
+            store.contains(new KeyOf<>(new QueryOf("SELECT * FROM person"))),
+            new IsEqual<>(false)
+        ).affirm();
+        new Assertion<>(
+            "must keep the results of other tables",
+            store.contains(new KeyOf<>(new QueryOf("SELECT * FROM client"))),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    /**
+     * Save an empty table read by a query.
+     * @param store The store
+     * @param sql The query SQL
+     * @param table Name of the table read
+     */
+    private static void save(
+        final TableStore store,
+        final String sql,
+        final String table
+    ) {
+        store.save(
+            new KeyOf<>(new QueryOf(sql)),
+            new CacheEntry(
+                new KeyOf<>(new QueryOf(sql)),
+                new FakeTable(new ArrayedRows(), new IndexedColumns()),
+                () -> Set.of(table)
+            )
+        );
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.cache;
+
+import com.github.fabriciofx.cactoos.cache.key.KeyOf;
+import com.github.fabriciofx.cactoos.jdbc.columns.LinkedColumns;
+import com.github.fabriciofx.cactoos.jdbc.query.QueryOf;
+import com.github.fabriciofx.cactoos.jdbc.rows.ArrayedRows;
+import com.github.fabriciofx.cactoos.jdbc.table.FakeTable;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * TableStore tests.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class TableStoreTest {
+    @Test
+    void invalidatesOnlyTheEntriesOfATable() {
+        final TableStore store = new TableStore();
+        TableStoreTest.save(store, "SELECT * FROM person", "person");
+        TableStoreTest.save(store, "SELECT * FROM client", "client");
+        TableStoreTest.save(
+            store,
+            "SELECT * FROM person, client",
+            "person",
+            "client"
+        );
+        store.invalidate(Set.of("person"));
+        new Assertion<>(
+            "must keep the entries of other tables",
+            store.contains(new KeyOf<>(new QueryOf("SELECT * FROM client"))),
+            new IsEqual<>(true)
+        ).affirm();
+        new Assertion<>(
+            "must invalidate the entries which read the table",
+            store.contains(
+                new KeyOf<>(new QueryOf("SELECT * FROM person, client"))
+            ),
+            new IsEqual<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void countsTheInvalidatedEntries() {
+        final TableStore store = new TableStore();
+        TableStoreTest.save(store, "SELECT * FROM person", "person");
+        TableStoreTest.save(store, "SELECT id FROM person", "person");
+        TableStoreTest.save(store, "SELECT * FROM client", "client");
+        new Assertion<>(
+            "must invalidate two entries",
+            store.invalidate(Set.of("person")).size(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void neverLosesAnEntrySavedWhileInvalidating() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            int lost = 0;
+            for (int run = 0; run < 500; ++run) {
+                final TableStore store = new TableStore();
+                final CountDownLatch start = new CountDownLatch(1);
+                final Future<?> save = executor.submit(
+                    () -> {
+                        start.await();
+                        TableStoreTest.save(
+                            store,
+                            "SELECT * FROM person",
+                            "person"
+                        );
+                        return null;
+                    }
+                );
+                final Future<?> invalidate = executor.submit(
+                    () -> {
+                        start.await();
+                        return store.invalidate(Set.of("person"));
+                    }
+                );
+                start.countDown();
+                save.get();
+                invalidate.get();
+                store.invalidate(Set.of("person"));
+                if (
+                    store.contains(
+                        new KeyOf<>(new QueryOf("SELECT * FROM person"))
+                    )
+                ) {
+                    ++lost;
+                }
+            }
+            new Assertion<>(
+                "must invalidate an entry saved while invalidating",
+                lost,
+                new IsEqual<>(0)
+            ).affirm();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Save an empty table read by a query.
+     * @param store The store
+     * @param sql The query SQL
+     * @param tables Names of the tables read
+     */
+    private static void save(
+        final TableStore store,
+        final String sql,
+        final String... tables
+    ) {
+        store.save(
+            new KeyOf<>(new QueryOf(sql)),
+            new CacheEntry(
+                new KeyOf<>(new QueryOf(sql)),
+                new FakeTable(new ArrayedRows(), new LinkedColumns()),
+                () -> Set.of(tables)
+            )
+        );
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.cache;
+
+import com.github.fabriciofx.cactoos.cache.key.KeyOf;
+import com.github.fabriciofx.cactoos.cache.metadata.TypeOf;
+import com.github.fabriciofx.cactoos.jdbc.Columns;
+import com.github.fabriciofx.cactoos.jdbc.bytes.TableAsBytes;
+import com.github.fabriciofx.cactoos.jdbc.columns.IndexedColumns;
+import com.github.fabriciofx.cactoos.jdbc.query.QueryOf;
+import com.github.fabriciofx.cactoos.jdbc.row.ArrayedRow;
+import com.github.fabriciofx.cactoos.jdbc.rows.ArrayedRows;
+import com.github.fabriciofx.cactoos.jdbc.table.BytesTable;
+import com.github.fabriciofx.cactoos.jdbc.table.FakeTable;
+import java.nio.file.Path;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Tiered tests.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class TieredTest {
+    @Test
+    void spillsTheLeastRecentlyUsedTable() throws Exception {
+        final OffHeap spill = new OffHeap(1024);
+        final Tiered store = new Tiered(new TableStore(), spill, 1, 1);
+        TieredTest.save(store, "SELECT * FROM person", "person");
+        TieredTest.save(store, "SELECT * FROM client", "client");
+        new Assertion<>(
+            "must spill the older table",
+            spill.contains(new KeyOf<>(new QueryOf("SELECT * FROM person"))),
+            new IsEqual<>(true)
+        ).affirm();
+        new Assertion<>(
+            "must read a spilled table",
+            store.retrieve(
+                new KeyOf<>(new QueryOf("SELECT * FROM person"))
+            ).value().columns().count(),
+            new IsEqual<>(0)
+        ).affirm();
+        new Assertion<>(
+            "must spill the table not used",
+            spill.contains(new KeyOf<>(new QueryOf("SELECT * FROM client"))),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void invalidatesSpilledTables() throws Exception {
+        final OffHeap spill = new OffHeap(1024);
+        final Tiered store = new Tiered(1, spill);
+        TieredTest.save(store, "SELECT * FROM person", "person");
+        TieredTest.save(store, "SELECT * FROM client", "client");
+        store.invalidate(Set.of("person"));
+        new Assertion<>(
+            "must invalidate a spilled table",
+            store.contains(new KeyOf<>(new QueryOf("SELECT * FROM person"))),
+            new IsEqual<>(false)
+        ).affirm();
+        new Assertion<>(
+            "must free the bytes of the invalidated table",
+            spill.used(),
+            new IsEqual<>(0L)
+        ).affirm();
+    }
+
+    @Test
+    void readsASpilledTableInPlaceUntilHot(@TempDir final Path dir)
+        throws Exception {
+        final OffHeap spill = new OffHeap(dir, 4096);
+        final Tiered store = new Tiered(1, spill);
+        final List<String> labels = List.of("id", "name");
+        final Map<String, Integer> indexes = Map.of("id", 0, "name", 1);
+        final Columns columns = new IndexedColumns();
+        columns.add("id", Types.INTEGER);
+        columns.add("name", Types.VARCHAR);
+        store.save(
+            new KeyOf<>(new QueryOf("SELECT * FROM person")),
+            new CacheEntry(
+                new KeyOf<>(new QueryOf("SELECT * FROM person")),
+                new FakeTable(
+                    new ArrayedRows(
+                        new ListOf<>(
+                            new ArrayedRow(labels, indexes, 1, "Rob Pike"),
+                            new ArrayedRow(labels, indexes, 2, null)
+                        )
+                    ),
+                    columns
+                ),
+                () -> Set.of("person")
+            )
+        );
+        TieredTest.save(store, "SELECT * FROM client", "client");
+        new Assertion<>(
+            "must read a value of a spilled table",
+            store.retrieve(
+                new KeyOf<>(new QueryOf("SELECT * FROM person"))
+            ).value().rows().row(0).value("name", String.class),
+            new IsEqual<>("Rob Pike")
+        ).affirm();
+        new Assertion<>(
+            "must keep a table read in place out of the heap",
+            spill.contains(new KeyOf<>(new QueryOf("SELECT * FROM person"))),
+            new IsEqual<>(true)
+        ).affirm();
+        new Assertion<>(
+            "must read a promoted table",
+            store.retrieve(
+                new KeyOf<>(new QueryOf("SELECT * FROM person"))
+            ).value().rows().row(1).value(1, Integer.class),
+            new IsEqual<>(2)
+        ).affirm();
+        new Assertion<>(
+            "must count only the tables kept out of the heap",
+            spill.used(),
+            new IsEqual<>(
+                (long) spill.bytes(
+                    new KeyOf<>(new QueryOf("SELECT * FROM client"))
+                ).get().length
+            )
+        ).affirm();
+    }
+
+    @Test
+    void keepsTheTimeToLiveOfASpilledTable() throws Exception {
+        final Tiered store = new Tiered(1, new OffHeap(1024));
+        final Instant stored = Instant.now();
+        store.save(
+            new KeyOf<>(new QueryOf("SELECT * FROM person")),
+            new CacheEntry(
+                new KeyOf<>(new QueryOf("SELECT * FROM person")),
+                new BytesTable(
+                    new TableAsBytes(
+                        new FakeTable(new ArrayedRows(), new IndexedColumns())
+                    )
+                ),
+                () -> Set.of("person"),
+                stored,
+                Duration.ofMinutes(1)
+            )
+        );
+        TieredTest.save(store, "SELECT * FROM client", "client");
+        new Assertion<>(
+            "must keep the time-to-live of a table read in place",
+            store.retrieve(
+                new KeyOf<>(new QueryOf("SELECT * FROM person"))
+            ).metadata().value("ttl", new TypeOf<List<Duration>>() { }),
+            new IsEqual<>(List.of(Duration.ofMinutes(1)))
+        ).affirm();
+        new Assertion<>(
+            "must keep when a promoted table was stored",
+            store.retrieve(
+                new KeyOf<>(new QueryOf("SELECT * FROM person"))
+            ).metadata().value("stored", new TypeOf<List<Instant>>() { }),
+            new IsEqual<>(List.of(stored))
+        ).affirm();
+    }
+
+    /**
+     * Save an empty table read by a query.
+     * @param store The store
+     * @param sql The query SQL
+     * @param table Name of the table read
+     */
+    private static void save(
+        final Tiered store,
+        final String sql,
+        final String table
+    ) {
+        store.save(
+            new KeyOf<>(new QueryOf(sql)),
+            new CacheEntry(
+                new KeyOf<>(new QueryOf(sql)),
+                new BytesTable(
+                    new TableAsBytes(
+                        new FakeTable(new ArrayedRows(), new IndexedColumns())
+                    )
+                ),
+                () -> Set.of(table)
+            )
+        );
+    }
+}
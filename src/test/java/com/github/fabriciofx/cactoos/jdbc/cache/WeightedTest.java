@@ -0,0 +1,87 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.cache;
+
+import com.github.fabriciofx.cactoos.cache.key.KeyOf;
+import com.github.fabriciofx.cactoos.jdbc.columns.LinkedColumns;
+import com.github.fabriciofx.cactoos.jdbc.query.QueryOf;
+import com.github.fabriciofx.cactoos.jdbc.rows.ArrayedRows;
+import com.github.fabriciofx.cactoos.jdbc.table.FakeTable;
+import java.util.Set;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Weighted tests.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class WeightedTest {
+    @Test
+    void keepsTheBudget() {
+        final Weighted store = new Weighted(
+            new TableStore(),
+            table -> 100L,
+            250
+        );
+        WeightedTest.save(store, "SELECT * FROM a");
+        WeightedTest.save(store, "SELECT * FROM b");
+        WeightedTest.save(store, "SELECT * FROM c");
+        WeightedTest.save(store, "SELECT * FROM c");
+        new Assertion<>(
+            "must keep at most the budget",
+            store.used(),
+            new IsEqual<>(200L)
+        ).affirm();
+    }
+
+    @Test
+    void doesNotLetAScanFlushFrequentTables() {
+        final Weighted store = new Weighted(
+            new TableStore(),
+            table -> 100L,
+            250
+        );
+        WeightedTest.save(store, "SELECT * FROM a");
+        WeightedTest.save(store, "SELECT * FROM b");
+        store.retrieve(new KeyOf<>(new QueryOf("SELECT * FROM a")));
+        store.retrieve(new KeyOf<>(new QueryOf("SELECT * FROM a")));
+        WeightedTest.save(store, "SELECT * FROM c");
+        new Assertion<>(
+            "must not admit a table used once",
+            store.contains(new KeyOf<>(new QueryOf("SELECT * FROM c"))),
+            new IsEqual<>(false)
+        ).affirm();
+        WeightedTest.save(store, "SELECT * FROM c");
+        new Assertion<>(
+            "must admit a table used again",
+            store.contains(new KeyOf<>(new QueryOf("SELECT * FROM c"))),
+            new IsEqual<>(true)
+        ).affirm();
+        new Assertion<>(
+            "must keep the frequent table",
+            store.contains(new KeyOf<>(new QueryOf("SELECT * FROM a"))),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    /**
+     * Save an empty table read by a query.
+     * @param store The store
+     * @param sql The query SQL
+     */
+    private static void save(final Weighted store, final String sql) {
+        store.save(
+            new KeyOf<>(new QueryOf(sql)),
+            new CacheEntry(
+                new KeyOf<>(new QueryOf(sql)),
+                new FakeTable(new ArrayedRows(), new LinkedColumns()),
+                () -> Set.of("t")
+            )
+        );
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.columns;
+
+import com.github.fabriciofx.cactoos.jdbc.Columns;
+import java.sql.Types;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * IndexedColumns tests.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class IndexedColumnsTest {
+    @Test
+    void findsANameByPosition() throws Exception {
+        final Columns columns = new IndexedColumns();
+        columns.add("id", Types.INTEGER);
+        columns.add("name", Types.VARCHAR);
+        columns.add("age", Types.INTEGER);
+        new Assertion<>(
+            "must find a column name by its position",
+            columns.name(2),
+            new IsEqual<>("name")
+        ).affirm();
+    }
+
+    @Test
+    void findsAPositionByName() throws Exception {
+        final Columns columns = new IndexedColumns();
+        columns.add("id", Types.INTEGER);
+        columns.add("name", Types.VARCHAR);
+        columns.add("age", Types.INTEGER);
+        new Assertion<>(
+            "must find a column position by its name",
+            columns.index("age"),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void findsATypeByName() throws Exception {
+        final Columns columns = new IndexedColumns();
+        columns.add("id", Types.INTEGER);
+        columns.add("name", Types.VARCHAR);
+        new Assertion<>(
+            "must find a column type by its name",
+            columns.type("name"),
+            new IsEqual<>(Types.VARCHAR)
+        ).affirm();
+    }
+}
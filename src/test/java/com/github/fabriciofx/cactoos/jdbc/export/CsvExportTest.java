@@ -0,0 +1,203 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.export;
+
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.query.QueryOf;
+import com.github.fabriciofx.cactoos.jdbc.source.NoAuth;
+import com.github.fabriciofx.cactoos.jdbc.statement.CsvImport;
+import com.github.fabriciofx.cactoos.jdbc.statement.Streamed;
+import com.github.fabriciofx.cactoos.jdbc.statement.Update;
+import com.github.fabriciofx.fake.server.RandomName;
+import com.github.fabriciofx.fake.server.db.source.H2Source;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.cactoos.scalar.ScalarOf;
+import org.cactoos.text.FormattedText;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Matches;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * CsvExport tests.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class CsvExportTest {
+    @Test
+    void exportsTypedValues() throws Exception {
+        try (
+            Session session = new NoAuth(
+                new H2Source(new RandomName().asString())
+            ).session()
+        ) {
+            CsvExportTest.employees(session, "employee");
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            new CsvExport(
+                new Streamed(
+                    session,
+                    new QueryOf("SELECT * FROM employee ORDER BY id")
+                )
+            ).write(output);
+            new Assertion<>(
+                "must export typed values as CSV",
+                new String(output.toByteArray(), StandardCharsets.UTF_8),
+                new IsEqual<>(
+                    String.join(
+                        "\r\n",
+                        "id,name,salary,born,active",
+                        "1,\"Bridges, \"\"Jeff\"\"\",1500.50,1990-05-17,true",
+                        "2,,2300.00,1985-11-02,false",
+                        "3,\"\",,,",
+                        ""
+                    )
+                )
+            ).affirm();
+        }
+    }
+
+    @Test
+    void importsWhatExports() throws Exception {
+        final Path file = Files.createTempFile("employee", ".csv");
+        try (
+            Session session = new NoAuth(
+                new H2Source(new RandomName().asString())
+            ).session();
+            FileChannel channel = FileChannel.open(
+                file,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING
+            )
+        ) {
+            CsvExportTest.employees(session, "employee");
+            new CsvExport(
+                new Streamed(
+                    session,
+                    new QueryOf("SELECT * FROM employee ORDER BY id")
+                )
+            ).write(channel);
+            CsvExportTest.employees(session, "copy");
+            new Update(session, new QueryOf("DELETE FROM copy")).execute();
+            new Assertion<>(
+                "must import all rows of the CSV",
+                new CsvImport(session, file, "copy", 2, false).execute(),
+                new IsEqual<>(3L)
+            ).affirm();
+            final ByteArrayOutputStream copy = new ByteArrayOutputStream();
+            new CsvExport(
+                new Streamed(
+                    session,
+                    new QueryOf("SELECT * FROM copy ORDER BY id")
+                )
+            ).write(copy);
+            new Assertion<>(
+                "must import the same values that were exported",
+                new String(copy.toByteArray(), StandardCharsets.UTF_8),
+                new IsEqual<>(Files.readString(file, StandardCharsets.UTF_8))
+            ).affirm();
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void importsNullsOfASingleColumn() throws Exception {
+        final Path file = Files.createTempFile("item", ".csv");
+        try (
+            Session session = new NoAuth(
+                new H2Source(new RandomName().asString())
+            ).session()
+        ) {
+            Files.writeString(
+                file,
+                "id\r\n1\r\n\r\n3\r\n\r\n",
+                StandardCharsets.UTF_8
+            );
+            new Update(
+                session,
+                new QueryOf("CREATE TABLE item (id INT)")
+            ).execute();
+            new Assertion<>(
+                "must import the blank lines as NULL rows",
+                new CsvImport(session, file, "item").execute(),
+                new IsEqual<>(4L)
+            ).affirm();
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void rejectsAnInvalidBoolean() throws Exception {
+        final Path file = Files.createTempFile("flag", ".csv");
+        try (
+            Session session = new NoAuth(
+                new H2Source(new RandomName().asString())
+            ).session()
+        ) {
+            Files.writeString(
+                file,
+                "id,active\r\n1,yes\r\n",
+                StandardCharsets.UTF_8
+            );
+            new Update(
+                session,
+                new QueryOf("CREATE TABLE flag (id INT, active BOOLEAN)")
+            ).execute();
+            new Assertion<>(
+                "must reject a field that is not a boolean",
+                new Throws<>(IllegalArgumentException.class),
+                new Matches<>(
+                    new ScalarOf<>(
+                        () -> new CsvImport(session, file, "flag").execute()
+                    )
+                )
+            ).affirm();
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static void employees(
+        final Session session,
+        final String table
+    ) throws Exception {
+        new Update(
+            session,
+            new QueryOf(
+                new FormattedText(
+                    """
+                    CREATE TABLE %s (id INT, name VARCHAR(50),
+                    salary DECIMAL(10,2), born DATE, active BOOLEAN,
+                    PRIMARY KEY (id))
+                    """,
+                    table
+                )
+            )
+        ).execute();
+        new Update(
+            session,
+            new QueryOf(
+                new FormattedText(
+                    """
+                    INSERT INTO %s (id, name, salary, born, active) VALUES
+                    (1, 'Bridges, "Jeff"', 1500.50, '1990-05-17', TRUE),
+                    (2, NULL, 2300.00, '1985-11-02', FALSE),
+                    (3, '', NULL, NULL, NULL)
+                    """,
+                    table
+                )
+            )
+        ).execute();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.export;
+
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.query.QueryOf;
+import com.github.fabriciofx.cactoos.jdbc.source.NoAuth;
+import com.github.fabriciofx.cactoos.jdbc.statement.Streamed;
+import com.github.fabriciofx.cactoos.jdbc.statement.Update;
+import com.github.fabriciofx.fake.server.RandomName;
+import com.github.fabriciofx.fake.server.db.source.H2Source;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * JsonExport tests.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class JsonExportTest {
+    @Test
+    void exportsTypedValues() throws Exception {
+        try (
+            Session session = new NoAuth(
+                new H2Source(new RandomName().asString())
+            ).session()
+        ) {
+            JsonExportTest.employees(session);
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            new JsonExport(
+                new Streamed(
+                    session,
+                    new QueryOf(
+                        """
+                        SELECT id, name, salary, born FROM employee
+                        ORDER BY id
+                        """
+                    )
+                )
+            ).write(output);
+            new Assertion<>(
+                "must export typed values as JSON",
+                new String(output.toByteArray(), StandardCharsets.UTF_8),
+                new IsEqual<>(
+                    """
+                    [{"id":1,"name":"Jeff Bridges","salary":1500.50,\
+                    "born":"1990-05-17"},{"id":2,"name":null,\
+                    "salary":2300.00,"born":"1985-11-02"}]\
+                    """
+                )
+            ).affirm();
+        }
+    }
+
+    @Test
+    void exportsIntoAChannel() throws Exception {
+        try (
+            Session session = new NoAuth(
+                new H2Source(new RandomName().asString())
+            ).session()
+        ) {
+            JsonExportTest.employees(session);
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            new JsonExport(
+                new Streamed(
+                    session,
+                    new QueryOf("SELECT id FROM employee ORDER BY id")
+                )
+            ).write(Channels.newChannel(output));
+            new Assertion<>(
+                "must export as JSON into a channel",
+                new String(output.toByteArray(), StandardCharsets.UTF_8),
+                new IsEqual<>("[{\"id\":1},{\"id\":2}]")
+            ).affirm();
+        }
+    }
+
+    private static void employees(final Session session) throws Exception {
+        new Update(
+            session,
+            new QueryOf(
+                """
+                CREATE TABLE employee (id INT, name VARCHAR(50),
+                salary DECIMAL(10,2), born DATE, PRIMARY KEY (id))
+                """
+            )
+        ).execute();
+        new Update(
+            session,
+            new QueryOf(
+                """
+                INSERT INTO employee (id, name, salary, born) VALUES
+                (1, 'Jeff Bridges', 1500.50, '1990-05-17'),
+                (2, NULL, 2300.00, '1985-11-02')
+                """
+            )
+        ).execute();
+    }
+}
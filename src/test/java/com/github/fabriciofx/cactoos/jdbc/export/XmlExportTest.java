@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.export;
+
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.query.QueryOf;
+import com.github.fabriciofx.cactoos.jdbc.source.NoAuth;
+import com.github.fabriciofx.cactoos.jdbc.statement.Streamed;
+import com.github.fabriciofx.cactoos.jdbc.statement.Update;
+import com.github.fabriciofx.fake.server.RandomName;
+import com.github.fabriciofx.fake.server.db.source.H2Source;
+import com.jcabi.matchers.XhtmlMatchers;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * XmlExport tests.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class XmlExportTest {
+    @Test
+    void exportsNullsAsEmptyElements() throws Exception {
+        try (
+            Session session = new NoAuth(
+                new H2Source(new RandomName().asString())
+            ).session()
+        ) {
+            new Update(
+                session,
+                new QueryOf(
+                    """
+                    CREATE TABLE client (id INT, name VARCHAR(50),
+                    PRIMARY KEY (id))
+                    """
+                )
+            ).execute();
+            new Update(
+                session,
+                new QueryOf(
+                    """
+                    INSERT INTO client (id, name) VALUES
+                    (1, 'Jeff Bridges'), (2, NULL)
+                    """
+                )
+            ).execute();
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            new XmlExport(
+                new Streamed(session, new QueryOf("SELECT * FROM client")),
+                "clients",
+                "client"
+            ).write(Channels.newChannel(output));
+            new Assertion<>(
+                "must export rows as XML, with NULLs as empty elements",
+                XhtmlMatchers.xhtml(
+                    new String(output.toByteArray(), StandardCharsets.UTF_8)
+                ),
+                XhtmlMatchers.hasXPaths(
+                    "/clients/client/id[text()='1']",
+                    "/clients/client/name[text()='Jeff Bridges']",
+                    "/clients/client/id[text()='2']",
+                    "/clients/client[id='2']/name[not(text())]"
+                )
+            ).affirm();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.handler;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.ErrorManager;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.SimpleFormatter;
+import java.util.logging.StreamHandler;
+import org.cactoos.text.TextOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasString;
+import org.llorllale.cactoos.matchers.Matches;
+
+/**
+ * Async tests.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class AsyncTest {
+    @Test
+    void publishesAllRecordsWhenClosed() {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final Async handler = new Async(
+            new StreamHandler(out, new SimpleFormatter())
+        );
+        for (int idx = 0; idx < 10; ++idx) {
+            handler.publish(
+                new LogRecord(Level.INFO, String.format("record %d", idx))
+            );
+        }
+        handler.close();
+        new Assertion<>(
+            "must publish the last record",
+            new HasString("record 9"),
+            new Matches<>(new TextOf(out.toString(StandardCharsets.UTF_8)))
+        ).affirm();
+    }
+
+    @Test
+    void ignoresRecordsNotLoggable() {
+        final Async handler = new Async(
+            new StreamHandler(
+                new ByteArrayOutputStream(),
+                new SimpleFormatter()
+            ),
+            1
+        );
+        handler.setLevel(Level.OFF);
+        handler.publish(new LogRecord(Level.SEVERE, "ignored"));
+        handler.close();
+        new Assertion<>(
+            "must not drop records that are not loggable",
+            handler.dropped(),
+            new IsEqual<>(0L)
+        ).affirm();
+    }
+
+    @Test
+    void keepsTheOrderOfRecordsWhenFlushed() {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final Async handler = new Async(
+            new StreamHandler(out, new SimpleFormatter())
+        );
+        final List<String> expected = new ArrayList<>(1000);
+        for (int idx = 0; idx < 1000; ++idx) {
+            handler.publish(
+                new LogRecord(Level.INFO, String.format("record %d", idx))
+            );
+            expected.add(String.format("INFO: record %d", idx));
+            if (idx % 100 == 0) {
+                handler.flush();
+            }
+        }
+        handler.close();
+        final List<String> lines = new ArrayList<>(1000);
+        for (final String line : out.toString(StandardCharsets.UTF_8)
+            .split(System.lineSeparator())) {
+            if (line.startsWith("INFO: ")) {
+                lines.add(line);
+            }
+        }
+        new Assertion<>(
+            "must publish the records in order",
+            lines,
+            new IsEqual<>(expected)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsRecordsPublishedWhenClosed() {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final AtomicInteger errors = new AtomicInteger();
+        final Async handler = new Async(
+            new StreamHandler(out, new SimpleFormatter())
+        );
+        handler.setErrorManager(
+            new ErrorManager() {
+                @Override
+                public void error(
+                    final String msg,
+                    final Exception ex,
+                    final int code
+                ) {
+                    errors.incrementAndGet();
+                }
+            }
+        );
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        handler.close();
+        handler.publish(new LogRecord(Level.INFO, "late"));
+        new Assertion<>(
+            "must report a record published when closed",
+            errors.get(),
+            new IsEqual<>(1)
+        ).affirm();
+        new Assertion<>(
+            "must not publish a record published when closed",
+            new TextOf(out.toString(StandardCharsets.UTF_8)),
+            new IsNot<>(new HasString("late"))
+        ).affirm();
+    }
+}
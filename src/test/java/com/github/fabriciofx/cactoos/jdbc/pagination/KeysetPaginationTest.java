@@ -0,0 +1,125 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.pagination;
+
+import com.github.fabriciofx.cactoos.jdbc.Pagination;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.query.QueryOf;
+import com.github.fabriciofx.cactoos.jdbc.source.NoAuth;
+import com.github.fabriciofx.cactoos.jdbc.statement.Insert;
+import com.github.fabriciofx.cactoos.jdbc.statement.Update;
+import com.github.fabriciofx.fake.server.RandomName;
+import com.github.fabriciofx.fake.server.db.source.H2Source;
+import java.util.List;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * KeysetPagination tests.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class KeysetPaginationTest {
+    @Test
+    void pagesForwardAndBack() throws Exception {
+        try (
+            Session session = new NoAuth(
+                new H2Source(new RandomName().asString())
+            ).session()
+        ) {
+            final Pagination<Integer> pagination =
+                KeysetPaginationTest.people(session);
+            new Assertion<>(
+                "must retrieve the first page",
+                pagination.page(1, 3).items(),
+                new IsEqual<>(List.of(1, 2, 3))
+            ).affirm();
+            new Assertion<>(
+                "must retrieve the next page",
+                pagination.page(2, 3).items(),
+                new IsEqual<>(List.of(4, 5, 6))
+            ).affirm();
+            new Assertion<>(
+                "must retrieve a previous page",
+                pagination.page(1, 3).items(),
+                new IsEqual<>(List.of(1, 2, 3))
+            ).affirm();
+            new Assertion<>(
+                "must retrieve the last, partial, page",
+                pagination.page(3, 3).items(),
+                new IsEqual<>(List.of(7))
+            ).affirm();
+        }
+    }
+
+    @Test
+    void jumpsToAPageAhead() throws Exception {
+        try (
+            Session session = new NoAuth(
+                new H2Source(new RandomName().asString())
+            ).session()
+        ) {
+            final Pagination<Integer> pagination =
+                KeysetPaginationTest.people(session);
+            new Assertion<>(
+                "must retrieve a page ahead of the known ones",
+                pagination.page(3, 2).items(),
+                new IsEqual<>(List.of(5, 6))
+            ).affirm();
+            new Assertion<>(
+                "must retrieve no items after the last page",
+                pagination.page(5, 2).items(),
+                new IsEqual<>(List.of())
+            ).affirm();
+        }
+    }
+
+    @Test
+    void countsTheTotal() throws Exception {
+        try (
+            Session session = new NoAuth(
+                new H2Source(new RandomName().asString())
+            ).session()
+        ) {
+            new Assertion<>(
+                "must count all items, not only the page ones",
+                KeysetPaginationTest.people(session).page(2, 3).total(),
+                new IsEqual<>(7L)
+            ).affirm();
+        }
+    }
+
+    private static Pagination<Integer> people(
+        final Session session
+    ) throws Exception {
+        new Update(
+            session,
+            new QueryOf(
+                """
+                CREATE TABLE person (id INT, name VARCHAR(30),
+                PRIMARY KEY (id))
+                """
+            )
+        ).execute();
+        new Insert(
+            session,
+            new QueryOf(
+                """
+                INSERT INTO person (id, name) VALUES (1, 'Rob'), (2, 'Ken'),
+                (3, 'Dennis'), (4, 'Brian'), (5, 'Linus'), (6, 'Bjarne'),
+                (7, 'James')
+                """
+            )
+        ).execute();
+        return new KeysetPagination<>(
+            session,
+            new QueryOf("SELECT id, name FROM person ORDER BY id"),
+            row -> row.value("id", Integer.class)
+        );
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.pool;
+
+import org.cactoos.map.MapEntry;
+import org.cactoos.map.MapOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Settings tests.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class SettingsTest {
+    @Test
+    void overridesDefaults() {
+        new Assertion<>(
+            "must override the default pool size",
+            new Settings(
+                new MapOf<String, Object>(
+                    new MapEntry<>("maximumPoolSize", 32)
+                )
+            ).properties().getProperty("maximumPoolSize"),
+            new IsEqual<>("32")
+        ).affirm();
+    }
+
+    @Test
+    void namesEachPoolUniquely() {
+        new Assertion<>(
+            "must name two pools differently",
+            new Settings().properties().getProperty("poolName"),
+            new IsNot<>(
+                new IsEqual<>(
+                    new Settings().properties().getProperty("poolName")
+                )
+            )
+        ).affirm();
+    }
+}
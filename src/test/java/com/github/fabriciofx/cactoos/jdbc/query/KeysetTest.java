@@ -0,0 +1,122 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.query;
+
+import com.github.fabriciofx.cactoos.jdbc.param.IntParam;
+import org.cactoos.list.ListOf;
+import org.cactoos.scalar.ScalarOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsText;
+import org.llorllale.cactoos.matchers.Matches;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Keyset tests.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class KeysetTest {
+    @Test
+    void firstPage() {
+        new Assertion<>(
+            "must fetch the first page without seeking",
+            () -> new Keyset(
+                new QueryOf("SELECT id, name FROM employee ORDER BY id"),
+                10
+            ).sql(),
+            new IsText(
+                """
+                SELECT `ID`, `NAME` FROM `EMPLOYEE` ORDER BY `ID` \
+                FETCH NEXT 10 ROWS ONLY\
+                """
+            )
+        ).affirm();
+    }
+
+    @Test
+    void seekAfterLastRow() {
+        new Assertion<>(
+            "must seek the rows after the last row of the previous page",
+            () -> new Keyset(
+                new QueryOf("SELECT id, name FROM employee ORDER BY id"),
+                10,
+                new IntParam("id", 20)
+            ).sql(),
+            new IsText(
+                """
+                SELECT `ID`, `NAME` FROM `EMPLOYEE` WHERE `ID` > ? \
+                ORDER BY `ID` FETCH NEXT 10 ROWS ONLY\
+                """
+            )
+        ).affirm();
+    }
+
+    @Test
+    void seekDescendingWithWhere() {
+        new Assertion<>(
+            "must seek backwards keeping the where clause",
+            () -> new Keyset(
+                new QueryOf(
+                    """
+                    SELECT id, name FROM users WHERE status = 'active'
+                    ORDER BY id DESC
+                    """
+                ),
+                5,
+                new IntParam("id", 100)
+            ).sql(),
+            new IsText(
+                """
+                SELECT `ID`, `NAME` FROM `USERS` WHERE `STATUS` = 'active' \
+                AND `ID` < ? ORDER BY `ID` DESC FETCH NEXT 5 ROWS ONLY\
+                """
+            )
+        ).affirm();
+    }
+
+    @Test
+    void keys() throws Exception {
+        new Assertion<>(
+            "must return the ORDER BY columns as keys",
+            new Keyset(
+                new QueryOf(
+                    """
+                    SELECT e.id, e.name, e.hired FROM employee e
+                    ORDER BY e.hired, e.id
+                    """
+                ),
+                10
+            ).keys(),
+            new IsEqual<>(new ListOf<>("HIRED", "ID"))
+        ).affirm();
+    }
+
+    @Test
+    void rejectMixedDirections() {
+        new Assertion<>(
+            "must reject ORDER BY columns in different directions",
+            new Throws<>(IllegalArgumentException.class),
+            new Matches<>(
+                new ScalarOf<>(
+                    () -> new Keyset(
+                        new QueryOf(
+                            """
+                            SELECT id, name FROM employee
+                            ORDER BY name, id DESC
+                            """
+                        ),
+                        10,
+                        new IntParam("name", 1),
+                        new IntParam("id", 1)
+                    ).sql()
+                )
+            )
+        ).affirm();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.registry;
+
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Histogram tests.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class HistogramTest {
+    @Test
+    void boundsPercentilesByPowersOfTwo() {
+        final Histogram histogram = new Histogram();
+        for (long value = 1L; value <= 100L; ++value) {
+            histogram.record(value);
+        }
+        new Assertion<>(
+            "must bound the median by the power of two above it",
+            histogram.percentile(0.5),
+            new IsEqual<>(63L)
+        ).affirm();
+        new Assertion<>(
+            "must bound the greatest percentile by the greatest value",
+            histogram.percentile(1.0),
+            new IsEqual<>(100L)
+        ).affirm();
+    }
+
+    @Test
+    void sumsAndCountsValues() {
+        final Histogram histogram = new Histogram();
+        histogram.record(10L);
+        histogram.record(20L);
+        new Assertion<>(
+            "must sum the recorded values",
+            histogram.sum(),
+            new IsEqual<>(30L)
+        ).affirm();
+    }
+}
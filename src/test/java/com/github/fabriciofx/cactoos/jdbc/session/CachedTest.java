@@ -0,0 +1,167 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.session;
+
+import com.github.fabriciofx.cactoos.cache.base.CacheOf;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.Table;
+import com.github.fabriciofx.cactoos.jdbc.analysis.Analyses;
+import com.github.fabriciofx.cactoos.jdbc.cache.Flights;
+import com.github.fabriciofx.cactoos.jdbc.cache.Freshness;
+import com.github.fabriciofx.cactoos.jdbc.cache.TableStore;
+import com.github.fabriciofx.cactoos.jdbc.plan.Simple;
+import com.github.fabriciofx.cactoos.jdbc.query.QueryOf;
+import com.github.fabriciofx.cactoos.jdbc.scalar.TableNames;
+import com.github.fabriciofx.cactoos.jdbc.source.NoAuth;
+import com.github.fabriciofx.cactoos.jdbc.statement.Insert;
+import com.github.fabriciofx.cactoos.jdbc.statement.Select;
+import com.github.fabriciofx.cactoos.jdbc.statement.Update;
+import com.github.fabriciofx.cactoos.jdbc.table.ColumnarTable;
+import com.github.fabriciofx.fake.logger.FakeLogger;
+import com.github.fabriciofx.fake.server.RandomName;
+import com.github.fabriciofx.fake.server.db.source.H2Source;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.cactoos.text.TextOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasString;
+import org.llorllale.cactoos.matchers.Matches;
+
+/**
+ * Cached tests.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class CachedTest {
+    @Test
+    void doesNotPrepareStatementsOnACacheHit() throws Exception {
+        final Logger logger = new FakeLogger();
+        try (
+            Session session = new Cached(
+                new Logged(
+                    new NoAuth(
+                        new H2Source(new RandomName().asString())
+                    ).session(),
+                    "cache",
+                    logger,
+                    Level.INFO,
+                    0
+                ),
+                new CacheOf<>(new TableStore())
+            )
+        ) {
+            new Update(
+                session,
+                new QueryOf("CREATE TABLE person (id INT, name VARCHAR(30))")
+            ).execute();
+            new Insert(
+                session,
+                new QueryOf("INSERT INTO person VALUES (1, 'Rob Pike')")
+            ).execute();
+            for (int idx = 0; idx < 2; ++idx) {
+                try (
+                    ResultSet rset = new Select(
+                        session,
+                        new QueryOf("SELECT id, name FROM person")
+                    ).execute()
+                ) {
+                    rset.next();
+                }
+            }
+        }
+        new Assertion<>(
+            "must prepare a statement on a cache miss",
+            new HasString("Session[#0] prepared PreparedStatement[#2]"),
+            new Matches<>(new TextOf(logger.toString()))
+        ).affirm();
+        new Assertion<>(
+            "must not prepare any statement on a cache hit",
+            new TextOf(logger.toString()),
+            new IsNot<>(
+                new HasString("Session[#0] prepared PreparedStatement[#3]")
+            )
+        ).affirm();
+    }
+
+    @Test
+    void discardsARefreshStartedBeforeAnInvalidation() throws Exception {
+        final Freshness freshness = new Freshness(
+            Duration.ofHours(1),
+            Map.of(),
+            Map.of(),
+            1.0e-9,
+            Runnable::run
+        );
+        final TableStore store = new TableStore();
+        try (
+            Session origin = new NoAuth(
+                new H2Source(new RandomName().asString())
+            ).session()
+        ) {
+            final Session session = new Cached(
+                origin,
+                new CacheOf<>(store),
+                new Analyses(),
+                store::invalidate,
+                freshness,
+                query -> {
+                    final Table stale;
+                    try (
+                        PreparedStatement stmt = origin.prepared(
+                            new Simple(query)
+                        );
+                        ResultSet rset = stmt.executeQuery()
+                    ) {
+                        stale = new ColumnarTable(rset);
+                        stale.rows();
+                        stale.columns();
+                    }
+                    new Update(
+                        origin,
+                        new QueryOf("UPDATE person SET name = 'Ken Thompson'")
+                    ).execute();
+                    freshness.invalidated(new TableNames(query).value());
+                    return stale;
+                },
+                new Flights()
+            );
+            new Update(
+                session,
+                new QueryOf("CREATE TABLE person (id INT, name VARCHAR(30))")
+            ).execute();
+            new Insert(
+                session,
+                new QueryOf("INSERT INTO person VALUES (1, 'Rob Pike')")
+            ).execute();
+            CachedTest.name(session);
+            CachedTest.name(session);
+            new Assertion<>(
+                "must not store a refresh older than an invalidation",
+                CachedTest.name(session),
+                new IsEqual<>("Ken Thompson")
+            ).affirm();
+        }
+    }
+
+    private static String name(final Session session) throws Exception {
+        try (
+            ResultSet rset = new Select(
+                session,
+                new QueryOf("SELECT name FROM person")
+            ).execute()
+        ) {
+            rset.next();
+            return rset.getString("name");
+        }
+    }
+}
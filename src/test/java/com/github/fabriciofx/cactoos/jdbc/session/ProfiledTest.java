@@ -0,0 +1,107 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.session;
+
+import com.github.fabriciofx.cactoos.jdbc.Query;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.analysis.Analyses;
+import com.github.fabriciofx.cactoos.jdbc.param.IntParam;
+import com.github.fabriciofx.cactoos.jdbc.profile.Profile;
+import com.github.fabriciofx.cactoos.jdbc.query.NamedQuery;
+import com.github.fabriciofx.cactoos.jdbc.query.QueryOf;
+import com.github.fabriciofx.cactoos.jdbc.source.NoAuth;
+import com.github.fabriciofx.cactoos.jdbc.statement.Select;
+import com.github.fabriciofx.cactoos.jdbc.statement.Update;
+import com.github.fabriciofx.fake.server.RandomName;
+import com.github.fabriciofx.fake.server.db.source.H2Source;
+import java.time.Duration;
+import org.cactoos.text.TextOf;
+import org.hamcrest.core.IsNot;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasString;
+import org.llorllale.cactoos.matchers.Matches;
+
+/**
+ * Profiled tests.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class ProfiledTest {
+    @Test
+    void reportsSlowQueriesWithSamplesAndPlans() throws Exception {
+        final Profile profile = new Profile(
+            10,
+            Duration.ZERO,
+            new Analyses(),
+            query -> "a plan",
+            Runnable::run
+        );
+        final Query select = new NamedQuery(
+            "SELECT id FROM t019 WHERE id = :id",
+            new IntParam("id", 7)
+        );
+        try (
+            Session session = new Profiled(
+                new NoAuth(new H2Source(new RandomName().asString())).session(),
+                profile
+            )
+        ) {
+            new Update(
+                session,
+                new QueryOf("CREATE TABLE t019 (id INT)")
+            ).execute();
+            new Select(session, select).execute();
+        }
+        new Assertion<>(
+            "must report the query by its normalized SQL",
+            new HasString(profile.fingerprint(select)),
+            new Matches<>(new TextOf(profile.report()))
+        ).affirm();
+        new Assertion<>(
+            "must report the parameters of a slow execution",
+            new HasString("samples: [id=7]"),
+            new Matches<>(new TextOf(profile.report()))
+        ).affirm();
+        new Assertion<>(
+            "must report the plan of a slow query",
+            new HasString("plan: a plan"),
+            new Matches<>(new TextOf(profile.report()))
+        ).affirm();
+    }
+
+    @Test
+    void stopsProfilingTheFastestQueryWhenFull() {
+        final Profile profile = new Profile(
+            10,
+            Duration.ofDays(1),
+            new Analyses(),
+            query -> "",
+            Runnable::run,
+            2
+        );
+        final Query query = new QueryOf("SELECT 1");
+        profile.record("SELECT heavy FROM t019", query, 1_000_000L);
+        profile.record("SELECT light FROM t019", query, 10L);
+        profile.record("SELECT fresh FROM t019", query, 100L);
+        new Assertion<>(
+            "must stop profiling the query that took less time",
+            new TextOf(profile.report()),
+            new IsNot<>(new HasString("SELECT light FROM t019"))
+        ).affirm();
+        new Assertion<>(
+            "must keep profiling the query that took more time",
+            new HasString("SELECT heavy FROM t019"),
+            new Matches<>(new TextOf(profile.report()))
+        ).affirm();
+        new Assertion<>(
+            "must profile the new query",
+            new HasString("SELECT fresh FROM t019"),
+            new Matches<>(new TextOf(profile.report()))
+        ).affirm();
+    }
+}
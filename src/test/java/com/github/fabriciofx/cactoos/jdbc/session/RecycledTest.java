@@ -0,0 +1,185 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.session;
+
+import com.github.fabriciofx.cactoos.jdbc.Query;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.param.IntParam;
+import com.github.fabriciofx.cactoos.jdbc.plan.Simple;
+import com.github.fabriciofx.cactoos.jdbc.plan.Unbound;
+import com.github.fabriciofx.cactoos.jdbc.query.NamedQuery;
+import com.github.fabriciofx.cactoos.jdbc.query.QueryOf;
+import com.github.fabriciofx.cactoos.jdbc.source.NoAuth;
+import com.github.fabriciofx.cactoos.jdbc.statement.Update;
+import com.github.fabriciofx.fake.server.RandomName;
+import com.github.fabriciofx.fake.server.db.source.H2Source;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import org.cactoos.scalar.ScalarOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Matches;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Recycled tests.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class RecycledTest {
+    @Test
+    void reusesTheSameStatement() throws Exception {
+        try (
+            Session session = new Recycled(
+                new NoAuth(new H2Source(new RandomName().asString())).session()
+            )
+        ) {
+            final PreparedStatement first = session.prepared(
+                new Simple(new QueryOf("VALUES 1"))
+            );
+            final PreparedStatement origin = first.unwrap(
+                PreparedStatement.class
+            );
+            first.close();
+            final PreparedStatement second = session.prepared(
+                new Simple(new QueryOf("VALUES 1"))
+            );
+            new Assertion<>(
+                "must reuse the prepared statement of the same SQL",
+                second.unwrap(PreparedStatement.class),
+                new IsSame<>(origin)
+            ).affirm();
+            second.close();
+        }
+    }
+
+    @Test
+    void preparesAgainWhenInUse() throws Exception {
+        try (
+            Session session = new Recycled(
+                new NoAuth(new H2Source(new RandomName().asString())).session()
+            );
+            PreparedStatement first = session.prepared(
+                new Simple(new QueryOf("VALUES 1"))
+            );
+            PreparedStatement second = session.prepared(
+                new Simple(new QueryOf("VALUES 1"))
+            )
+        ) {
+            new Assertion<>(
+                "must not share a statement still in use",
+                second.unwrap(PreparedStatement.class),
+                new IsNot<>(new IsSame<>(first.unwrap(PreparedStatement.class)))
+            ).affirm();
+        }
+    }
+
+    @Test
+    void clearsParametersOnReuse() throws Exception {
+        try (
+            Session session = new Recycled(
+                new NoAuth(new H2Source(new RandomName().asString())).session()
+            )
+        ) {
+            new Update(
+                session,
+                new QueryOf("CREATE TABLE t016 (id INT)")
+            ).execute();
+            final Query insert = new NamedQuery(
+                "INSERT INTO t016 (id) VALUES (:id)",
+                new IntParam("id", 1)
+            );
+            new Update(session, insert).execute();
+            new Assertion<>(
+                "must clear the parameters of a reused statement",
+                new Throws<>(SQLException.class),
+                new Matches<>(
+                    new ScalarOf<>(
+                        () -> {
+                            try (
+                                PreparedStatement stmt = session.prepared(
+                                    new Unbound(insert)
+                                )
+                            ) {
+                                return stmt.executeUpdate();
+                            }
+                        }
+                    )
+                )
+            ).affirm();
+        }
+    }
+
+    @Test
+    void rejectsCallsAfterClose() throws Exception {
+        try (
+            Session session = new Recycled(
+                new NoAuth(new H2Source(new RandomName().asString())).session()
+            )
+        ) {
+            final PreparedStatement stmt = session.prepared(
+                new Simple(new QueryOf("VALUES 1"))
+            );
+            stmt.close();
+            new Assertion<>(
+                "must not use a statement returned to the pool",
+                new Throws<>(SQLException.class),
+                new Matches<>(new ScalarOf<>(stmt::executeQuery))
+            ).affirm();
+        }
+    }
+
+    @Test
+    void resetsTheFetchSizeOnReuse() throws Exception {
+        try (
+            Session session = new Recycled(
+                new NoAuth(new H2Source(new RandomName().asString())).session()
+            )
+        ) {
+            final PreparedStatement first = session.prepared(
+                new Simple(new QueryOf("VALUES 1"))
+            );
+            first.setFetchSize(50);
+            first.close();
+            try (
+                PreparedStatement second = session.prepared(
+                    new Simple(new QueryOf("VALUES 1"))
+                )
+            ) {
+                new Assertion<>(
+                    "must reset the fetch size of a reused statement",
+                    second.getFetchSize(),
+                    new IsNot<>(new IsEqual<>(50))
+                ).affirm();
+            }
+        }
+    }
+
+    @Test
+    void closesIdleStatementsWithTheSession() throws Exception {
+        final PreparedStatement origin;
+        try (
+            Session session = new Recycled(
+                new NoAuth(new H2Source(new RandomName().asString())).session()
+            )
+        ) {
+            final PreparedStatement stmt = session.prepared(
+                new Simple(new QueryOf("VALUES 1"))
+            );
+            origin = stmt.unwrap(PreparedStatement.class);
+            stmt.close();
+        }
+        new Assertion<>(
+            "must close idle statements when the session closes",
+            origin.isClosed(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+}
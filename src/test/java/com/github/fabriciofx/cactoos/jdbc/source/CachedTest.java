@@ -7,6 +7,8 @@ package com.github.fabriciofx.cactoos.jdbc.source;
 import com.github.fabriciofx.cactoos.cache.base.CacheOf;
 import com.github.fabriciofx.cactoos.jdbc.Session;
 import com.github.fabriciofx.cactoos.jdbc.Source;
+import com.github.fabriciofx.cactoos.jdbc.analysis.Analyses;
+import com.github.fabriciofx.cactoos.jdbc.cache.Freshness;
 import com.github.fabriciofx.cactoos.jdbc.cache.TableStore;
 import com.github.fabriciofx.cactoos.jdbc.param.BoolParam;
 import com.github.fabriciofx.cactoos.jdbc.param.DateParam;
@@ -22,9 +24,12 @@ import com.github.fabriciofx.fake.logger.FakeLogger;
 import com.github.fabriciofx.fake.server.RandomName;
 import com.github.fabriciofx.fake.server.db.source.H2Source;
 import java.sql.ResultSet;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.Map;
 import org.cactoos.text.TextOf;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.HasString;
@@ -297,4 +302,141 @@ final class CachedTest {
             new Matches<>(new TextOf(logger.toString()))
         ).affirm();
     }
+
+    @Test
+    void fetchesAnExpiredResultAgain() throws Exception {
+        final Source source = new NoAuth(
+            new H2Source(new RandomName().asString())
+        );
+        final TableStore store = new TableStore();
+        try (
+            Session session = new Cached(
+                source,
+                new CacheOf<>(store),
+                new Analyses(),
+                store::invalidate,
+                new Freshness(Duration.ZERO)
+            ).session()
+        ) {
+            CachedTest.person(session);
+            CachedTest.name(session);
+            try (Session other = source.session()) {
+                new Update(
+                    other,
+                    new QueryOf("UPDATE person SET name = 'Ken Thompson'")
+                ).execute();
+            }
+            new Assertion<>(
+                "must fetch again an expired result",
+                CachedTest.name(session),
+                new IsEqual<>("Ken Thompson")
+            ).affirm();
+        }
+    }
+
+    @Test
+    void refreshesAResultInTheBackground() throws Exception {
+        final Source source = new NoAuth(
+            new H2Source(new RandomName().asString())
+        );
+        final TableStore store = new TableStore();
+        try (
+            Session session = new Cached(
+                source,
+                new CacheOf<>(store),
+                new Analyses(),
+                store::invalidate,
+                new Freshness(
+                    Duration.ofHours(1),
+                    Map.of(),
+                    Map.of(),
+                    1.0e-9,
+                    Runnable::run
+                )
+            ).session()
+        ) {
+            CachedTest.person(session);
+            CachedTest.name(session);
+            try (Session other = source.session()) {
+                new Update(
+                    other,
+                    new QueryOf("UPDATE person SET name = 'Ken Thompson'")
+                ).execute();
+            }
+            new Assertion<>(
+                "must return the cached result while refreshing it",
+                CachedTest.name(session),
+                new IsEqual<>("Rob Pike")
+            ).affirm();
+            new Assertion<>(
+                "must store the refreshed result",
+                CachedTest.name(session),
+                new IsEqual<>("Ken Thompson")
+            ).affirm();
+        }
+    }
+
+    @Test
+    void readsANullColumnFromTheCache() throws Exception {
+        try (
+            Session session = new Cached(
+                new NoAuth(new H2Source(new RandomName().asString())),
+                new CacheOf<>(new TableStore())
+            ).session()
+        ) {
+            new Update(
+                session,
+                new QueryOf("CREATE TABLE person (id INT, age INT)")
+            ).execute();
+            new Insert(
+                session,
+                new QueryOf("INSERT INTO person VALUES (1, NULL)")
+            ).execute();
+            CachedTest.age(session);
+            new Assertion<>(
+                "must read a NULL column from the cached result",
+                CachedTest.age(session),
+                new IsEqual<>("0 null true")
+            ).affirm();
+        }
+    }
+
+    private static void person(final Session session) throws Exception {
+        new Update(
+            session,
+            new QueryOf("CREATE TABLE person (id INT, name VARCHAR(30))")
+        ).execute();
+        new Insert(
+            session,
+            new QueryOf("INSERT INTO person VALUES (1, 'Rob Pike')")
+        ).execute();
+    }
+
+    private static String name(final Session session) throws Exception {
+        try (
+            ResultSet rset = new Select(
+                session,
+                new QueryOf("SELECT name FROM person WHERE id = 1")
+            ).execute()
+        ) {
+            rset.next();
+            return rset.getString("name");
+        }
+    }
+
+    private static String age(final Session session) throws Exception {
+        try (
+            ResultSet rset = new Select(
+                session,
+                new QueryOf("SELECT age FROM person WHERE id = 1")
+            ).execute()
+        ) {
+            rset.next();
+            final int age = rset.getInt("age");
+            final boolean nulled = rset.wasNull();
+            return String.format(
+                "%d %s %b", age, rset.getObject("age"), nulled && rset.wasNull()
+            );
+        }
+    }
 }
@@ -17,12 +17,20 @@ import com.github.fabriciofx.cactoos.jdbc.statement.Insert;
 import com.github.fabriciofx.cactoos.jdbc.statement.Select;
 import com.github.fabriciofx.cactoos.jdbc.statement.Update;
 import com.github.fabriciofx.fake.logger.FakeLogger;
+import com.github.fabriciofx.fake.server.RandomName;
 import com.github.fabriciofx.fake.server.db.source.H2Source;
+import java.io.ByteArrayOutputStream;
 import java.sql.ResultSet;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+import java.util.logging.StreamHandler;
 import org.cactoos.text.Replaced;
 import org.cactoos.text.TextOf;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.HasString;
@@ -207,4 +215,33 @@ final class LoggedTest {
             new Matches<>(new TextOf(logger.toString()))
         ).affirm();
     }
+
+    @Test
+    void logNothingAtADisabledLevel() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final Handler handler = new StreamHandler(out, new SimpleFormatter());
+        final Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.setLevel(Level.INFO);
+        logger.addHandler(handler);
+        try (
+            Session session = new Logged(
+                new NoAuth(new H2Source(new RandomName().asString())),
+                "test",
+                logger,
+                Level.FINE
+            ).session()
+        ) {
+            new Update(
+                session,
+                new QueryOf("CREATE TABLE t017 (id INT)")
+            ).execute();
+        }
+        handler.flush();
+        new Assertion<>(
+            "must not log at a disabled level",
+            out.size(),
+            new IsEqual<>(0)
+        ).affirm();
+    }
 }
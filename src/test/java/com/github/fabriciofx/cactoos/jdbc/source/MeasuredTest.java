@@ -0,0 +1,84 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.source;
+
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.param.IntParam;
+import com.github.fabriciofx.cactoos.jdbc.query.NamedQuery;
+import com.github.fabriciofx.cactoos.jdbc.query.QueryOf;
+import com.github.fabriciofx.cactoos.jdbc.query.MetricTag;
+import com.github.fabriciofx.cactoos.jdbc.registry.InMemory;
+import com.github.fabriciofx.cactoos.jdbc.statement.Insert;
+import com.github.fabriciofx.cactoos.jdbc.statement.Select;
+import com.github.fabriciofx.cactoos.jdbc.statement.Update;
+import com.github.fabriciofx.fake.server.RandomName;
+import com.github.fabriciofx.fake.server.db.source.H2Source;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Measured Source tests.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class MeasuredTest {
+    @Test
+    void measuresQueriesAndTransactions() throws Exception {
+        final InMemory registry = new InMemory();
+        try (
+            Session session = new Measured(
+                new NoAuth(new H2Source(new RandomName().asString())),
+                registry
+            ).session()
+        ) {
+            new Update(
+                session,
+                new QueryOf("CREATE TABLE t018 (id INT)")
+            ).execute();
+            session.autocommit(false);
+            for (int idx = 0; idx < 3; ++idx) {
+                new Insert(
+                    session,
+                    new NamedQuery(
+                        "INSERT INTO t018 (id) VALUES (:id)",
+                        new IntParam("id", idx)
+                    )
+                ).execute();
+            }
+            session.commit();
+            session.autocommit(true);
+            new Select(session, new QueryOf("SELECT id FROM t018")).execute();
+        }
+        new Assertion<>(
+            "must record the latency per normalized SQL",
+            registry.histogram(
+                "jdbc.query.latency",
+                new MetricTag(
+                    new NamedQuery(
+                        "INSERT INTO t018 (id) VALUES (:id)",
+                        new IntParam("id", 0)
+                    )
+                ).asString()
+            ).count(),
+            new IsEqual<>(3L)
+        ).affirm();
+        new Assertion<>(
+            "must record the rows retrieved",
+            registry.histogram(
+                "jdbc.query.rows",
+                new MetricTag(new QueryOf("SELECT id FROM t018")).asString()
+            ).max(),
+            new IsEqual<>(3L)
+        ).affirm();
+        new Assertion<>(
+            "must count the commits",
+            registry.counter("jdbc.transaction.commit", ""),
+            new IsEqual<>(1L)
+        ).affirm();
+    }
+}
@@ -11,6 +11,7 @@ import com.github.fabriciofx.cactoos.jdbc.param.DateParam;
 import com.github.fabriciofx.cactoos.jdbc.param.DecimalParam;
 import com.github.fabriciofx.cactoos.jdbc.param.IntParam;
 import com.github.fabriciofx.cactoos.jdbc.param.TextParam;
+import com.github.fabriciofx.cactoos.jdbc.pool.Settings;
 import com.github.fabriciofx.cactoos.jdbc.params.ParamsOf;
 import com.github.fabriciofx.cactoos.jdbc.query.NamedQuery;
 import com.github.fabriciofx.cactoos.jdbc.query.QueryOf;
@@ -22,6 +23,9 @@ import com.github.fabriciofx.fake.server.RandomName;
 import com.github.fabriciofx.fake.server.db.source.H2Source;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import org.cactoos.map.MapEntry;
+import org.cactoos.map.MapOf;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.HasValue;
@@ -101,4 +105,32 @@ final class PooledTest {
             ).affirm();
         }
     }
+
+    @Test
+    void countsAcquiredConnections() throws Exception {
+        final Pooled source = new Pooled(
+            new NoAuth(
+                new H2Source(
+                    new RandomName().asString()
+                )
+            ),
+            new Settings(
+                new MapOf<String, Object>(
+                    new MapEntry<>("maximumPoolSize", 2),
+                    new MapEntry<>("minimumIdle", 1)
+                )
+            )
+        );
+        try (Session session = source.session()) {
+            new Update(
+                session,
+                new QueryOf("CREATE TABLE person (id INT)")
+            ).execute();
+        }
+        new Assertion<>(
+            "must count the acquired connection",
+            source.metrics().acquisitions(),
+            new IsEqual<>(1L)
+        ).affirm();
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.statement;
+
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.executor.Bounded;
+import com.github.fabriciofx.cactoos.jdbc.query.QueryOf;
+import com.github.fabriciofx.cactoos.jdbc.scalar.ResultSetAsValue;
+import com.github.fabriciofx.cactoos.jdbc.source.NoAuth;
+import com.github.fabriciofx.cactoos.jdbc.source.Pooled;
+import com.github.fabriciofx.fake.server.RandomName;
+import com.github.fabriciofx.fake.server.db.source.H2Source;
+import java.sql.ResultSet;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+
+/**
+ * Async tests.
+ *
+ * @since 1.0
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class AsyncTest {
+    @Test
+    void selectsInParallel() throws Exception {
+        final Pooled source = new Pooled(
+            new NoAuth(
+                new H2Source(
+                    new RandomName().asString()
+                )
+            )
+        );
+        try (Session session = source.session()) {
+            new Update(
+                session,
+                new QueryOf(
+                    "CREATE TABLE person (id INT, name VARCHAR(30))"
+                )
+            ).execute();
+            new Insert(
+                session,
+                new QueryOf(
+                    "INSERT INTO person VALUES (1, 'Rob Pike')"
+                )
+            ).execute();
+        }
+        final Bounded executor = new Bounded(source);
+        final CompletableFuture<ResultSet> name = new Async<>(
+            source,
+            session -> new Select(
+                session,
+                new QueryOf("SELECT name FROM person")
+            ),
+            executor
+        ).execute();
+        final CompletableFuture<ResultSet> count = new Async<>(
+            source,
+            session -> new Select(
+                session,
+                new QueryOf("SELECT COUNT(*) FROM person")
+            ),
+            executor
+        ).execute();
+        new Assertion<>(
+            "must select the name asynchronously",
+            new ResultSetAsValue<>(name::get),
+            new HasValue<>("Rob Pike")
+        ).affirm();
+        new Assertion<>(
+            "must select the count asynchronously",
+            new ResultSetAsValue<>(count::get),
+            new HasValue<>(1L)
+        ).affirm();
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.statement;
+
+import com.github.fabriciofx.cactoos.jdbc.Params;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.param.IntParam;
+import com.github.fabriciofx.cactoos.jdbc.param.TextParam;
+import com.github.fabriciofx.cactoos.jdbc.params.ParamsOf;
+import com.github.fabriciofx.cactoos.jdbc.plan.Simple;
+import com.github.fabriciofx.cactoos.jdbc.query.NamedQuery;
+import com.github.fabriciofx.cactoos.jdbc.query.QueryOf;
+import com.github.fabriciofx.cactoos.jdbc.scalar.ResultSetAsXml;
+import com.github.fabriciofx.cactoos.jdbc.source.NoAuth;
+import com.github.fabriciofx.fake.server.RandomName;
+import com.github.fabriciofx.fake.server.db.source.H2Source;
+import com.jcabi.matchers.XhtmlMatchers;
+import java.sql.PreparedStatement;
+import java.util.stream.IntStream;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * ChunkedBatch tests.
+ *
+ * @since 1.0
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class ChunkedBatchTest {
+    @Test
+    void countsAllRowsOfAllChunks() throws Exception {
+        try (
+            Session session = new NoAuth(
+                new H2Source(
+                    new RandomName().asString()
+                )
+            ).session()
+        ) {
+            new Update(
+                session,
+                new QueryOf(
+                    "CREATE TABLE client (id INT, name VARCHAR(50))"
+                )
+            ).execute();
+            new Assertion<>(
+                "must count the rows of all chunks",
+                new ChunkedBatch(
+                    session,
+                    new NamedQuery(
+                        "INSERT INTO client (id, name) VALUES (:id, :name)",
+                        new ParamsOf(
+                            new IntParam("id", 1),
+                            new TextParam("name", "Jeff Bridges")
+                        ),
+                        new ParamsOf(
+                            new IntParam("id", 2),
+                            new TextParam("name", "Anna Miller")
+                        ),
+                        new ParamsOf(
+                            new IntParam("id", 3),
+                            new TextParam("name", "Michal Douglas")
+                        )
+                    ),
+                    2
+                ).execute(),
+                new IsEqual<>(new int[] {1, 1, 1})
+            ).affirm();
+        }
+    }
+
+    @Test
+    void insertsRowsReadLazily() throws Exception {
+        try (
+            Session session = new NoAuth(
+                new H2Source(
+                    new RandomName().asString()
+                )
+            ).session()
+        ) {
+            new Update(
+                session,
+                new QueryOf("CREATE TABLE client (id INT, name VARCHAR(50))")
+            ).execute();
+            new ChunkedBatch(
+                session,
+                new QueryOf("INSERT INTO client (id, name) VALUES (?, ?)"),
+                IntStream.rangeClosed(1, 5).mapToObj(
+                    id -> (Params) new ParamsOf(
+                        new IntParam("id", id),
+                        new TextParam("name", String.format("Client %d", id))
+                    )
+                ).iterator(),
+                2,
+                true
+            ).execute();
+            new Assertion<>(
+                "must insert and commit all rows",
+                XhtmlMatchers.xhtml(
+                    new ResultSetAsXml(
+                        new Select(
+                            session,
+                            new QueryOf("SELECT * FROM client")
+                        ),
+                        "clients",
+                        "client"
+                    ).value()
+                ),
+                XhtmlMatchers.hasXPaths(
+                    "/clients/client/name[text()='Client 1']",
+                    "/clients/client/name[text()='Client 3']",
+                    "/clients/client/name[text()='Client 5']"
+                )
+            ).affirm();
+        }
+    }
+
+    @Test
+    void restoresTheAutocommitMode() throws Exception {
+        try (
+            Session session = new NoAuth(
+                new H2Source(
+                    new RandomName().asString()
+                )
+            ).session()
+        ) {
+            new Update(
+                session,
+                new QueryOf("CREATE TABLE client (id INT)")
+            ).execute();
+            session.autocommit(false);
+            new ChunkedBatch(
+                session,
+                new NamedQuery(
+                    "INSERT INTO client (id) VALUES (:id)",
+                    new ParamsOf(new IntParam("id", 1)),
+                    new ParamsOf(new IntParam("id", 2))
+                ),
+                1,
+                true
+            ).execute();
+            try (
+                PreparedStatement stmt = session.prepared(
+                    new Simple(new QueryOf("VALUES 1"))
+                )
+            ) {
+                new Assertion<>(
+                    "must restore the previous autocommit mode",
+                    stmt.getConnection().getAutoCommit(),
+                    new IsEqual<>(false)
+                ).affirm();
+            }
+        }
+    }
+}
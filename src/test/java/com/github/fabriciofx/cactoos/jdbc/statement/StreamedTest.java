@@ -0,0 +1,131 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.statement;
+
+import com.github.fabriciofx.cactoos.jdbc.Row;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.param.IntParam;
+import com.github.fabriciofx.cactoos.jdbc.param.TextParam;
+import com.github.fabriciofx.cactoos.jdbc.params.ParamsOf;
+import com.github.fabriciofx.cactoos.jdbc.query.NamedQuery;
+import com.github.fabriciofx.cactoos.jdbc.query.QueryOf;
+import com.github.fabriciofx.cactoos.jdbc.rset.Cursor;
+import com.github.fabriciofx.cactoos.jdbc.source.NoAuth;
+import com.github.fabriciofx.fake.server.RandomName;
+import com.github.fabriciofx.fake.server.db.source.H2Source;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+
+/**
+ * Streamed tests.
+ *
+ * @since 1.0
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class StreamedTest {
+    @Test
+    void streamsRows() throws Exception {
+        try (
+            Session session = new NoAuth(
+                new H2Source(new RandomName().asString())
+            ).session()
+        ) {
+            StreamedTest.create(session);
+            try (
+                Cursor cursor = new Cursor(
+                    new Streamed(
+                        session,
+                        new QueryOf("SELECT name FROM person ORDER BY id"),
+                        1
+                    ).execute()
+                )
+            ) {
+                final List<String> names = new ArrayList<>(3);
+                for (final Row row : cursor) {
+                    names.add(row.value("name", String.class));
+                }
+                new Assertion<>(
+                    "must stream all rows",
+                    names,
+                    new IsEqual<>(
+                        new ListOf<>(
+                            "Rob Pike",
+                            "Ken Thompson",
+                            "Dennis Ritchie"
+                        )
+                    )
+                ).affirm();
+            }
+        }
+    }
+
+    @Test
+    void closesTheStatement() throws Exception {
+        try (
+            Session session = new NoAuth(
+                new H2Source(new RandomName().asString())
+            ).session()
+        ) {
+            StreamedTest.create(session);
+            final Statement stmt;
+            try (
+                ResultSet rset = new Streamed(
+                    session,
+                    new QueryOf("SELECT * FROM person")
+                ).execute()
+            ) {
+                stmt = rset.getStatement();
+            }
+            new Assertion<>(
+                "must close the statement with the result set",
+                stmt.isClosed(),
+                new IsTrue()
+            ).affirm();
+        }
+    }
+
+    /**
+     * Create and fill the person table.
+     * @param session The session
+     * @throws Exception if fails
+     */
+    private static void create(final Session session) throws Exception {
+        new Update(
+            session,
+            new QueryOf(
+                """
+                CREATE TABLE person (id INT, name VARCHAR(50),
+                PRIMARY KEY (id))
+                """
+            )
+        ).execute();
+        new Batch(
+            session,
+            new NamedQuery(
+                "INSERT INTO person (id, name) VALUES (:id, :name)",
+                new ParamsOf(
+                    new IntParam("id", 1),
+                    new TextParam("name", "Rob Pike")
+                ),
+                new ParamsOf(
+                    new IntParam("id", 2),
+                    new TextParam("name", "Ken Thompson")
+                ),
+                new ParamsOf(
+                    new IntParam("id", 3),
+                    new TextParam("name", "Dennis Ritchie")
+                )
+            )
+        ).execute();
+    }
+}
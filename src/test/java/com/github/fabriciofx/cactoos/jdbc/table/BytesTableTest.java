@@ -0,0 +1,162 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.table;
+
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.Table;
+import com.github.fabriciofx.cactoos.jdbc.plan.Simple;
+import com.github.fabriciofx.cactoos.jdbc.query.QueryOf;
+import com.github.fabriciofx.cactoos.jdbc.source.NoAuth;
+import com.github.fabriciofx.cactoos.jdbc.statement.Update;
+import com.github.fabriciofx.fake.server.RandomName;
+import com.github.fabriciofx.fake.server.db.source.H2Source;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNull;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * BytesTable tests.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class BytesTableTest {
+    @Test
+    void readsATableFromItsBytes() throws Exception {
+        try (
+            Session session = new NoAuth(
+                new H2Source(new RandomName().asString())
+            ).session()
+        ) {
+            new Update(
+                session,
+                new QueryOf(
+                    """
+                    CREATE TABLE person (id INT, name VARCHAR(50),
+                    height DECIMAL(20,2), PRIMARY KEY (id))
+                    """
+                )
+            ).execute();
+            new Update(
+                session,
+                new QueryOf(
+                    """
+                    INSERT INTO person VALUES (1, 'Rob Pike', 1.86),
+                    (-2, NULL, NULL)
+                    """
+                )
+            ).execute();
+            try (
+                PreparedStatement stmt = session.prepared(
+                    new Simple(new QueryOf("SELECT * FROM person ORDER BY id"))
+                );
+                ResultSet rset = stmt.executeQuery()
+            ) {
+                final Table table = new BytesTable(
+                    new ColumnarTable(rset).asBytes()
+                );
+                new Assertion<>(
+                    "must read all rows",
+                    table.rows().count(),
+                    new IsEqual<>(2)
+                ).affirm();
+                new Assertion<>(
+                    "must read all columns",
+                    table.columns().count(),
+                    new IsEqual<>(3)
+                ).affirm();
+                new Assertion<>(
+                    "must read a negative int value",
+                    table.rows().row(0).value("id", Integer.class),
+                    new IsEqual<>(-2)
+                ).affirm();
+                new Assertion<>(
+                    "must read a null value",
+                    table.rows().row(0).value("name", String.class),
+                    new IsNull<>()
+                ).affirm();
+                new Assertion<>(
+                    "must read a text value",
+                    table.rows().row(1).value(2, String.class),
+                    new IsEqual<>("Rob Pike")
+                ).affirm();
+                new Assertion<>(
+                    "must read a decimal value",
+                    table.rows().row(1).value("height", BigDecimal.class),
+                    new IsEqual<>(new BigDecimal("1.86"))
+                ).affirm();
+            }
+        }
+    }
+
+    @Test
+    void keepsTheLabelsOfTheRows() throws Exception {
+        try (
+            Session session = new NoAuth(
+                new H2Source(new RandomName().asString())
+            ).session()
+        ) {
+            new Update(
+                session,
+                new QueryOf(
+                    """
+                    CREATE TABLE person (id INT, boss INT, name VARCHAR(50),
+                    PRIMARY KEY (id))
+                    """
+                )
+            ).execute();
+            new Update(
+                session,
+                new QueryOf(
+                    """
+                    INSERT INTO person VALUES (1, NULL, 'Rob Pike'),
+                    (2, 1, 'Ken Thompson')
+                    """
+                )
+            ).execute();
+            try (
+                PreparedStatement stmt = session.prepared(
+                    new Simple(
+                        new QueryOf(
+                            """
+                            SELECT e.id AS code, e.name, b.id, b.name
+                            FROM person e JOIN person b ON e.boss = b.id
+                            """
+                        )
+                    )
+                );
+                ResultSet rset = stmt.executeQuery()
+            ) {
+                final Table table = new BytesTable(
+                    new ArrayedTable(rset).asBytes()
+                );
+                new Assertion<>(
+                    "must read a value by its alias",
+                    table.rows().row(0).value("code", Integer.class),
+                    new IsEqual<>(2)
+                ).affirm();
+                new Assertion<>(
+                    "must read all values of repeated column names",
+                    table.rows().row(0).labels().size(),
+                    new IsEqual<>(4)
+                ).affirm();
+                new Assertion<>(
+                    "must read the values of a self join in order",
+                    table.rows().row(0).value(4, String.class),
+                    new IsEqual<>("Rob Pike")
+                ).affirm();
+                new Assertion<>(
+                    "must not mix up repeated column names",
+                    table.rows().row(0).value(2, String.class),
+                    new IsEqual<>("Ken Thompson")
+                ).affirm();
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.table;
+
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.Table;
+import com.github.fabriciofx.cactoos.jdbc.plan.Simple;
+import com.github.fabriciofx.cactoos.jdbc.query.QueryOf;
+import com.github.fabriciofx.cactoos.jdbc.source.NoAuth;
+import com.github.fabriciofx.cactoos.jdbc.statement.Update;
+import com.github.fabriciofx.fake.server.RandomName;
+import com.github.fabriciofx.fake.server.db.source.H2Source;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNull;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * ColumnarTable tests.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class ColumnarTableTest {
+    @Test
+    void keepsTheValuesOfEachColumn() throws Exception {
+        try (
+            Session session = new NoAuth(
+                new H2Source(new RandomName().asString())
+            ).session()
+        ) {
+            new Update(
+                session,
+                new QueryOf(
+                    """
+                    CREATE TABLE person (id INT, name VARCHAR(50),
+                    married BOOLEAN, PRIMARY KEY (id))
+                    """
+                )
+            ).execute();
+            new Update(
+                session,
+                new QueryOf(
+                    """
+                    INSERT INTO person VALUES (1, 'Rob Pike', TRUE),
+                    (2, NULL, FALSE), (3, 'Rob Pike', NULL)
+                    """
+                )
+            ).execute();
+            try (
+                PreparedStatement stmt = session.prepared(
+                    new Simple(new QueryOf("SELECT * FROM person ORDER BY id"))
+                );
+                ResultSet rset = stmt.executeQuery()
+            ) {
+                final Table table = new ColumnarTable(rset);
+                new Assertion<>(
+                    "must keep all rows",
+                    table.rows().count(),
+                    new IsEqual<>(3)
+                ).affirm();
+                new Assertion<>(
+                    "must keep an int value",
+                    table.rows().row(1).value("id", Integer.class),
+                    new IsEqual<>(2)
+                ).affirm();
+                new Assertion<>(
+                    "must keep a text value",
+                    table.rows().row(2).value("name", String.class),
+                    new IsEqual<>("Rob Pike")
+                ).affirm();
+                new Assertion<>(
+                    "must keep a null value",
+                    table.rows().row(1).value("name", String.class),
+                    new IsNull<>()
+                ).affirm();
+                new Assertion<>(
+                    "must keep a boolean value",
+                    table.rows().row(0).value("married", Boolean.class),
+                    new IsEqual<>(true)
+                ).affirm();
+                table.rows().row(2).add("married", false);
+                table.rows().row(0).add("name", "Ken Thompson");
+                new Assertion<>(
+                    "must replace a null value of a row",
+                    table.rows().row(2).value("married", Boolean.class),
+                    new IsEqual<>(false)
+                ).affirm();
+                new Assertion<>(
+                    "must replace a text value of a row",
+                    table.rows().row(0).value("name", String.class),
+                    new IsEqual<>("Ken Thompson")
+                ).affirm();
+            }
+        }
+    }
+}
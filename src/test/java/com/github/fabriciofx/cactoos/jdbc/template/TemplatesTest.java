@@ -0,0 +1,66 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.template;
+
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Templates tests.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class TemplatesTest {
+    @Test
+    void compilesThePositionalSql() {
+        new Assertion<>(
+            "must change the named parameters for question marks",
+            new NamedTemplate(
+                "INSERT INTO person (id, name) VALUES (:id, :name_1)"
+            ).sql(),
+            new IsEqual<>("INSERT INTO person (id, name) VALUES (?, ?)")
+        ).affirm();
+    }
+
+    @Test
+    void keepsTheParameterNamesInOrder() {
+        new Assertion<>(
+            "must keep the parameter names in order",
+            new NamedTemplate(
+                "SELECT * FROM person WHERE name = :name AND id > :id"
+            ).names(),
+            new IsEqual<>(new ListOf<>("name", "id"))
+        ).affirm();
+    }
+
+    @Test
+    void reusesTheTemplateOfTheSameSql() {
+        final Templates templates = new Templates();
+        new Assertion<>(
+            "must reuse the template of the same SQL",
+            templates.template("SELECT id FROM person WHERE id = :id"),
+            new IsSame<>(
+                templates.template("SELECT id FROM person WHERE id = :id")
+            )
+        ).affirm();
+    }
+
+    @Test
+    void evictsTheOldestTemplates() {
+        final Templates templates = new Templates(2);
+        templates.template("SELECT id FROM person WHERE id = :id");
+        templates.template("SELECT id FROM person WHERE name = :name");
+        templates.template("SELECT id FROM person WHERE age = :age");
+        new Assertion<>(
+            "must keep at most the max number of templates",
+            templates.size(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+}
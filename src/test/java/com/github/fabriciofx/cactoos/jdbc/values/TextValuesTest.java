@@ -0,0 +1,75 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2018-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.jdbc.values;
+
+import com.github.fabriciofx.cactoos.jdbc.Values;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNull;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * TextValues tests.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class TextValuesTest {
+    @Test
+    void keepsTextsBeyondTheDictionaryLimit() {
+        final Values values = new TextValues(2);
+        values.add("a");
+        values.add(null);
+        values.add("b");
+        values.add("a");
+        values.add("c");
+        new Assertion<>(
+            "must keep all texts",
+            values.count(),
+            new IsEqual<>(5)
+        ).affirm();
+        new Assertion<>(
+            "must keep a dictionary encoded text",
+            values.value(3),
+            new IsEqual<>("a")
+        ).affirm();
+        new Assertion<>(
+            "must keep a null text",
+            values.value(1),
+            new IsNull<>()
+        ).affirm();
+        new Assertion<>(
+            "must keep a text beyond the dictionary limit",
+            values.value(4),
+            new IsEqual<>("c")
+        ).affirm();
+    }
+
+    @Test
+    void replacesTexts() {
+        final Values values = new TextValues(2);
+        values.add("a");
+        values.add("b");
+        values.add(null);
+        values.set(2, "a");
+        values.set(0, null);
+        values.set(1, "c");
+        new Assertion<>(
+            "must replace a null by a dictionary encoded text",
+            values.value(2),
+            new IsEqual<>("a")
+        ).affirm();
+        new Assertion<>(
+            "must replace a text by a null",
+            values.value(0),
+            new IsNull<>()
+        ).affirm();
+        new Assertion<>(
+            "must replace a text beyond the dictionary limit",
+            values.value(1),
+            new IsEqual<>("c")
+        ).affirm();
+    }
+}